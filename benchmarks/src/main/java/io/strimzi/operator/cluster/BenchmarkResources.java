@@ -0,0 +1,173 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster;
+
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationTlsBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerConfigurationBroker;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerConfigurationBrokerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.storage.PersistentClaimStorageBuilder;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.model.ListenersUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Synthetic resources used by the benchmarks. They are modelled after a typical production Kafka cluster: several
+ * internal and external listeners with per-broker overrides, JBOD storage and a few dozen custom configuration options.
+ */
+public class BenchmarkResources {
+    /**
+     * Namespace of the resources
+     */
+    public static final String NAMESPACE = "my-namespace";
+
+    /**
+     * Name of the Kafka cluster
+     */
+    public static final String CLUSTER = "my-cluster";
+
+    private BenchmarkResources() { }
+
+    /**
+     * Creates the Kafka version lookup with a Kafka image configured for all supported Kafka versions
+     *
+     * @return  Kafka version lookup
+     */
+    public static KafkaVersion.Lookup kafkaVersionLookup() {
+        Set<String> versions = new KafkaVersion.Lookup(Map.of(), Map.of(), Map.of(), Map.of()).supportedVersions();
+        Map<String, String> kafkaImages = new HashMap<>(versions.size());
+
+        for (String version : versions) {
+            kafkaImages.put(version, "quay.io/strimzi/kafka:latest-kafka-" + version);
+        }
+
+        return new KafkaVersion.Lookup(kafkaImages, Map.of(), Map.of(), Map.of());
+    }
+
+    /**
+     * Generates the Kafka listeners. The first two listeners are internal, the remaining ones are node port listeners
+     * with advertised host overrides for every broker.
+     *
+     * @param listeners     Number of listeners
+     * @param replicas      Number of brokers
+     *
+     * @return  List with the listeners
+     */
+    public static List<GenericKafkaListener> listeners(int listeners, int replicas) {
+        List<GenericKafkaListener> result = new ArrayList<>(listeners);
+
+        for (int i = 0; i < listeners; i++) {
+            GenericKafkaListenerBuilder listener = new GenericKafkaListenerBuilder()
+                    .withName("listener" + i)
+                    .withPort(9092 + i)
+                    .withTls(i % 2 == 1);
+
+            if (i < 2) {
+                listener.withType(KafkaListenerType.INTERNAL);
+            } else {
+                List<GenericKafkaListenerConfigurationBroker> brokers = new ArrayList<>(replicas);
+                for (int broker = 0; broker < replicas; broker++) {
+                    brokers.add(new GenericKafkaListenerConfigurationBrokerBuilder()
+                            .withBroker(broker)
+                            .withAdvertisedHost("broker-" + broker + ".listener" + i + ".example.com")
+                            .withNodePort(32000 + i * 100 + broker)
+                            .build());
+                }
+
+                listener.withType(KafkaListenerType.NODEPORT)
+                        .withNewConfiguration()
+                            .withBrokers(brokers)
+                        .endConfiguration();
+            }
+
+            if (i % 2 == 1) {
+                listener.withAuth(new KafkaListenerAuthenticationTlsBuilder().build());
+            }
+
+            result.add(listener.build());
+        }
+
+        return result;
+    }
+
+    /**
+     * Generates the Kafka custom resource
+     *
+     * @param replicas      Number of brokers
+     *
+     * @return  Kafka custom resource
+     */
+    public static Kafka kafka(int replicas) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("auto.create.topics.enable", "false");
+        config.put("default.replication.factor", 3);
+        config.put("min.insync.replicas", 2);
+        config.put("offsets.topic.replication.factor", 3);
+        config.put("transaction.state.log.replication.factor", 3);
+        config.put("transaction.state.log.min.isr", 2);
+        for (int i = 0; i < 30; i++) {
+            config.put("custom.option." + i, "value-" + i);
+        }
+
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(Map.of("app", "my-app", "team", "my-team"))
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(replicas)
+                        .withListeners(listeners(4, replicas))
+                        .withNewJbodStorage()
+                            .withVolumes(new PersistentClaimStorageBuilder().withId(0).withSize("100Gi").withDeleteClaim(false).build(),
+                                    new PersistentClaimStorageBuilder().withId(1).withSize("100Gi").withDeleteClaim(false).build())
+                        .endJbodStorage()
+                        .withConfig(config)
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewPersistentClaimStorage()
+                            .withSize("10Gi")
+                        .endPersistentClaimStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Generates the advertised hostnames or ports in the format used by the Kafka reconciler
+     *
+     * @param listeners     Listeners
+     * @param replicas      Number of brokers
+     * @param ports         Generates the ports when true and the hostnames when false
+     *
+     * @return  Map with the advertised hostnames or ports for each broker
+     */
+    public static Map<Integer, Map<String, String>> advertisedAddresses(List<GenericKafkaListener> listeners, int replicas, boolean ports) {
+        Map<Integer, Map<String, String>> result = new HashMap<>(replicas);
+
+        for (int broker = 0; broker < replicas; broker++) {
+            Map<String, String> addresses = new HashMap<>(listeners.size());
+
+            for (GenericKafkaListener listener : listeners) {
+                addresses.put(ListenersUtils.envVarIdentifier(listener), ports ? String.valueOf(listener.getPort()) : "broker-" + broker + ".example.com");
+            }
+
+            result.put(broker, addresses);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.operator.cluster.BenchmarkResources;
+import io.strimzi.operator.common.MetricsAndLogging;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the creation of the Kafka cluster model from the Kafka custom resource and the generation of the main
+ * Kubernetes resources from it as done in every reconciliation of the Kafka cluster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaClusterBenchmark {
+    /**
+     * Number of Kafka brokers
+     */
+    @Param({"3", "30"})
+    public int replicas;
+
+    private KafkaVersion.Lookup versions;
+    private Kafka kafka;
+    private KafkaCluster kafkaCluster;
+    private Map<Integer, Map<String, String>> advertisedHostnames;
+    private Map<Integer, Map<String, String>> advertisedPorts;
+
+    /**
+     * Prepares the Kafka custom resource and the Kafka cluster model
+     */
+    @Setup
+    public void setup() {
+        versions = BenchmarkResources.kafkaVersionLookup();
+        kafka = BenchmarkResources.kafka(replicas);
+        kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, versions);
+        advertisedHostnames = BenchmarkResources.advertisedAddresses(kafka.getSpec().getKafka().getListeners(), replicas, false);
+        advertisedPorts = BenchmarkResources.advertisedAddresses(kafka.getSpec().getKafka().getListeners(), replicas, true);
+    }
+
+    /**
+     * Benchmarks the creation of the Kafka cluster model
+     *
+     * @return  The Kafka cluster model
+     */
+    @Benchmark
+    public KafkaCluster fromCrd() {
+        return KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, versions);
+    }
+
+    /**
+     * Benchmarks the generation of the StrimziPodSet with the Kafka pods
+     *
+     * @return  The generated StrimziPodSet
+     */
+    @Benchmark
+    public StrimziPodSet generatePodSet() {
+        return kafkaCluster.generatePodSet(replicas, false, ImagePullPolicy.IFNOTPRESENT, null, brokerId -> Map.of());
+    }
+
+    /**
+     * Benchmarks the generation of the per-broker configuration Config Maps
+     *
+     * @return  The generated Config Maps
+     */
+    @Benchmark
+    public List<ConfigMap> generatePerBrokerConfigurationConfigMaps() {
+        return kafkaCluster.generatePerBrokerConfigurationConfigMaps(new MetricsAndLogging(null, null), advertisedHostnames, advertisedPorts);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.operator.cluster.BenchmarkResources;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the validation of the Kafka listeners and the lookup of the per-broker listener settings which are done
+ * for every broker and every listener when generating the Kafka services, routes, ingresses and configurations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListenersBenchmark {
+    /**
+     * Number of Kafka brokers
+     */
+    @Param({"3", "30"})
+    public int replicas;
+
+    /**
+     * Number of listeners
+     */
+    @Param({"4", "10"})
+    public int listenerCount;
+
+    private List<GenericKafkaListener> listeners;
+
+    /**
+     * Prepares the listeners
+     */
+    @Setup
+    public void setup() {
+        listeners = BenchmarkResources.listeners(listenerCount, replicas);
+    }
+
+    /**
+     * Benchmarks the listener validation
+     */
+    @Benchmark
+    public void validate() {
+        ListenersValidator.validate(Reconciliation.DUMMY_RECONCILIATION, replicas, listeners);
+    }
+
+    /**
+     * Benchmarks the lookup of the per-broker listener settings
+     *
+     * @param blackhole     Blackhole consuming the results
+     */
+    @Benchmark
+    public void perBrokerSettings(Blackhole blackhole) {
+        for (GenericKafkaListener listener : ListenersUtils.listenersWithOwnServices(listeners)) {
+            for (int broker = 0; broker < replicas; broker++) {
+                blackhole.consume(ListenersUtils.brokerAdvertisedHost(listener, broker));
+                blackhole.consume(ListenersUtils.brokerAdvertisedPort(listener, broker));
+                blackhole.consume(ListenersUtils.brokerNodePort(listener, broker));
+                blackhole.consume(ListenersUtils.brokerAnnotations(listener, broker));
+                blackhole.consume(ListenersUtils.brokerLabels(listener, broker));
+            }
+        }
+    }
+
+    /**
+     * Benchmarks the collection of the alternative names used in the broker certificates
+     *
+     * @return  List with the alternative names
+     */
+    @Benchmark
+    public List<String> alternativeNames() {
+        return ListenersUtils.alternativeNames(listeners);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.operator.cluster.model.KafkaConfiguration;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.Reconciliation;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Benchmarks the diffing of the current and desired broker configuration as done for every broker during every
+ * rolling update. The broker configuration has 200 properties (or all properties of the config model if it has fewer).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaBrokerConfigurationDiffBenchmark {
+    private static final int PROPERTIES = 200;
+
+    /**
+     * Number of properties which have different value in the desired configuration
+     */
+    @Param({"0", "10"})
+    public int changedProperties;
+
+    private KafkaVersion kafkaVersion;
+    private Config currentConfig;
+    private String desiredConfig;
+
+    /**
+     * Prepares the current and desired broker configurations
+     */
+    @Setup
+    public void setup() {
+        kafkaVersion = new KafkaVersion.Lookup(emptyMap(), emptyMap(), emptyMap(), emptyMap()).defaultVersion();
+        Map<String, ConfigModel> configModel = KafkaConfiguration.readConfigModel(kafkaVersion);
+
+        List<ConfigEntry> currentEntries = new ArrayList<>(PROPERTIES);
+        StringBuilder desired = new StringBuilder();
+
+        int i = 0;
+        for (String name : new TreeSet<>(configModel.keySet())) {
+            if (i >= PROPERTIES) {
+                break;
+            }
+
+            String value = "value-" + i;
+            currentEntries.add(new ConfigEntry(name, value));
+            desired.append(name).append('=').append(i < changedProperties ? value + "-changed" : value).append('\n');
+            i++;
+        }
+
+        currentConfig = new Config(currentEntries);
+        desiredConfig = desired.toString();
+    }
+
+    /**
+     * Benchmarks the diff including the lookup of the config model
+     *
+     * @return  Number of different properties
+     */
+    @Benchmark
+    public int diff() {
+        return new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, currentConfig, desiredConfig, kafkaVersion, 0).getDiffSize();
+    }
+
+    /**
+     * Benchmarks the lookup of the config model alone
+     *
+     * @return  Number of properties in the config model
+     */
+    @Benchmark
+    public int readConfigModel() {
+        return KafkaConfiguration.readConfigModel(kafkaVersion).size();
+    }
+}
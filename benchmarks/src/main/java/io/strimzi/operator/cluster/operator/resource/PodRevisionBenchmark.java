@@ -0,0 +1,114 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.operator.cluster.BenchmarkResources;
+import io.strimzi.operator.cluster.model.ImagePullPolicy;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.PodSetUtils;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the serialization of the Kafka pods and the calculation and comparison of their revisions as done when
+ * generating the StrimziPodSets and in every StrimziPodSet controller reconciliation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PodRevisionBenchmark {
+    /**
+     * Number of pods in the StrimziPodSet
+     */
+    @Param({"3", "30"})
+    public int replicas;
+
+    private StrimziPodSet podSet;
+    private List<Pod> pods;
+    private Pod lastPod;
+
+    /**
+     * Prepares the StrimziPodSet with the Kafka pods
+     */
+    @Setup
+    public void setup() {
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, BenchmarkResources.kafka(replicas), BenchmarkResources.kafkaVersionLookup());
+        podSet = kafkaCluster.generatePodSet(replicas, false, ImagePullPolicy.IFNOTPRESENT, null, brokerId -> Map.of());
+        pods = PodSetUtils.mapsToPods(podSet.getSpec().getPods());
+        lastPod = pods.get(pods.size() - 1);
+    }
+
+    /**
+     * Benchmarks the serialization of a single pod
+     *
+     * @return  The serialized pod
+     *
+     * @throws JsonProcessingException  When the serialization fails
+     */
+    @Benchmark
+    public String podToString() throws JsonProcessingException {
+        return PodSetUtils.podToString(lastPod);
+    }
+
+    /**
+     * Benchmarks the calculation of the revision of a single pod
+     *
+     * @return  The pod revision
+     */
+    @Benchmark
+    public String getRevision() {
+        return PodRevision.getRevision(Reconciliation.DUMMY_RECONCILIATION, lastPod);
+    }
+
+    /**
+     * Benchmarks the comparison of the revision of the last pod with the StrimziPodSet
+     *
+     * @return  True if the revision changed. False otherwise.
+     */
+    @Benchmark
+    public boolean hasChanged() {
+        return PodRevision.hasChanged(lastPod, podSet);
+    }
+
+    /**
+     * Benchmarks the conversion of all pods to the Map representation used in the StrimziPodSet
+     *
+     * @return  The pods in the Map representation
+     */
+    @Benchmark
+    public List<Map<String, Object>> podsToMaps() {
+        return PodSetUtils.podsToMaps(pods);
+    }
+
+    /**
+     * Benchmarks the decoding of all pods from the StrimziPodSet
+     *
+     * @return  The decoded pods
+     */
+    @Benchmark
+    public List<Pod> mapsToPods() {
+        return PodSetUtils.mapsToPods(podSet.getSpec().getPods());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the ReconciliationLogger calls at the DEBUG and TRACE levels when these levels are disabled, which is
+ * the default configuration of the operators. Such calls are made many times for every resource in every
+ * reconciliation, so they should not build the log message or allocate any other objects. Run it with the JMH GC
+ * profiler (-prof gc) and check that the normalized allocation rate (gc.alloc.rate.norm) is close to zero.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReconciliationLoggerBenchmark {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationLoggerBenchmark.class);
+
+    private Reconciliation reconciliation;
+    private String kind;
+    private String name;
+    private Integer generation;
+    private Exception exception;
+
+    /**
+     * Prepares the reconciliation and the log message parameters
+     */
+    @Setup
+    public void setup() {
+        if (LOGGER.isDebugEnabled()) {
+            throw new IllegalStateException("The DEBUG level has to be disabled for this benchmark");
+        }
+
+        reconciliation = new Reconciliation("watch", "Kafka", "my-namespace", "my-cluster");
+        kind = "StrimziPodSet";
+        name = "my-cluster-kafka";
+        generation = 1_000;
+        exception = new RuntimeException("Something went wrong");
+    }
+
+    /**
+     * Benchmarks a disabled DEBUG call without parameters
+     */
+    @Benchmark
+    public void debugWithoutParameters() {
+        LOGGER.debugCr(reconciliation, "Reconciliation is in progress");
+    }
+
+    /**
+     * Benchmarks a disabled DEBUG call with parameters
+     */
+    @Benchmark
+    public void debugWithParameters() {
+        LOGGER.debugCr(reconciliation, "{} {} has generation {}", kind, name, generation);
+    }
+
+    /**
+     * Benchmarks a disabled DEBUG call with an exception
+     */
+    @Benchmark
+    public void debugWithThrowable() {
+        LOGGER.debugCr(reconciliation, "Reconciliation failed", exception);
+    }
+
+    /**
+     * Benchmarks a disabled TRACE call with a parameter
+     */
+    @Benchmark
+    public void traceWithParameter() {
+        LOGGER.traceCr(reconciliation, "Current resource {}", name);
+    }
+
+    /**
+     * Benchmarks the level check used to guard the building of expensive log message parameters
+     *
+     * @return  True if the DEBUG level is enabled for the reconciliation. False otherwise.
+     */
+    @Benchmark
+    public boolean isDebugEnabled() {
+        return LOGGER.isDebugEnabled(reconciliation);
+    }
+}
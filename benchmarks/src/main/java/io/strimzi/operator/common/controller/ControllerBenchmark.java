@@ -0,0 +1,101 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the controller work queue and the reconciliation locks used by the StrimziPodSet and User controllers.
+ * The queue benchmarks use a queue which is already filled with other reconciliations, because the queue checks
+ * whether the reconciliation is already enqueued before adding it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ControllerBenchmark {
+    /**
+     * Number of reconciliations already waiting in the queue
+     */
+    @Param({"1", "100", "1000"})
+    public int enqueued;
+
+    private ControllerQueue queue;
+    private SimplifiedReconciliation duplicate;
+    private SimplifiedReconciliation reconciliation;
+    private ReconciliationLockManager lockManager;
+
+    /**
+     * Prepares the queue and the lock manager
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        queue = new ControllerQueue(enqueued, new ControllerMetricsHolder("KafkaUser", Labels.EMPTY, new MicrometerMetricsProvider(new SimpleMeterRegistry())));
+        for (int i = 0; i < enqueued; i++) {
+            queue.enqueue(new SimplifiedReconciliation("KafkaUser", "my-namespace", "my-user-" + i, "watch"));
+        }
+
+        duplicate = new SimplifiedReconciliation("KafkaUser", "my-namespace", "my-user-" + (enqueued - 1), "timer");
+
+        reconciliation = new SimplifiedReconciliation("KafkaUser", "my-namespace", "my-user", "watch");
+        lockManager = new ReconciliationLockManager();
+    }
+
+    /**
+     * Benchmarks taking the next reconciliation from the queue and enqueueing it again. The queue is kept at the same
+     * size, so every invocation does the same work.
+     *
+     * @return  The reconciliation taken from the queue
+     *
+     * @throws InterruptedException     When interrupted while taking from the queue
+     */
+    @Benchmark
+    public SimplifiedReconciliation takeAndEnqueue() throws InterruptedException {
+        SimplifiedReconciliation next = queue.take();
+        queue.enqueue(next);
+        return next;
+    }
+
+    /**
+     * Benchmarks enqueueing a reconciliation which is already at the end of the queue
+     */
+    @Benchmark
+    public void enqueueDuplicate() {
+        queue.enqueue(duplicate);
+    }
+
+    /**
+     * Benchmarks obtaining and releasing an uncontended reconciliation lock
+     *
+     * @return  True if the lock was obtained
+     *
+     * @throws InterruptedException     When interrupted while waiting for the lock
+     */
+    @Benchmark
+    public boolean lockAndUnlock() throws InterruptedException {
+        boolean locked = lockManager.tryLock(reconciliation.lockName(), 1, TimeUnit.SECONDS);
+        lockManager.unlock(reconciliation.lockName());
+        return locked;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the parsing and writing of the properties files used for the operand configurations. The properties file
+ * contains comments, escaped characters and multi-line values in the same way as the generated broker configurations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderedPropertiesBenchmark {
+    /**
+     * Number of properties
+     */
+    @Param({"50", "500"})
+    public int properties;
+
+    private String pairs;
+    private OrderedProperties parsed;
+
+    /**
+     * Prepares the properties file
+     */
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < properties; i++) {
+            if (i % 10 == 0) {
+                sb.append("##########\n# Section ").append(i / 10).append('\n').append("##########\n");
+            }
+
+            if (i % 25 == 0) {
+                sb.append("listener.name.listener").append(i).append(".sasl.jaas.config=org.apache.kafka.common.security.plain.PlainLoginModule required \\\n")
+                        .append("    username=\"user-").append(i).append("\" \\\n")
+                        .append("    password=\"password-").append(i).append("\";\n");
+            } else {
+                sb.append("custom.option.").append(i).append('=').append("value\\:").append(i).append('\n');
+            }
+        }
+
+        pairs = sb.toString();
+        parsed = new OrderedProperties().addStringPairs(pairs);
+    }
+
+    /**
+     * Benchmarks the parsing of the properties
+     *
+     * @return  The parsed properties
+     */
+    @Benchmark
+    public OrderedProperties parse() {
+        return new OrderedProperties().addStringPairs(pairs);
+    }
+
+    /**
+     * Benchmarks the writing of the properties
+     *
+     * @return  The properties file
+     */
+    @Benchmark
+    public String write() {
+        return parsed.asPairs();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.operator.cluster.BenchmarkResources;
+import io.strimzi.operator.cluster.model.ImagePullPolicy;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.PodSetUtils;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the diffing of the current and desired resources as done by the resource operators for every resource
+ * in every reconciliation. It uses the Kafka broker pod as the resource. The current resource contains the fields set
+ * by the Kubernetes API server which are ignored by the diff.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceDiffBenchmark {
+    /**
+     * Whether the desired resource differs from the current resource
+     */
+    @Param({"false", "true"})
+    public boolean changed;
+
+    private Pod current;
+    private Pod desired;
+
+    /**
+     * Prepares the current and desired resources
+     */
+    @Setup
+    public void setup() {
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, BenchmarkResources.kafka(3), BenchmarkResources.kafkaVersionLookup());
+        StrimziPodSet podSet = kafkaCluster.generatePodSet(3, false, ImagePullPolicy.IFNOTPRESENT, null, brokerId -> Map.of());
+        desired = PodSetUtils.mapToPod(podSet.getSpec().getPods().get(0));
+
+        PodBuilder currentBuilder = new PodBuilder(desired)
+                .editMetadata()
+                    .withResourceVersion("123456")
+                    .withUid("7d3c2f1e-8d4b-4a5f-9c6e-1b2a3d4e5f60")
+                    .withCreationTimestamp("2023-04-01T00:00:00Z")
+                    .withManagedFields(new ManagedFieldsEntryBuilder()
+                            .withManager("strimzi-cluster-operator")
+                            .withOperation("Update")
+                            .withApiVersion("v1")
+                            .withTime("2023-04-01T00:00:00Z")
+                            .build())
+                .endMetadata()
+                .withNewStatus()
+                    .withPhase("Running")
+                    .withPodIP("10.0.0.1")
+                .endStatus();
+
+        if (changed) {
+            currentBuilder.editMetadata()
+                    .addToAnnotations("my-annotation", "my-value")
+                .endMetadata();
+        }
+
+        current = currentBuilder.build();
+    }
+
+    /**
+     * Benchmarks the diff
+     *
+     * @return  True if the resources do not differ. False otherwise.
+     */
+    @Benchmark
+    public boolean diff() {
+        return new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "Pod", "my-pod", current, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty();
+    }
+}
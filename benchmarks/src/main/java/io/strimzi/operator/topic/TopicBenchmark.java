@@ -0,0 +1,159 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversions between the different representations of a topic and the diffing of the topics as done
+ * by the Topic Operator for every topic in every reconciliation. The desired topic differs from the current topic in
+ * a single configuration option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TopicBenchmark {
+    private static final int PARTITIONS = 12;
+    private static final short REPLICAS = 3;
+
+    /**
+     * Number of configuration options of the topic
+     */
+    @Param({"5", "50"})
+    public int configOptions;
+
+    private KafkaTopic kafkaTopic;
+    private Topic currentTopic;
+    private Topic desiredTopic;
+    private byte[] json;
+    private TopicMetadata metadata;
+    private Labels labels;
+
+    /**
+     * Prepares the topics in their different representations
+     */
+    @Setup
+    public void setup() {
+        Map<String, Object> config = new HashMap<>(configOptions);
+        List<ConfigEntry> configEntries = new ArrayList<>(configOptions);
+        for (int i = 0; i < configOptions; i++) {
+            config.put("custom.option." + i, "value-" + i);
+            configEntries.add(new ConfigEntry("custom.option." + i, "value-" + i));
+        }
+
+        kafkaTopic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName("my-topic")
+                    .withNamespace("my-namespace")
+                    .withLabels(Map.of("strimzi.io/cluster", "my-cluster"))
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(PARTITIONS)
+                    .withReplicas((int) REPLICAS)
+                    .withConfig(config)
+                .endSpec()
+                .build();
+
+        currentTopic = TopicSerialization.fromTopicResource(kafkaTopic);
+        desiredTopic = new Topic.Builder(currentTopic)
+                .withConfigEntry("custom.option.0", "changed")
+                .build();
+        json = TopicSerialization.toJson(currentTopic);
+        labels = new Labels("strimzi.io/cluster", "my-cluster");
+
+        List<Node> nodes = List.of(new Node(0, "broker-0", 9092), new Node(1, "broker-1", 9092), new Node(2, "broker-2", 9092));
+        List<TopicPartitionInfo> partitions = new ArrayList<>(PARTITIONS);
+        for (int i = 0; i < PARTITIONS; i++) {
+            partitions.add(new TopicPartitionInfo(i, nodes.get(i % nodes.size()), nodes, nodes));
+        }
+        metadata = new TopicMetadata(new TopicDescription("my-topic", false, partitions), new Config(configEntries));
+    }
+
+    /**
+     * Benchmarks the diffing of two topics
+     *
+     * @return  The difference between the topics
+     */
+    @Benchmark
+    public TopicDiff diff() {
+        return TopicDiff.diff(currentTopic, desiredTopic);
+    }
+
+    /**
+     * Benchmarks the conversion of the KafkaTopic custom resource to the topic
+     *
+     * @return  The topic
+     */
+    @Benchmark
+    public Topic fromTopicResource() {
+        return TopicSerialization.fromTopicResource(kafkaTopic);
+    }
+
+    /**
+     * Benchmarks the conversion of the topic to the KafkaTopic custom resource
+     *
+     * @return  The KafkaTopic custom resource
+     */
+    @Benchmark
+    public KafkaTopic toTopicResource() {
+        return TopicSerialization.toTopicResource(currentTopic, labels);
+    }
+
+    /**
+     * Benchmarks the conversion of the Kafka topic metadata to the topic
+     *
+     * @return  The topic
+     */
+    @Benchmark
+    public Topic fromTopicMetadata() {
+        return TopicSerialization.fromTopicMetadata(metadata);
+    }
+
+    /**
+     * Benchmarks the serialization of the topic into the JSON format used by the topic store
+     *
+     * @return  The serialized topic
+     */
+    @Benchmark
+    public byte[] toJson() {
+        return TopicSerialization.toJson(currentTopic);
+    }
+
+    /**
+     * Benchmarks the deserialization of the topic from the JSON format used by the topic store
+     *
+     * @return  The deserialized topic
+     */
+    @Benchmark
+    public Topic fromJson() {
+        return TopicSerialization.fromJson(json);
+    }
+}
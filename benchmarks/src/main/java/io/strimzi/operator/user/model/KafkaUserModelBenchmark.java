@@ -0,0 +1,104 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.model;
+
+import io.strimzi.api.kafka.model.AclOperation;
+import io.strimzi.api.kafka.model.AclResourcePatternType;
+import io.strimzi.api.kafka.model.AclRule;
+import io.strimzi.api.kafka.model.AclRuleBuilder;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.KafkaUserTlsClientAuthentication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the creation of the user model from the KafkaUser custom resource as done in every reconciliation of the
+ * KafkaUser. The user uses TLS client authentication, quotas and simple authorization with topic and group rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaUserModelBenchmark {
+    /**
+     * Number of ACL rules of the user
+     */
+    @Param({"10", "100"})
+    public int aclRules;
+
+    private KafkaUser kafkaUser;
+
+    /**
+     * Prepares the KafkaUser custom resource
+     */
+    @Setup
+    public void setup() {
+        List<AclRule> acls = new ArrayList<>(aclRules);
+        for (int i = 0; i < aclRules; i++) {
+            if (i % 2 == 0) {
+                acls.add(new AclRuleBuilder()
+                        .withNewAclRuleTopicResource()
+                            .withName("my-topic-" + i)
+                            .withPatternType(i % 4 == 0 ? AclResourcePatternType.LITERAL : AclResourcePatternType.PREFIX)
+                        .endAclRuleTopicResource()
+                        .withOperations(AclOperation.READ, AclOperation.WRITE, AclOperation.DESCRIBE, AclOperation.CREATE)
+                        .build());
+            } else {
+                acls.add(new AclRuleBuilder()
+                        .withNewAclRuleGroupResource()
+                            .withName("my-group-" + i)
+                        .endAclRuleGroupResource()
+                        .withOperations(AclOperation.READ)
+                        .build());
+            }
+        }
+
+        kafkaUser = new KafkaUserBuilder()
+                .withNewMetadata()
+                    .withName("my-user")
+                    .withNamespace("my-namespace")
+                    .withLabels(Map.of("strimzi.io/cluster", "my-cluster"))
+                .endMetadata()
+                .withNewSpec()
+                    .withAuthentication(new KafkaUserTlsClientAuthentication())
+                    .withNewKafkaUserAuthorizationSimple()
+                        .withAcls(acls)
+                    .endKafkaUserAuthorizationSimple()
+                    .withNewQuotas()
+                        .withConsumerByteRate(1_024 * 1_024)
+                        .withProducerByteRate(1_024 * 1_024)
+                        .withRequestPercentage(50)
+                    .endQuotas()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Benchmarks the creation of the user model
+     *
+     * @return  The user model
+     */
+    @Benchmark
+    public KafkaUserModel fromCrd() {
+        return KafkaUserModel.fromCrd(kafkaUser, "", true, false);
+    }
+}
@@ -123,6 +123,24 @@ public interface CertManager {
      */
     void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException;
 
+    /**
+     * Generate a private key of the same type as the keys generated by the generateCsr method
+     *
+     * @param keyFile path to the file which will contain the private key
+     * @throws IOException If an input or output file could not be read/written.
+     */
+    void generatePrivateKey(File keyFile) throws IOException;
+
+    /**
+     * Generate a certificate sign request for an existing private key
+     *
+     * @param keyFile path to the file containing the private key
+     * @param csrFile path to the file which will contain the certificate sign request
+     * @param sbj subject information
+     * @throws IOException If an input or output file could not be read/written.
+     */
+    void generateCsrForExistingKey(File keyFile, File csrFile, Subject sbj) throws IOException;
+
     /**
      * Generate a certificate signed by a Certificate Authority
      *
@@ -65,6 +65,9 @@ public class OpenSslCertManager implements CertManager {
      */
     public static final int MAXIMUM_CN_LENGTH = 64;
 
+    // Size of the RSA keys generated by the openssl req command when the key size is not configured
+    private static final int DEFAULT_KEY_SIZE = 2048;
+
     private static final Logger LOGGER = LogManager.getLogger(OpenSslCertManager.class);
     private final Clock clock;
 
@@ -418,11 +421,37 @@ public class OpenSslCertManager implements CertManager {
         Objects.requireNonNull(csrFile);
         Objects.requireNonNull(subject);
 
-        OpensslArgs cmd = new OpensslArgs("openssl", "req")
+        generateCsr(new OpensslArgs("openssl", "req")
                 .opt("-new").opt("-batch").opt("-nodes")
                 .optArg("-keyout", keyFile)
-                .optArg("-out", csrFile);
+                .optArg("-out", csrFile), subject);
+    }
+
+    @Override
+    public void generatePrivateKey(File keyFile) throws IOException {
+        Objects.requireNonNull(keyFile);
+
+        // The same RSA key in the PKCS#8 format as generated by the openssl req command in generateCsr
+        new OpensslArgs("openssl", "genpkey")
+                .optArg("-algorithm", "RSA")
+                .optArg("-pkeyopt", "rsa_keygen_bits:" + DEFAULT_KEY_SIZE)
+                .optArg("-out", keyFile)
+                .exec();
+    }
+
+    @Override
+    public void generateCsrForExistingKey(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        generateCsr(new OpensslArgs("openssl", "req")
+                .opt("-new").opt("-batch")
+                .optArg("-key", keyFile)
+                .optArg("-out", csrFile), subject);
+    }
 
+    private void generateCsr(OpensslArgs cmd, Subject subject) throws IOException {
         Path sna = null;
         try {
             if (subject.hasSubjectAltNames()) {
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
+import io.strimzi.operator.cluster.leaderelection.ShardManager;
 import io.strimzi.operator.cluster.operator.assembly.AbstractConnectOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -60,8 +61,9 @@ public class ClusterOperator extends AbstractVerticle {
     private final KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator;
     private final KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator;
     private final ResourceOperatorSupplier resourceOperatorSupplier;
+    private final ShardManager shardManager;
 
-    private StrimziPodSetController strimziPodSetController;
+    private final StrimziPodSetController strimziPodSetController;
 
     // this field is required to keep the underlying shared worker pool alive
     @SuppressWarnings("unused")
@@ -80,6 +82,9 @@ public class ClusterOperator extends AbstractVerticle {
      * @param kafkaBridgeAssemblyOperator           KafkaBridge operator
      * @param kafkaRebalanceAssemblyOperator        KafkaRebalance operator
      * @param resourceOperatorSupplier              Resource operator supplier
+     * @param strimziPodSetController               StrimziPodSet controller shared by all ClusterOperator instances
+     * @param shardManager                          Shard manager deciding which custom resources are owned by this
+     *                                              operator instance or null when sharding is not used
      */
     public ClusterOperator(String namespace,
                            ClusterOperatorConfig config,
@@ -90,7 +95,9 @@ public class ClusterOperator extends AbstractVerticle {
                            KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator,
                            KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator,
                            KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator,
-                           ResourceOperatorSupplier resourceOperatorSupplier) {
+                           ResourceOperatorSupplier resourceOperatorSupplier,
+                           StrimziPodSetController strimziPodSetController,
+                           ShardManager shardManager) {
         LOGGER.info("Creating ClusterOperator for namespace {}", namespace);
         this.namespace = namespace;
         this.config = config;
@@ -102,6 +109,8 @@ public class ClusterOperator extends AbstractVerticle {
         this.kafkaBridgeAssemblyOperator = kafkaBridgeAssemblyOperator;
         this.kafkaRebalanceAssemblyOperator = kafkaRebalanceAssemblyOperator;
         this.resourceOperatorSupplier = resourceOperatorSupplier;
+        this.strimziPodSetController = strimziPodSetController;
+        this.shardManager = shardManager;
     }
 
     @Override
@@ -113,7 +122,9 @@ public class ClusterOperator extends AbstractVerticle {
 
         @SuppressWarnings({ "rawtypes" })
         List<Future> startFutures = new ArrayList<>(8);
-        startFutures.add(maybeStartStrimziPodSetController());
+
+        // The StrimziPodSet controller is shared by all ClusterOperator instances and is started only by the first of them
+        strimziPodSetController.start();
 
         if (!config.isPodSetReconciliationOnly()) {
             List<AbstractOperator<?, ?, ?, ?>> operators = new ArrayList<>(asList(
@@ -141,36 +152,19 @@ public class ClusterOperator extends AbstractVerticle {
                         }
                     });
 
+                    if (shardManager != null) {
+                        // Reconcile the resources from the newly acquired shards right away
+                        shardManager.addShardsChangedListener(shards -> context.runOnContext(v -> {
+                            LOGGER.info("Triggering reconciliation for namespace {} after the owned shards changed to {}", namespace, shards);
+                            reconcileAll("shards");
+                        }));
+                    }
+
                     return Future.succeededFuture((Void) null);
                 })
                 .onComplete(start);
     }
 
-    private Future<Void> maybeStartStrimziPodSetController() {
-        Promise<Void> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
-            try {
-                strimziPodSetController = new StrimziPodSetController(
-                        namespace,
-                        config.getCustomResourceSelector(),
-                        resourceOperatorSupplier.kafkaOperator,
-                        resourceOperatorSupplier.connectOperator,
-                        resourceOperatorSupplier.mirrorMaker2Operator,
-                        resourceOperatorSupplier.strimziPodSetOperator,
-                        resourceOperatorSupplier.podOperations,
-                        resourceOperatorSupplier.metricsProvider,
-                        config.getPodSetControllerWorkQueueSize()
-                );
-                strimziPodSetController.start();
-                future.complete();
-            } catch (Throwable e) {
-                LOGGER.error("StrimziPodSetController start failed");
-                future.fail(e);
-            }
-        }, handler);
-        return handler.future();
-    }
-
     @Override
     public void stop(Promise<Void> stop) {
         LOGGER.info("Stopping ClusterOperator for namespace {}", namespace);
@@ -181,6 +175,7 @@ public class ClusterOperator extends AbstractVerticle {
             }
         }
 
+        // The StrimziPodSet controller is shared by all ClusterOperator instances and is stopped by the first of them
         strimziPodSetController.stop();
         client.close();
         stop.complete();
@@ -55,6 +55,9 @@ public class ClusterOperatorConfig {
     /* test */ static final String STRIMZI_DNS_CACHE_TTL = "STRIMZI_DNS_CACHE_TTL";
     /* test */ static final String STRIMZI_POD_SET_RECONCILIATION_ONLY = "STRIMZI_POD_SET_RECONCILIATION_ONLY";
     private static final String STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE = "STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE";
+    /* test */ static final String STRIMZI_POD_SET_CONTROLLER_WORKER_THREADS = "STRIMZI_POD_SET_CONTROLLER_WORKER_THREADS";
+    /* test */ static final String STRIMZI_RECONCILIATION_STEPS_PARALLELISM = "STRIMZI_RECONCILIATION_STEPS_PARALLELISM";
+    /* test */ static final String STRIMZI_MAX_SKIPPED_RECONCILIATIONS = "STRIMZI_MAX_SKIPPED_RECONCILIATIONS";
     /* test */ static final String STRIMZI_POD_SECURITY_PROVIDER_CLASS = "STRIMZI_POD_SECURITY_PROVIDER_CLASS";
     /* test */ static final String STRIMZI_LEADER_ELECTION_ENABLED = "STRIMZI_LEADER_ELECTION_ENABLED";
 
@@ -162,6 +165,11 @@ public class ClusterOperatorConfig {
      */
     public static final int DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE = 1024;
 
+    /**
+     * Default number of worker threads reconciling the StrimziPodSets in the Pod Set controller
+     */
+    public static final int DEFAULT_POD_SET_CONTROLLER_WORKER_THREADS = 4;
+
     /**
      * Default operations timeout
      */
@@ -175,6 +183,17 @@ public class ClusterOperatorConfig {
     private static final boolean DEFAULT_CREATE_CLUSTER_ROLES = false;
     private static final boolean DEFAULT_POD_SET_RECONCILIATION_ONLY = false;
 
+    /**
+     * Default maximal number of independent reconciliation steps executed concurrently for a single operand
+     */
+    public static final int DEFAULT_RECONCILIATION_STEPS_PARALLELISM = 4;
+
+    /**
+     * Default maximal number of consecutive reconciliations of an unchanged Kafka cluster which are skipped before a
+     * full reconciliation is forced. Skipping is disabled by default.
+     */
+    public static final int DEFAULT_MAX_SKIPPED_RECONCILIATIONS = 0;
+
     /**
      * Default Pod Security Provider class
      */
@@ -208,6 +227,9 @@ public class ClusterOperatorConfig {
     private final String operatorName;
     private final String podSecurityProviderClass;
     private final LeaderElectionManagerConfig leaderElectionConfig;
+    private final int reconciliationStepsParallelism;
+    private final int maxSkippedReconciliations;
+    private final int podSetControllerWorkerThreads;
 
     /**
      * Constructor
@@ -234,6 +256,11 @@ public class ClusterOperatorConfig {
      * @param operatorName                  The Pod name of the cluster operator, used to identify source of K8s events the operator creates
      * @param podSecurityProviderClass      The PodSecurityProvider class which the operator should use
      * @param leaderElectionConfig          Configuration of the Cluster Operator leader election
+     * @param reconciliationStepsParallelism Maximal number of independent reconciliation steps executed concurrently
+     * @param maxSkippedReconciliations     Maximal number of consecutive reconciliations of an unchanged Kafka cluster
+     *                                      which are skipped before a full reconciliation is forced (0 disables skipping)
+     * @param podSetControllerWorkerThreads Number of worker threads reconciling the StrimziPodSets in the shared
+     *                                      StrimziPodSetController
      */
     @SuppressWarnings("checkstyle:ParameterNumber")
     public ClusterOperatorConfig(
@@ -257,7 +284,10 @@ public class ClusterOperatorConfig {
             int podSetControllerWorkQueueSize,
             String operatorName,
             String podSecurityProviderClass,
-            LeaderElectionManagerConfig leaderElectionConfig
+            LeaderElectionManagerConfig leaderElectionConfig,
+            int reconciliationStepsParallelism,
+            int maxSkippedReconciliations,
+            int podSetControllerWorkerThreads
     ) {
         this.namespaces = Set.copyOf(namespaces);
         this.reconciliationIntervalMs = reconciliationIntervalMs;
@@ -280,6 +310,9 @@ public class ClusterOperatorConfig {
         this.operatorName = operatorName;
         this.podSecurityProviderClass = podSecurityProviderClass;
         this.leaderElectionConfig = leaderElectionConfig;
+        this.reconciliationStepsParallelism = reconciliationStepsParallelism;
+        this.maxSkippedReconciliations = maxSkippedReconciliations;
+        this.podSetControllerWorkerThreads = podSetControllerWorkerThreads;
     }
 
     /**
@@ -338,6 +371,9 @@ public class ClusterOperatorConfig {
         int podSetControllerWorkQueueSize = parseInt(map.get(STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE), DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
         String podSecurityProviderClass = parsePodSecurityProviderClass(map.get(STRIMZI_POD_SECURITY_PROVIDER_CLASS));
         LeaderElectionManagerConfig leaderElectionConfig = parseLeaderElectionConfig(map);
+        int reconciliationStepsParallelism = parseReconciliationStepsParallelism(map.get(STRIMZI_RECONCILIATION_STEPS_PARALLELISM));
+        int maxSkippedReconciliations = parseInt(map.get(STRIMZI_MAX_SKIPPED_RECONCILIATIONS), DEFAULT_MAX_SKIPPED_RECONCILIATIONS);
+        int podSetControllerWorkerThreads = parsePodSetControllerWorkerThreads(map.get(STRIMZI_POD_SET_CONTROLLER_WORKER_THREADS));
 
         //Use default to prevent existing installations breaking if CO pod template not modified to pass through pod name
         String operatorName = map.getOrDefault(STRIMZI_OPERATOR_NAME, DEFAULT_OPERATOR_NAME);
@@ -363,7 +399,10 @@ public class ClusterOperatorConfig {
                 podSetControllerWorkQueueSize,
                 operatorName,
                 podSecurityProviderClass,
-                leaderElectionConfig);
+                leaderElectionConfig,
+                reconciliationStepsParallelism,
+                maxSkippedReconciliations,
+                podSetControllerWorkerThreads);
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -415,6 +454,26 @@ public class ClusterOperatorConfig {
         return value;
     }
 
+    private static int parseReconciliationStepsParallelism(String envVar) {
+        int parallelism = parseInt(envVar, DEFAULT_RECONCILIATION_STEPS_PARALLELISM);
+
+        if (parallelism < 1) {
+            throw new InvalidConfigurationException(STRIMZI_RECONCILIATION_STEPS_PARALLELISM + " has to be at least 1");
+        }
+
+        return parallelism;
+    }
+
+    private static int parsePodSetControllerWorkerThreads(String envVar) {
+        int threads = parseInt(envVar, DEFAULT_POD_SET_CONTROLLER_WORKER_THREADS);
+
+        if (threads < 1) {
+            throw new InvalidConfigurationException(STRIMZI_POD_SET_CONTROLLER_WORKER_THREADS + " has to be at least 1");
+        }
+
+        return threads;
+    }
+
     /* test */ static boolean parseBoolean(String envVar, boolean defaultValue) {
         boolean value = defaultValue;
 
@@ -694,6 +753,28 @@ public class ClusterOperatorConfig {
         return leaderElectionConfig;
     }
 
+    /**
+     * @return Returns the maximal number of independent reconciliation steps executed concurrently
+     */
+    public int getReconciliationStepsParallelism() {
+        return reconciliationStepsParallelism;
+    }
+
+    /**
+     * @return Returns the maximal number of consecutive reconciliations of an unchanged Kafka cluster which are skipped
+     * before a full reconciliation is forced
+     */
+    public int getMaxSkippedReconciliations() {
+        return maxSkippedReconciliations;
+    }
+
+    /**
+     * @return Returns the number of worker threads reconciling the StrimziPodSets in the StrimziPodSetController
+     */
+    public int getPodSetControllerWorkerThreads() {
+        return podSetControllerWorkerThreads;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -717,6 +798,9 @@ public class ClusterOperatorConfig {
                 ",operatorName=" + operatorName +
                 ",podSecurityProviderClass=" + podSecurityProviderClass +
                 ",leaderElectionConfig=" + leaderElectionConfig +
+                ",reconciliationStepsParallelism=" + reconciliationStepsParallelism +
+                ",maxSkippedReconciliations=" + maxSkippedReconciliations +
+                ",podSetControllerWorkerThreads=" + podSetControllerWorkerThreads +
                 ")";
     }
 }
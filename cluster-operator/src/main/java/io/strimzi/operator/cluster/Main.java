@@ -12,6 +12,7 @@ import io.strimzi.api.kafka.Crds;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManager;
+import io.strimzi.operator.cluster.leaderelection.ShardManager;
 import io.strimzi.operator.cluster.model.securityprofiles.PodSecurityProviderFactory;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -19,7 +20,9 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperato
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.StrimziPodSetController;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
@@ -100,8 +103,8 @@ public class Main {
         maybeCreateClusterRoles(vertx, config, client)
                 .compose(i -> startHealthServer(vertx, metricsProvider))
                 .compose(i -> leaderElection(client, config))
-                .compose(i -> createPlatformFeaturesAvailability(vertx, client))
-                .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config))
+                .compose(shardManager -> createPlatformFeaturesAvailability(vertx, client)
+                        .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config, shardManager)))
                 .onComplete(res -> {
                     if (res.failed())   {
                         LOGGER.error("Unable to start operator for 1 or more namespace", res.cause());
@@ -138,16 +141,19 @@ public class Main {
     /**
      * Deploys the ClusterOperator verticles responsible for the actual Cluster Operator functionality. One verticle is
      * started for each namespace the operator watched. In case of watching the whole cluster, only one verticle is started.
+     * A single StrimziPodSet controller is created for all watched namespaces and shared by the verticles.
      *
      * @param vertx             Vertx instance
      * @param client            Kubernetes client instance
      * @param metricsProvider   Metrics provider instance
      * @param pfa               PlatformFeaturesAvailability instance describing the Kubernetes cluster
      * @param config            Cluster Operator configuration
+     * @param shardManager      Shard manager deciding which custom resources are owned by this operator instance or
+     *                          null when sharding is not used
      *
      * @return  Future which completes when all Cluster Operator verticles are started and running
      */
-    static CompositeFuture deployClusterOperatorVerticles(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config) {
+    static Future<CompositeFuture> deployClusterOperatorVerticles(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config, ShardManager shardManager) {
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(
                 vertx,
                 client,
@@ -182,8 +188,75 @@ public class Main {
             kafkaMirrorMakerAssemblyOperator = new KafkaMirrorMakerAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
             kafkaBridgeAssemblyOperator = new KafkaBridgeAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
             kafkaRebalanceAssemblyOperator = new KafkaRebalanceAssemblyOperator(vertx, resourceOperatorSupplier, config);
+
+            if (shardManager != null) {
+                // Only the custom resources from the shards held by this instance are reconciled
+                for (AbstractOperator<?, ?, ?, ?> operator : List.of(kafkaClusterOperations, kafkaConnectClusterOperations,
+                        kafkaMirrorMaker2AssemblyOperator, kafkaMirrorMakerAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaRebalanceAssemblyOperator)) {
+                    operator.setOwnership(shardManager);
+                }
+            }
         }
 
+        final KafkaAssemblyOperator kafkaAssemblyOperator = kafkaClusterOperations;
+        final KafkaConnectAssemblyOperator kafkaConnectAssemblyOperator = kafkaConnectClusterOperations;
+        final KafkaMirrorMaker2AssemblyOperator mirrorMaker2AssemblyOperator = kafkaMirrorMaker2AssemblyOperator;
+        final KafkaMirrorMakerAssemblyOperator mirrorMakerAssemblyOperator = kafkaMirrorMakerAssemblyOperator;
+        final KafkaBridgeAssemblyOperator bridgeAssemblyOperator = kafkaBridgeAssemblyOperator;
+        final KafkaRebalanceAssemblyOperator rebalanceAssemblyOperator = kafkaRebalanceAssemblyOperator;
+
+        return createStrimziPodSetController(vertx, resourceOperatorSupplier, config, shardManager)
+                .compose(strimziPodSetController -> deployClusterOperatorVerticles(vertx, config, client, kafkaAssemblyOperator,
+                        kafkaConnectAssemblyOperator, mirrorMakerAssemblyOperator, mirrorMaker2AssemblyOperator, bridgeAssemblyOperator,
+                        rebalanceAssemblyOperator, resourceOperatorSupplier, strimziPodSetController, shardManager));
+    }
+
+    /**
+     * Creates the StrimziPodSet controller for all namespaces watched by the operator. Creating the controller starts
+     * its informers and blocks until they are started. So it is done in a worker thread.
+     *
+     * @param vertx                     Vertx instance
+     * @param resourceOperatorSupplier  Resource operator supplier
+     * @param config                    Cluster Operator configuration
+     * @param shardManager              Shard manager deciding which custom resources are owned by this operator
+     *                                  instance or null when sharding is not used
+     *
+     * @return  Future with the StrimziPodSet controller
+     */
+    private static Future<StrimziPodSetController> createStrimziPodSetController(Vertx vertx, ResourceOperatorSupplier resourceOperatorSupplier, ClusterOperatorConfig config, ShardManager shardManager) {
+        return vertx.executeBlocking(future -> {
+            try {
+                future.complete(new StrimziPodSetController(
+                        config.getNamespaces(),
+                        config.getCustomResourceSelector(),
+                        resourceOperatorSupplier.kafkaOperator,
+                        resourceOperatorSupplier.connectOperator,
+                        resourceOperatorSupplier.mirrorMaker2Operator,
+                        resourceOperatorSupplier.strimziPodSetOperator,
+                        resourceOperatorSupplier.podOperations,
+                        resourceOperatorSupplier.metricsProvider,
+                        config.getPodSetControllerWorkQueueSize(),
+                        config.getPodSetControllerWorkerThreads(),
+                        shardManager != null ? shardManager::isOwned : (namespace, name) -> true
+                ));
+            } catch (Throwable e) {
+                LOGGER.error("StrimziPodSetController creation failed", e);
+                future.fail(e);
+            }
+        });
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private static CompositeFuture deployClusterOperatorVerticles(Vertx vertx, ClusterOperatorConfig config, KubernetesClient client,
+                                                                  KafkaAssemblyOperator kafkaClusterOperations,
+                                                                  KafkaConnectAssemblyOperator kafkaConnectClusterOperations,
+                                                                  KafkaMirrorMakerAssemblyOperator kafkaMirrorMakerAssemblyOperator,
+                                                                  KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator,
+                                                                  KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator,
+                                                                  KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator,
+                                                                  ResourceOperatorSupplier resourceOperatorSupplier,
+                                                                  StrimziPodSetController strimziPodSetController,
+                                                                  ShardManager shardManager) {
         @SuppressWarnings({ "rawtypes" })
         List<Future> futures = new ArrayList<>(config.getNamespaces().size());
         for (String namespace : config.getNamespaces()) {
@@ -198,7 +271,9 @@ public class Main {
                     kafkaMirrorMaker2AssemblyOperator,
                     kafkaBridgeAssemblyOperator,
                     kafkaRebalanceAssemblyOperator,
-                    resourceOperatorSupplier);
+                    resourceOperatorSupplier,
+                    strimziPodSetController,
+                    shardManager);
             vertx.deployVerticle(operator,
                 res -> {
                     if (res.succeeded()) {
@@ -224,13 +299,26 @@ public class Main {
      *
      * When the leader election is disabled, it just completes the future without waiting for anything.
      *
+     * When sharding is configured, all instances of the operator are active at the same time and each of them
+     * reconciles only the custom resources from the shards it holds. In that case, the shard manager is started and
+     * the future completes right away with it.
+     *
      * @param client    Kubernetes client
      * @param config    Cluster Operator configuration
+     *
+     * @return  Future which completes when this instance should start the ClusterOperator verticles. It completes with
+     *          the shard manager when sharding is used or with null otherwise.
      */
-    private static Future<Void> leaderElection(KubernetesClient client, ClusterOperatorConfig config)    {
-        Promise<Void> leader = Promise.promise();
+    private static Future<ShardManager> leaderElection(KubernetesClient client, ClusterOperatorConfig config)    {
+        Promise<ShardManager> leader = Promise.promise();
+
+        if (config.getLeaderElectionConfig() != null && config.getLeaderElectionConfig().getShards() > 0) {
+            ShardManager shardManager = new ShardManager(client, config.getLeaderElectionConfig());
 
-        if (config.getLeaderElectionConfig() != null) {
+            LOGGER.info("Sharding is enabled with {} shards", config.getLeaderElectionConfig().getShards());
+            shardManager.start();
+            leader.complete(shardManager);
+        } else if (config.getLeaderElectionConfig() != null) {
             LeaderElectionManager leaderElection = new LeaderElectionManager(
                     client, config.getLeaderElectionConfig(),
                     () -> {
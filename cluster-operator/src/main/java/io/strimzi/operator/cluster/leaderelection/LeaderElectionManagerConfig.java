@@ -43,10 +43,16 @@ public class LeaderElectionManagerConfig {
      */
     public final static String ENV_VAR_LEADER_ELECTION_RETRY_PERIOD_MS = "STRIMZI_LEADER_ELECTION_RETRY_PERIOD_MS";
 
+    /**
+     * Number of shards into which the custom resources are split between the operator replicas
+     */
+    public final static String ENV_VAR_LEADER_ELECTION_SHARDS = "STRIMZI_LEADER_ELECTION_SHARDS";
+
     // Default values
     private final static Duration DEFAULT_STRIMZI_LEADER_ELECTION_LEASE_DURATION_MS = Duration.ofSeconds(15);
     private final static Duration DEFAULT_STRIMZI_LEADER_ELECTION_RENEW_DEADLINE_MS = Duration.ofSeconds(10);
     private final static Duration DEFAULT_STRIMZI_LEADER_ELECTION_RETRY_PERIOD_MS = Duration.ofSeconds(2);
+    private final static int DEFAULT_STRIMZI_LEADER_ELECTION_SHARDS = 0;
 
     private final String leaseName;
     private final String namespace;
@@ -54,6 +60,7 @@ public class LeaderElectionManagerConfig {
     private final Duration leaseDuration;
     private final Duration renewDeadline;
     private final Duration retryPeriod;
+    private final int shards;
 
     /**
      * Constructs the LeaderElectionManagerConfig object
@@ -66,12 +73,29 @@ public class LeaderElectionManagerConfig {
      * @param retryPeriod   How often does the leader update the lease lock
      */
     public LeaderElectionManagerConfig(String leaseName, String namespace, String identity, Duration leaseDuration, Duration renewDeadline, Duration retryPeriod) {
+        this(leaseName, namespace, identity, leaseDuration, renewDeadline, retryPeriod, 0);
+    }
+
+    /**
+     * Constructs the LeaderElectionManagerConfig object
+     *
+     * @param leaseName     Name of the Kubernetes Lease resource
+     * @param namespace     Namespace of the Kubernetes Lease resource
+     * @param identity      Identity of this instance of the operator (should be unique: for example Pod name)
+     * @param leaseDuration Duration for which the acquired lease is valid
+     * @param renewDeadline Duration for which should the leader retry to maintain the leadership
+     * @param retryPeriod   How often does the leader update the lease lock
+     * @param shards        Number of shards into which the custom resources are split. 0 disables the sharding and
+     *                      uses a single leader instead.
+     */
+    public LeaderElectionManagerConfig(String leaseName, String namespace, String identity, Duration leaseDuration, Duration renewDeadline, Duration retryPeriod, int shards) {
         this.leaseName = leaseName;
         this.namespace = namespace;
         this.identity = identity;
         this.leaseDuration = leaseDuration;
         this.renewDeadline = renewDeadline;
         this.retryPeriod = retryPeriod;
+        this.shards = shards;
     }
 
     /**
@@ -94,8 +118,23 @@ public class LeaderElectionManagerConfig {
         Duration leaseDuration = parseDuration(map.get(ENV_VAR_LEADER_ELECTION_LEASE_DURATION_MS), DEFAULT_STRIMZI_LEADER_ELECTION_LEASE_DURATION_MS);
         Duration renewDeadline = parseDuration(map.get(ENV_VAR_LEADER_ELECTION_RENEW_DEADLINE_MS), DEFAULT_STRIMZI_LEADER_ELECTION_RENEW_DEADLINE_MS);
         Duration retryPeriod = parseDuration(map.get(ENV_VAR_LEADER_ELECTION_RETRY_PERIOD_MS), DEFAULT_STRIMZI_LEADER_ELECTION_RETRY_PERIOD_MS);
+        int shards = parseShards(map.get(ENV_VAR_LEADER_ELECTION_SHARDS));
+
+        return new LeaderElectionManagerConfig(leaseName, namespace, identity, leaseDuration, renewDeadline, retryPeriod, shards);
+    }
+
+    private static int parseShards(String shardsValue) {
+        int shards = DEFAULT_STRIMZI_LEADER_ELECTION_SHARDS;
+
+        if (shardsValue != null) {
+            shards = Integer.parseInt(shardsValue);
 
-        return new LeaderElectionManagerConfig(leaseName, namespace, identity, leaseDuration, renewDeadline, retryPeriod);
+            if (shards < 0) {
+                throw new InvalidConfigurationException(ENV_VAR_LEADER_ELECTION_SHARDS + " has to be 0 or more");
+            }
+        }
+
+        return shards;
     }
 
     private static Duration parseDuration(String durationValue, Duration defaultDuration) {
@@ -150,6 +189,14 @@ public class LeaderElectionManagerConfig {
         return retryPeriod;
     }
 
+    /**
+     * @return  Returns the number of shards into which the custom resources are split. 0 means that the sharding is
+     *          disabled and a single leader is elected instead.
+     */
+    public int getShards() {
+        return shards;
+    }
+
     @Override
     public String toString() {
         return "LeaderElectionConfig{" +
@@ -159,6 +206,7 @@ public class LeaderElectionManagerConfig {
                 ", leaseDuration=" + leaseDuration +
                 ", renewDeadline=" + renewDeadline +
                 ", retryPeriod=" + retryPeriod +
+                ", shards=" + shards +
                 '}';
     }
 }
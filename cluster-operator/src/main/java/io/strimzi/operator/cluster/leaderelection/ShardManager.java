@@ -0,0 +1,581 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.strimzi.operator.common.ResourceOwnership;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.HttpURLConnection;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * ShardManager splits the custom resources managed by the operator into shards and distributes them between the
+ * operator replicas. Every custom resource belongs to a shard based on the hash of its namespace and name. Every shard
+ * is protected by its own Kubernetes Lease and only the replica holding the Lease reconciles the resources belonging
+ * to the shard.
+ *
+ * The replicas announce themselves in a membership Lease. Each replica tries to hold its fair share of the shards
+ * (number of shards divided by number of live replicas, rounded up). When a replica joins, the other replicas stop
+ * starting new reconciliations for the shards above their fair share, wait for the reconciliations in progress to
+ * complete and only then release the shards so that the new replica can acquire them. When a replica leaves or stops
+ * renewing its Leases, its shards expire and are acquired by the remaining replicas.
+ *
+ * In the same way as the Kubernetes leader election, the expiration does not compare the timestamps written by the
+ * other replicas with the local clock. A Lease held by another replica (or its membership) expires when it was not
+ * changed for the lease duration measured by the local clock since this replica observed its last change. That way,
+ * the clock skew between the replicas does not matter.
+ *
+ * The shards are maintained from a separate long-running thread in the same way as the leader election is done by
+ * the LeaderElectionManager.
+ */
+public class ShardManager implements Runnable, ResourceOwnership {
+    private static final Logger LOGGER = LogManager.getLogger(ShardManager.class);
+
+    /**
+     * Prefix of the annotations used to store the members in the membership Lease
+     */
+    /* test */ static final String MEMBER_ANNOTATION_PREFIX = "shards.strimzi.io/";
+
+    /**
+     * How many times is the update of the membership Lease retried when it conflicts with another member
+     */
+    private static final int MEMBERSHIP_RENEWAL_ATTEMPTS = 3;
+
+    private final KubernetesClient client;
+    private final LeaderElectionManagerConfig config;
+    private final Clock clock;
+    private final Thread managerThread;
+    private final List<Consumer<Set<Integer>>> shardsChangedListeners = new CopyOnWriteArrayList<>();
+
+    // Shards held by this instance mapped to the time of their last successful renewal. Includes the draining shards.
+    private final Map<Integer, Long> ownedShards = new TreeMap<>();
+    // Shards which are held by this instance but are waiting for the reconciliations in progress to be released
+    private final Set<Integer> drainingShards = new TreeSet<>();
+    // Number of reconciliations in progress per shard
+    private final Map<Integer, Integer> inFlightReconciliations = new HashMap<>();
+    // Last observed versions of the Leases and memberships of the other instances. Used only from the manager thread.
+    private final Map<String, Observation> observations = new HashMap<>();
+    private volatile boolean stop = false;
+    /**
+     * ShardManager constructor
+     *
+     * @param client    Kubernetes client
+     * @param config    LeaderElectionManager configuration with the number of shards
+     */
+    public ShardManager(KubernetesClient client, LeaderElectionManagerConfig config) {
+        this(client, config, Clock.systemUTC());
+    }
+
+    /**
+     * ShardManager constructor
+     *
+     * @param client    Kubernetes client
+     * @param config    LeaderElectionManager configuration with the number of shards
+     * @param clock     Clock used to renew and expire the Leases
+     */
+    /* test */ ShardManager(KubernetesClient client, LeaderElectionManagerConfig config, Clock clock) {
+        if (config.getShards() < 1) {
+            throw new IllegalArgumentException("The number of shards has to be at least 1");
+        }
+
+        this.client = client;
+        this.config = config;
+        this.clock = clock;
+
+        this.managerThread = new Thread(this, "ShardManager");
+    }
+
+    /**
+     * Calculates the shard to which a custom resource belongs. The hash of the namespace and name is stable across
+     * the operator versions and restarts, so all replicas agree on it.
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     * @param shards        Number of shards
+     *
+     * @return  Index of the shard
+     */
+    public static int shardOf(String namespace, String name, int shards) {
+        return Math.floorMod((namespace + "/" + name).hashCode(), shards);
+    }
+
+    /**
+     * Checks whether the custom resource belongs to one of the shards held by this instance. The shard counts as held
+     * only if its Lease was renewed within the renew deadline. That makes sure the shard is not processed by two
+     * instances at the same time when this instance fails to renew its Lease. The shards which are being drained
+     * before they are released do not count as held either.
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     *
+     * @return  True if the custom resource should be reconciled by this instance. False otherwise.
+     */
+    @Override
+    public boolean isOwned(String namespace, String name) {
+        int shard = shardOf(namespace, name, config.getShards());
+
+        synchronized (ownedShards) {
+            return isOwnedShard(shard);
+        }
+    }
+
+    /**
+     * Checks whether the custom resource belongs to one of the shards held by this instance and registers the start
+     * of its reconciliation. The shard is not released while it has reconciliations in progress.
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     *
+     * @return  True if the custom resource should be reconciled by this instance. False otherwise.
+     */
+    @Override
+    public boolean startReconciliation(String namespace, String name) {
+        int shard = shardOf(namespace, name, config.getShards());
+
+        synchronized (ownedShards) {
+            if (isOwnedShard(shard)) {
+                inFlightReconciliations.merge(shard, 1, Integer::sum);
+                return true;
+            } else {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Registers the end of the reconciliation of the custom resource
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     */
+    @Override
+    public void finishReconciliation(String namespace, String name) {
+        int shard = shardOf(namespace, name, config.getShards());
+
+        synchronized (ownedShards) {
+            inFlightReconciliations.computeIfPresent(shard, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    /**
+     * @return  The shards currently held by this instance without the shards which are being drained
+     */
+    public Set<Integer> ownedShards() {
+        synchronized (ownedShards) {
+            Set<Integer> shards = new TreeSet<>(ownedShards.keySet());
+            shards.removeAll(drainingShards);
+            return shards;
+        }
+    }
+
+    // Has to be called with the ownedShards lock held
+    private boolean isOwnedShard(int shard) {
+        Long renewed = ownedShards.get(shard);
+        return renewed != null
+                && clock.millis() - renewed < config.getRenewDeadline().toMillis()
+                && !drainingShards.contains(shard);
+    }
+
+    /**
+     * Registers a listener which is called with the new set of held shards whenever it changes. The listener is
+     * called from the ShardManager thread.
+     *
+     * @param listener  Listener which should be called
+     */
+    public void addShardsChangedListener(Consumer<Set<Integer>> listener) {
+        shardsChangedListeners.add(listener);
+    }
+
+    /**
+     * Periodically maintains the shards until the manager is stopped. When stopped, the held shards are released and
+     * this instance leaves the membership so that the other instances can take the shards over without waiting for
+     * them to expire.
+     */
+    @Override
+    public void run() {
+        while (!stop) {
+            try {
+                maintainShards();
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to maintain the shards", e);
+            }
+
+            try {
+                Thread.sleep(config.getRetryPeriod().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        releaseAll();
+    }
+
+    /**
+     * Start method to start the shard manager thread
+     */
+    public void start() {
+        managerThread.start();
+    }
+
+    /**
+     * Stop method to stop the shard manager thread
+     */
+    public void stop() {
+        stop = true;
+        managerThread.interrupt();
+    }
+
+    /**
+     * Does one round of the shard maintenance: renews the membership, renews the held shards, drains and releases the
+     * shards above the fair share and acquires free shards up to the fair share. When the membership cannot be renewed,
+     * the number of live members is unknown. In that case, the held shards are only renewed and no shards are
+     * released or acquired.
+     */
+    /* test */ void maintainShards() {
+        long now = clock.millis();
+        OptionalInt members = renewMembership(now);
+        int fairShare = members.isPresent() ? (config.getShards() + members.getAsInt() - 1) / members.getAsInt() : Integer.MAX_VALUE;
+
+        Map<Integer, Long> held = new TreeMap<>();
+        Set<Integer> draining = new TreeSet<>();
+        Map<Integer, Lease> free = new TreeMap<>();
+
+        for (int shard = 0; shard < config.getShards(); shard++) {
+            Lease lease = client.leases().inNamespace(config.getNamespace()).withName(shardLeaseName(shard)).get();
+
+            if (lease != null && config.getIdentity().equals(lease.getSpec().getHolderIdentity())) {
+                if (held.size() - draining.size() < fairShare) {
+                    if (renew(lease, now)) {
+                        held.put(shard, now);
+                    }
+                } else if (drain(shard)) {
+                    LOGGER.info("Releasing shard {} above the fair share of {} shards", shard, fairShare);
+                    release(lease);
+                } else if (renew(lease, now)) {
+                    // The Lease is renewed until the reconciliations in progress complete
+                    LOGGER.info("Draining shard {} above the fair share of {} shards", shard, fairShare);
+                    held.put(shard, now);
+                    draining.add(shard);
+                }
+            } else if (lease == null || isFree(lease, now)) {
+                free.put(shard, lease);
+            }
+        }
+
+        if (members.isPresent()) {
+            for (Map.Entry<Integer, Lease> shard : free.entrySet()) {
+                if (held.size() - draining.size() >= fairShare) {
+                    break;
+                }
+
+                if (acquire(shard.getKey(), shard.getValue(), now)) {
+                    LOGGER.info("Acquired shard {}", shard.getKey());
+                    held.put(shard.getKey(), now);
+                }
+            }
+        }
+
+        updateOwnedShards(held, draining);
+    }
+
+    /**
+     * Stops starting new reconciliations for the shard.
+     *
+     * @param shard     The shard which should be drained
+     *
+     * @return  True if the shard has no reconciliations in progress and can be released. False otherwise.
+     */
+    private boolean drain(int shard) {
+        synchronized (ownedShards) {
+            drainingShards.add(shard);
+            return !inFlightReconciliations.containsKey(shard);
+        }
+    }
+
+    /**
+     * Renews this instance in the membership Lease and removes the members which did not renew their membership
+     * within the lease duration. The update of the Lease is conditional on its resource version. When it conflicts
+     * with another member, it is retried with the fresh Lease. When it keeps failing, the renewal failed.
+     *
+     * @param now   Current time
+     *
+     * @return  Number of live members including this instance or empty when the membership was not renewed
+     */
+    private OptionalInt renewMembership(long now) {
+        String leaseName = membershipLeaseName();
+
+        for (int attempt = 1; attempt <= MEMBERSHIP_RENEWAL_ATTEMPTS; attempt++) {
+            Lease lease = client.leases().inNamespace(config.getNamespace()).withName(leaseName).get();
+            Map<String, String> members = liveMembers(lease, now);
+            members.put(MEMBER_ANNOTATION_PREFIX + config.getIdentity(), String.valueOf(now));
+
+            try {
+                if (lease == null) {
+                    client.leases().inNamespace(config.getNamespace()).resource(new LeaseBuilder()
+                            .withNewMetadata()
+                                .withName(leaseName)
+                                .withNamespace(config.getNamespace())
+                                .withAnnotations(members)
+                            .endMetadata()
+                            .build()).create();
+                } else {
+                    Map<String, String> annotations = new HashMap<>(members);
+                    if (lease.getMetadata().getAnnotations() != null) {
+                        lease.getMetadata().getAnnotations().entrySet().stream()
+                                .filter(annotation -> !annotation.getKey().startsWith(MEMBER_ANNOTATION_PREFIX))
+                                .forEach(annotation -> annotations.put(annotation.getKey(), annotation.getValue()));
+                    }
+
+                    client.leases().inNamespace(config.getNamespace()).resource(new LeaseBuilder(lease)
+                            .withMetadata(new ObjectMetaBuilder(lease.getMetadata()).withAnnotations(annotations).build())
+                            .build()).update();
+                }
+
+                return OptionalInt.of(members.size());
+            } catch (KubernetesClientException e) {
+                if (e.getCode() == HttpURLConnection.HTTP_CONFLICT) {
+                    // Another member updated the Lease in the meantime => retry with the fresh Lease
+                    LOGGER.debug("Conflict while renewing the membership in Lease {} (attempt {})", leaseName, attempt);
+                } else {
+                    LOGGER.warn("Failed to renew the membership in Lease {}", leaseName, e);
+                    return OptionalInt.empty();
+                }
+            }
+        }
+
+        LOGGER.warn("Failed to renew the membership in Lease {} because of conflicts with the other members", leaseName);
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Collects the other members which renewed their membership within the lease duration. The membership values are
+     * opaque. A member is live as long as this instance observed a change of its value within the lease duration.
+     *
+     * @param lease     The membership Lease
+     * @param now       Current time
+     *
+     * @return  Map with the live members
+     */
+    private Map<String, String> liveMembers(Lease lease, long now) {
+        Map<String, String> members = new HashMap<>();
+        Set<String> observed = new HashSet<>();
+
+        if (lease != null && lease.getMetadata().getAnnotations() != null) {
+            for (Map.Entry<String, String> member : lease.getMetadata().getAnnotations().entrySet()) {
+                if (member.getKey().startsWith(MEMBER_ANNOTATION_PREFIX)
+                        && !member.getKey().equals(MEMBER_ANNOTATION_PREFIX + config.getIdentity())) {
+                    String key = "member:" + member.getKey();
+                    observed.add(key);
+
+                    if (!isExpired(key, member.getValue(), config.getLeaseDuration().toMillis(), now)) {
+                        members.put(member.getKey(), member.getValue());
+                    }
+                }
+            }
+        }
+
+        // Forget the members which left
+        observations.keySet().removeIf(key -> key.startsWith("member:") && !observed.contains(key));
+
+        return members;
+    }
+
+    private boolean isFree(Lease lease, long now) {
+        String key = "lease:" + lease.getMetadata().getName();
+
+        if (lease.getSpec() == null
+                || lease.getSpec().getHolderIdentity() == null
+                || lease.getSpec().getRenewTime() == null) {
+            observations.remove(key);
+            return true;
+        }
+
+        long durationMs = lease.getSpec().getLeaseDurationSeconds() != null ? lease.getSpec().getLeaseDurationSeconds() * 1_000L : config.getLeaseDuration().toMillis();
+        return isExpired(key, lease.getMetadata().getResourceVersion(), durationMs, now);
+    }
+
+    /**
+     * Checks whether a Lease or membership held by another instance expired. It expired when its version did not
+     * change for the given duration since this instance observed it for the first time.
+     *
+     * @param key           Key identifying the Lease or membership
+     * @param version       Current version of the Lease or membership
+     * @param durationMs    Lease duration in milliseconds
+     * @param now           Current time of this instance
+     *
+     * @return  True if the Lease or membership expired. False otherwise.
+     */
+    private boolean isExpired(String key, String version, long durationMs, long now) {
+        Observation observation = observations.get(key);
+
+        if (observation == null || !observation.version().equals(version)) {
+            observations.put(key, new Observation(version, now));
+            return false;
+        } else {
+            return observation.observedAt() + durationMs <= now;
+        }
+    }
+
+    private boolean renew(Lease lease, long now) {
+        try {
+            client.leases().inNamespace(config.getNamespace()).resource(new LeaseBuilder(lease)
+                    .editSpec()
+                        .withRenewTime(time(now))
+                    .endSpec()
+                    .build()).update();
+            return true;
+        } catch (KubernetesClientException e) {
+            LOGGER.warn("Failed to renew Lease {}", lease.getMetadata().getName(), e);
+            return false;
+        }
+    }
+
+    private boolean acquire(int shard, Lease lease, long now) {
+        try {
+            if (lease == null) {
+                client.leases().inNamespace(config.getNamespace()).resource(new LeaseBuilder()
+                        .withNewMetadata()
+                            .withName(shardLeaseName(shard))
+                            .withNamespace(config.getNamespace())
+                        .endMetadata()
+                        .withNewSpec()
+                            .withHolderIdentity(config.getIdentity())
+                            .withLeaseDurationSeconds((int) config.getLeaseDuration().toSeconds())
+                            .withAcquireTime(time(now))
+                            .withRenewTime(time(now))
+                            .withLeaseTransitions(0)
+                        .endSpec()
+                        .build()).create();
+            } else {
+                int transitions = lease.getSpec() != null && lease.getSpec().getLeaseTransitions() != null ? lease.getSpec().getLeaseTransitions() : 0;
+
+                client.leases().inNamespace(config.getNamespace()).resource(new LeaseBuilder(lease)
+                        .withNewSpec()
+                            .withHolderIdentity(config.getIdentity())
+                            .withLeaseDurationSeconds((int) config.getLeaseDuration().toSeconds())
+                            .withAcquireTime(time(now))
+                            .withRenewTime(time(now))
+                            .withLeaseTransitions(transitions + 1)
+                        .endSpec()
+                        .build()).update();
+            }
+
+            return true;
+        } catch (KubernetesClientException e) {
+            // Another instance was faster
+            LOGGER.debug("Failed to acquire shard {}", shard, e);
+            return false;
+        }
+    }
+
+    private void release(Lease lease) {
+        try {
+            client.leases().inNamespace(config.getNamespace()).resource(new LeaseBuilder(lease)
+                    .editSpec()
+                        .withHolderIdentity(null)
+                        .withRenewTime(null)
+                    .endSpec()
+                    .build()).update();
+        } catch (KubernetesClientException e) {
+            LOGGER.warn("Failed to release Lease {}", lease.getMetadata().getName(), e);
+        }
+    }
+
+    private void releaseAll() {
+        Set<Integer> shards;
+        synchronized (ownedShards) {
+            shards = new TreeSet<>(ownedShards.keySet());
+        }
+
+        for (Integer shard : shards) {
+            Lease lease = client.leases().inNamespace(config.getNamespace()).withName(shardLeaseName(shard)).get();
+
+            if (lease != null && config.getIdentity().equals(lease.getSpec().getHolderIdentity())) {
+                release(lease);
+            }
+        }
+
+        updateOwnedShards(Map.of(), Set.of());
+        leaveMembership();
+    }
+
+    private void leaveMembership() {
+        Lease lease = client.leases().inNamespace(config.getNamespace()).withName(membershipLeaseName()).get();
+
+        if (lease != null
+                && lease.getMetadata().getAnnotations() != null
+                && lease.getMetadata().getAnnotations().containsKey(MEMBER_ANNOTATION_PREFIX + config.getIdentity())) {
+            Map<String, String> annotations = new HashMap<>(lease.getMetadata().getAnnotations());
+            annotations.remove(MEMBER_ANNOTATION_PREFIX + config.getIdentity());
+
+            try {
+                client.leases().inNamespace(config.getNamespace()).resource(new LeaseBuilder(lease)
+                        .withMetadata(new ObjectMetaBuilder(lease.getMetadata()).withAnnotations(annotations).build())
+                        .build()).update();
+            } catch (KubernetesClientException e) {
+                // The membership will expire on its own
+                LOGGER.warn("Failed to leave the membership in Lease {}", lease.getMetadata().getName(), e);
+            }
+        }
+    }
+
+    private void updateOwnedShards(Map<Integer, Long> held, Set<Integer> draining) {
+        Set<Integer> previous = ownedShards();
+
+        synchronized (ownedShards) {
+            ownedShards.clear();
+            ownedShards.putAll(held);
+            drainingShards.clear();
+            drainingShards.addAll(draining);
+            inFlightReconciliations.keySet().retainAll(held.keySet());
+        }
+
+        Set<Integer> shards = ownedShards();
+        if (!shards.equals(previous)) {
+            LOGGER.info("Holding shards {} of {}", shards, config.getShards());
+            shardsChangedListeners.forEach(listener -> listener.accept(shards));
+        }
+    }
+
+    private String membershipLeaseName() {
+        return config.getLeaseName() + "-members";
+    }
+
+    private String shardLeaseName(int shard) {
+        return config.getLeaseName() + "-shard-" + shard;
+    }
+
+    private static ZonedDateTime time(long millis) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    /**
+     * Version of a Lease or membership of another instance and the local time when this instance observed it first
+     *
+     * @param version       Observed version
+     * @param observedAt    Local time of the first observation of this version
+     */
+    private record Observation(String version, long observedAt) { }
+}
@@ -82,6 +82,18 @@ public class KafkaBrokerConfigurationBuilder {
         configureBrokerId();
     }
 
+    /**
+     * Constructor for the part of the broker configuration template which is shared by all brokers. It does not
+     * render the file header or the broker ID. So it should be used only for the sections which do not depend on the
+     * broker ID such as authorization, Cruise Control or the user configuration.
+     *
+     * @param reconciliation    The reconciliation
+     */
+    public KafkaBrokerConfigurationBuilder(Reconciliation reconciliation) {
+        this.reconciliation = reconciliation;
+        this.brokerId = null;
+    }
+
     /**
      * Renders the broker.id and node.id configurations
      */
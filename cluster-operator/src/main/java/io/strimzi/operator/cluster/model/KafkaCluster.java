@@ -1612,39 +1612,66 @@ public class KafkaCluster extends AbstractStatefulModel implements SupportsMetri
      * @return The Kafka broker configuration as a String
      */
     public String generatePerBrokerBrokerConfiguration(int brokerId, Map<Integer, Map<String, String>> advertisedHostnames, Map<Integer, Map<String, String>> advertisedPorts)   {
+        return joinBrokerConfiguration(generateBrokerSpecificConfiguration(brokerId, advertisedHostnames, advertisedPorts), generateSharedBrokerConfiguration());
+    }
+
+    /**
+     * Generates the part of the Kafka broker configuration which is specific for given broker. It contains the broker
+     * ID, rack, ZooKeeper or KRaft configuration, log directories and listeners.
+     *
+     * @param brokerId            ID of the broker for which is this configuration generated
+     * @param advertisedHostnames Map with advertised hostnames for different listeners
+     * @param advertisedPorts     Map with advertised ports for different listeners
+     *
+     * @return The broker specific part of the Kafka broker configuration as a String
+     */
+    public String generateBrokerSpecificConfiguration(int brokerId, Map<Integer, Map<String, String>> advertisedHostnames, Map<Integer, Map<String, String>> advertisedPorts)   {
+        KafkaBrokerConfigurationBuilder builder = new KafkaBrokerConfigurationBuilder(reconciliation, String.valueOf(brokerId))
+                .withRackId(rack);
+
         if (useKRaft) {
-            return new KafkaBrokerConfigurationBuilder(reconciliation, String.valueOf(brokerId))
-                    .withRackId(rack)
-                    .withKRaft(cluster, namespace, replicas)
-                    .withLogDirs(VolumeUtils.createVolumeMounts(storage, DATA_VOLUME_MOUNT_PATH, false))
-                    .withListeners(cluster,
-                            namespace,
-                            listeners,
-                            () -> getPodName(brokerId),
-                            listenerId -> advertisedHostnames.get(brokerId).get(listenerId),
-                            listenerId -> advertisedPorts.get(brokerId).get(listenerId),
-                            true)
-                    .withAuthorization(cluster, authorization, true)
-                    .withCruiseControl(cluster, cruiseControlSpec, ccNumPartitions, ccReplicationFactor, ccMinInSyncReplicas)
-                    .withUserConfiguration(configuration)
-                    .build().trim();
+            builder.withKRaft(cluster, namespace, replicas);
         } else {
-            return new KafkaBrokerConfigurationBuilder(reconciliation, String.valueOf(brokerId))
-                    .withRackId(rack)
-                    .withZookeeper(cluster)
-                    .withLogDirs(VolumeUtils.createVolumeMounts(storage, DATA_VOLUME_MOUNT_PATH, false))
-                    .withListeners(cluster,
-                            namespace,
-                            listeners,
-                            () -> getPodName(brokerId),
-                            listenerId -> advertisedHostnames.get(brokerId).get(listenerId),
-                            listenerId -> advertisedPorts.get(brokerId).get(listenerId),
-                            false)
-                    .withAuthorization(cluster, authorization, false)
-                    .withCruiseControl(cluster, cruiseControlSpec, ccNumPartitions, ccReplicationFactor, ccMinInSyncReplicas)
-                    .withUserConfiguration(configuration)
-                    .build().trim();
+            builder.withZookeeper(cluster);
         }
+
+        return builder
+                .withLogDirs(VolumeUtils.createVolumeMounts(storage, DATA_VOLUME_MOUNT_PATH, false))
+                .withListeners(cluster,
+                        namespace,
+                        listeners,
+                        () -> getPodName(brokerId),
+                        listenerId -> advertisedHostnames.get(brokerId).get(listenerId),
+                        listenerId -> advertisedPorts.get(brokerId).get(listenerId),
+                        useKRaft)
+                .build();
+    }
+
+    /**
+     * Generates the part of the Kafka broker configuration which is the same for all brokers. It contains the
+     * authorization, Cruise Control and user provided configuration. It can be generated only once and joined with
+     * the broker specific configuration of each broker using {@link #joinBrokerConfiguration(String, String)}.
+     *
+     * @return The shared part of the Kafka broker configuration as a String
+     */
+    public String generateSharedBrokerConfiguration()   {
+        return new KafkaBrokerConfigurationBuilder(reconciliation)
+                .withAuthorization(cluster, authorization, useKRaft)
+                .withCruiseControl(cluster, cruiseControlSpec, ccNumPartitions, ccReplicationFactor, ccMinInSyncReplicas)
+                .withUserConfiguration(configuration)
+                .build();
+    }
+
+    /**
+     * Joins the broker specific and the shared parts of the Kafka broker configuration into the configuration file
+     *
+     * @param brokerSpecificConfiguration   Broker specific part of the configuration
+     * @param sharedConfiguration           Part of the configuration shared by all brokers
+     *
+     * @return The Kafka broker configuration as a String
+     */
+    public static String joinBrokerConfiguration(String brokerSpecificConfiguration, String sharedConfiguration)    {
+        return (brokerSpecificConfiguration + sharedConfiguration).trim();
     }
 
     /**
@@ -1660,25 +1687,42 @@ public class KafkaCluster extends AbstractStatefulModel implements SupportsMetri
     public List<ConfigMap> generatePerBrokerConfigurationConfigMaps(MetricsAndLogging metricsAndLogging, Map<Integer, Map<String, String>> advertisedHostnames, Map<Integer, Map<String, String>> advertisedPorts)   {
         String parsedMetrics = metrics.metricsJson(reconciliation, metricsAndLogging.metricsCm());
         String parsedLogging = logging().loggingConfiguration(reconciliation, metricsAndLogging.loggingCm());
+        String sharedConfiguration = generateSharedBrokerConfiguration();
         List<ConfigMap> configMaps = new ArrayList<>(replicas);
 
         for (int brokerId = 0; brokerId < replicas; brokerId++) {
-            Map<String, String> data = new HashMap<>(4);
+            String brokerConfiguration = joinBrokerConfiguration(generateBrokerSpecificConfiguration(brokerId, advertisedHostnames, advertisedPorts), sharedConfiguration);
+            configMaps.add(generatePerBrokerConfigurationConfigMap(brokerId, brokerConfiguration, parsedMetrics, parsedLogging));
+        }
 
-            if (parsedMetrics != null) {
-                data.put(MetricsModel.CONFIG_MAP_KEY, parsedMetrics);
-            }
+        return configMaps;
+    }
 
-            data.put(logging.configMapKey(), parsedLogging);
-            data.put(BROKER_CONFIGURATION_FILENAME, generatePerBrokerBrokerConfiguration(brokerId, advertisedHostnames, advertisedPorts));
-            // List of configured listeners => StrimziPodSets still need this because of OAUTH and how the OAUTH secret
-            // environment variables are parsed in the container bash scripts
-            data.put(BROKER_LISTENERS_FILENAME, listeners.stream().map(ListenersUtils::envVarIdentifier).collect(Collectors.joining(" ")));
+    /**
+     * Generates the configuration ConfigMap for a single broker. The metrics and logging configuration are the same for
+     * all brokers. So they are passed already parsed to avoid parsing them again for every broker.
+     *
+     * @param brokerId              ID of the broker for which is this ConfigMap generated
+     * @param brokerConfiguration   Kafka broker configuration of this broker
+     * @param parsedMetrics         Metrics configuration (or null if metrics are not enabled)
+     * @param parsedLogging         Logging configuration
+     *
+     * @return ConfigMap with the configuration of given broker
+     */
+    public ConfigMap generatePerBrokerConfigurationConfigMap(int brokerId, String brokerConfiguration, String parsedMetrics, String parsedLogging)   {
+        Map<String, String> data = new HashMap<>(4);
 
-            configMaps.add(ConfigMapUtils.createConfigMap(getPodName(brokerId), namespace, labels.withStrimziPodName(getPodName(brokerId)), ownerReference, data));
+        if (parsedMetrics != null) {
+            data.put(MetricsModel.CONFIG_MAP_KEY, parsedMetrics);
         }
 
-        return configMaps;
+        data.put(logging.configMapKey(), parsedLogging);
+        data.put(BROKER_CONFIGURATION_FILENAME, brokerConfiguration);
+        // List of configured listeners => StrimziPodSets still need this because of OAUTH and how the OAUTH secret
+        // environment variables are parsed in the container bash scripts
+        data.put(BROKER_LISTENERS_FILENAME, listeners.stream().map(ListenersUtils::envVarIdentifier).collect(Collectors.joining(" ")));
+
+        return ConfigMapUtils.createConfigMap(getPodName(brokerId), namespace, labels.withStrimziPodName(getPodName(brokerId)), ownerReference, data);
     }
 
     /**
@@ -15,10 +15,12 @@ import io.strimzi.operator.common.Reconciliation;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.emptyList;
 
@@ -46,6 +48,9 @@ public class KafkaConfiguration extends AbstractConfiguration {
      */
     public static final String MIN_INSYNC_REPLICAS = "min.insync.replicas";
 
+    private static final ObjectMapper CONFIG_MODEL_MAPPER = new ObjectMapper();
+    private static final Map<String, Map<String, ConfigModel>> CONFIG_MODELS = new ConcurrentHashMap<>();
+
     private static final List<String> FORBIDDEN_PREFIXES;
     private static final List<String> FORBIDDEN_PREFIX_EXCEPTIONS;
 
@@ -103,18 +108,24 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The model is read from the classpath only once
+     * per Kafka version and cached. The returned map is shared and cannot be modified.
+     *
      * @param kafkaVersion The broker version.
      * @return The config model for that broker version.
      */
-    @SuppressFBWarnings({"RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE"})
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
-        String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
+        return CONFIG_MODELS.computeIfAbsent(kafkaVersion.version(), version -> Collections.unmodifiableMap(loadConfigModel(version)));
+    }
+
+    @SuppressFBWarnings({"RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE"})
+    private static Map<String, ConfigModel> loadConfigModel(String version) {
+        String name = "/kafka-" + version + "-config-model.json";
         try {
             try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
                 if (in != null) {
-                    ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
-                    if (!kafkaVersion.version().equals(configModels.getVersion())) {
+                    ConfigModels configModels = CONFIG_MODEL_MAPPER.readValue(in, ConfigModels.class);
+                    if (!version.equals(configModels.getVersion())) {
                         throw new RuntimeException("Incorrect version");
                     }
                     return configModels.getConfigs();
@@ -145,6 +156,34 @@ public class KafkaConfiguration extends AbstractConfiguration {
         return result;
     }
 
+    /**
+     * Return the config properties with their values in this KafkaConfiguration and in a base configuration which
+     * follows it in the same configuration file and which are not known broker configs. The base configuration is
+     * parsed only once and shared between the brokers, so only the broker specific options are parsed for each broker.
+     * The options from the base configuration override the options with the same name in this configuration.
+     *
+     * @param kafkaVersion  The broker version.
+     * @param base          The base configuration following this configuration
+     *
+     * @return The config properties unknown to Kafka in both configurations
+     */
+    public Set<String> unknownConfigsWithValues(KafkaVersion kafkaVersion, KafkaConfiguration base) {
+        Map<String, ConfigModel> configModel = readConfigModel(kafkaVersion);
+        Map<String, String> baseOptions = base.asOrderedProperties().asMap();
+        Set<String> result = new HashSet<>();
+        for (Map.Entry<String, String> e : this.asOrderedProperties().asMap().entrySet()) {
+            if (!configModel.containsKey(e.getKey()) && !baseOptions.containsKey(e.getKey())) {
+                result.add(e.getKey() + "=" + e.getValue());
+            }
+        }
+        for (Map.Entry<String, String> e : baseOptions.entrySet()) {
+            if (!configModel.containsKey(e.getKey())) {
+                result.add(e.getKey() + "=" + e.getValue());
+            }
+        }
+        return result;
+    }
+
     /**
      * @return  True if the configuration is empty. False otherwise.
      */
@@ -212,12 +212,39 @@ public class KafkaConnectBuild extends AbstractModel {
     }
 
     /**
-     * Generates the Dockerfile based on the Kafka Connect build configuration.
+     * Generates the Dockerfile based on the Kafka Connect build configuration. The connector plugins are downloaded in
+     * separate build stages only when the Kaniko build cache is enabled. The OpenShift builds do not use Kaniko and have
+     * no build cache shared between the builds, so the separate stages are never used on OpenShift.
+     *
+     * @param isOpenShift   Flag indicating whether the build runs on OpenShift
      *
      * @return  Instance of the KafkaConnectDockerfile class with the prepared Dockerfile
      */
-    public KafkaConnectDockerfile generateDockerfile()  {
-        return new KafkaConnectDockerfile(baseImage, build);
+    public KafkaConnectDockerfile generateDockerfile(boolean isOpenShift)  {
+        return new KafkaConnectDockerfile(baseImage, build, !isOpenShift && isKanikoCacheEnabled());
+    }
+
+    /**
+     * Checks whether the Kaniko build cache is enabled in the additional Kaniko options. Kaniko uses the cache only
+     * when the --cache option is set to true. The other cache options (such as --cache-repo) have no effect without it.
+     * When the option is used multiple times, the last one wins.
+     *
+     * @return  True if the Kaniko build cache is enabled. False otherwise.
+     */
+    /* test */ boolean isKanikoCacheEnabled()  {
+        boolean cache = false;
+
+        if (additionalKanikoOptions != null)    {
+            for (String option : additionalKanikoOptions)   {
+                if ("--cache".equals(option) || "--cache=true".equals(option)) {
+                    cache = true;
+                } else if (option.startsWith("--cache=")) {
+                    cache = false;
+                }
+            }
+        }
+
+        return cache;
     }
 
     /**
@@ -6,10 +6,16 @@ package io.strimzi.operator.cluster.model;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import io.strimzi.api.kafka.model.connect.build.Artifact;
@@ -29,11 +35,27 @@ import io.strimzi.operator.common.Util;
  * This class is used to generate the Dockerfile used by Kafka Connect Build. It takes the API definition with the
  * desired plugins and generates a Dockerfile which pulls and installs them. To generate the Dockerfile, it is using
  * the PrintWriter.
+ *
+ * By default, all connector plugins are downloaded in the final stage of the Dockerfile. When the build cache is used,
+ * every connector plugin is instead downloaded in its own build stage and only copied into the final image. The plugin
+ * stages are all based on one shared downloader stage, so the layers of one plugin do not depend on the layers of the
+ * other plugins and can be reused from the build cache when other plugins are added, changed, or removed. The stages
+ * are named after the hash of their content, which includes the artifact URLs and checksums. So the stage name changes
+ * exactly when the plugin layers have to be rebuilt.
+ *
+ * The plugin stages are used only with the build cache, because without it they make the build slower: the builder
+ * extracts and snapshots the file system of the base image for every stage. The default layout also keeps the
+ * Dockerfile and its hash stub used as the build revision unchanged, so the Kafka Connect clusters which do not use
+ * the build cache are not rebuilt and rolled after the operator upgrade. Enabling or disabling the build cache changes
+ * the layout and triggers a new build.
  */
 public class KafkaConnectDockerfile {
     private static final String BASE_PLUGIN_PATH = "/opt/kafka/plugins/";
     private static final String ROOT_USER = "root:root";
     private static final String NON_PRIVILEGED_USER = "1001";
+    private static final String PLUGIN_LAYER_PREFIX = "plugin-";
+    private static final String PLUGIN_DOWNLOADER_STAGE = "downloadPlugins";
+    private static final Pattern PLUGIN_LAYER_PATTERN = Pattern.compile("^FROM \\S+ AS (" + PLUGIN_LAYER_PREFIX + "[0-9a-f]+)$", Pattern.MULTILINE);
 
     private static final String ENV_VAR_HTTP_PROXY = "HTTP_PROXY";
     private static final String ENV_VAR_HTTPS_PROXY = "HTTPS_PROXY";
@@ -44,6 +66,7 @@ public class KafkaConnectDockerfile {
     private static final String NO_PROXY = System.getenv(ClusterOperatorConfig.NO_PROXY);
 
     private final String dockerfile;
+    private final List<String> pluginLayers = new ArrayList<>();
 
     private static final String DEFAULT_MAVEN_IMAGE = "quay.io/strimzi/maven-builder:latest";
     private final String mavenBuilder;
@@ -113,22 +136,50 @@ public class KafkaConnectDockerfile {
     }
 
     /**
-     * Broker configuration template constructor
+     * Broker configuration template constructor. All connector plugins are downloaded in the final stage.
      *
      * @param fromImage     Image which should be used as a base image in the FROM statement
      * @param connectBuild  The Build definition from the API
      */
     public KafkaConnectDockerfile(String fromImage, Build connectBuild) {
+        this(fromImage, connectBuild, false);
+    }
+
+    /**
+     * Broker configuration template constructor
+     *
+     * @param fromImage         Image which should be used as a base image in the FROM statement
+     * @param connectBuild      The Build definition from the API
+     * @param pluginStages      Flag indicating whether every connector plugin should be downloaded in its own build
+     *                          stage. This should be used only when the build cache is enabled.
+     */
+    public KafkaConnectDockerfile(String fromImage, Build connectBuild, boolean pluginStages) {
         this.mavenBuilder = System.getenv().getOrDefault(ClusterOperatorConfig.STRIMZI_DEFAULT_MAVEN_BUILDER, DEFAULT_MAVEN_IMAGE);
         StringWriter stringWriter = new StringWriter();
         PrintWriter writer = new PrintWriter(stringWriter);
 
         printHeader(writer); // Print initial comment
-        connectorPluginsPreStage(writer, connectBuild.getPlugins());
-        from(writer, fromImage); // Create FROM statement
-        user(writer, ROOT_USER); // Switch to root user to be able to add plugins
-        proxy(writer); // Configures proxy environment variables
-        connectorPlugins(writer, connectBuild.getPlugins());
+
+        if (pluginStages) {
+            // The plugins are sorted to make sure the Dockerfile does not change when only their order changes
+            List<Plugin> plugins = connectBuild.getPlugins().stream()
+                    .filter(plugin -> !plugin.getArtifacts().isEmpty())
+                    .sorted(Comparator.comparing(Plugin::getName))
+                    .collect(Collectors.toList());
+
+            connectorPluginsPreStage(writer, plugins);
+            connectorPluginStages(writer, fromImage, plugins);
+            from(writer, fromImage); // Create FROM statement
+            user(writer, ROOT_USER); // Switch to root user to be able to add plugins
+            copyConnectorPlugins(writer, plugins);
+        } else {
+            connectorPluginsPreStage(writer, connectBuild.getPlugins());
+            from(writer, fromImage); // Create FROM statement
+            user(writer, ROOT_USER); // Switch to root user to be able to add plugins
+            proxy(writer); // Configures proxy environment variables
+            connectorPlugins(writer, connectBuild.getPlugins());
+        }
+
         user(writer, NON_PRIVILEGED_USER); // Switch back to the regular unprivileged user
 
         dockerfile = stringWriter.toString();
@@ -227,6 +278,43 @@ public class KafkaConnectDockerfile {
         writer.println();
     }
 
+    /**
+     * Generates the shared downloader stage and a separate build stage for every connector plugin. The plugin stage
+     * downloads and possibly unpacks the plugin artifacts on top of the downloader stage. The name of the stage is
+     * derived from the hash of its content and of the base image.
+     *
+     * @param writer        Writer for printing the Docker commands
+     * @param fromImage     Base image which should be used for the downloader stage
+     * @param plugins       List of plugins which should be added to the container image
+     */
+    private void connectorPluginStages(PrintWriter writer, String fromImage, List<Plugin> plugins) {
+        if (plugins.isEmpty())  {
+            return;
+        }
+
+        writer.println("FROM " + fromImage + " AS " + PLUGIN_DOWNLOADER_STAGE);
+        writer.println();
+        user(writer, ROOT_USER); // Switch to root user to be able to add plugins
+
+        for (Plugin plugin : plugins)   {
+            StringWriter stageStringWriter = new StringWriter();
+            PrintWriter stageWriter = new PrintWriter(stageStringWriter);
+
+            proxy(stageWriter); // Configures proxy environment variables. Build arguments are not inherited from the downloader stage.
+            addPlugin(stageWriter, plugin);
+            stageWriter.close();
+
+            String stage = stageStringWriter.toString();
+            String stageName = PLUGIN_LAYER_PREFIX + Util.hashStub(fromImage + "\n" + stage);
+
+            writer.println("FROM " + PLUGIN_DOWNLOADER_STAGE + " AS " + stageName);
+            writer.println();
+            writer.print(stage);
+
+            pluginLayers.add(stageName);
+        }
+    }
+
     /**
      * Adds the commands to download and possibly unpack the connector plugins
      *
@@ -239,6 +327,22 @@ public class KafkaConnectDockerfile {
         }
     }
 
+    /**
+     * Adds the commands to copy the connector plugins from their build stages into the new container image
+     *
+     * @param writer    Writer for printing the Docker commands
+     * @param plugins   List of plugins which should be added to the container image
+     */
+    private void copyConnectorPlugins(PrintWriter writer, List<Plugin> plugins) {
+        for (int i = 0; i < plugins.size(); i++)   {
+            String connectorPath = BASE_PLUGIN_PATH + plugins.get(i).getName();
+
+            Cmd copy = run(connectorPath, connectorPath);
+            writer.append("COPY --from=" + pluginLayers.get(i) + " ").println(copy);
+            writer.println();
+        }
+    }
+
     /**
      * Adds a particular connector plugin to the container image. It will go through the individual artifacts and add
      * them one by one depending on their type.
@@ -481,6 +585,38 @@ public class KafkaConnectDockerfile {
         return Util.hashStub(dockerfile);
     }
 
+    /**
+     * Returns the names of the build stages with the connector plugins. The names are derived from the content of the
+     * stages. So they can be compared with the stages of another Dockerfile to find out which plugin stages did not
+     * change and which changed.
+     *
+     * @return  Names of the plugin build stages or an empty list if the plugins are not downloaded in separate stages
+     */
+    public List<String> pluginLayers()  {
+        return pluginLayers;
+    }
+
+    /**
+     * Parses the names of the build stages with the connector plugins from a previously generated Dockerfile.
+     *
+     * @param dockerfile    Previously generated Dockerfile
+     *
+     * @return  Names of the plugin build stages or an empty set if the Dockerfile is null
+     */
+    public static Set<String> pluginLayers(String dockerfile)  {
+        Set<String> layers = new LinkedHashSet<>();
+
+        if (dockerfile != null) {
+            Matcher matcher = PLUGIN_LAYER_PATTERN.matcher(dockerfile);
+
+            while (matcher.find())  {
+                layers.add(matcher.group(1));
+            }
+        }
+
+        return layers;
+    }
+
     /**
      * This method escapes some of the basic XML characters. This is used when generating the Maven settings XML file.
      * This method is not perfect - but for this use case it seems as an easier solution then including something like
@@ -63,6 +63,11 @@ public class KafkaMirrorMakerCluster extends AbstractModel implements SupportsMe
     private static final String LOG_AND_METRICS_CONFIG_VOLUME_NAME = "kafka-metrics-and-logging";
     private static final String LOG_AND_METRICS_CONFIG_VOLUME_MOUNT = "/opt/kafka/custom-config/";
 
+    // Port of the Mirror Maker agent serving the liveness and readiness endpoints. It is passed to the agent in the
+    // STRIMZI_HEALTHCHECK_PORT environment variable.
+    protected static final int HEALTHCHECK_PORT = 8080;
+    protected static final String HEALTHCHECK_PORT_NAME = "healthcheck";
+
     // Configuration defaults
     private static final int DEFAULT_HEALTHCHECK_DELAY = 60;
     private static final int DEFAULT_HEALTHCHECK_TIMEOUT = 5;
@@ -109,7 +114,7 @@ public class KafkaMirrorMakerCluster extends AbstractModel implements SupportsMe
     protected static final String ENV_VAR_KAFKA_MIRRORMAKER_OFFSET_COMMIT_INTERVAL = "KAFKA_MIRRORMAKER_OFFSET_COMMIT_INTERVAL";
     protected static final String ENV_VAR_KAFKA_MIRRORMAKER_ABORT_ON_SEND_FAILURE = "KAFKA_MIRRORMAKER_ABORT_ON_SEND_FAILURE";
 
-    protected static final String ENV_VAR_STRIMZI_READINESS_PERIOD = "STRIMZI_READINESS_PERIOD";
+    protected static final String ENV_VAR_STRIMZI_HEALTHCHECK_PORT = "STRIMZI_HEALTHCHECK_PORT";
     protected static final String ENV_VAR_STRIMZI_LIVENESS_PERIOD = "STRIMZI_LIVENESS_PERIOD";
     protected static final String ENV_VAR_STRIMZI_TRACING = "STRIMZI_TRACING";
 
@@ -227,7 +232,9 @@ public class KafkaMirrorMakerCluster extends AbstractModel implements SupportsMe
     }
 
     protected List<ContainerPort> getContainerPortList() {
-        List<ContainerPort> portList = new ArrayList<>(1);
+        List<ContainerPort> portList = new ArrayList<>(2);
+        portList.add(ContainerUtils.createContainerPort(HEALTHCHECK_PORT_NAME, HEALTHCHECK_PORT));
+
         if (metrics.isEnabled()) {
             portList.add(ContainerUtils.createContainerPort(MetricsModel.METRICS_PORT_NAME, MetricsModel.METRICS_PORT));
         }
@@ -320,9 +327,9 @@ public class KafkaMirrorMakerCluster extends AbstractModel implements SupportsMe
                 getEnvVars(),
                 getContainerPortList(),
                 getVolumeMounts(),
-                ProbeGenerator.defaultBuilder(livenessProbeOptions).withNewExec().withCommand("/opt/kafka/kafka_mirror_maker_liveness.sh").endExec().build(),
-                // The mirror-maker-agent will create /tmp/mirror-maker-ready in the container
-                ProbeGenerator.defaultBuilder(readinessProbeOptions).withNewExec().withCommand("test", "-f", "/tmp/mirror-maker-ready").endExec().build(),
+                // The mirror-maker-agent serves the liveness and readiness endpoints in the container
+                ProbeGenerator.httpProbe(livenessProbeOptions, "/healthy", HEALTHCHECK_PORT_NAME),
+                ProbeGenerator.httpProbe(readinessProbeOptions, "/ready", HEALTHCHECK_PORT_NAME),
                 imagePullPolicy
         );
     }
@@ -393,10 +400,9 @@ public class KafkaMirrorMakerCluster extends AbstractModel implements SupportsMe
         /* producer */
         addProducerEnvVars(varList);
 
+        varList.add(ContainerUtils.createEnvVar(ENV_VAR_STRIMZI_HEALTHCHECK_PORT, String.valueOf(HEALTHCHECK_PORT)));
         varList.add(ContainerUtils.createEnvVar(ENV_VAR_STRIMZI_LIVENESS_PERIOD,
                 String.valueOf(livenessProbeOptions.getPeriodSeconds() != null ? livenessProbeOptions.getPeriodSeconds() : DEFAULT_HEALTHCHECK_PERIOD)));
-        varList.add(ContainerUtils.createEnvVar(ENV_VAR_STRIMZI_READINESS_PERIOD,
-                String.valueOf(readinessProbeOptions.getPeriodSeconds() != null ? readinessProbeOptions.getPeriodSeconds() : DEFAULT_HEALTHCHECK_PERIOD)));
 
         // Add shared environment variables used for all containers
         varList.addAll(ContainerUtils.requiredEnvVars());
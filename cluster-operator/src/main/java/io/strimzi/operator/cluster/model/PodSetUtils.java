@@ -66,6 +66,42 @@ public class PodSetUtils {
         return MAPPER.convertValue(map, Pod.class);
     }
 
+    /**
+     * Extracts the name of the Pod from its Map representation without decoding the whole Pod
+     *
+     * @param map   Pod represented as Map
+     *
+     * @return      Name of the Pod or null if it is not set
+     */
+    public static String podName(Map<String, Object> map) {
+        Object name = podMetadata(map).get("name");
+        return name instanceof String ? (String) name : null;
+    }
+
+    /**
+     * Extracts an annotation of the Pod from its Map representation without decoding the whole Pod
+     *
+     * @param map           Pod represented as Map
+     * @param annotation    Name of the annotation
+     *
+     * @return      Value of the annotation or null if it is not set
+     */
+    public static String podAnnotation(Map<String, Object> map, String annotation) {
+        Object annotations = podMetadata(map).get("annotations");
+
+        if (annotations instanceof Map) {
+            Object value = ((Map<?, ?>) annotations).get(annotation);
+            return value instanceof String ? (String) value : null;
+        } else {
+            return null;
+        }
+    }
+
+    private static Map<?, ?> podMetadata(Map<String, Object> map) {
+        Object metadata = map.get("metadata");
+        return metadata instanceof Map ? (Map<?, ?>) metadata : Map.of();
+    }
+
     /**
      * Converts List of Maps to List of Pods which can be used in StrimziPodSets
      *
@@ -48,6 +48,7 @@ import io.strimzi.operator.cluster.model.KafkaConnectorConfiguration;
 import io.strimzi.operator.cluster.model.MetricsAndLoggingUtils;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
 import io.strimzi.operator.cluster.model.StatusDiff;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Annotations;
@@ -79,6 +80,7 @@ import io.vertx.core.json.JsonObject;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -130,6 +132,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     protected final PlatformFeaturesAvailability pfa;
     protected final ServiceAccountOperator serviceAccountOperations;
     private final int port;
+    private final CoalescingStatusWriter connectorStatusWriter;
 
     /**
      * Constructor
@@ -168,6 +171,22 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.pfa = pfa;
         this.port = port;
+        this.connectorStatusWriter = new CoalescingStatusWriter(vertx,
+                CoalescingStatusWriter.DEFAULT_COALESCING_WINDOW_MS,
+                CoalescingStatusWriter.DEFAULT_MAX_CONCURRENT_UPDATES_PER_NAMESPACE,
+                namespace -> metrics().connectorsStatusUpdatesAvoidedCounter(namespace).increment());
+    }
+
+    /**
+     * Creates a provider of Kafka Connect REST API clients which all share the same HTTP client pool. This allows the
+     * connections to the Connect REST API to be kept alive and reused across the requests and reconciliations.
+     *
+     * @param httpClientPool    Shared HTTP client pool
+     *
+     * @return  Provider of the Kafka Connect REST API clients
+     */
+    protected static Function<Vertx, KafkaConnectApi> pooledConnectClientProvider(HttpClientPool httpClientPool) {
+        return vertx -> new KafkaConnectApiImpl(vertx, httpClientPool);
     }
 
     @Override
@@ -226,7 +245,10 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                         case ADDED:
                         case DELETED:
                         case MODIFIED:
-                            if (connectName != null) {
+                            if (connectName != null && !connectOperator.isOwned(connectNamespace, connectName)) {
+                                // The Connect cluster belongs to a shard held by another operator instance
+                                LOGGER.debugOp("{} {} in namespace {} was {}, but Connect cluster {} is not owned by this operator instance and will be ignored", connectorKind, connectorName, connectorNamespace, action, connectName);
+                            } else if (connectName != null) {
                                 // Check whether a KafkaConnect exists
                                 connectOperator.resourceOperator.getAsync(connectNamespace, connectName)
                                         .compose(connect -> {
@@ -387,19 +409,19 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
         return CompositeFuture.join(
-                apiClient.list(reconciliation, host, port),
+                apiClient.listWithInfoAndStatus(reconciliation, host, port),
                 connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())),
                 apiClient.listConnectorPlugins(reconciliation, host, port),
                 apiClient.updateConnectLoggers(reconciliation, host, port, desiredLogging, defaultLogging)
         ).compose(cf -> {
-            List<String> runningConnectorNames = cf.resultAt(0);
+            Map<String, Map<String, Object>> runningConnectors = cf.resultAt(0);
             List<KafkaConnector> desiredConnectors = cf.resultAt(1);
             List<ConnectorPlugin> connectorPlugins = cf.resultAt(2);
 
             LOGGER.debugCr(reconciliation, "Setting list of connector plugins in Kafka Connect status");
             connectStatus.setConnectorPlugins(connectorPlugins);
 
-            Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+            Set<String> deleteConnectorNames = new HashSet<>(runningConnectors.keySet());
             deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
             LOGGER.debugCr(reconciliation, "{} cluster: delete connectors: {}", kind(), deleteConnectorNames);
             Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
@@ -408,7 +430,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
             LOGGER.debugCr(reconciliation, "{} cluster: required connectors: {}", kind(), desiredConnectors);
             Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector,
+                            runningConnectors.get(connector.getMetadata().getName())));
 
             return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
         }).recover(error -> {
@@ -436,6 +459,26 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null);
+    }
+
+    /**
+     * Reconciles a single connector and updates its status.
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param host                  Kafka Connect host
+     * @param apiClient             Kafka Connect REST API client
+     * @param useResources          Flag indicating whether the connector resources are used
+     * @param connectorName         Name of the connector
+     * @param connector             KafkaConnector resource or null if the connector should be deleted
+     * @param currentConnector      Info and status of the connector as returned by the bulk {@code /connectors} request
+     *                              or null if not known. When present, they are used instead of querying the config
+     *                              and status of the connector individually.
+     *
+     * @return  Future which completes when the connector is reconciled
+     */
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                             boolean useResources, String connectorName, KafkaConnector connector, Map<String, Object> currentConnector) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         metrics().connectorsReconciliationsCounter(reconciliation.namespace()).increment();
@@ -451,7 +494,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             );
         }
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, currentConnector)
                 .onComplete(result -> {
                     if (result.succeeded() && result.result() == null)  {
                         // The reconciliation succeeded, but there is no status to be set => we complete the reconciliation and return
@@ -490,7 +533,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     private Future<ConnectorStatusAndConditions> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector, Map<String, Object> currentConnector) {
         if (connector == null) {
             if (useResources) {
                 LOGGER.infoCr(reconciliation, "deleting connector: {}", connectorName);
@@ -508,7 +551,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             if (!useResources) {
                 return Future.failedFuture(new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
-                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector);
+                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, currentConnector);
             }
         }
     }
@@ -529,13 +572,59 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     @SuppressWarnings({ "rawtypes" })
     protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                                 String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, null);
+    }
+
+    /**
+     * Try to get the current connector config. If the connector does not exist, or its config differs from the
+     * {@code connectorSpec}'s, then call
+     * {@link #createOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, KafkaConnectorConfiguration)}
+     * otherwise, just return the connectors current state. When the current connector info and status are already
+     * known from the bulk {@code /connectors?expand=info&expand=status} request, they are used instead of getting the
+     * connector config and status through separate requests. And when the connector does not need to be paused,
+     * resumed or restarted, the already known status is used as the new status as well.
+     *
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param resource The resource that defines the connector.
+     * @param currentConnector The info and status of the connector from the bulk request or null if not known.
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    @SuppressWarnings({ "rawtypes" })
+    protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                                String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                                Map<String, Object> currentConnector) {
         KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connectorSpec.getConfig().entrySet());
+        Map<String, String> knownConfig = currentConnectorConfig(currentConnector);
+        Map<String, Object> knownStatus = currentConnectorStatus(currentConnector);
+
+        Future<Map<String, String>> currentConfigFuture = knownConfig != null
+                ? Future.succeededFuture(knownConfig)
+                : apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName);
 
-        return apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName).compose(
+        return currentConfigFuture.compose(
             currentConfig -> {
                 if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), currentConfig)) {
                     LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
-                    return apiClient.status(reconciliation, host, port, connectorName)
+
+                    if (knownStatus != null
+                            && !needsPauseOrResume(connectorSpec, knownStatus)
+                            && !hasRestartAnnotation(resource, connectorName)
+                            && getRestartTaskAnnotationTaskID(resource, connectorName) < 0) {
+                        LOGGER.debugCr(reconciliation, "Connector {} does not need any changes", connectorName);
+                        return Future.succeededFuture(new ConnectorStatusAndConditions(knownStatus, new ArrayList<>()))
+                            .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
+                            .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                    }
+
+                    Future<Map<String, Object>> currentStatusFuture = knownStatus != null
+                            ? Future.succeededFuture(knownStatus)
+                            : apiClient.status(reconciliation, host, port, connectorName);
+
+                    return currentStatusFuture
                         .compose(status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status))
                         .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
                         .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
@@ -594,6 +683,58 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             .compose(ignored ->  apiClient.status(reconciliation, host, port, connectorName));
     }
 
+    /**
+     * Extracts the connector configuration from the connector info returned by the bulk {@code /connectors} request.
+     *
+     * @param currentConnector  Info and status of the connector or null
+     *
+     * @return  Connector configuration or null if it is not known
+     */
+    @SuppressWarnings({ "rawtypes" })
+    /* test */ static Map<String, String> currentConnectorConfig(Map<String, Object> currentConnector) {
+        if (currentConnector != null
+                && currentConnector.get("info") instanceof Map
+                && ((Map) currentConnector.get("info")).get("config") instanceof Map) {
+            Map<?, ?> config = (Map) ((Map) currentConnector.get("info")).get("config");
+            Map<String, String> result = new HashMap<>(config.size());
+
+            for (Map.Entry<?, ?> entry : config.entrySet()) {
+                result.put(String.valueOf(entry.getKey()), entry.getValue() == null ? null : String.valueOf(entry.getValue()));
+            }
+
+            return result;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Extracts the connector status from the connector status returned by the bulk {@code /connectors} request.
+     *
+     * @param currentConnector  Info and status of the connector or null
+     *
+     * @return  Connector status or null if it is not known
+     */
+    @SuppressWarnings({ "unchecked" })
+    /* test */ static Map<String, Object> currentConnectorStatus(Map<String, Object> currentConnector) {
+        if (currentConnector != null
+                && currentConnector.get("status") instanceof Map) {
+            return (Map<String, Object>) currentConnector.get("status");
+        } else {
+            return null;
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes" })
+    private boolean needsPauseOrResume(KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
+        Object state = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
+        boolean shouldPause = Boolean.TRUE.equals(connectorSpec.getPause());
+
+        return !(state instanceof String)
+                || ("RUNNING".equals(state) && shouldPause)
+                || ("PAUSED".equals(state) && !shouldPause);
+    }
+
     private Future<Void> pauseResume(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
         @SuppressWarnings({ "rawtypes" })
         Object path = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
@@ -980,10 +1121,21 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         }
         status.addConditions(conditions);
 
-        return maybeUpdateStatusCommon(connectorOperator, connector, reconciliation, status,
-            (connector1, status1) -> {
-                return new KafkaConnectorBuilder(connector1).withStatus(status1).build();
-            });
+        if (connector.getStatus() != null && new StatusDiff(connector.getStatus(), status).isEmpty()) {
+            // The connector resource was just listed or received from the watch => if its status is already the
+            // desired one, we do not need to get it again and update it
+            LOGGER.debugCr(reconciliation, "Status of connector {} did not change", connector.getMetadata().getName());
+            metrics().connectorsStatusUpdatesAvoidedCounter(reconciliation.namespace()).increment();
+            return Future.succeededFuture();
+        }
+
+        // The status updates of the same connector are coalesced => when the connector is reconciled multiple times
+        // in a short time, only the last status is written
+        return connectorStatusWriter.write(connector.getMetadata().getNamespace(), connector.getMetadata().getName(),
+            () -> maybeUpdateStatusCommon(connectorOperator, connector, reconciliation, status,
+                (connector1, status1) -> {
+                    return new KafkaConnectorBuilder(connector1).withStatus(status1).build();
+                }));
     }
 
     private boolean connectorHasFailed(JsonObject statusResult) {
@@ -0,0 +1,229 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces the status updates of custom resources. When multiple status updates for the same resource are requested
+ * within a short window (or while a previous update of the same resource is still in progress), only the last one is
+ * executed and all callers are notified once it completes. The number of status updates running concurrently in a
+ * single namespace is limited.
+ *
+ * The status updates are passed as suppliers which run the actual update. They are expected to do their own
+ * comparison of the current and desired status and only update the status when needed.
+ */
+class CoalescingStatusWriter {
+    /**
+     * Default window in milliseconds during which the status updates for the same resource are coalesced
+     */
+    static final long DEFAULT_COALESCING_WINDOW_MS = 100L;
+
+    /**
+     * Default maximal number of concurrent status updates per namespace
+     */
+    static final int DEFAULT_MAX_CONCURRENT_UPDATES_PER_NAMESPACE = 10;
+
+    private final Vertx vertx;
+    private final long coalescingWindowMs;
+    private final int maxConcurrentUpdatesPerNamespace;
+    private final Consumer<String> coalescedUpdateCallback;
+
+    private final Map<NamespaceAndName, PendingUpdate> pendingUpdates = new HashMap<>();
+    private final Map<String, NamespaceLimiter> namespaceLimiters = new HashMap<>();
+
+    /**
+     * Constructs the status writer
+     *
+     * @param vertx                             Vert.x instance
+     * @param coalescingWindowMs                Window in milliseconds during which the updates are coalesced
+     * @param maxConcurrentUpdatesPerNamespace  Maximal number of status updates running concurrently in a namespace
+     * @param coalescedUpdateCallback           Callback called with the namespace of the resource every time a status
+     *                                          update is coalesced with another update and therefore not executed on
+     *                                          its own
+     */
+    CoalescingStatusWriter(Vertx vertx, long coalescingWindowMs, int maxConcurrentUpdatesPerNamespace, Consumer<String> coalescedUpdateCallback) {
+        this.vertx = vertx;
+        this.coalescingWindowMs = coalescingWindowMs;
+        this.maxConcurrentUpdatesPerNamespace = maxConcurrentUpdatesPerNamespace;
+        this.coalescedUpdateCallback = coalescedUpdateCallback;
+    }
+
+    /**
+     * Requests a status update of a resource. If another update for the same resource is already waiting, it is
+     * replaced by this update.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param update        Supplier which executes the status update
+     *
+     * @return  Future which completes when this or some later status update of the same resource completes
+     */
+    Future<Void> write(String namespace, String name, Supplier<Future<Void>> update) {
+        NamespaceAndName key = new NamespaceAndName(namespace, name);
+        boolean scheduleFlush;
+        PendingUpdate pending;
+
+        synchronized (this) {
+            pending = pendingUpdates.get(key);
+
+            if (pending != null && !pending.started) {
+                // Update for this resource is already waiting => we replace it with the newer one
+                pending.update = update;
+                scheduleFlush = false;
+            } else if (pending != null) {
+                // Update for this resource is already in progress => the new one needs to wait for it
+                if (pending.next == null) {
+                    pending.next = new PendingUpdate(update);
+                } else {
+                    pending.next.update = update;
+                    coalescedUpdateCallback.accept(namespace);
+                }
+
+                return pending.next.promise.future();
+            } else {
+                pending = new PendingUpdate(update);
+                pendingUpdates.put(key, pending);
+                scheduleFlush = true;
+            }
+        }
+
+        if (scheduleFlush) {
+            scheduleFlush(key);
+        } else {
+            coalescedUpdateCallback.accept(namespace);
+        }
+
+        return pending.promise.future();
+    }
+
+    private void scheduleFlush(NamespaceAndName key) {
+        if (coalescingWindowMs > 0) {
+            vertx.setTimer(coalescingWindowMs, id -> flush(key));
+        } else {
+            flush(key);
+        }
+    }
+
+    private void flush(NamespaceAndName key) {
+        acquire(key.getNamespace(), () -> {
+            PendingUpdate pending;
+
+            synchronized (this) {
+                pending = pendingUpdates.get(key);
+                pending.started = true;
+            }
+
+            Future<Void> result;
+            try {
+                result = pending.update.get();
+            } catch (RuntimeException e) {
+                result = Future.failedFuture(e);
+            }
+
+            result.onComplete(res -> {
+                release(key.getNamespace());
+
+                PendingUpdate next;
+                synchronized (this) {
+                    next = pending.next;
+
+                    if (next != null) {
+                        pendingUpdates.put(key, next);
+                    } else {
+                        pendingUpdates.remove(key);
+                    }
+                }
+
+                pending.promise.handle(res);
+
+                if (next != null) {
+                    scheduleFlush(key);
+                }
+            });
+        });
+    }
+
+    private void acquire(String namespace, Runnable action) {
+        boolean run;
+
+        synchronized (this) {
+            NamespaceLimiter limiter = namespaceLimiters.computeIfAbsent(namespace, ns -> new NamespaceLimiter());
+
+            if (limiter.running < maxConcurrentUpdatesPerNamespace) {
+                limiter.running++;
+                run = true;
+            } else {
+                limiter.waiting.add(action);
+                run = false;
+            }
+        }
+
+        if (run) {
+            action.run();
+        }
+    }
+
+    private void release(String namespace) {
+        Runnable next;
+
+        synchronized (this) {
+            NamespaceLimiter limiter = namespaceLimiters.get(namespace);
+            next = limiter.waiting.poll();
+
+            if (next == null) {
+                limiter.running--;
+
+                if (limiter.running == 0) {
+                    namespaceLimiters.remove(namespace);
+                }
+            }
+        }
+
+        if (next != null) {
+            // The permit is handed over to the next waiting update
+            next.run();
+        }
+    }
+
+    /**
+     * @return  Number of resources with status update waiting or in progress
+     */
+    /* test */ synchronized int pendingUpdates() {
+        return pendingUpdates.size();
+    }
+
+    /**
+     * Status update waiting to be executed
+     */
+    private static class PendingUpdate {
+        private final Promise<Void> promise = Promise.promise();
+        private Supplier<Future<Void>> update;
+        private boolean started = false;
+        private PendingUpdate next;
+
+        PendingUpdate(Supplier<Future<Void>> update) {
+            this.update = update;
+        }
+    }
+
+    /**
+     * Tracks the status updates running and waiting in a namespace
+     */
+    private static class NamespaceLimiter {
+        private int running = 0;
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+    }
+}
@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.openshift.api.model.Build;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.KafkaConnectResources;
 import io.strimzi.api.kafka.model.connect.build.Output;
 import io.strimzi.operator.PlatformFeaturesAvailability;
@@ -33,6 +34,7 @@ import io.strimzi.operator.common.operator.resource.ServiceAccountOperator;
 import io.vertx.core.Future;
 
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -52,6 +54,7 @@ public class ConnectBuildOperator {
     private final List<LocalObjectReference> imagePullSecrets;
     private final long connectBuildTimeoutMs;
     private final PlatformFeaturesAvailability pfa;
+    private final ConnectOperatorMetricsHolder metrics;
 
     /**
      * Constructor
@@ -59,8 +62,9 @@ public class ConnectBuildOperator {
      * @param pfa       Describes the features available in the Kubernetes cluster
      * @param supplier  Resource operator supplier
      * @param config    Cluster OPerator configuration
+     * @param metrics   Metrics holder used to record the build metrics
      */
-    public ConnectBuildOperator(PlatformFeaturesAvailability pfa, ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
+    public ConnectBuildOperator(PlatformFeaturesAvailability pfa, ResourceOperatorSupplier supplier, ClusterOperatorConfig config, ConnectOperatorMetricsHolder metrics) {
         this.imageStreamOperations = supplier.imageStreamOperations;
         this.podOperator = supplier.podOperations;
         this.configMapOperations = supplier.configMapOperations;
@@ -72,6 +76,7 @@ public class ConnectBuildOperator {
         this.imagePullSecrets = config.getImagePullSecrets();
         this.connectBuildTimeoutMs = config.getConnectBuildTimeoutMs();
         this.pfa = pfa;
+        this.metrics = metrics;
     }
 
     /**
@@ -121,7 +126,7 @@ public class ConnectBuildOperator {
             forceRebuild = Annotations.hasAnnotation(controllerResource, Annotations.STRIMZI_IO_CONNECT_FORCE_REBUILD);
         }
 
-        KafkaConnectDockerfile dockerfile = connectBuild.generateDockerfile();
+        KafkaConnectDockerfile dockerfile = connectBuild.generateDockerfile(pfa.supportsS2I());
         String newBuildRevision = dockerfile.hashStub() + Util.hashStub(connectBuild.getBuild().getOutput().getImage());
         ConfigMap dockerFileConfigMap = connectBuild.generateDockerfileConfigMap(dockerfile);
 
@@ -133,11 +138,15 @@ public class ConnectBuildOperator {
             return Future.succeededFuture(new BuildInfo(currentImage, newBuildRevision));
         } else if (pfa.supportsS2I()) {
             // Revisions differ, and we have S2I support => we are on OpenShift and should do a build
+            Timer.Sample buildTimerSample = Timer.start(metrics.metricsProvider().meterRegistry());
             return openShiftBuild(reconciliation, namespace, connectBuild, forceRebuild, dockerfile, newBuildRevision)
+                    .onSuccess(i -> buildTimerSample.stop(metrics.connectBuildsTimer(namespace)))
                     .compose(image -> Future.succeededFuture(new BuildInfo(image, newBuildRevision)));
         } else {
             // Revisions differ, and no S2I support => we are on Kubernetes and should do a build
-            return kubernetesBuild(reconciliation, namespace, connectBuild, forceRebuild, dockerFileConfigMap, newBuildRevision)
+            Timer.Sample buildTimerSample = Timer.start(metrics.metricsProvider().meterRegistry());
+            return kubernetesBuild(reconciliation, namespace, connectBuild, forceRebuild, dockerfile, dockerFileConfigMap, newBuildRevision)
+                    .onSuccess(i -> buildTimerSample.stop(metrics.connectBuildsTimer(namespace)))
                     .compose(image -> Future.succeededFuture(new BuildInfo(image, newBuildRevision)));
         }
     }
@@ -150,12 +159,13 @@ public class ConnectBuildOperator {
      * @param namespace             Namespace of the Connect cluster
      * @param connectBuild          KafkaConnectBuild object
      * @param forceRebuild          If true, force a new build even if one is already in progress
+     * @param dockerfile            The generated Dockerfile
      * @param dockerFileConfigMap   ConfigMap with the generated Dockerfile
      * @param newBuildRevision      New build revision (hash of the Dockerfile)
      *
      * @return                      Future which completes with the built image when the build is finished (or fails if it fails)
      */
-    private Future<String> kubernetesBuild(Reconciliation reconciliation, String namespace, KafkaConnectBuild connectBuild, boolean forceRebuild, ConfigMap dockerFileConfigMap, String newBuildRevision)  {
+    private Future<String> kubernetesBuild(Reconciliation reconciliation, String namespace, KafkaConnectBuild connectBuild, boolean forceRebuild, KafkaConnectDockerfile dockerfile, ConfigMap dockerFileConfigMap, String newBuildRevision)  {
         final AtomicReference<String> buildImage = new AtomicReference<>();
         String buildPodName = KafkaConnectResources.buildPodName(connectBuild.getCluster());
 
@@ -174,11 +184,11 @@ public class ConnectBuildOperator {
                             // Pod exists, but it either failed or is for different Dockerfile => start new build
                             LOGGER.infoCr(reconciliation, "Previous build exists, but uses different Dockerfile or failed. New build will be started.");
                             return podOperator.reconcile(reconciliation, namespace, buildPodName, null)
-                                    .compose(ignore -> kubernetesBuildStart(reconciliation, namespace, connectBuild, dockerFileConfigMap, newBuildRevision));
+                                    .compose(ignore -> kubernetesBuildStart(reconciliation, namespace, connectBuild, dockerfile, dockerFileConfigMap, newBuildRevision));
                         }
                     } else {
                         // Pod does not exist => Start new build
-                        return kubernetesBuildStart(reconciliation, namespace, connectBuild, dockerFileConfigMap, newBuildRevision);
+                        return kubernetesBuildStart(reconciliation, namespace, connectBuild, dockerfile, dockerFileConfigMap, newBuildRevision);
                     }
                 })
                 .compose(ignore -> kubernetesBuildWaitForFinish(reconciliation, namespace, connectBuild))
@@ -192,18 +202,26 @@ public class ConnectBuildOperator {
 
     /**
      * Starts the Kafka Connect Build on Kubernetes by creating the ConfigMap with the Dockerfile and starting the
-     * builder Pod.
+     * builder Pod. The Dockerfile from the previous build is taken from the existing ConfigMap before it is replaced
+     * to find out which plugin layers changed.
      *
      * @param reconciliation        The reconciliation
      * @param namespace             Namespace of the Connect cluster
      * @param connectBuild          KafkaConnectBuild object
+     * @param dockerfile            The generated Dockerfile
      * @param dockerFileConfigMap   ConfigMap with the generated Dockerfile
      * @param newBuildRevision      New build revision (hash of the Dockerfile)
      *
      * @return                      Future which completes when the build is finished (or fails if it fails)
      */
-    private Future<Void> kubernetesBuildStart(Reconciliation reconciliation, String namespace, KafkaConnectBuild connectBuild, ConfigMap dockerFileConfigMap, String newBuildRevision)  {
-        return configMapOperations.reconcile(reconciliation, namespace, KafkaConnectResources.dockerFileConfigMapName(connectBuild.getCluster()), dockerFileConfigMap)
+    private Future<Void> kubernetesBuildStart(Reconciliation reconciliation, String namespace, KafkaConnectBuild connectBuild, KafkaConnectDockerfile dockerfile, ConfigMap dockerFileConfigMap, String newBuildRevision)  {
+        return configMapOperations.getAsync(namespace, KafkaConnectResources.dockerFileConfigMapName(connectBuild.getCluster()))
+                .compose(previousConfigMap -> {
+                    String previousDockerfile = previousConfigMap != null && previousConfigMap.getData() != null ? previousConfigMap.getData().get("Dockerfile") : null;
+                    recordPluginLayers(reconciliation, namespace, dockerfile, previousDockerfile);
+
+                    return configMapOperations.reconcile(reconciliation, namespace, KafkaConnectResources.dockerFileConfigMapName(connectBuild.getCluster()), dockerFileConfigMap);
+                })
                 .compose(ignore -> serviceAccountOperations.reconcile(reconciliation, namespace, KafkaConnectResources.buildServiceAccountName(connectBuild.getCluster()), connectBuild.generateServiceAccount()))
                 .compose(ignore -> podOperator.reconcile(reconciliation, namespace, KafkaConnectResources.buildPodName(connectBuild.getCluster()), connectBuild.generateBuilderPod(pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, newBuildRevision)))
                 .mapEmpty();
@@ -268,8 +286,15 @@ public class ConnectBuildOperator {
      */
     private Future<String> openShiftBuild(Reconciliation reconciliation, String namespace, KafkaConnectBuild connectBuild, boolean forceRebuild, KafkaConnectDockerfile dockerfile, String newBuildRevision) {
         final AtomicReference<String> buildImage = new AtomicReference<>();
+        final AtomicReference<String> previousDockerfile = new AtomicReference<>();
         return buildConfigOperator.getAsync(namespace, KafkaConnectResources.buildConfigName(connectBuild.getCluster()))
                 .compose(buildConfig -> {
+                    if (buildConfig != null
+                            && buildConfig.getSpec() != null
+                            && buildConfig.getSpec().getSource() != null) {
+                        previousDockerfile.set(buildConfig.getSpec().getSource().getDockerfile());
+                    }
+
                     if (buildConfig != null
                             && buildConfig.getStatus() != null
                             && buildConfig.getStatus().getLastVersion() != null) {
@@ -291,10 +316,10 @@ public class ConnectBuildOperator {
                             return Future.succeededFuture(build.getMetadata().getName());
                         } else {
                             // Build exists, but it either failed or is for different Dockerfile => start new build
-                            return openShiftBuildStart(reconciliation, namespace, connectBuild, dockerfile, newBuildRevision);
+                            return openShiftBuildStart(reconciliation, namespace, connectBuild, dockerfile, previousDockerfile.get(), newBuildRevision);
                         }
                     } else {
-                        return openShiftBuildStart(reconciliation, namespace, connectBuild, dockerfile, newBuildRevision);
+                        return openShiftBuildStart(reconciliation, namespace, connectBuild, dockerfile, previousDockerfile.get(), newBuildRevision);
                     }
                 })
                 .compose(buildName -> openShiftBuildWaitForFinish(reconciliation, namespace, buildName))
@@ -311,11 +336,14 @@ public class ConnectBuildOperator {
      * @param namespace             Namespace of the Connect cluster
      * @param connectBuild          KafkaConnectBuild object
      * @param dockerfile            The generated Dockerfile
+     * @param previousDockerfile    The Dockerfile used by the previous build (or null if there was no previous build)
      * @param newBuildRevision      New build revision (hash of the Dockerfile)
      *
      * @return                      Future which completes with the build name when the build is finished (or fails if it fails)
      */
-    private Future<String> openShiftBuildStart(Reconciliation reconciliation, String namespace, KafkaConnectBuild connectBuild, KafkaConnectDockerfile dockerfile, String newBuildRevision) {
+    private Future<String> openShiftBuildStart(Reconciliation reconciliation, String namespace, KafkaConnectBuild connectBuild, KafkaConnectDockerfile dockerfile, String previousDockerfile, String newBuildRevision) {
+        recordPluginLayers(reconciliation, namespace, dockerfile, previousDockerfile);
+
         return validateImageStream(namespace, connectBuild.getBuild().getOutput())
                 .compose(ignore -> configMapOperations.reconcile(reconciliation, namespace, KafkaConnectResources.dockerFileConfigMapName(connectBuild.getCluster()), null))
                 .compose(ignore -> buildConfigOperator.reconcile(reconciliation, namespace, KafkaConnectResources.buildConfigName(connectBuild.getCluster()), connectBuild.generateBuildConfig(dockerfile)))
@@ -323,6 +351,31 @@ public class ConnectBuildOperator {
                 .map(build -> build.getMetadata().getName());
     }
 
+    /**
+     * Compares the plugin build stages of the new Dockerfile with the stages of the Dockerfile used by the previous
+     * build. The result is logged and recorded in the metrics. The plugin stages are used only with the build cache
+     * enabled. Without them, nothing is recorded. Whether the unchanged stages are really reused depends on the
+     * content of the build cache.
+     *
+     * @param reconciliation        The reconciliation
+     * @param namespace             Namespace of the Connect cluster
+     * @param dockerfile            The generated Dockerfile
+     * @param previousDockerfile    The Dockerfile used by the previous build (or null if there was no previous build)
+     */
+    private void recordPluginLayers(Reconciliation reconciliation, String namespace, KafkaConnectDockerfile dockerfile, String previousDockerfile) {
+        if (dockerfile.pluginLayers().isEmpty())    {
+            return;
+        }
+
+        Set<String> previousLayers = KafkaConnectDockerfile.pluginLayers(previousDockerfile);
+        long unchanged = dockerfile.pluginLayers().stream().filter(previousLayers::contains).count();
+        long changed = dockerfile.pluginLayers().size() - unchanged;
+
+        LOGGER.infoCr(reconciliation, "Starting new build with {} unchanged and {} new or changed connector plugin build stages", unchanged, changed);
+        metrics.connectBuildUnchangedPluginStagesCounter(namespace).increment(unchanged);
+        metrics.connectBuildChangedPluginStagesCounter(namespace).increment(changed);
+    }
+
     /**
      * Checks if the image stream is required and exists.
      *
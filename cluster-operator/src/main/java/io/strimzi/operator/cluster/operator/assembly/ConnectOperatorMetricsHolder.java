@@ -5,13 +5,18 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
+import io.strimzi.api.kafka.model.KafkaConnect;
 import io.strimzi.api.kafka.model.KafkaConnector;
+import io.strimzi.api.kafka.model.KafkaMirrorMaker2;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -23,7 +28,12 @@ public class ConnectOperatorMetricsHolder extends OperatorMetricsHolder {
     private final Map<String, Counter> connectorsFailedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<String, Counter> connectorsSuccessfulReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<String, Counter> connectorsAutoRestartsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> connectorsStatusUpdatesAvoidedCounterMap = new ConcurrentHashMap<>(1);
     private final Map<String, Timer> connectorsReconciliationsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> mirrorReconciliationsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> connectBuildsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> connectBuildUnchangedPluginStagesCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> connectBuildChangedPluginStagesCounterMap = new ConcurrentHashMap<>(1);
     private final Map<String, AtomicInteger> connectorsResourceCounterMap = new ConcurrentHashMap<>(1);
     private final Map<String, AtomicInteger> pausedConnectorsResourceCounterMap = new ConcurrentHashMap<>(1);
 
@@ -87,6 +97,19 @@ public class ConnectOperatorMetricsHolder extends OperatorMetricsHolder {
                 "Number of auto restarts of the connector");
     }
 
+    /**
+     * Counter metric for number of connector status updates which were avoided because the status did not change or
+     * because they were coalesced with other status updates of the same connector.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter connectorsStatusUpdatesAvoidedCounter(String namespace) {
+        return getCounter(namespace, KafkaConnector.RESOURCE_KIND, METRICS_PREFIX + "status.updates.avoided", metricsProvider, null, connectorsStatusUpdatesAvoidedCounterMap,
+                "Number of connector status updates which were avoided because the status did not change or because they were coalesced");
+    }
+
     /**
      * Counter metric for number of connector resources.
      *
@@ -126,6 +149,90 @@ public class ConnectOperatorMetricsHolder extends OperatorMetricsHolder {
                 "The time the reconciliation takes to complete");
     }
 
+    /**
+     * Timer which measures how long the reconciliation of the connectors of a single KafkaMirrorMaker2 mirror takes.
+     *
+     * @param namespace     Namespace of the KafkaMirrorMaker2 resource
+     * @param name          Name of the KafkaMirrorMaker2 resource
+     * @param mirror        Mirror in the sourceAlias->targetAlias format
+     *
+     * @return  Metrics timer
+     */
+    public Timer mirrorReconciliationsTimer(String namespace, String name, String mirror) {
+        return mirrorReconciliationsTimerMap.computeIfAbsent(namespace + "/" + name + "/" + mirror,
+                key -> metricsProvider.timer(METRICS_PREFIX + "mirror.reconciliations.duration",
+                        "The time the reconciliation of the connectors of a single mirror takes to complete",
+                        Tags.of(Tag.of("kind", KafkaMirrorMaker2.RESOURCE_KIND),
+                                Tag.of("namespace", namespace),
+                                Tag.of("name", name),
+                                Tag.of("mirror", mirror),
+                                Tag.of("selector", selectorLabels != null ? selectorLabels.toSelectorString() : ""))));
+    }
+
+    /**
+     * Removes the mirror reconciliation timers of a KafkaMirrorMaker2 resource from the metrics registry. This is used
+     * when the mirrors are removed from the resource or when the whole resource is deleted, so that the timers of
+     * resources and mirrors which do not exist anymore are not reported forever.
+     *
+     * @param namespace         Namespace of the KafkaMirrorMaker2 resource
+     * @param name              Name of the KafkaMirrorMaker2 resource
+     * @param retainedMirrors   Mirrors in the sourceAlias->targetAlias format whose timers should be kept
+     */
+    public void removeMirrorReconciliationsTimers(String namespace, String name, Set<String> retainedMirrors) {
+        String prefix = namespace + "/" + name + "/";
+
+        mirrorReconciliationsTimerMap.entrySet().removeIf(entry -> {
+            if (entry.getKey().startsWith(prefix) && !retainedMirrors.contains(entry.getKey().substring(prefix.length()))) {
+                metricsProvider.meterRegistry().remove(entry.getValue());
+                return true;
+            } else {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Timer which measures how long the successful Kafka Connect Builds take. It starts when the operator decides that
+     * a new container image has to be built and stops when the new image is available.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer connectBuildsTimer(String namespace) {
+        return getTimer(namespace, KafkaConnect.RESOURCE_KIND, METRICS_PREFIX + "connect.build.duration",
+                metricsProvider, selectorLabels, connectBuildsTimerMap,
+                "The time the Kafka Connect Build takes to complete");
+    }
+
+    /**
+     * Counter metric for the number of connector plugin build stages which did not change since the previous Kafka
+     * Connect Build. Whether they are really reused depends on the content of the build cache.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter connectBuildUnchangedPluginStagesCounter(String namespace) {
+        return getCounter(namespace, KafkaConnect.RESOURCE_KIND, METRICS_PREFIX + "connect.build.plugin.stages.unchanged",
+                metricsProvider, selectorLabels, connectBuildUnchangedPluginStagesCounterMap,
+                "Number of connector plugin build stages which did not change since the previous build");
+    }
+
+    /**
+     * Counter metric for the number of connector plugin build stages which are new or changed since the previous
+     * Kafka Connect Build.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter connectBuildChangedPluginStagesCounter(String namespace) {
+        return getCounter(namespace, KafkaConnect.RESOURCE_KIND, METRICS_PREFIX + "connect.build.plugin.stages.changed",
+                metricsProvider, selectorLabels, connectBuildChangedPluginStagesCounterMap,
+                "Number of connector plugin build stages which are new or changed since the previous build");
+    }
+
     /**
      * Resets all values in the connector resource counter map and paused resource counter map to 0. This is used to
      * handle removed connector resources from various namespaces during the periodical reconciliation in operators.
@@ -0,0 +1,291 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlResponse;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRestException;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskStatus;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Polls the status of the Cruise Control user tasks (such as the ongoing rebalances). Instead of polling every task
+ * separately, a single poller is used for every Cruise Control instance. It fetches the statuses of all tasks which are
+ * currently watched in a single request and passes them to the registered handlers.
+ *
+ * The polling interval adapts to the phase of the watched tasks. While some task is still computing its proposal
+ * (ACTIVE), when a task changes its status or when the request fails, the poller uses the minimal interval. When all
+ * tasks are in execution and their status does not change, the interval is doubled after every poll up to the maximal
+ * interval. Registering a new task resets the interval back to the minimum. When a watched task needs to be handled
+ * without waiting for the backed off interval (for example, because the user asked to stop it), the poller can be asked
+ * to poll it right away. This bounds the reaction time to such changes by the minimal interval instead of the maximal one.
+ */
+class CruiseControlUserTasksPoller {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CruiseControlUserTasksPoller.class);
+
+    private final Vertx vertx;
+    private final long minPollingIntervalMs;
+    private final long maxPollingIntervalMs;
+    private final Map<String, HostPoller> pollers = new HashMap<>();
+
+    /**
+     * Constructs the user tasks poller
+     *
+     * @param vertx                 Vert.x instance
+     * @param minPollingIntervalMs  Minimal interval between two polls of the same Cruise Control instance
+     * @param maxPollingIntervalMs  Maximal interval between two polls of the same Cruise Control instance
+     */
+    CruiseControlUserTasksPoller(Vertx vertx, long minPollingIntervalMs, long maxPollingIntervalMs) {
+        this.vertx = vertx;
+        this.minPollingIntervalMs = minPollingIntervalMs;
+        this.maxPollingIntervalMs = Math.max(minPollingIntervalMs, maxPollingIntervalMs);
+    }
+
+    /**
+     * Starts watching the status of a user task. The handler is called with the task status after every poll until the
+     * registration is cancelled. When the poll fails or when Cruise Control does not know the task, the handler is
+     * called with a failed result.
+     *
+     * @param host          Address of the Cruise Control server
+     * @param port          Port of the Cruise Control server
+     * @param apiClient     Cruise Control API client. The most recently registered client is used for the polls of
+     *                      given Cruise Control instance.
+     * @param userTaskId    ID of the user task which should be watched
+     * @param handler       Handler called with the status of the user task
+     *
+     * @return  Registration which should be cancelled once the status of the task is not needed anymore
+     */
+    Registration register(String host, int port, CruiseControlApi apiClient, String userTaskId, Handler<AsyncResult<CruiseControlResponse>> handler) {
+        Registration registration;
+
+        synchronized (this) {
+            HostPoller poller = pollers.computeIfAbsent(host + ":" + port, k -> new HostPoller(host, port));
+            registration = new Registration(poller, userTaskId, handler);
+            poller.apiClient = apiClient;
+            poller.registrations.add(registration);
+            poller.intervalMs = minPollingIntervalMs;
+            poller.maybeReschedule();
+        }
+
+        return registration;
+    }
+
+    /**
+     * Polls the Cruise Control instance watching the user task right away and resets its polling interval back to the
+     * minimum. If a poll is already running, the next poll is done right after it completes. Nothing happens when the
+     * user task is not watched.
+     *
+     * @param userTaskId    ID of the user task which should be polled
+     */
+    synchronized void pollNow(String userTaskId) {
+        for (HostPoller poller : pollers.values()) {
+            if (poller.registrations.stream().anyMatch(registration -> registration.userTaskId.equals(userTaskId))) {
+                poller.intervalMs = minPollingIntervalMs;
+                poller.pollNow = true;
+                poller.maybeReschedule();
+            }
+        }
+    }
+
+    /**
+     * @return  Number of Cruise Control instances which are currently polled
+     */
+    /* test */ synchronized int pollers() {
+        return pollers.size();
+    }
+
+    private synchronized void cancel(Registration registration) {
+        HostPoller poller = registration.poller;
+
+        if (poller.registrations.remove(registration) && poller.registrations.isEmpty()) {
+            if (poller.timerId != -1) {
+                vertx.cancelTimer(poller.timerId);
+                poller.timerId = -1;
+            }
+
+            pollers.remove(poller.key(), poller);
+        }
+    }
+
+    /**
+     * Registration of a single watched user task
+     */
+    class Registration {
+        private final HostPoller poller;
+        private final String userTaskId;
+        private final Handler<AsyncResult<CruiseControlResponse>> handler;
+
+        private Registration(HostPoller poller, String userTaskId, Handler<AsyncResult<CruiseControlResponse>> handler) {
+            this.poller = poller;
+            this.userTaskId = userTaskId;
+            this.handler = handler;
+        }
+
+        /**
+         * Stops watching the user task. It is safe to call it multiple times.
+         */
+        void cancel() {
+            CruiseControlUserTasksPoller.this.cancel(this);
+        }
+    }
+
+    /**
+     * Poller of a single Cruise Control instance. All its fields are guarded by the outer poller.
+     */
+    private class HostPoller {
+        private final String host;
+        private final int port;
+        private final List<Registration> registrations = new ArrayList<>();
+        private final Map<String, CruiseControlUserTaskStatus> lastStatuses = new HashMap<>();
+
+        private CruiseControlApi apiClient;
+        private long intervalMs = minPollingIntervalMs;
+        private long timerId = -1;
+        private long nextPollNanos;
+        private boolean polling = false;
+        private boolean pollNow = false;
+
+        HostPoller(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        private String key() {
+            return host + ":" + port;
+        }
+
+        /**
+         * Schedules the next poll unless it is already running or scheduled sooner than the current interval. When the
+         * poll was requested to happen right away, it is scheduled without any delay.
+         */
+        private void maybeReschedule() {
+            if (polling) {
+                // The next poll is scheduled once the running one completes
+                return;
+            }
+
+            // Vert.x timers need a delay of at least 1 ms
+            long delayMs = pollNow ? 1 : intervalMs;
+            long nextPollNanos = System.nanoTime() + delayMs * 1_000_000L;
+
+            if (timerId != -1) {
+                if (this.nextPollNanos - nextPollNanos <= 0) {
+                    // The next poll will happen soon enough
+                    return;
+                }
+
+                vertx.cancelTimer(timerId);
+            }
+
+            this.nextPollNanos = nextPollNanos;
+            this.timerId = vertx.setTimer(delayMs, id -> poll());
+        }
+
+        private void poll() {
+            Set<String> userTaskIds = new HashSet<>();
+            CruiseControlApi client;
+
+            synchronized (CruiseControlUserTasksPoller.this) {
+                timerId = -1;
+
+                if (registrations.isEmpty()) {
+                    return;
+                }
+
+                polling = true;
+                pollNow = false;
+                client = apiClient;
+                registrations.forEach(registration -> userTaskIds.add(registration.userTaskId));
+            }
+
+            LOGGER.debugOp("Polling status of user tasks {} from Cruise Control {}", userTaskIds, key());
+
+            Future<Map<String, CruiseControlResponse>> result;
+            try {
+                result = client.getUserTasksStatus(host, port, userTaskIds);
+            } catch (RuntimeException e) {
+                result = Future.failedFuture(e);
+            }
+
+            result.onComplete(res -> {
+                List<Registration> toNotify;
+
+                synchronized (CruiseControlUserTasksPoller.this) {
+                    polling = false;
+                    toNotify = new ArrayList<>(registrations);
+                    intervalMs = nextIntervalMs(res);
+                }
+
+                for (Registration registration : toNotify) {
+                    try {
+                        registration.handler.handle(taskResult(res, registration.userTaskId));
+                    } catch (RuntimeException e) {
+                        // A failing handler should not stop the polling of the other tasks
+                        LOGGER.warnOp("Failed to handle the status of user task {} from Cruise Control {}", registration.userTaskId, key(), e);
+                    }
+                }
+
+                synchronized (CruiseControlUserTasksPoller.this) {
+                    if (!registrations.isEmpty()) {
+                        maybeReschedule();
+                    }
+                }
+            });
+        }
+
+        private AsyncResult<CruiseControlResponse> taskResult(AsyncResult<Map<String, CruiseControlResponse>> res, String userTaskId) {
+            if (res.failed()) {
+                return Future.failedFuture(res.cause());
+            } else if (!res.result().containsKey(userTaskId)) {
+                return Future.failedFuture(new CruiseControlRestException("User task " + userTaskId + " was not found in Cruise Control " + key()));
+            } else {
+                return Future.succeededFuture(res.result().get(userTaskId));
+            }
+        }
+
+        /**
+         * Calculates the interval until the next poll based on the phase of the polled tasks
+         *
+         * @param res   Result of the last poll
+         *
+         * @return  Interval in milliseconds until the next poll
+         */
+        private long nextIntervalMs(AsyncResult<Map<String, CruiseControlResponse>> res) {
+            if (res.failed()) {
+                return minPollingIntervalMs;
+            }
+
+            boolean backOff = true;
+            Map<String, CruiseControlUserTaskStatus> statuses = new HashMap<>();
+
+            for (Map.Entry<String, CruiseControlResponse> entry : res.result().entrySet()) {
+                CruiseControlUserTaskStatus status = CruiseControlUserTaskStatus.lookup(entry.getValue().getJson().getString("Status"));
+                statuses.put(entry.getKey(), status);
+
+                if (status != CruiseControlUserTaskStatus.IN_EXECUTION
+                        || status != lastStatuses.get(entry.getKey())) {
+                    // The task is computing its proposal, it just finished, or it changed its status
+                    backOff = false;
+                }
+            }
+
+            lastStatuses.clear();
+            lastStatuses.putAll(statuses);
+
+            return backOff ? Math.min(intervalMs * 2, maxPollingIntervalMs) : minPollingIntervalMs;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import io.strimzi.operator.cluster.model.MetricsAndLoggingUtils;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -47,6 +48,8 @@ public class EntityOperatorReconciler {
     private final EntityOperator entityOperator;
     private final ClusterCa clusterCa;
     private final List<String> maintenanceWindows;
+    private final int stepsParallelism;
+    private final MetricsProvider metricsProvider;
 
     private final DeploymentOperator deploymentOperator;
     private final SecretOperator secretOperator;
@@ -81,6 +84,8 @@ public class EntityOperatorReconciler {
         this.entityOperator = EntityOperator.fromCrd(reconciliation, kafkaAssembly, versions, config.featureGates().useKRaftEnabled());
         this.clusterCa = clusterCa;
         this.maintenanceWindows = kafkaAssembly.getSpec().getMaintenanceTimeWindows();
+        this.stepsParallelism = config.getReconciliationStepsParallelism();
+        this.metricsProvider = supplier.metricsProvider;
 
         this.deploymentOperator = supplier.deploymentOperations;
         this.secretOperator = supplier.secretOperations;
@@ -92,7 +97,8 @@ public class EntityOperatorReconciler {
 
     /**
      * The main reconciliation method which triggers the whole reconciliation pipeline. This is the method which is
-     * expected to be called from the outside to trigger the reconciliation.
+     * expected to be called from the outside to trigger the reconciliation. The steps which do not depend on each
+     * other are executed concurrently.
      *
      * @param isOpenShift       Flag indicating whether we are on OpenShift or not
      * @param imagePullPolicy   Image pull policy
@@ -103,19 +109,24 @@ public class EntityOperatorReconciler {
      * @return                  Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(boolean isOpenShift, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets, Clock clock)    {
-        return serviceAccount()
-                .compose(i -> entityOperatorRole())
-                .compose(i -> topicOperatorRole())
-                .compose(i -> userOperatorRole())
-                .compose(i -> topicOperatorRoleBindings())
-                .compose(i -> userOperatorRoleBindings())
-                .compose(i -> topicOperagorConfigMap())
-                .compose(i -> userOperatorConfigMap())
-                .compose(i -> deleteOldEntityOperatorSecret())
-                .compose(i -> topicOperatorSecret(clock))
-                .compose(i -> userOperatorSecret(clock))
-                .compose(i -> deployment(isOpenShift, imagePullPolicy, imagePullSecrets))
-                .compose(i -> waitForDeploymentReadiness());
+        return new ReconcilerStepGraph(reconciliation, "Entity Operator", stepsParallelism, metricsProvider)
+                .step("serviceAccount", this::serviceAccount)
+                .step("entityOperatorRole", this::entityOperatorRole)
+                .step("topicOperatorRole", this::topicOperatorRole)
+                .step("userOperatorRole", this::userOperatorRole)
+                .step("topicOperatorRoleBindings", this::topicOperatorRoleBindings)
+                .step("userOperatorRoleBindings", this::userOperatorRoleBindings)
+                .step("topicOperatorConfigMap", this::topicOperagorConfigMap)
+                .step("userOperatorConfigMap", this::userOperatorConfigMap)
+                .step("deleteOldEntityOperatorSecret", this::deleteOldEntityOperatorSecret)
+                .step("topicOperatorSecret", () -> topicOperatorSecret(clock))
+                .step("userOperatorSecret", () -> userOperatorSecret(clock))
+                .step("deployment", () -> deployment(isOpenShift, imagePullPolicy, imagePullSecrets), "serviceAccount",
+                        "entityOperatorRole", "topicOperatorRole", "userOperatorRole", "topicOperatorRoleBindings",
+                        "userOperatorRoleBindings", "topicOperatorConfigMap", "userOperatorConfigMap",
+                        "deleteOldEntityOperatorSecret", "topicOperatorSecret", "userOperatorSecret")
+                .step("waitForDeploymentReadiness", this::waitForDeploymentReadiness, "deployment")
+                .execute();
     }
 
     /**
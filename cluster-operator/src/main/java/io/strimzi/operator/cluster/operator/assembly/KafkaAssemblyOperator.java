@@ -38,6 +38,7 @@ import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
@@ -47,6 +48,8 @@ import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Assembly operator for the Kafka custom resource. It manages the following components:
@@ -67,6 +70,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final StatefulSetOperator stsOperations;
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> crdOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
+    private final int maxSkippedReconciliations;
+    private final Map<NamespaceAndName, LastReconciliation> lastReconciliations = new ConcurrentHashMap<>();
     protected Clock clock;
 
     /**
@@ -81,7 +86,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                  CertManager certManager, PasswordGenerator passwordGenerator,
                                  ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
         super(vertx, pfa, Kafka.RESOURCE_KIND, certManager, passwordGenerator,
-                supplier.kafkaOperator, supplier, config);
+                supplier.kafkaOperator, supplier, config,
+                new KafkaAssemblyOperatorMetricsHolder(Kafka.RESOURCE_KIND, config.getCustomResourceSelector(), supplier.metricsProvider));
         this.config = config;
         this.supplier = supplier;
 
@@ -90,11 +96,62 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.stsOperations = supplier.stsOperations;
         this.crdOperator = supplier.kafkaOperator;
         this.strimziPodSetOperator = supplier.strimziPodSetOperator;
+        this.maxSkippedReconciliations = config.getMaxSkippedReconciliations();
         this.clock = Clock.systemUTC();
     }
 
+    /**
+     * Reconciles the Kafka cluster. When none of the inputs of the reconciliation changed since the last successful
+     * reconciliation and the cluster is ready, the full reconciliation is skipped and the last status is reused. To
+     * correct any changes which are not covered by the inputs fingerprint (such as deleted Network Policies) or which
+     * depend on time (such as CA renewals), full reconciliation is forced after a configured number of skipped
+     * reconciliations.
+     *
+     * @param reconciliation    The Reconciliation identification
+     * @param kafkaAssembly     The Kafka custom resource
+     *
+     * @return  Future with the Kafka status
+     */
     @Override
     public Future<KafkaStatus> createOrUpdate(Reconciliation reconciliation, Kafka kafkaAssembly) {
+        if (maxSkippedReconciliations <= 0) {
+            metrics().fullReconciliationsCounter(reconciliation.namespace()).increment();
+            return fullReconciliation(reconciliation, kafkaAssembly);
+        }
+
+        NamespaceAndName key = new NamespaceAndName(reconciliation.namespace(), reconciliation.name());
+
+        return KafkaReconciliationFingerprint.compute(reconciliation, kafkaAssembly, supplier, clock)
+                .recover(error -> {
+                    LOGGER.warnCr(reconciliation, "Failed to compute the fingerprint of the reconciliation inputs", error);
+                    return Future.succeededFuture(null);
+                })
+                .compose(fingerprint -> {
+                    LastReconciliation last = lastReconciliations.remove(key);
+
+                    if (fingerprint != null
+                            && last != null
+                            && fingerprint.equals(last.fingerprint)
+                            && last.skipped < maxSkippedReconciliations) {
+                        LOGGER.infoCr(reconciliation, "Kafka cluster is ready and did not change since the last reconciliation. Full reconciliation is skipped.");
+                        metrics().skippedReconciliationsCounter(reconciliation.namespace()).increment();
+                        lastReconciliations.put(key, new LastReconciliation(fingerprint, last.status, last.skipped + 1));
+
+                        return Future.succeededFuture(new KafkaStatusBuilder(last.status).build());
+                    }
+
+                    metrics().fullReconciliationsCounter(reconciliation.namespace()).increment();
+
+                    return fullReconciliation(reconciliation, kafkaAssembly)
+                            .onSuccess(status -> {
+                                if (fingerprint != null) {
+                                    lastReconciliations.put(key, new LastReconciliation(fingerprint, new KafkaStatusBuilder(status).build(), 0));
+                                }
+                            });
+                });
+    }
+
+    private Future<KafkaStatus> fullReconciliation(Reconciliation reconciliation, Kafka kafkaAssembly) {
         Promise<KafkaStatus> createOrUpdatePromise = Promise.promise();
         ReconciliationState reconcileState = createReconciliationState(reconciliation, kafkaAssembly);
 
@@ -637,11 +694,36 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         }
     }
 
+    /**
+     * Fingerprint of the inputs and the resulting status of the last successful reconciliation of a Kafka cluster
+     */
+    private static class LastReconciliation {
+        private final String fingerprint;
+        private final KafkaStatus status;
+        private final int skipped;
+
+        LastReconciliation(String fingerprint, KafkaStatus status, int skipped) {
+            this.fingerprint = fingerprint;
+            this.status = status;
+            this.skipped = skipped;
+        }
+    }
+
     @Override
     protected KafkaStatus createStatus() {
         return new KafkaStatus();
     }
 
+    @Override
+    public KafkaAssemblyOperatorMetricsHolder metrics()   {
+        // We have to check the type because of Spotbugs
+        if (metrics instanceof KafkaAssemblyOperatorMetricsHolder) {
+            return (KafkaAssemblyOperatorMetricsHolder) metrics;
+        } else {
+            throw new RuntimeException("MetricsHolder in KafkaAssemblyOperator should be always of type KafkaAssemblyOperatorMetricsHolder");
+        }
+    }
+
     /**
      * Deletes the ClusterRoleBinding which as a cluster-scoped resource cannot be deleted by the ownerReference
      *
@@ -650,6 +732,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        lastReconciliations.remove(new NamespaceAndName(reconciliation.namespace(), reconciliation.name()));
+
         return ReconcilerUtils.withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
@@ -0,0 +1,57 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Counter;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Util class which holds the different metrics used by the Kafka assembly operator
+ */
+public class KafkaAssemblyOperatorMetricsHolder extends OperatorMetricsHolder {
+    private final Map<String, Counter> skippedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> fullReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the operator metrics holder for the Kafka assembly operator
+     *
+     * @param kind              Kind of the resources for which these metrics apply
+     * @param selectorLabels    Selector labels to select the controller resources
+     * @param metricsProvider   Metrics provider
+     */
+    public KafkaAssemblyOperatorMetricsHolder(String kind, Labels selectorLabels, MetricsProvider metricsProvider) {
+        super(kind, selectorLabels, metricsProvider);
+    }
+
+    /**
+     * Counter metric for number of reconciliations which were skipped because none of the inputs of the Kafka cluster
+     * changed since the last successful reconciliation.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter skippedReconciliationsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.skipped", metricsProvider, selectorLabels, skippedReconciliationsCounterMap,
+                "Number of reconciliations which were skipped because the inputs of the cluster did not change");
+    }
+
+    /**
+     * Counter metric for number of full reconciliations which were executed.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter fullReconciliationsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.full", metricsProvider, selectorLabels, fullReconciliationsCounterMap,
+                "Number of full reconciliations done by the operator for individual resources");
+    }
+}
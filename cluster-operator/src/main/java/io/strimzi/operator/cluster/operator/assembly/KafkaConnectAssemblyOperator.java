@@ -25,6 +25,7 @@ import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.model.KafkaConnectBuild;
 import io.strimzi.operator.cluster.model.KafkaConnectCluster;
 import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
@@ -80,7 +81,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     public KafkaConnectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, pooledConnectClientProvider(HttpClientPool.shared(vertx, "connect", supplier.metricsProvider)));
     }
 
     /**
@@ -120,7 +121,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
         this.deploymentOperations = supplier.deploymentOperations;
         this.podSetOperations = supplier.strimziPodSetOperator;
         this.podOperations = supplier.podOperations;
-        this.connectBuildOperator = new ConnectBuildOperator(pfa, supplier, config);
+        this.connectBuildOperator = new ConnectBuildOperator(pfa, supplier, config, metrics());
 
         this.versions = config.versions();
         this.stableIdentities = config.featureGates().stableConnectIdentitiesEnabled();
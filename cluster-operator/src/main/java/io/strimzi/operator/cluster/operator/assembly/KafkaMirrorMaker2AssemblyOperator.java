@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.KafkaMirrorMaker2List;
 import io.strimzi.api.kafka.model.CertSecretSource;
 import io.strimzi.api.kafka.model.KafkaConnectorSpec;
@@ -39,6 +40,7 @@ import io.strimzi.operator.cluster.model.KafkaConnectCluster;
 import io.strimzi.operator.cluster.model.KafkaMirrorMaker2Cluster;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.ModelUtils;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
@@ -59,11 +61,16 @@ import org.apache.kafka.common.config.SslConfigs;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -113,6 +120,8 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     private static final String CONNECT_CONFIG_FILE = "/tmp/strimzi-connect.properties";
     private static final String CONNECTORS_CONFIG_FILE = "/tmp/strimzi-mirrormaker2-connector.properties";
 
+    /* test */ static final int MAX_CONCURRENT_MIRROR_RECONCILIATIONS = 10;
+
     /**
      * Constructor
      *
@@ -124,7 +133,7 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     public KafkaMirrorMaker2AssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, pooledConnectClientProvider(HttpClientPool.shared(vertx, "connect", supplier.metricsProvider)));
     }
 
     /**
@@ -290,6 +299,12 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
         return new KafkaMirrorMaker2Status();
     }
 
+    @Override
+    protected Future<Boolean> delete(Reconciliation reconciliation) {
+        metrics().removeMirrorReconciliationsTimers(reconciliation.namespace(), reconciliation.name(), Set.of());
+        return super.delete(reconciliation);
+    }
+
     /**
      * Generates a hash from the trusted TLS certificates that can be used to spot if it has changed.
      *
@@ -321,7 +336,11 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     }
 
     /**
-     * Reconcile all the MirrorMaker 2.0 connectors selected by the given MirrorMaker 2.0 instance.
+     * Reconcile all the MirrorMaker 2.0 connectors selected by the given MirrorMaker 2.0 instance. The mirrors are
+     * reconciled concurrently, but at most {@link #MAX_CONCURRENT_MIRROR_RECONCILIATIONS} at a time so that large
+     * MirrorMaker 2.0 deployments do not flood the Connect REST API. The results of the individual mirrors are collected
+     * and merged into the MirrorMaker 2.0 status only once all mirrors are reconciled.
+     *
      * @param reconciliation The reconciliation
      * @param kafkaMirrorMaker2 The MirrorMaker 2.0
      * @return A future, failed if any of the connectors could not be reconciled.
@@ -340,27 +359,167 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
             for (Map.Entry<String, Function<KafkaMirrorMaker2MirrorSpec, KafkaMirrorMaker2ConnectorSpec>> connectorEntry : MIRRORMAKER2_CONNECTORS.entrySet()) {
                 deleteMirrorMaker2ConnectorNames.removeAll(mirrors.stream()
                         .filter(mirror -> connectorEntry.getValue().apply(mirror) != null) // filter out non-existent connectors
-                        .map(mirror -> mirror.getSourceCluster() + "->" + mirror.getTargetCluster() + connectorEntry.getKey())
+                        .map(mirror -> mirrorName(mirror) + connectorEntry.getKey())
                         .collect(Collectors.toSet()));
             }
             LOGGER.debugCr(reconciliation, "delete MirrorMaker 2.0 connectors: {}", deleteMirrorMaker2ConnectorNames);
             Stream<Future<Void>> deletionFutures = deleteMirrorMaker2ConnectorNames.stream()
                     .map(connectorName -> apiClient.delete(reconciliation, host, KafkaConnectCluster.REST_API_PORT, connectorName));
-            Stream<Future<Void>> createUpdateFutures = mirrors.stream()
-                    .map(mirror -> reconcileMirrorMaker2Connectors(reconciliation, host, apiClient, kafkaMirrorMaker2, mirror, mirrorMaker2Cluster, mirrorMaker2Status, desiredLogging));
-            return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
+
+            Queue<MirrorConnectorResult> results = new ConcurrentLinkedQueue<>();
+            Future<Void> createUpdateFuture = forEachWithConcurrencyLimit(mirrors, MAX_CONCURRENT_MIRROR_RECONCILIATIONS, mirror -> {
+                Timer.Sample mirrorReconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
+                return reconcileMirrorMaker2Connectors(reconciliation, host, apiClient, kafkaMirrorMaker2, mirror, mirrorMaker2Cluster, results)
+                        .onComplete(i -> mirrorReconciliationTimerSample.stop(metrics().mirrorReconciliationsTimer(reconciliation.namespace(), mirrorMaker2Name, mirrorName(mirror))));
+            });
+
+            // Remove the timers of the mirrors which are not configured anymore
+            metrics().removeMirrorReconciliationsTimers(reconciliation.namespace(), mirrorMaker2Name,
+                    mirrors.stream().map(KafkaMirrorMaker2AssemblyOperator::mirrorName).collect(Collectors.toSet()));
+
+            return CompositeFuture.join(Stream.concat(deletionFutures, Stream.of(createUpdateFuture)).collect(Collectors.toList()))
+                    .map((Void) null)
+                    .transform(reconciled -> mergeMirrorConnectorResults(reconciliation, kafkaMirrorMaker2, mirrorMaker2Status, results)
+                            .compose(i -> reconciled.succeeded() ? Future.succeededFuture() : Future.<Void>failedFuture(reconciled.cause())))
+                    .compose(i -> mirrors.isEmpty() ? Future.succeededFuture() : apiClient.updateConnectLoggers(reconciliation, host, KafkaConnectCluster.REST_API_PORT, desiredLogging, mirrorMaker2Cluster.defaultLogConfig()))
+                    .compose(i -> {
+                        boolean failedConnector = mirrorMaker2Status.getConnectors().stream()
+                                .anyMatch(connector -> {
+                                    @SuppressWarnings({ "rawtypes" })
+                                    Object state = ((Map) connector.getOrDefault("connector", emptyMap())).get("state");
+                                    return "FAILED".equalsIgnoreCase(state.toString());
+                                });
+                        if (failedConnector) {
+                            return Future.failedFuture("One or more connectors are in FAILED state");
+                        } else {
+                            return Future.succeededFuture();
+                        }
+                    })
+                    .map((Void) null);
         });
     }
 
-    private Future<Void> reconcileMirrorMaker2Connectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2MirrorSpec mirror, KafkaMirrorMaker2Cluster mirrorMaker2Cluster, KafkaMirrorMaker2Status mirrorMaker2Status, String desiredLogging) {
+    /**
+     * Runs the operation for all items, but never for more than the given number of items at the same time. The
+     * operation is run for all items even when some of them fail.
+     *
+     * @param items         Items for which the operation should be run
+     * @param limit         Maximal number of operations running at the same time
+     * @param operation     Operation which should be run for every item
+     *
+     * @return  Future which completes when the operation completed for all items. It fails if the operation failed for
+     *          any of the items.
+     *
+     * @param <T>   Type of the items
+     */
+    /* test */ static <T> Future<Void> forEachWithConcurrencyLimit(List<T> items, int limit, Function<T, Future<Void>> operation) {
+        AtomicInteger nextItem = new AtomicInteger(0);
+
+        @SuppressWarnings({ "rawtypes" }) // Composite future requires raw Future objects
+        List<Future> workers = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, items.size()); i++) {
+            workers.add(runNext(items, nextItem, operation));
+        }
+
+        return CompositeFuture.join(workers).map((Void) null);
+    }
+
+    private static <T> Future<Void> runNext(List<T> items, AtomicInteger nextItem, Function<T, Future<Void>> operation) {
+        int index = nextItem.getAndIncrement();
+        if (index >= items.size()) {
+            return Future.succeededFuture();
+        }
+
+        Future<Void> result;
+        try {
+            result = operation.apply(items.get(index));
+        } catch (RuntimeException e) {
+            result = Future.failedFuture(e);
+        }
+
+        return result.transform(current -> runNext(items, nextItem, operation)
+                .compose(i -> current.succeeded() ? Future.succeededFuture() : Future.failedFuture(current.cause())));
+    }
+
+    /**
+     * Merges the results of the reconciled connectors into the MirrorMaker 2.0 status. The connectors and the auto-restart
+     * statuses are sorted only once after all results are added. If any of the mirrors or connectors failed, the errors
+     * of all of them are written into the MirrorMaker 2.0 status.
+     *
+     * @param reconciliation        The reconciliation
+     * @param mirrorMaker2          The MirrorMaker 2.0
+     * @param mirrorMaker2Status    The MirrorMaker 2.0 status into which the results are merged
+     * @param results               Results of the reconciled connectors
+     *
+     * @return  Future which completes when the results are merged
+     */
+    private Future<Void> mergeMirrorConnectorResults(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2Status mirrorMaker2Status, Queue<MirrorConnectorResult> results) {
+        List<Throwable> errors = new ArrayList<>();
+
+        for (MirrorConnectorResult result : results) {
+            if (result.error() != null) {
+                errors.add(result.error());
+            } else {
+                mirrorMaker2Status.addConditions(result.status().conditions);
+                mirrorMaker2Status.getConnectors().add(result.status().statusResult);
+
+                AutoRestartStatus autoRestart = result.status().autoRestart;
+                if (autoRestart != null) {
+                    autoRestart.setConnectorName(result.connectorName());
+                    mirrorMaker2Status.getAutoRestartStatuses().add(autoRestart);
+                }
+            }
+        }
+
+        mirrorMaker2Status.getConnectors().sort(new ConnectorsComparatorByName());
+        mirrorMaker2Status.getAutoRestartStatuses().sort(Comparator.comparing(AutoRestartStatus::getConnectorName));
+
+        if (!errors.isEmpty()) {
+            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2, mirrorErrors(errors));
+        } else {
+            return Future.succeededFuture();
+        }
+    }
+
+    /**
+     * Aggregates the errors of the mirrors and connectors into a single error. The messages of all errors are joined
+     * in a stable order so that the status does not change only because the mirrors completed in a different order.
+     * The original errors are attached as suppressed exceptions.
+     *
+     * @param errors    Errors of the mirrors and connectors
+     *
+     * @return  The only error or an error aggregating all the errors
+     */
+    /* test */ static Throwable mirrorErrors(List<Throwable> errors) {
+        if (errors.size() == 1) {
+            return errors.get(0);
+        }
+
+        String message = errors.stream()
+                .map(error -> error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName())
+                .sorted()
+                .collect(Collectors.joining("; "));
+
+        // Keep the InvalidResourceException reason in the status condition when all errors are caused by invalid mirrors
+        Throwable aggregated = errors.stream().allMatch(error -> error instanceof InvalidResourceException)
+                ? new InvalidResourceException(message)
+                : new RuntimeException(message);
+        errors.forEach(aggregated::addSuppressed);
+
+        return aggregated;
+    }
+
+    private static String mirrorName(KafkaMirrorMaker2MirrorSpec mirror) {
+        return mirror.getSourceCluster() + "->" + mirror.getTargetCluster();
+    }
+
+    private Future<Void> reconcileMirrorMaker2Connectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2MirrorSpec mirror, KafkaMirrorMaker2Cluster mirrorMaker2Cluster, Queue<MirrorConnectorResult> results) {
         String targetClusterAlias = mirror.getTargetCluster();
         String sourceClusterAlias = mirror.getSourceCluster();
         if (targetClusterAlias == null) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("targetCluster property is required"));
+            return invalidMirror(results, new InvalidResourceException("targetCluster property is required"));
         } else if (sourceClusterAlias == null) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("sourceCluster property is required"));
+            return invalidMirror(results, new InvalidResourceException("sourceCluster property is required"));
         }
         List<KafkaMirrorMaker2ClusterSpec> clusters = ModelUtils.asListOrEmptyList(mirrorMaker2.getSpec().getClusters());
         Map<String, KafkaMirrorMaker2ClusterSpec> clusterMap = clusters.stream()
@@ -368,17 +527,15 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
             .collect(Collectors.toMap(KafkaMirrorMaker2ClusterSpec::getAlias, Function.identity()));
 
         if (!clusterMap.containsKey(targetClusterAlias)) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("targetCluster with alias " + mirror.getTargetCluster() + " cannot be found in the list of clusters at spec.clusters"));
+            return invalidMirror(results, new InvalidResourceException("targetCluster with alias " + mirror.getTargetCluster() + " cannot be found in the list of clusters at spec.clusters"));
         } else if (!clusterMap.containsKey(sourceClusterAlias)) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("sourceCluster with alias " + mirror.getSourceCluster() + " cannot be found in the list of clusters at spec.clusters"));
+            return invalidMirror(results, new InvalidResourceException("sourceCluster with alias " + mirror.getSourceCluster() + " cannot be found in the list of clusters at spec.clusters"));
         }
 
         return CompositeFuture.join(MIRRORMAKER2_CONNECTORS.entrySet().stream()
                     .filter(entry -> entry.getValue().apply(mirror) != null) // filter out non-existent connectors
                     .map(entry -> {
-                        String connectorName = sourceClusterAlias + "->" + targetClusterAlias + entry.getKey();
+                        String connectorName = mirrorName(mirror) + entry.getKey();
                         String className = MIRRORMAKER2_CONNECTOR_PACKAGE + entry.getKey();
 
                         KafkaMirrorMaker2ConnectorSpec mm2ConnectorSpec = entry.getValue().apply(mirror);
@@ -391,27 +548,17 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
 
                         prepareMirrorMaker2ConnectorConfig(reconciliation, mirror, clusterMap.get(sourceClusterAlias), clusterMap.get(targetClusterAlias), connectorSpec, mirrorMaker2Cluster);
                         LOGGER.debugCr(reconciliation, "creating/updating connector {} config: {}", connectorName, connectorSpec.getConfig());
-                        return reconcileMirrorMaker2Connector(reconciliation, mirrorMaker2, apiClient, host, connectorName, connectorSpec, mirrorMaker2Status);
+                        return reconcileMirrorMaker2Connector(reconciliation, mirrorMaker2, apiClient, host, connectorName, connectorSpec, results);
                     })
                     .collect(Collectors.toList()))
-                    .map((Void) null)
-                    .compose(i -> apiClient.updateConnectLoggers(reconciliation, host, KafkaConnectCluster.REST_API_PORT, desiredLogging, mirrorMaker2Cluster.defaultLogConfig()))
-                    .compose(i -> {
-                        boolean failedConnector = mirrorMaker2Status.getConnectors().stream()
-                                .anyMatch(connector -> {
-                                    @SuppressWarnings({ "rawtypes" })
-                                    Object state = ((Map) connector.getOrDefault("connector", emptyMap())).get("state");
-                                    return "FAILED".equalsIgnoreCase(state.toString());
-                                });
-                        if (failedConnector) {
-                            return Future.failedFuture("One or more connectors are in FAILED state");
-                        } else {
-                            return Future.succeededFuture();
-                        }
-                    })
                     .map((Void) null);
     }
 
+    private static Future<Void> invalidMirror(Queue<MirrorConnectorResult> results, InvalidResourceException error) {
+        results.add(new MirrorConnectorResult(null, null, error));
+        return Future.succeededFuture();
+    }
+
     @SuppressWarnings("deprecation")
     private static void prepareMirrorMaker2ConnectorConfig(Reconciliation reconciliation, KafkaMirrorMaker2MirrorSpec mirror, KafkaMirrorMaker2ClusterSpec sourceCluster, KafkaMirrorMaker2ClusterSpec targetCluster, KafkaConnectorSpec connectorSpec, KafkaMirrorMaker2Cluster mirrorMaker2Cluster) {
         Map<String, Object> config = connectorSpec.getConfig();
@@ -564,25 +711,27 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
         return securityProtocol;
     }
 
-    private Future<Void> reconcileMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaConnectApi apiClient, String host, String connectorName, KafkaConnectorSpec connectorSpec, KafkaMirrorMaker2Status mirrorMaker2Status) {
+    private Future<Void> reconcileMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaConnectApi apiClient, String host, String connectorName, KafkaConnectorSpec connectorSpec, Queue<MirrorConnectorResult> results) {
         return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, mirrorMaker2)
                 .onComplete(result -> {
                     if (result.succeeded()) {
-                        mirrorMaker2Status.addConditions(result.result().conditions);
-                        mirrorMaker2Status.getConnectors().add(result.result().statusResult);
-                        mirrorMaker2Status.getConnectors().sort(new ConnectorsComparatorByName());
-                        var autoRestart = result.result().autoRestart;
-                        if (autoRestart != null) {
-                            autoRestart.setConnectorName(connectorName);
-                            mirrorMaker2Status.getAutoRestartStatuses().add(autoRestart);
-                            mirrorMaker2Status.getAutoRestartStatuses().sort(Comparator.comparing(AutoRestartStatus::getConnectorName));
-                        }
+                        results.add(new MirrorConnectorResult(connectorName, result.result(), null));
                     } else {
-                        maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2, result.cause());
+                        results.add(new MirrorConnectorResult(connectorName, null, result.cause()));
                     }
                 }).compose(ignored -> Future.succeededFuture());
     }
 
+    /**
+     * Result of the reconciliation of a single MirrorMaker 2.0 connector or of an invalid mirror. The results are
+     * collected while the mirrors are reconciled concurrently and merged into the status afterwards.
+     *
+     * @param connectorName     Name of the connector (or null for invalid mirrors)
+     * @param status            Status and conditions of the connector (or null if the reconciliation failed)
+     * @param error             Error which occurred (or null if the reconciliation succeeded)
+     */
+    private record MirrorConnectorResult(String connectorName, ConnectorStatusAndConditions status, Throwable error) { }
+
     private Future<Void> maybeUpdateMirrorMaker2Status(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, Throwable error) {
         KafkaMirrorMaker2Status status = new KafkaMirrorMaker2Status();
         if (error != null) {
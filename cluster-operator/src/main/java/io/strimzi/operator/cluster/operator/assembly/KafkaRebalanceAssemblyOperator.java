@@ -34,6 +34,7 @@ import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
 import io.strimzi.operator.cluster.model.StatusDiff;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AbstractRebalanceOptions;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AddBrokerOptions;
@@ -74,6 +75,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -148,13 +150,14 @@ import static io.strimzi.operator.common.Annotations.ANNO_STRIMZI_IO_REBALANCE_A
  *    |-----------→|               |                   |
  * </code></pre>
  */
-@SuppressWarnings({"checkstyle:ClassFanOutComplexity"})
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
 public class KafkaRebalanceAssemblyOperator
        extends AbstractOperator<KafkaRebalance, KafkaRebalanceSpec, KafkaRebalanceStatus, AbstractWatchableStatusedNamespacedResourceOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList, Resource<KafkaRebalance>>> {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaRebalanceAssemblyOperator.class.getName());
 
     private static final long REBALANCE_POLLING_TIMER_MS = 5_000;
+    private static final long REBALANCE_MAX_POLLING_TIMER_MS = 60_000;
     private static final int MAX_API_RETRIES = 5;
     protected static final String BROKER_LOAD_KEY = "brokerLoad.json";
     private final CrdOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList> kafkaRebalanceOperator;
@@ -164,6 +167,9 @@ public class KafkaRebalanceAssemblyOperator
     private boolean usingJbodStorage;
 
     private final ConfigMapOperator configMapOperator;
+    private final HttpClientPool cruiseControlHttpClientPool;
+    private final CruiseControlUserTasksPoller userTasksPoller;
+
     /**
      * @param vertx The Vertx instance
      * @param supplier Supplies the operators for different resources
@@ -177,6 +183,8 @@ public class KafkaRebalanceAssemblyOperator
         this.kafkaOperator = supplier.kafkaOperator;
         this.configMapOperator = supplier.configMapOperations;
         this.secretOperations = supplier.secretOperations;
+        this.cruiseControlHttpClientPool = HttpClientPool.shared(vertx, "cruise-control", supplier.metricsProvider);
+        this.userTasksPoller = new CruiseControlUserTasksPoller(vertx, REBALANCE_POLLING_TIMER_MS, REBALANCE_MAX_POLLING_TIMER_MS);
     }
 
     /**
@@ -190,7 +198,7 @@ public class KafkaRebalanceAssemblyOperator
      */
     public CruiseControlApi cruiseControlClientProvider(Secret ccSecret, Secret ccApiSecret,
                                                            boolean apiAuthEnabled, boolean apiSslEnabled) {
-        return new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
+        return new CruiseControlApiImpl(cruiseControlHttpClientPool, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
     }
 
     /**
@@ -224,6 +232,20 @@ public class KafkaRebalanceAssemblyOperator
                             kafkaRebalance.getStatus() != null ? rebalanceStateConditionType(kafkaRebalance.getStatus()) : null,
                             ANNO_STRIMZI_IO_REBALANCE, rawRebalanceAnnotation(kafkaRebalance));
 
+                    if (!isOwned(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())) {
+                        LOGGER.debugCr(reconciliation, "KafkaRebalance {} is not owned by this operator instance and will be ignored", kafkaRebalance.getMetadata().getName());
+                        return;
+                    }
+
+                    if (action == Action.MODIFIED
+                            && kafkaRebalance.getStatus() != null
+                            && kafkaRebalance.getStatus().getSessionId() != null
+                            && rebalanceAnnotation(kafkaRebalance) == KafkaRebalanceAnnotation.stop) {
+                        // An ongoing rebalance holds the lock and checks the annotation only when its task status is
+                        // polled. Polling right away makes sure the stop is not delayed by the backed off interval.
+                        userTasksPoller.pollNow(kafkaRebalance.getStatus().getSessionId());
+                    }
+
                     withLock(reconciliation, LOCK_TIMEOUT_MS,
                         () -> reconcileRebalance(reconciliation, action == Action.DELETED ? null : kafkaRebalance));
                 }
@@ -951,8 +973,9 @@ public class KafkaRebalanceAssemblyOperator
 
     /**
      * This method handles the transition from {@code Rebalancing} state.
-     * It starts a periodic timer in order to check the status of the ongoing rebalance processing on Cruise Control side.
-     * In order to do that, it calls the related Cruise Control REST API about asking the user task status.
+     * It registers the rebalance with the user tasks poller shared by all rebalances using the same Cruise Control instance
+     * in order to check the status of the ongoing rebalance processing on Cruise Control side. The poller asks the related
+     * Cruise Control REST API for the status of all watched user tasks at once.
      * When the rebalance is finished, the next state is {@code Ready}.
      * If the user sets the strimzi.io/rebalance annotation to 'stop', it calls the Cruise Control REST API for stopping the ongoing task
      * and then transitions to the {@code Stopped} state.
@@ -972,109 +995,104 @@ public class KafkaRebalanceAssemblyOperator
                                                                                 KafkaRebalanceAnnotation rebalanceAnnotation) {
         Promise<MapAndStatus<ConfigMap, KafkaRebalanceStatus>> p = Promise.promise();
         if (rebalanceAnnotation == KafkaRebalanceAnnotation.none) {
-            LOGGER.infoCr(reconciliation, "Starting Cruise Control rebalance user task status timer");
+            LOGGER.infoCr(reconciliation, "Starting Cruise Control rebalance user task status polling");
             String sessionId = kafkaRebalance.getStatus().getSessionId();
             AtomicInteger ccApiErrorCount = new AtomicInteger();
-            vertx.setPeriodic(REBALANCE_POLLING_TIMER_MS, t -> {
-                // Check that we have not already failed to contact the API beyond the allowed number of times.
-                if (ccApiErrorCount.get() >= MAX_API_RETRIES) {
-                    vertx.cancelTimer(t);
-                    p.fail(new CruiseControlRestException("Unable to reach Cruise Control API after " + MAX_API_RETRIES + " attempts"));
-                }
+            AtomicReference<CruiseControlUserTasksPoller.Registration> registration = new AtomicReference<>();
+            registration.set(userTasksPoller.register(host, CruiseControl.REST_API_PORT, apiClient, sessionId, taskStatusResult ->
                 kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
                     .onSuccess(currentKafkaRebalance -> {
-                        // Checking that the resource was not deleted between periodic polls
+                        // Checking that the resource was not deleted between polls
                         if (currentKafkaRebalance != null) {
                             // Check resource is in the right state as previous execution might have set the status and completed the future
-                            // Safety check as timer might be called again (from a delayed timer firing)
+                            // Safety check as the handler might be called again (from a poll which was already running)
                             if (state(currentKafkaRebalance) == KafkaRebalanceState.Rebalancing) {
                                 if (rebalanceAnnotation(currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
                                     LOGGER.debugCr(reconciliation, "Stopping current Cruise Control rebalance user task");
-                                    vertx.cancelTimer(t);
+                                    registration.get().cancel();
                                     apiClient.stopExecution(host, CruiseControl.REST_API_PORT)
-                                        .onSuccess(r -> p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, StatusUtils.validate(reconciliation, kafkaRebalance))))
+                                        .onSuccess(r -> p.tryComplete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, StatusUtils.validate(reconciliation, kafkaRebalance))))
                                         .onFailure(e -> {
                                             LOGGER.errorCr(reconciliation, "Cruise Control stopping execution failed", e.getCause());
-                                            p.fail(e.getCause());
+                                            p.tryFail(e.getCause());
                                         });
+                                } else if (taskStatusResult.failed()) {
+                                    LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance task status failed", taskStatusResult.cause());
+                                    // To make sure this error is not just a temporary problem with the network we retry several times.
+                                    // If the number of errors reaches the MAX_API_RETRIES limit then we stop polling and fail the promise.
+                                    if (ccApiErrorCount.incrementAndGet() >= MAX_API_RETRIES) {
+                                        registration.get().cancel();
+                                        p.tryFail(new CruiseControlRestException("Unable to reach Cruise Control API after " + MAX_API_RETRIES + " attempts"));
+                                    }
                                 } else {
-                                    LOGGER.infoCr(reconciliation, "Getting Cruise Control rebalance user task status");
                                     Set<Condition> conditions = StatusUtils.validate(reconciliation, kafkaRebalance);
                                     validateAnnotation(reconciliation, conditions, KafkaRebalanceState.Rebalancing, rebalanceAnnotation(currentKafkaRebalance), kafkaRebalance);
-                                    apiClient.getUserTaskStatus(host, CruiseControl.REST_API_PORT, sessionId)
-                                        .onSuccess(cruiseControlResponse -> {
-                                            JsonObject taskStatusJson = cruiseControlResponse.getJson();
-                                            CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
-                                            switch (taskStatus) {
-                                                case COMPLETED:
-                                                    vertx.cancelTimer(t);
-                                                    LOGGER.infoCr(reconciliation, "Rebalance ({}) is now complete", sessionId);
-                                                    p.complete(buildRebalanceStatus(
-                                                            kafkaRebalance, null, KafkaRebalanceState.Ready, taskStatusJson, conditions));
-                                                    break;
-                                                case COMPLETED_WITH_ERROR:
-                                                    // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
-                                                    //       We may need to propose an upstream PR for this.
-                                                    // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
-                                                    //       details of any issues while rebalancing.
-                                                    LOGGER.errorCr(reconciliation, "Rebalance ({}) optimization proposal has failed to complete", sessionId);
-                                                    vertx.cancelTimer(t);
-                                                    p.complete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady, conditions));
-                                                    break;
-                                                case IN_EXECUTION: // Rebalance is still in progress
-                                                    // We need to check that the status has been updated with the ongoing optimisation proposal
-                                                    // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
-                                                    // proposal was still being prepared (in progress). In that case the rebalance will start when
-                                                    // the proposal is complete but the optimisation proposal summary will be missing.
-                                                    if (currentKafkaRebalance.getStatus().getOptimizationResult() == null ||
-                                                            currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
-                                                        LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is now ready and has been added to the status", sessionId);
-                                                        // Cancel the timer so that the status is returned and updated.
-                                                        vertx.cancelTimer(t);
-                                                        p.complete(buildRebalanceStatus(
-                                                                kafkaRebalance, sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson, conditions));
-                                                    }
-                                                    ccApiErrorCount.set(0);
-                                                    // TODO: Find out if there is any way to check the progress of a rebalance.
-                                                    //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
-                                                    //       We can then update the status at this point.
-                                                    break;
-                                                case ACTIVE: // Rebalance proposal is still being calculated
-                                                    // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
-                                                    // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
-                                                    // check that the optimisation proposal is added to the status on the next reconcile.
-                                                    LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is still being prepared", sessionId);
-                                                    ccApiErrorCount.set(0);
-                                                    break;
-                                                default:
-                                                    LOGGER.errorCr(reconciliation, "Unexpected state {}", taskStatus);
-                                                    vertx.cancelTimer(t);
-                                                    p.fail("Unexpected state " + taskStatus);
-                                                    break;
+                                    JsonObject taskStatusJson = taskStatusResult.result().getJson();
+                                    CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
+                                    switch (taskStatus) {
+                                        case COMPLETED:
+                                            registration.get().cancel();
+                                            LOGGER.infoCr(reconciliation, "Rebalance ({}) is now complete", sessionId);
+                                            p.tryComplete(buildRebalanceStatus(
+                                                    kafkaRebalance, null, KafkaRebalanceState.Ready, taskStatusJson, conditions));
+                                            break;
+                                        case COMPLETED_WITH_ERROR:
+                                            // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
+                                            //       We may need to propose an upstream PR for this.
+                                            // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
+                                            //       details of any issues while rebalancing.
+                                            LOGGER.errorCr(reconciliation, "Rebalance ({}) optimization proposal has failed to complete", sessionId);
+                                            registration.get().cancel();
+                                            p.tryComplete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady, conditions));
+                                            break;
+                                        case IN_EXECUTION: // Rebalance is still in progress
+                                            // We need to check that the status has been updated with the ongoing optimisation proposal
+                                            // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
+                                            // proposal was still being prepared (in progress). In that case the rebalance will start when
+                                            // the proposal is complete but the optimisation proposal summary will be missing.
+                                            if (currentKafkaRebalance.getStatus().getOptimizationResult() == null ||
+                                                    currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
+                                                LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is now ready and has been added to the status", sessionId);
+                                                // Stop the polling so that the status is returned and updated.
+                                                registration.get().cancel();
+                                                p.tryComplete(buildRebalanceStatus(
+                                                        kafkaRebalance, sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson, conditions));
                                             }
-                                        })
-                                        .onFailure(e -> {
-                                            LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance task status failed", e.getCause());
-                                            // To make sure this error is not just a temporary problem with the network we retry several times.
-                                            // If the number of errors pass the MAX_API_ERRORS limit then the period method will fail the promise.
-                                            ccApiErrorCount.getAndIncrement();
-                                        });
+                                            ccApiErrorCount.set(0);
+                                            // TODO: Find out if there is any way to check the progress of a rebalance.
+                                            //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
+                                            //       We can then update the status at this point.
+                                            break;
+                                        case ACTIVE: // Rebalance proposal is still being calculated
+                                            // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
+                                            // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
+                                            // check that the optimisation proposal is added to the status on the next reconcile.
+                                            LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is still being prepared", sessionId);
+                                            ccApiErrorCount.set(0);
+                                            break;
+                                        default:
+                                            LOGGER.errorCr(reconciliation, "Unexpected state {}", taskStatus);
+                                            registration.get().cancel();
+                                            p.tryFail("Unexpected state " + taskStatus);
+                                            break;
+                                    }
                                 }
                             } else {
-                                p.complete(new MapAndStatus<>(null, currentKafkaRebalance.getStatus()));
+                                registration.get().cancel();
+                                p.tryComplete(new MapAndStatus<>(null, currentKafkaRebalance.getStatus()));
                             }
                         } else {
                             LOGGER.warnCr(reconciliation, "Rebalance resource was deleted, rebalancing is still in progress but the status won't be reported");
-                            vertx.cancelTimer(t);
-                            p.complete();
+                            registration.get().cancel();
+                            p.tryComplete();
                         }
                     })
                     .onFailure(e -> {
                         LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance resource failed", e.getCause());
-                        vertx.cancelTimer(t);
-                        p.fail(e.getCause());
-                    });
-            });
+                        registration.get().cancel();
+                        p.tryFail(e.getCause());
+                    })
+            ));
         } else {
             p.complete(new MapAndStatus<>(null, kafkaRebalance.getStatus()));
         }
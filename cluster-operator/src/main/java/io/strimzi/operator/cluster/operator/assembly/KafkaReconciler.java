@@ -47,6 +47,7 @@ import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.MetricsAndLogging;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -71,6 +72,7 @@ import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.KafkaException;
 
@@ -113,6 +115,8 @@ public class KafkaReconciler {
     /* test */ final PlatformFeaturesAvailability pfa;
     private final ImagePullPolicy imagePullPolicy;
     private final List<LocalObjectReference> imagePullSecrets;
+    private final int stepsParallelism;
+    private final MetricsProvider metricsProvider;
 
     private final StatefulSetOperator stsOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
@@ -201,6 +205,8 @@ public class KafkaReconciler {
         this.pfa = pfa;
         this.imagePullPolicy = config.getImagePullPolicy();
         this.imagePullSecrets = config.getImagePullSecrets();
+        this.stepsParallelism = config.getReconciliationStepsParallelism();
+        this.metricsProvider = supplier.metricsProvider;
 
         this.stsOperator = supplier.stsOperations;
         this.strimziPodSetOperator = supplier.strimziPodSetOperator;
@@ -225,7 +231,8 @@ public class KafkaReconciler {
 
     /**
      * The main reconciliation method which triggers the whole reconciliation pipeline. This is the method which is
-     * expected to be called from the outside to trigger the reconciliation.
+     * expected to be called from the outside to trigger the reconciliation. The steps which do not depend on each
+     * other are executed concurrently.
      *
      * @param kafkaStatus   The Kafka Status class for adding conditions to it during the reconciliation
      * @param clock         The clock for supplying the reconciler with the time instant of each reconciliation cycle.
@@ -234,33 +241,38 @@ public class KafkaReconciler {
      * @return              Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(KafkaStatus kafkaStatus, Clock clock)    {
-        return modelWarnings(kafkaStatus)
-                .compose(i -> manualPodCleaning())
-                .compose(i -> networkPolicy())
-                .compose(i -> manualRollingUpdate())
-                .compose(i -> pvcs())
-                .compose(i -> serviceAccount())
-                .compose(i -> initClusterRoleBinding())
-                .compose(i -> scaleDown())
-                .compose(i -> listeners())
-                .compose(i -> certificateSecret(clock))
-                .compose(i -> brokerConfigurationConfigMaps())
-                .compose(i -> jmxSecret())
-                .compose(i -> podDisruptionBudget())
-                .compose(i -> podDisruptionBudgetV1Beta1())
-                .compose(i -> migrateFromStatefulSetToPodSet())
-                .compose(i -> podSet())
-                .compose(i -> rollingUpdate())
-                .compose(i -> scaleUp())
-                .compose(i -> podsReady())
-                .compose(i -> serviceEndpointsReady())
-                .compose(i -> headlessServiceEndpointsReady())
-                .compose(i -> clusterId(kafkaStatus))
-                .compose(i -> deletePersistentClaims())
-                .compose(i -> sharedKafkaConfigurationCleanup())
+        return new ReconcilerStepGraph(reconciliation, "Kafka", stepsParallelism, metricsProvider)
+                .step("modelWarnings", () -> modelWarnings(kafkaStatus))
+                .step("manualPodCleaning", this::manualPodCleaning)
+                .step("networkPolicy", this::networkPolicy)
+                .step("manualRollingUpdate", this::manualRollingUpdate, "manualPodCleaning")
+                .step("pvcs", this::pvcs, "manualPodCleaning")
+                .step("serviceAccount", this::serviceAccount)
+                .step("initClusterRoleBinding", this::initClusterRoleBinding)
+                .step("scaleDown", this::scaleDown, "manualRollingUpdate", "pvcs")
+                .step("listeners", this::listeners, "scaleDown")
+                .step("certificateSecret", () -> certificateSecret(clock), "listeners")
+                .step("brokerConfigurationConfigMaps", this::brokerConfigurationConfigMaps, "listeners")
+                .step("jmxSecret", this::jmxSecret)
+                .step("podDisruptionBudget", this::podDisruptionBudget)
+                .step("podDisruptionBudgetV1Beta1", this::podDisruptionBudgetV1Beta1)
+                // Everything the pods use has to be ready before the StatefulSet migration or the PodSet update
+                .step("migrateFromStatefulSetToPodSet", this::migrateFromStatefulSetToPodSet, "modelWarnings", "networkPolicy",
+                        "serviceAccount", "initClusterRoleBinding", "certificateSecret", "brokerConfigurationConfigMaps", "jmxSecret",
+                        "podDisruptionBudget", "podDisruptionBudgetV1Beta1")
+                .step("podSet", this::podSet, "migrateFromStatefulSetToPodSet")
+                .step("rollingUpdate", this::rollingUpdate, "podSet")
+                .step("scaleUp", this::scaleUp, "rollingUpdate")
+                .step("podsReady", this::podsReady, "scaleUp")
+                .step("serviceEndpointsReady", this::serviceEndpointsReady, "podsReady")
+                .step("headlessServiceEndpointsReady", this::headlessServiceEndpointsReady, "podsReady")
+                .step("clusterId", () -> clusterId(kafkaStatus), "serviceEndpointsReady", "headlessServiceEndpointsReady")
+                .step("deletePersistentClaims", this::deletePersistentClaims, "podsReady")
+                .step("sharedKafkaConfigurationCleanup", this::sharedKafkaConfigurationCleanup, "podsReady")
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(i -> nodePortExternalListenerStatus())
-                .compose(i -> addListenersToKafkaStatus(kafkaStatus));
+                .step("nodePortExternalListenerStatus", this::nodePortExternalListenerStatus, "podsReady")
+                .step("addListenersToKafkaStatus", () -> addListenersToKafkaStatus(kafkaStatus), "clusterId", "nodePortExternalListenerStatus")
+                .execute();
     }
 
     /**
@@ -486,7 +498,7 @@ public class KafkaReconciler {
                             return Future.succeededFuture();
                         } else {
                             List<Map<String, Object>> desiredPods = podSet.getSpec().getPods().stream()
-                                    .filter(pod -> desiredPodNames.contains(PodSetUtils.mapToPod(pod).getMetadata().getName()))
+                                    .filter(pod -> desiredPodNames.contains(PodSetUtils.podName(pod)))
                                     .collect(Collectors.toList());
 
                             StrimziPodSet scaledDownPodSet = new StrimziPodSetBuilder(podSet)
@@ -557,63 +569,115 @@ public class KafkaReconciler {
                     this.logging = kafka.logging().loggingConfiguration(reconciliation, metricsAndLogging.loggingCm());
                     this.loggingHash = Util.hashStub(Util.getLoggingDynamicallyUnmodifiableEntries(logging));
 
-                    List<ConfigMap> desiredConfigMaps = kafka.generatePerBrokerConfigurationConfigMaps(metricsAndLogging, listenerReconciliationResults.advertisedHostnames, listenerReconciliationResults.advertisedPorts);
-                    @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
-                    List<Future> ops = new ArrayList<>(existingConfigMaps.size() + kafka.getReplicas());
+                    return generatePerBrokerConfigurations(metricsAndLogging)
+                            .compose(perBrokerConfigurations -> {
+                                @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
+                                List<Future> ops = new ArrayList<>(existingConfigMaps.size() + kafka.getReplicas());
 
-                    // Delete all existing ConfigMaps which are not desired and are not the shared config map
-                    List<String> desiredNames = new ArrayList<>(desiredConfigMaps.size() + 1);
-                    desiredNames.add(KafkaResources.kafkaMetricsAndLogConfigMapName(reconciliation.name())); // We do not want to delete the shared ConfigMap, so we add it here
-                    desiredNames.addAll(desiredConfigMaps.stream().map(cm -> cm.getMetadata().getName()).toList());
+                                // Delete all existing ConfigMaps which are not desired and are not the shared config map
+                                List<String> desiredNames = new ArrayList<>(perBrokerConfigurations.size() + 1);
+                                desiredNames.add(KafkaResources.kafkaMetricsAndLogConfigMapName(reconciliation.name())); // We do not want to delete the shared ConfigMap, so we add it here
+                                desiredNames.addAll(perBrokerConfigurations.stream().map(config -> config.configMap().getMetadata().getName()).toList());
 
-                    for (ConfigMap cm : existingConfigMaps) {
-                        // We delete the cms not on the desired names list
-                        if (!desiredNames.contains(cm.getMetadata().getName())) {
-                            ops.add(configMapOperator.deleteAsync(reconciliation, reconciliation.namespace(), cm.getMetadata().getName(), true));
-                        }
-                    }
+                                for (ConfigMap cm : existingConfigMaps) {
+                                    // We delete the cms not on the desired names list
+                                    if (!desiredNames.contains(cm.getMetadata().getName())) {
+                                        ops.add(configMapOperator.deleteAsync(reconciliation, reconciliation.namespace(), cm.getMetadata().getName(), true));
+                                    }
+                                }
 
-                    // Create / update the desired config maps
-                    for (ConfigMap cm : desiredConfigMaps) {
-                        String cmName = cm.getMetadata().getName();
-                        int brokerId = ReconcilerUtils.getPodIndexFromPodName(cmName);
-
-                        // The advertised hostname and port might change. If they change, we need to roll the pods.
-                        // Here we collect their hash to trigger the rolling update. For per-broker configuration,
-                        // we need just the advertised hostnames / ports for given broker.
-                        String brokerConfiguration = listenerReconciliationResults.advertisedHostnames
-                                .get(brokerId)
-                                .entrySet()
-                                .stream()
-                                .map(kv -> kv.getKey() + "://" + kv.getValue())
-                                .sorted()
-                                .collect(Collectors.joining(" "));
-                        brokerConfiguration += listenerReconciliationResults.advertisedPorts
-                                .get(brokerId)
-                                .entrySet()
-                                .stream()
-                                .map(kv -> kv.getKey() + "://" + kv.getValue())
-                                .sorted()
-                                .collect(Collectors.joining(" "));
-                        brokerConfiguration += cm.getData().getOrDefault(KafkaCluster.BROKER_LISTENERS_FILENAME, "");
-
-                        // Changes to regular Kafka configuration are handled through the KafkaRoller which decides whether to roll the pod or not
-                        // In addition to that, we have to handle changes to configuration unknown to Kafka -> different plugins (Authorization, Quotas etc.)
-                        // This is captured here with the unknown configurations and the hash is used to roll the pod when it changes
-                        KafkaConfiguration kc = KafkaConfiguration.unvalidated(reconciliation, cm.getData().getOrDefault(KafkaCluster.BROKER_CONFIGURATION_FILENAME, ""));
-
-                        // We store hash of the broker configurations for later use in Pod and in rolling updates
-                        this.brokerConfigurationHash.put(brokerId, Util.hashStub(brokerConfiguration + kc.unknownConfigsWithValues(kafka.getKafkaVersion()).toString()));
-
-                        ops.add(configMapOperator.reconcile(reconciliation, reconciliation.namespace(), cmName, cm));
-                    }
+                                // Create / update the desired config maps
+                                for (PerBrokerConfiguration config : perBrokerConfigurations) {
+                                    // We store hash of the broker configurations for later use in Pod and in rolling updates
+                                    this.brokerConfigurationHash.put(config.brokerId(), config.configurationHash());
+
+                                    ops.add(configMapOperator.reconcile(reconciliation, reconciliation.namespace(), config.configMap().getMetadata().getName(), config.configMap()));
+                                }
 
-                    return CompositeFuture
-                            .join(ops)
-                            .map((Void) null);
+                                return CompositeFuture
+                                        .join(ops)
+                                        .map((Void) null);
+                            });
                 });
     }
 
+    /**
+     * Generates the per-broker ConfigMaps and the hashes of the broker configurations. This can take a noticeable time
+     * for big clusters. So it is done in the shared worker pool instead of the event loop. The metrics configuration
+     * and the part of the broker configuration shared by all brokers are generated and parsed only once. The broker
+     * specific part of the configuration is then generated and hashed in parallel for each broker.
+     *
+     * @param metricsAndLogging     Metrics and Logging configuration
+     *
+     * @return  Future with the list of per-broker configurations ordered by the broker ID
+     */
+    private Future<List<PerBrokerConfiguration>> generatePerBrokerConfigurations(MetricsAndLogging metricsAndLogging) {
+        WorkerExecutor workerExecutor = vertx.createSharedWorkerExecutor("kubernetes-ops-pool");
+        String parsedLogging = logging;
+
+        return workerExecutor.<SharedBrokerConfiguration>executeBlocking(future -> {
+            String sharedConfiguration = kafka.generateSharedBrokerConfiguration();
+
+            future.complete(new SharedBrokerConfiguration(
+                    kafka.metrics().metricsJson(reconciliation, metricsAndLogging.metricsCm()),
+                    sharedConfiguration,
+                    KafkaConfiguration.unvalidated(reconciliation, sharedConfiguration)));
+        }, false).compose(shared -> {
+            @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
+            List<Future> futures = new ArrayList<>(kafka.getReplicas());
+
+            for (int brokerId = 0; brokerId < kafka.getReplicas(); brokerId++) {
+                int id = brokerId;
+                futures.add(workerExecutor.<PerBrokerConfiguration>executeBlocking(future -> future.complete(generatePerBrokerConfiguration(id, shared, parsedLogging)), false));
+            }
+
+            return CompositeFuture.join(futures)
+                    .map(result -> result.<PerBrokerConfiguration>list());
+        });
+    }
+
+    /**
+     * Generates the ConfigMap and the configuration hash of a single broker. This is called from the worker threads,
+     * so it should not modify the state of the reconciler.
+     *
+     * @param brokerId          ID of the broker
+     * @param shared            Configuration shared by all brokers
+     * @param parsedLogging     Logging configuration
+     *
+     * @return  Per-broker configuration with the ConfigMap and the configuration hash
+     */
+    private PerBrokerConfiguration generatePerBrokerConfiguration(int brokerId, SharedBrokerConfiguration shared, String parsedLogging) {
+        String brokerSpecificConfiguration = kafka.generateBrokerSpecificConfiguration(brokerId, listenerReconciliationResults.advertisedHostnames, listenerReconciliationResults.advertisedPorts);
+        ConfigMap cm = kafka.generatePerBrokerConfigurationConfigMap(brokerId, KafkaCluster.joinBrokerConfiguration(brokerSpecificConfiguration, shared.configuration()), shared.metrics(), parsedLogging);
+
+        // The advertised hostname and port might change. If they change, we need to roll the pods.
+        // Here we collect their hash to trigger the rolling update. For per-broker configuration,
+        // we need just the advertised hostnames / ports for given broker.
+        String brokerConfiguration = listenerReconciliationResults.advertisedHostnames
+                .get(brokerId)
+                .entrySet()
+                .stream()
+                .map(kv -> kv.getKey() + "://" + kv.getValue())
+                .sorted()
+                .collect(Collectors.joining(" "));
+        brokerConfiguration += listenerReconciliationResults.advertisedPorts
+                .get(brokerId)
+                .entrySet()
+                .stream()
+                .map(kv -> kv.getKey() + "://" + kv.getValue())
+                .sorted()
+                .collect(Collectors.joining(" "));
+        brokerConfiguration += cm.getData().getOrDefault(KafkaCluster.BROKER_LISTENERS_FILENAME, "");
+
+        // Changes to regular Kafka configuration are handled through the KafkaRoller which decides whether to roll the pod or not
+        // In addition to that, we have to handle changes to configuration unknown to Kafka -> different plugins (Authorization, Quotas etc.)
+        // This is captured here with the unknown configurations and the hash is used to roll the pod when it changes.
+        // Only the broker specific part is parsed here, the shared part was already parsed once for all brokers.
+        KafkaConfiguration kc = KafkaConfiguration.unvalidated(reconciliation, brokerSpecificConfiguration);
+
+        return new PerBrokerConfiguration(brokerId, cm, Util.hashStub(brokerConfiguration + kc.unknownConfigsWithValues(kafka.getKafkaVersion(), shared.parsedConfiguration()).toString()));
+    }
+
     /**
      * This method is used to create or update the config maps required by the brokers. It does not do the cleanup the
      * old shared Config Map used by StatefulSets. That is done only at the end of the reconciliation. However, it would
@@ -1015,4 +1079,22 @@ public class KafkaReconciler {
     public Storage kafkaStorage()   {
         return kafka.getStorage();
     }
+
+    /**
+     * Metrics configuration and the part of the broker configuration shared by all brokers
+     *
+     * @param metrics               Metrics configuration (or null if metrics are not enabled)
+     * @param configuration         Part of the broker configuration shared by all brokers
+     * @param parsedConfiguration   The shared part of the broker configuration parsed only once for all brokers
+     */
+    private record SharedBrokerConfiguration(String metrics, String configuration, KafkaConfiguration parsedConfiguration) { }
+
+    /**
+     * ConfigMap and the configuration hash of a single broker
+     *
+     * @param brokerId              ID of the broker
+     * @param configMap             ConfigMap with the configuration of the broker
+     * @param configurationHash     Hash of the broker configuration used to trigger rolling updates
+     */
+    private record PerBrokerConfiguration(int brokerId, ConfigMap configMap, String configurationHash) { }
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.client.readiness.Readiness;
+import io.strimzi.api.kafka.model.CertSecretSource;
+import io.strimzi.api.kafka.model.CruiseControlResources;
+import io.strimzi.api.kafka.model.ExternalLogging;
+import io.strimzi.api.kafka.model.HasConfigurableLogging;
+import io.strimzi.api.kafka.model.HasConfigurableMetrics;
+import io.strimzi.api.kafka.model.JmxPrometheusExporterMetrics;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaAuthorizationKeycloak;
+import io.strimzi.api.kafka.model.KafkaAuthorizationOpa;
+import io.strimzi.api.kafka.model.KafkaExporterResources;
+import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.api.kafka.model.KafkaSpec;
+import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationOAuth;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Computes the fingerprint of the inputs of a Kafka cluster reconciliation. The fingerprint covers the generation,
+ * labels and annotations of the Kafka custom resource, whether the maintenance time windows are currently satisfied,
+ * and the resource versions of the ConfigMaps, Services, PersistentVolumeClaims, StrimziPodSets, Pods and Deployments
+ * belonging to the cluster. It also covers the resource versions of the Secrets used by the cluster and of the Secrets
+ * and ConfigMaps referenced in the Kafka custom resource, such as the custom listener certificates, the OAuth client
+ * secrets and trusted certificates, or the metrics and logging configurations. The Secrets and the referenced
+ * ConfigMaps are read by name to avoid listing all Secrets in the namespace. When the fingerprint did not change
+ * since the last successful reconciliation, the reconciliation would not change anything and can be skipped.
+ *
+ * Computing the fingerprint also checks the health of the cluster. When some of its Pods or Deployments are not ready,
+ * no fingerprint is returned and a full reconciliation should be done.
+ */
+class KafkaReconciliationFingerprint {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaReconciliationFingerprint.class.getName());
+
+    private KafkaReconciliationFingerprint() { }
+
+    /**
+     * Computes the fingerprint of the reconciliation inputs
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param kafka             The Kafka custom resource
+     * @param supplier          Supplier with Kubernetes Resource Operators
+     * @param clock             Clock used to check the maintenance time windows
+     *
+     * @return  Future with the fingerprint or with null when the cluster is not healthy
+     */
+    @SuppressWarnings({"rawtypes"})
+    static Future<String> compute(Reconciliation reconciliation, Kafka kafka, ResourceOperatorSupplier supplier, Clock clock) {
+        String namespace = reconciliation.namespace();
+        Labels selector = Labels.forStrimziCluster(reconciliation.name()).withStrimziKind(Kafka.RESOURCE_KIND);
+
+        Future<List<Pod>> pods = supplier.podOperations.listAsync(namespace, selector);
+        Future<List<Deployment>> deployments = supplier.deploymentOperations.listAsync(namespace, selector);
+        List<Future> resources = List.of(
+                supplier.configMapOperations.listAsync(namespace, selector),
+                supplier.serviceOperations.listAsync(namespace, selector),
+                supplier.pvcOperations.listAsync(namespace, selector),
+                supplier.strimziPodSetOperator.listAsync(namespace, selector),
+                pods,
+                deployments
+        );
+
+        Map<String, Future<? extends HasMetadata>> namedResources = new TreeMap<>();
+        for (String secretName : secretNames(reconciliation.name(), kafka.getSpec())) {
+            namedResources.put("Secret/" + secretName, supplier.secretOperations.getAsync(namespace, secretName));
+        }
+        for (String configMapName : referencedConfigMapNames(kafka.getSpec())) {
+            namedResources.put("ConfigMap/" + configMapName, supplier.configMapOperations.getAsync(namespace, configMapName));
+        }
+
+        List<Future> all = new ArrayList<>(resources);
+        all.addAll(namedResources.values());
+
+        return CompositeFuture.join(all)
+                .map(i -> {
+                    for (Pod pod : pods.result()) {
+                        if (!Readiness.isPodReady(pod)) {
+                            LOGGER.debugCr(reconciliation, "Pod {} is not ready", pod.getMetadata().getName());
+                            return null;
+                        }
+                    }
+
+                    for (Deployment deployment : deployments.result()) {
+                        if (!isDeploymentReady(deployment)) {
+                            LOGGER.debugCr(reconciliation, "Deployment {} is not ready", deployment.getMetadata().getName());
+                            return null;
+                        }
+                    }
+
+                    StringBuilder inputs = new StringBuilder()
+                            .append("generation=").append(kafka.getMetadata().getGeneration()).append('\n')
+                            .append("labels=").append(sorted(kafka.getMetadata().getLabels())).append('\n')
+                            .append("annotations=").append(sorted(kafka.getMetadata().getAnnotations())).append('\n')
+                            .append("maintenance=").append(Util.isMaintenanceTimeWindowsSatisfied(reconciliation, kafka.getSpec().getMaintenanceTimeWindows(), clock.instant())).append('\n');
+
+                    TreeSet<String> versions = new TreeSet<>();
+                    for (Future resource : resources) {
+                        for (Object item : (List<?>) resource.result()) {
+                            HasMetadata metadata = (HasMetadata) item;
+                            versions.add(item.getClass().getSimpleName() + "/" + metadata.getMetadata().getName() + "@" + metadata.getMetadata().getResourceVersion());
+                        }
+                    }
+                    versions.forEach(version -> inputs.append(version).append('\n'));
+
+                    for (Map.Entry<String, Future<? extends HasMetadata>> resource : namedResources.entrySet()) {
+                        HasMetadata item = resource.getValue().result();
+                        inputs.append("referenced:").append(resource.getKey()).append('@')
+                                .append(item != null ? item.getMetadata().getResourceVersion() : "missing").append('\n');
+                    }
+
+                    return String.format("%040x", new BigInteger(1, Util.sha1Digest(inputs.toString().getBytes(StandardCharsets.UTF_8))));
+                });
+    }
+
+    /**
+     * Collects the names of the Secrets used by the cluster. These are the Secrets managed by the operator and the
+     * Secrets referenced in the Kafka custom resource.
+     *
+     * @param clusterName   Name of the Kafka cluster
+     * @param spec          Spec of the Kafka custom resource
+     *
+     * @return  Set with the Secret names
+     */
+    /* test */ static Set<String> secretNames(String clusterName, KafkaSpec spec) {
+        Set<String> names = new TreeSet<>(List.of(
+                KafkaResources.clusterCaCertificateSecretName(clusterName),
+                KafkaResources.clusterCaKeySecretName(clusterName),
+                KafkaResources.clientsCaCertificateSecretName(clusterName),
+                KafkaResources.clientsCaKeySecretName(clusterName),
+                KafkaResources.kafkaSecretName(clusterName),
+                KafkaResources.zookeeperSecretName(clusterName)
+        ));
+
+        if (spec.getKafka() != null) {
+            if (spec.getKafka().getJmxOptions() != null) {
+                names.add(KafkaResources.kafkaJmxSecretName(clusterName));
+            }
+
+            if (spec.getKafka().getListeners() != null) {
+                for (GenericKafkaListener listener : spec.getKafka().getListeners()) {
+                    if (listener.getConfiguration() != null && listener.getConfiguration().getBrokerCertChainAndKey() != null) {
+                        names.add(listener.getConfiguration().getBrokerCertChainAndKey().getSecretName());
+                    }
+
+                    if (listener.getAuth() instanceof KafkaListenerAuthenticationOAuth oauth) {
+                        if (oauth.getClientSecret() != null) {
+                            names.add(oauth.getClientSecret().getSecretName());
+                        }
+
+                        addCertSecretNames(names, oauth.getTlsTrustedCertificates());
+                    }
+                }
+            }
+
+            if (spec.getKafka().getAuthorization() instanceof KafkaAuthorizationKeycloak keycloak) {
+                addCertSecretNames(names, keycloak.getTlsTrustedCertificates());
+            } else if (spec.getKafka().getAuthorization() instanceof KafkaAuthorizationOpa opa) {
+                addCertSecretNames(names, opa.getTlsTrustedCertificates());
+            }
+        }
+
+        if (spec.getZookeeper() != null && spec.getZookeeper().getJmxOptions() != null) {
+            names.add(KafkaResources.zookeeperJmxSecretName(clusterName));
+        }
+
+        if (spec.getEntityOperator() != null) {
+            names.add(KafkaResources.entityTopicOperatorSecretName(clusterName));
+            names.add(KafkaResources.entityUserOperatorSecretName(clusterName));
+        }
+
+        if (spec.getCruiseControl() != null) {
+            names.add(CruiseControlResources.secretName(clusterName));
+            names.add(CruiseControlResources.apiSecretName(clusterName));
+        }
+
+        if (spec.getKafkaExporter() != null) {
+            names.add(KafkaExporterResources.secretName(clusterName));
+        }
+
+        return names;
+    }
+
+    /**
+     * Collects the names of the metrics and logging ConfigMaps referenced in the Kafka custom resource
+     *
+     * @param spec  Spec of the Kafka custom resource
+     *
+     * @return  Set with the ConfigMap names
+     */
+    /* test */ static Set<String> referencedConfigMapNames(KafkaSpec spec) {
+        Set<String> names = new TreeSet<>();
+
+        addConfigMapNames(names, spec.getKafka());
+        addConfigMapNames(names, spec.getZookeeper());
+        addConfigMapNames(names, spec.getCruiseControl());
+
+        if (spec.getEntityOperator() != null) {
+            addConfigMapNames(names, spec.getEntityOperator().getTopicOperator());
+            addConfigMapNames(names, spec.getEntityOperator().getUserOperator());
+        }
+
+        return names;
+    }
+
+    private static void addCertSecretNames(Set<String> names, List<CertSecretSource> certificates) {
+        if (certificates != null) {
+            certificates.forEach(certificate -> names.add(certificate.getSecretName()));
+        }
+    }
+
+    private static void addConfigMapNames(Set<String> names, Object component) {
+        if (component instanceof HasConfigurableMetrics metrics
+                && metrics.getMetricsConfig() instanceof JmxPrometheusExporterMetrics jmxMetrics
+                && jmxMetrics.getValueFrom() != null
+                && jmxMetrics.getValueFrom().getConfigMapKeyRef() != null) {
+            names.add(jmxMetrics.getValueFrom().getConfigMapKeyRef().getName());
+        }
+
+        if (component instanceof HasConfigurableLogging logging
+                && logging.getLogging() instanceof ExternalLogging externalLogging
+                && externalLogging.getValueFrom() != null
+                && externalLogging.getValueFrom().getConfigMapKeyRef() != null) {
+            names.add(externalLogging.getValueFrom().getConfigMapKeyRef().getName());
+        }
+    }
+
+    private static boolean isDeploymentReady(Deployment deployment) {
+        int replicas = deployment.getSpec() != null && deployment.getSpec().getReplicas() != null ? deployment.getSpec().getReplicas() : 1;
+        int readyReplicas = deployment.getStatus() != null && deployment.getStatus().getReadyReplicas() != null ? deployment.getStatus().getReadyReplicas() : 0;
+
+        return readyReplicas >= replicas;
+    }
+
+    private static Map<String, String> sorted(Map<String, String> map) {
+        return map != null ? new TreeMap<>(map) : Map.of();
+    }
+}
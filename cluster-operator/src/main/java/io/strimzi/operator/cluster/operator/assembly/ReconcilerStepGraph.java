@@ -0,0 +1,251 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Executes the steps of a reconciler based on their declared dependencies. Every step is started as soon as all the
+ * steps it depends on completed successfully. Independent steps therefore run concurrently, up to the configured
+ * maximal parallelism. When some step fails, no new steps are started and the execution fails with the first error
+ * once the steps which are already running complete.
+ *
+ * The dependencies of a step have to be declared before the step itself. That keeps the graph acyclic and makes the
+ * declaration order a valid execution order. With parallelism set to 1, the steps are executed one by one in the
+ * declaration order.
+ *
+ * The time taken by each step is recorded in the strimzi_reconciliation_step_duration timer metric. Once the
+ * execution completes, the total time and the slowest step are logged on INFO level and the time taken by each step
+ * on DEBUG level.
+ */
+class ReconcilerStepGraph {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconcilerStepGraph.class.getName());
+
+    /* test */ static final String STEP_DURATION_METRIC = "strimzi_reconciliation_step_duration";
+
+    private final Reconciliation reconciliation;
+    private final String component;
+    private final int maxParallelism;
+    private final MetricsProvider metricsProvider;
+
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+    private final List<Step> pending = new ArrayList<>();
+    private final Set<String> completed = new HashSet<>();
+    private final Map<String, Long> durationsMs = new LinkedHashMap<>();
+    private final Promise<Void> result = Promise.promise();
+
+    private int running = 0;
+    private boolean started = false;
+    private boolean finished = false;
+    private Throwable failure;
+    private long startNanos;
+
+    /**
+     * Constructs the step graph
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param component         Name of the reconciled component used in the log messages
+     * @param maxParallelism    Maximal number of steps running at the same time
+     */
+    ReconcilerStepGraph(Reconciliation reconciliation, String component, int maxParallelism) {
+        this(reconciliation, component, maxParallelism, null);
+    }
+
+    /**
+     * Constructs the step graph which records the durations of the steps as metrics
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param component         Name of the reconciled component used in the log messages and metric tags
+     * @param maxParallelism    Maximal number of steps running at the same time
+     * @param metricsProvider   Metrics provider used to record the step durations or null to not record them
+     */
+    ReconcilerStepGraph(Reconciliation reconciliation, String component, int maxParallelism, MetricsProvider metricsProvider) {
+        if (maxParallelism < 1) {
+            throw new IllegalArgumentException("The maximal parallelism has to be at least 1");
+        }
+
+        this.reconciliation = reconciliation;
+        this.component = component;
+        this.maxParallelism = maxParallelism;
+        this.metricsProvider = metricsProvider;
+    }
+
+    /**
+     * Adds a step to the graph
+     *
+     * @param name          Name of the step
+     * @param step          Supplier which starts the step and returns a Future which completes when the step is done
+     * @param dependencies  Names of the steps which need to complete before this step is started. They have to be
+     *                      added to the graph before this step.
+     *
+     * @return  This step graph
+     */
+    ReconcilerStepGraph step(String name, Supplier<Future<Void>> step, String... dependencies) {
+        if (started) {
+            throw new IllegalStateException("Steps cannot be added once the execution started");
+        } else if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Step " + name + " is already declared");
+        }
+
+        for (String dependency : dependencies) {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Step " + name + " depends on step " + dependency + " which is not declared before it");
+            }
+        }
+
+        steps.put(name, new Step(name, step, Set.of(dependencies)));
+
+        return this;
+    }
+
+    /**
+     * Executes the steps
+     *
+     * @return  Future which completes when all steps completed or fails with the first error
+     */
+    Future<Void> execute() {
+        synchronized (this) {
+            if (started) {
+                throw new IllegalStateException("The step graph was already executed");
+            }
+
+            started = true;
+            startNanos = System.nanoTime();
+            pending.addAll(steps.values());
+        }
+
+        runReadySteps();
+
+        return result.future();
+    }
+
+    /**
+     * @return  Durations of the completed steps in milliseconds in the order in which they completed
+     */
+    /* test */ synchronized Map<String, Long> durationsMs() {
+        return new LinkedHashMap<>(durationsMs);
+    }
+
+    private void runReadySteps() {
+        List<Step> toRun = new ArrayList<>();
+        boolean finish = false;
+
+        synchronized (this) {
+            if (failure == null) {
+                for (int i = 0; i < pending.size() && running < maxParallelism; i++) {
+                    Step step = pending.get(i);
+
+                    if (completed.containsAll(step.dependencies)) {
+                        pending.remove(i--);
+                        running++;
+                        toRun.add(step);
+                    }
+                }
+            }
+
+            if (running == 0 && !finished && (failure != null || pending.isEmpty())) {
+                finished = true;
+                finish = true;
+            }
+        }
+
+        if (finish) {
+            finish();
+        } else {
+            toRun.forEach(this::run);
+        }
+    }
+
+    private void run(Step step) {
+        long stepStartNanos = System.nanoTime();
+
+        Future<Void> stepResult;
+        try {
+            stepResult = step.step.get();
+        } catch (RuntimeException e) {
+            stepResult = Future.failedFuture(e);
+        }
+
+        stepResult.onComplete(res -> {
+            long durationNanos = System.nanoTime() - stepStartNanos;
+            recordStepDuration(step.name, durationNanos);
+
+            synchronized (this) {
+                running--;
+                durationsMs.put(step.name, durationNanos / 1_000_000L);
+
+                if (res.succeeded()) {
+                    completed.add(step.name);
+                } else if (failure == null) {
+                    LOGGER.debugCr(reconciliation, "{} reconciliation step {} failed", component, step.name, res.cause());
+                    failure = res.cause();
+                }
+            }
+
+            runReadySteps();
+        });
+    }
+
+    private void recordStepDuration(String stepName, long durationNanos) {
+        if (metricsProvider != null) {
+            metricsProvider.timer(STEP_DURATION_METRIC,
+                            "The time the reconciliation step takes to complete",
+                            Tags.of("kind", reconciliation.kind(), "component", component, "step", stepName))
+                    .record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void finish() {
+        long totalMs = (System.nanoTime() - startNanos) / 1_000_000L;
+
+        Map<String, Long> durations = durationsMs();
+        durations.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .ifPresent(slowest -> LOGGER.infoCr(reconciliation, "{} reconciliation steps took {}ms, the slowest step {} took {}ms",
+                        component, totalMs, slowest.getKey(), slowest.getValue()));
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugCr(reconciliation, "{} reconciliation steps took {}ms: {}", component, totalMs, durations.entrySet().stream()
+                    .map(e -> e.getKey() + "=" + e.getValue() + "ms")
+                    .collect(Collectors.joining(", ")));
+        }
+
+        if (failure != null) {
+            result.fail(failure);
+        } else {
+            result.complete();
+        }
+    }
+
+    /**
+     * Single step of the graph
+     */
+    private static class Step {
+        private final String name;
+        private final Supplier<Future<Void>> step;
+        private final Set<String> dependencies;
+
+        Step(String name, Supplier<Future<Void>> step, Set<String> dependencies) {
+            this.name = name;
+            this.step = step;
+            this.dependencies = dependencies;
+        }
+    }
+}
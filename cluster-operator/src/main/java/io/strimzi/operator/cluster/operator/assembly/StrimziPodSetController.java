@@ -9,9 +9,13 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
 import io.fabric8.kubernetes.api.model.LabelSelectorRequirement;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodStatus;
+import io.fabric8.kubernetes.api.model.PodStatusBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
@@ -45,48 +49,76 @@ import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 
 /**
  * StrimziPodSet controller is responsible for managing the StrimziPodSets and the pods which belong to them
  */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling"})
 public class StrimziPodSetController implements Runnable {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StrimziPodSetController.class);
 
+    private static final String ANY_NAMESPACE = "*";
     private static final long DEFAULT_RESYNC_PERIOD = 5 * 60 * 1_000L; // 5 minutes by default
+    // Maximal number of pod creations, patches and deletions issued concurrently for a single StrimziPodSet
+    /* test */ static final int MAX_IN_FLIGHT_POD_OPERATIONS = 10;
+    // Minimal interval between two status updates of the same StrimziPodSet
+    /* test */ static final long MIN_STATUS_UPDATE_INTERVAL_MS = 1_000L;
     private static final LabelSelector POD_LABEL_SELECTOR = new LabelSelectorBuilder()
             .withMatchExpressions(new LabelSelectorRequirement(Labels.STRIMZI_KIND_LABEL, "Exists", null))
             .build();
 
     private final Thread controllerThread;
+    private final List<Thread> workerThreads;
+    private final ExecutorService podOperationsExecutor;
+    private final ScheduledExecutorService delayedStatusUpdatesExecutor;
 
+    private volatile boolean started = false;
     private volatile boolean stop = false;
 
     private final PodOperator podOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
     private final ControllerMetricsHolder metrics;
     private final Optional<LabelSelector> crSelector;
-    private final String watchedNamespace;
+    private final Set<String> watchedNamespaces;
+    private final BiPredicate<String, String> ownership;
 
     private final BlockingQueue<SimplifiedReconciliation> workQueue;
-    private final SharedIndexInformer<Pod> podInformer;
-    private final SharedIndexInformer<StrimziPodSet> strimziPodSetInformer;
-    private final SharedIndexInformer<Kafka> kafkaInformer;
-    private final SharedIndexInformer<KafkaConnect> kafkaConnectInformer;
-    private final SharedIndexInformer<KafkaMirrorMaker2> kafkaMirrorMaker2Informer;
-    private final Lister<Pod> podLister;
-    private final Lister<StrimziPodSet> strimziPodSetLister;
-    private final Lister<Kafka> kafkaLister;
-    private final Lister<KafkaConnect> kafkaConnectLister;
-    private final Lister<KafkaMirrorMaker2> kafkaMirrorMaker2Lister;
+    // StrimziPodSets which are being reconciled and StrimziPodSets which were enqueued again in the meantime. They are
+    // used to make sure that the same StrimziPodSet is never reconciled by two workers at the same time.
+    private final Set<SimplifiedReconciliation> inProgress = new HashSet<>();
+    private final Set<SimplifiedReconciliation> enqueuedWhileInProgress = new HashSet<>();
+
+    // Time (in nanoseconds) of the last status update of the StrimziPodSets and the StrimziPodSets with a delayed
+    // status update. They are used to limit how often is the status of the same StrimziPodSet updated.
+    private final Map<SimplifiedReconciliation, Long> lastStatusUpdates = new ConcurrentHashMap<>();
+    private final Set<SimplifiedReconciliation> delayedStatusUpdates = ConcurrentHashMap.newKeySet();
+
+    // Informers and listers for each watched namespace (or a single set for cluster-wide mode)
+    private final Map<String, NamespaceInformers> informers = new LinkedHashMap<>();
 
     /**
      * Creates the StrimziPodSet controller. The controller should normally exist once per operator for cluster-wide mode
@@ -115,33 +147,90 @@ public class StrimziPodSetController implements Runnable {
             MetricsProvider metricsProvider,
             int podSetControllerWorkQueueSize
     ) {
+        this(Set.of(watchedNamespace), crSelectorLabels, kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, strimziPodSetOperator, podOperator, metricsProvider, podSetControllerWorkQueueSize, 1, (namespace, name) -> true);
+    }
+
+    /**
+     * Creates the StrimziPodSet controller for multiple namespaces. A single controller with a single work queue and a
+     * shared pool of worker threads is used for all watched namespaces. When all namespaces are watched, a single
+     * cluster-wide set of informers is used. Otherwise, one set of informers is created for each watched namespace.
+     * Optionally, the controller can manage only the StrimziPodSets belonging to custom resources owned by this
+     * operator instance. This is used when the custom resources are split into shards between multiple operator
+     * instances.
+     *
+     * @param watchedNamespaces             Namespaces which should be watched. Use * for all namespaces.
+     * @param crSelectorLabels              Selector labels for custom resource managed by this operator instance. This is used
+     *                                      to check that the pods belong to a Kafka cluster matching these labels.
+     * @param kafkaOperator                 Kafka Operator for getting the Kafka custom resources
+     * @param kafkaConnectOperator          KafkaConnect Operator for getting the KafkaConnect custom resources
+     * @param kafkaMirrorMaker2Operator     KafkaMirrorMaker2 Operator for getting the KafkaMirrorMaker2 custom resources
+     * @param strimziPodSetOperator         StrimziPodSet Operator used to manage the StrimziPodSet resources - get them, update
+     *                                      their status etc.
+     * @param podOperator                   Pod operator for managing pods
+     * @param metricsProvider               Metrics provider
+     * @param podSetControllerWorkQueueSize Indicates the size of the StrimziPodSetController work queue
+     * @param workerThreads                 Number of worker threads reconciling the StrimziPodSets
+     * @param ownership                     Predicate which takes the namespace and name of the custom resource and returns
+     *                                      true when the custom resource is owned by this operator instance
+     */
+    public StrimziPodSetController(
+            Set<String> watchedNamespaces,
+            Labels crSelectorLabels,
+            CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator,
+            CrdOperator<KubernetesClient, KafkaConnect, KafkaConnectList> kafkaConnectOperator,
+            CrdOperator<KubernetesClient, KafkaMirrorMaker2, KafkaMirrorMaker2List> kafkaMirrorMaker2Operator,
+            StrimziPodSetOperator strimziPodSetOperator,
+            PodOperator podOperator,
+            MetricsProvider metricsProvider,
+            int podSetControllerWorkQueueSize,
+            int workerThreads,
+            BiPredicate<String, String> ownership
+    ) {
+        this.ownership = ownership;
         this.podOperator = podOperator;
         this.strimziPodSetOperator = strimziPodSetOperator;
         this.crSelector = (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, crSelectorLabels.toMap()));
-        this.watchedNamespace = watchedNamespace;
+        this.watchedNamespaces = watchedNamespaces.contains(ANY_NAMESPACE) ? Set.of(ANY_NAMESPACE) : watchedNamespaces;
         this.workQueue = new ArrayBlockingQueue<>(podSetControllerWorkQueueSize);
 
         // Set up the metrics holder
         this.metrics = new ControllerMetricsHolder("StrimziPodSet", crSelectorLabels != null ? crSelectorLabels : Labels.EMPTY, metricsProvider);
 
-        // Kafka, KafkaConnect and KafkaMirrorMaker2 informers and listers are used to get the CRs quickly.
-        // This is needed for verification of the CR selector labels.
-        this.kafkaInformer = kafkaOperator.informer(watchedNamespace, (crSelectorLabels == null) ? Map.of() : crSelectorLabels.toMap());
-        this.kafkaLister = new Lister<>(kafkaInformer.getIndexer());
-        this.kafkaConnectInformer = kafkaConnectOperator.informer(watchedNamespace, (crSelectorLabels == null) ? Map.of() : crSelectorLabels.toMap());
-        this.kafkaConnectLister = new Lister<>(kafkaConnectInformer.getIndexer());
-        this.kafkaMirrorMaker2Informer = kafkaMirrorMaker2Operator.informer(watchedNamespace, (crSelectorLabels == null) ? Map.of() : crSelectorLabels.toMap());
-        this.kafkaMirrorMaker2Lister = new Lister<>(kafkaMirrorMaker2Informer.getIndexer());
+        for (String namespace : this.watchedNamespaces) {
+            informers.put(namespace, new NamespaceInformers(namespace, crSelectorLabels, kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, strimziPodSetOperator, podOperator));
+        }
 
-        // StrimziPodSet informer and lister is used to get events about StrimziPodSet and get StrimziPodSet quickly
-        this.strimziPodSetInformer = strimziPodSetOperator.informer(watchedNamespace);
-        this.strimziPodSetLister = new Lister<>(strimziPodSetInformer.getIndexer());
+        this.controllerThread = new Thread(this, "StrimziPodSetController");
 
-        // Pod informer and lister is used to get events about pods and get pods quickly
-        this.podInformer = podOperator.informer(watchedNamespace, POD_LABEL_SELECTOR);
-        this.podLister = new Lister<>(podInformer.getIndexer());
+        // The controller thread works as the first worker once the informers are in-sync
+        this.workerThreads = new ArrayList<>(workerThreads - 1);
+        for (int i = 1; i < workerThreads; i++) {
+            this.workerThreads.add(new Thread(this::processWorkQueue, "StrimziPodSetController-worker-" + i));
+        }
 
-        this.controllerThread = new Thread(this, "StrimziPodSetController");
+        this.podOperationsExecutor = podOperationsExecutor(workerThreads * MAX_IN_FLIGHT_POD_OPERATIONS);
+        this.delayedStatusUpdatesExecutor = Executors.newSingleThreadScheduledExecutor(
+                runnable -> new Thread(runnable, "StrimziPodSetController-delayed-status-updates"));
+    }
+
+    /**
+     * Creates the thread pool for the pod operations shared by all workers. Every worker has at most
+     * MAX_IN_FLIGHT_POD_OPERATIONS operations in flight, so the pool does not need more threads than that. The
+     * in-flight permit of an operation is released when the operation completes, which can be shortly before its
+     * thread is returned to the pool. The operations are therefore queued instead of rejected when all threads are
+     * busy. The idle threads are stopped after a minute.
+     *
+     * @param threads   Number of threads in the pool
+     *
+     * @return  Executor for the pod operations
+     */
+    /* test */ static ExecutorService podOperationsExecutor(int threads) {
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> new Thread(runnable, "StrimziPodSetController-pod-operations-" + threadCounter.incrementAndGet()));
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
     }
 
     protected ControllerMetricsHolder metrics()   {
@@ -149,15 +238,17 @@ public class StrimziPodSetController implements Runnable {
     }
 
     protected boolean isSynced() {
-        return podInformer.hasSynced()
-                && strimziPodSetInformer.hasSynced()
-                && kafkaInformer.hasSynced()
-                && kafkaConnectInformer.hasSynced()
-                && kafkaMirrorMaker2Informer.hasSynced();
+        return informers.values().stream().allMatch(NamespaceInformers::isSynced);
     }
 
     protected void startController() {
-        strimziPodSetInformer.addEventHandlerWithResyncPeriod(new ResourceEventHandler<>() {
+        for (NamespaceInformers namespaceInformers : informers.values()) {
+            addEventHandlers(namespaceInformers);
+        }
+    }
+
+    private void addEventHandlers(NamespaceInformers namespaceInformers) {
+        namespaceInformers.strimziPodSetInformer.addEventHandlerWithResyncPeriod(new ResourceEventHandler<>() {
             @Override
             public void onAdd(StrimziPodSet podSet) {
                 if (matchesCrSelector(podSet)) {
@@ -169,7 +260,12 @@ public class StrimziPodSetController implements Runnable {
 
             @Override
             public void onUpdate(StrimziPodSet oldPodSet, StrimziPodSet newPodSet) {
-                enqueueStrimziPodSet(newPodSet, "MODIFIED");
+                if (isStatusOnlyUpdate(oldPodSet, newPodSet)) {
+                    // The status is updated only by this controller => nothing to reconcile
+                    LOGGER.debugOp("StrimziPodSet {} in namespace {} was MODIFIED but only its status changed => ignoring", newPodSet.getMetadata().getName(), newPodSet.getMetadata().getNamespace());
+                } else {
+                    enqueueStrimziPodSet(newPodSet, "MODIFIED");
+                }
             }
 
             @Override
@@ -178,12 +274,14 @@ public class StrimziPodSetController implements Runnable {
                     metrics.resourceCounter(podSet.getMetadata().getNamespace()).decrementAndGet();
                 }
 
+                forgetLastStatusUpdate(new SimplifiedReconciliation(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
+
                 LOGGER.debugOp("StrimziPodSet {} in namespace {} was {}", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), "DELETED");
                 // Nothing to do => garbage collection should take care of things
             }
         }, DEFAULT_RESYNC_PERIOD);
 
-        podInformer.addEventHandlerWithResyncPeriod(new ResourceEventHandler<>() {
+        namespaceInformers.podInformer.addEventHandlerWithResyncPeriod(new ResourceEventHandler<>() {
             @Override
             public void onAdd(Pod pod) {
                 enqueuePod(pod, "ADDED");
@@ -202,11 +300,50 @@ public class StrimziPodSetController implements Runnable {
     }
 
     protected void stopController() {
-        podInformer.stop();
-        strimziPodSetInformer.stop();
-        kafkaInformer.stop();
-        kafkaConnectInformer.stop();
-        kafkaMirrorMaker2Informer.stop();
+        informers.values().forEach(NamespaceInformers::stop);
+        podOperationsExecutor.shutdown();
+        delayedStatusUpdatesExecutor.shutdownNow();
+    }
+
+    /**
+     * Finds the informers and listers for given namespace. In the cluster-wide mode, the same informers and listers
+     * are used for all namespaces.
+     *
+     * @param namespace     Namespace for which the informers should be returned
+     *
+     * @return  Informers and listers for given namespace
+     */
+    private NamespaceInformers informers(String namespace) {
+        NamespaceInformers clusterWide = informers.get(ANY_NAMESPACE);
+        return clusterWide != null ? clusterWide : informers.get(namespace);
+    }
+
+    /**
+     * Checks whether the StrimziPodSet update event was caused only by a status update. The status of the StrimziPodSet
+     * is updated only by this controller, so such events do not need to be reconciled. The spec is compared as well
+     * and not only the generation, because the generation is not always maintained (for example by the mock API
+     * servers). Periodic resync events (with the same resource version) are never considered as status updates.
+     *
+     * @param oldPodSet     StrimziPodSet before the update
+     * @param newPodSet     StrimziPodSet after the update
+     *
+     * @return  True if only the status of the StrimziPodSet changed. False otherwise.
+     */
+    /* test */ static boolean isStatusOnlyUpdate(StrimziPodSet oldPodSet, StrimziPodSet newPodSet) {
+        ObjectMeta oldMetadata = oldPodSet.getMetadata();
+        ObjectMeta newMetadata = newPodSet.getMetadata();
+
+        if (Objects.equals(oldMetadata.getResourceVersion(), newMetadata.getResourceVersion()))   {
+            // Periodic resync
+            return false;
+        }
+
+        return Objects.equals(oldMetadata.getGeneration(), newMetadata.getGeneration())
+                && Objects.equals(oldMetadata.getLabels(), newMetadata.getLabels())
+                && Objects.equals(oldMetadata.getAnnotations(), newMetadata.getAnnotations())
+                && Objects.equals(oldMetadata.getOwnerReferences(), newMetadata.getOwnerReferences())
+                && Objects.equals(oldMetadata.getDeletionTimestamp(), newMetadata.getDeletionTimestamp())
+                && Objects.equals(oldPodSet.getSpec(), newPodSet.getSpec());
     }
 
     /**
@@ -239,7 +376,7 @@ public class StrimziPodSetController implements Runnable {
     private void enqueuePod(Pod pod, String action) {
         LOGGER.debugOp("Pod {} in namespace {} was {}", pod.getMetadata().getName(), pod.getMetadata().getNamespace(), action);
 
-        StrimziPodSet parentPodSet = strimziPodSetLister
+        StrimziPodSet parentPodSet = informers(pod.getMetadata().getNamespace()).strimziPodSetLister
                 .namespace(pod.getMetadata().getNamespace())
                 .list()
                 .stream()
@@ -276,6 +413,11 @@ public class StrimziPodSetController implements Runnable {
 
             if (cr != null
                     && Util.matchesSelector(crSelector, cr)) {
+                if (!ownership.test(cr.getMetadata().getNamespace(), cr.getMetadata().getName())) {
+                    LOGGER.debugOp("StrimziPodSet {} in namespace {} belongs to a custom resource which is not owned by this operator instance", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace());
+                    return false;
+                }
+
                 return true;
             } else {
                 LOGGER.debugOp("StrimziPodSet {} in namespace {} does not belong to a custom resource matching the selector", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace());
@@ -291,10 +433,12 @@ public class StrimziPodSetController implements Runnable {
         String customResourceName = podSet.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
         HasMetadata cr = null;
 
+        NamespaceInformers namespaceInformers = informers(podSet.getMetadata().getNamespace());
+
         switch (podSet.getMetadata().getLabels().get(Labels.STRIMZI_KIND_LABEL)) {
-            case Kafka.RESOURCE_KIND -> cr = kafkaLister.namespace(podSet.getMetadata().getNamespace()).get(customResourceName);
-            case KafkaConnect.RESOURCE_KIND -> cr = kafkaConnectLister.namespace(podSet.getMetadata().getNamespace()).get(customResourceName);
-            case KafkaMirrorMaker2.RESOURCE_KIND -> cr = kafkaMirrorMaker2Lister.namespace(podSet.getMetadata().getNamespace()).get(customResourceName);
+            case Kafka.RESOURCE_KIND -> cr = namespaceInformers.kafkaLister.namespace(podSet.getMetadata().getNamespace()).get(customResourceName);
+            case KafkaConnect.RESOURCE_KIND -> cr = namespaceInformers.kafkaConnectLister.namespace(podSet.getMetadata().getNamespace()).get(customResourceName);
+            case KafkaMirrorMaker2.RESOURCE_KIND -> cr = namespaceInformers.kafkaMirrorMaker2Lister.namespace(podSet.getMetadata().getNamespace()).get(customResourceName);
             default -> LOGGER.warnOp("StrimziPodSet {} belongs to unsupported custom resource kind {}", podSet.getMetadata().getName(), podSet.getMetadata().getLabels().get(Labels.STRIMZI_KIND_LABEL));
         }
 
@@ -324,13 +468,15 @@ public class StrimziPodSetController implements Runnable {
         try {
             String name = reconciliation.name();
             String namespace = reconciliation.namespace();
-            StrimziPodSet podSet = strimziPodSetLister.namespace(namespace).get(name);
+            StrimziPodSet podSet = informers(namespace).strimziPodSetLister.namespace(namespace).get(name);
 
             if (podSet == null) {
                 LOGGER.debugCr(reconciliation, "StrimziPodSet is null => nothing to do");
+                forgetLastStatusUpdate(new SimplifiedReconciliation(namespace, name));
                 metrics.successfulReconciliationsCounter(reconciliation.namespace()).increment();
             } else if (!matchesCrSelector(podSet)) {
                 LOGGER.debugCr(reconciliation, "StrimziPodSet doesn't match the selector => nothing to do");
+                forgetLastStatusUpdate(new SimplifiedReconciliation(namespace, name));
                 metrics.successfulReconciliationsCounter(reconciliation.namespace()).increment();
             } else if (isDeleting(podSet)) {
                 // When the PodSet is deleted, the pod deletion is done by Kubernetes Garbage Collection. When the PodSet
@@ -338,6 +484,7 @@ public class StrimziPodSetController implements Runnable {
                 // owner reference again, we need to check if the PodSet is being deleted and if it is, we leave it to
                 // Kubernetes.
                 LOGGER.infoCr(reconciliation, "StrimziPodSet is deleting => nothing to do");
+                forgetLastStatusUpdate(new SimplifiedReconciliation(namespace, name));
                 metrics.successfulReconciliationsCounter(reconciliation.namespace()).increment();
             } else {
                 LOGGER.infoCr(reconciliation, "StrimziPodSet will be reconciled");
@@ -345,39 +492,53 @@ public class StrimziPodSetController implements Runnable {
                 StrimziPodSetStatus status = new StrimziPodSetStatus();
                 status.setObservedGeneration(podSet.getMetadata().getGeneration());
 
+                PodOperations podOperations = new PodOperations(reconciliation, podOperationsExecutor);
+                PodCounter podCounter = new PodCounter();
+                List<Throwable> errors = new ArrayList<>();
+
                 try {
                     // This has to:
                     // 1) Create missing pods
                     // 2) Modify changed pods if needed (patch owner reference)
                     // 3) Delete scaled down pods
+                    // The pod creations, patches and deletions are issued concurrently.
 
                     // Will be used later to find out if any pod needs to be deleted
                     Set<String> desiredPods = new HashSet<>(podSet.getSpec().getPods().size());
-                    PodCounter podCounter = new PodCounter();
                     podCounter.pods = podSet.getSpec().getPods().size();
 
+                    // The desired pods are decoded only when they need to be created
                     for (Map<String, Object> desiredPod : podSet.getSpec().getPods()) {
-                        Pod pod = PodSetUtils.mapToPod(desiredPod);
-                        desiredPods.add(pod.getMetadata().getName());
+                        desiredPods.add(PodSetUtils.podName(desiredPod));
 
-                        maybeCreateOrPatchPod(reconciliation, pod, ModelUtils.createOwnerReference(podSet, true), podCounter);
+                        maybeCreateOrPatchPod(reconciliation, desiredPod, ModelUtils.createOwnerReference(podSet, true), podCounter, podOperations);
                     }
 
                     // Check if any pods needs to be deleted
-                    removeDeletedPods(reconciliation, podSet.getSpec().getSelector(), desiredPods, podCounter);
+                    removeDeletedPods(reconciliation, podSet.getSpec().getSelector(), desiredPods, podCounter, podOperations);
+                } catch (Exception e) {
+                    errors.add(e);
+                } finally {
+                    // Waits for the pod operations which were already issued and collects their errors
+                    errors.addAll(podOperations.awaitCompletion());
+                }
 
+                if (errors.isEmpty()) {
                     status.setPods(podCounter.pods);
                     status.setReadyPods(podCounter.readyPods);
                     status.setCurrentPods(podCounter.currentPods);
                     metrics.successfulReconciliationsCounter(reconciliation.namespace()).increment();
-                } catch (Exception e) {
-                    LOGGER.errorCr(reconciliation, "StrimziPodSet {} in namespace {} reconciliation failed", reconciliation.name(), reconciliation.namespace(), e);
-                    status.addCondition(StatusUtils.buildConditionFromException("Error", "true", e));
+                } else {
+                    for (Throwable error : errors) {
+                        LOGGER.errorCr(reconciliation, "StrimziPodSet {} in namespace {} reconciliation failed", reconciliation.name(), reconciliation.namespace(), error);
+                        status.addCondition(StatusUtils.buildConditionFromException("Error", "true", error));
+                    }
+
                     metrics.failedReconciliationsCounter(reconciliation.namespace()).increment();
-                } finally {
-                    maybeUpdateStatus(reconciliation, podSet, status);
-                    LOGGER.infoCr(reconciliation, "reconciled");
                 }
+
+                maybeUpdateStatus(reconciliation, podSet, status);
+                LOGGER.infoCr(reconciliation, "reconciled");
             }
         } finally   {
             // Tasks after reconciliation
@@ -386,7 +547,34 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * Updates the status of the StrimziPodSet. The status will be updated only when it changed since last time.
+     * Forgets the time of the last status update of a StrimziPodSet. This is called when the StrimziPodSet is deleted
+     * or when it is not handled by this controller anymore (for example because it does not match the selector
+     * anymore), so that the status update times are not kept for StrimziPodSets which will not be reconciled again.
+     *
+     * @param key   Identifier of the StrimziPodSet
+     */
+    private void forgetLastStatusUpdate(SimplifiedReconciliation key) {
+        lastStatusUpdates.remove(key);
+    }
+
+    /**
+     * Checks whether the time of the last status update is tracked for a StrimziPodSet. This is used in tests.
+     *
+     * @param namespace     Namespace of the StrimziPodSet
+     * @param name          Name of the StrimziPodSet
+     *
+     * @return  True if the time of the last status update is tracked. False otherwise.
+     */
+    /* test */ boolean isLastStatusUpdateTracked(String namespace, String name) {
+        return lastStatusUpdates.containsKey(new SimplifiedReconciliation(namespace, name));
+    }
+
+    /**
+     * Updates the status of the StrimziPodSet. The status will be updated only when it changed since last time. To
+     * avoid too many status updates (for example during rolling updates), the status of the same StrimziPodSet is
+     * updated at most once per MIN_STATUS_UPDATE_INTERVAL_MS. When the status changes sooner, the update is delayed: the
+     * StrimziPodSet is enqueued again once the interval passes and the status from that reconciliation is written.
+     * That way, the final status is always written.
      *
      * @param reconciliation    Reconciliation in which this is executed
      * @param podSet            Original pod set with the current status
@@ -394,21 +582,41 @@ public class StrimziPodSetController implements Runnable {
      */
     private void maybeUpdateStatus(Reconciliation reconciliation, StrimziPodSet podSet, StrimziPodSetStatus desiredStatus) {
         if (!new StatusDiff(podSet.getStatus(), desiredStatus).isEmpty())  {
+            SimplifiedReconciliation key = new SimplifiedReconciliation(reconciliation.namespace(), reconciliation.name());
+            Long lastStatusUpdate = lastStatusUpdates.get(key);
+            long sinceLastStatusUpdateMs = lastStatusUpdate != null ? (System.nanoTime() - lastStatusUpdate) / 1_000_000L : Long.MAX_VALUE;
+
+            if (sinceLastStatusUpdateMs < MIN_STATUS_UPDATE_INTERVAL_MS) {
+                if (delayedStatusUpdates.add(key)) {
+                    LOGGER.debugCr(reconciliation, "Status of StrimziPodSet {} in namespace {} was updated {}ms ago => delaying the status update", reconciliation.name(), reconciliation.namespace(), sinceLastStatusUpdateMs);
+                    delayedStatusUpdatesExecutor.schedule(() -> {
+                        delayedStatusUpdates.remove(key);
+                        enqueue(key);
+                    }, MIN_STATUS_UPDATE_INTERVAL_MS - sinceLastStatusUpdateMs, TimeUnit.MILLISECONDS);
+                } else {
+                    LOGGER.debugCr(reconciliation, "Status update of StrimziPodSet {} in namespace {} is already delayed", reconciliation.name(), reconciliation.namespace());
+                }
+
+                return;
+            }
+
             try {
                 LOGGER.debugCr(reconciliation, "Updating status of StrimziPodSet {} in namespace {}", reconciliation.name(), reconciliation.namespace());
-                StrimziPodSet latestPodSet = strimziPodSetLister.namespace(reconciliation.namespace()).get(reconciliation.name());
+                StrimziPodSet latestPodSet = informers(reconciliation.namespace()).strimziPodSetLister.namespace(reconciliation.namespace()).get(reconciliation.name());
                 if (latestPodSet != null) {
                     StrimziPodSet updatedPodSet = new StrimziPodSetBuilder(latestPodSet)
                             .withStatus(desiredStatus)
                             .build();
 
                     strimziPodSetOperator.client().inNamespace(reconciliation.namespace()).resource(updatedPodSet).updateStatus();
+                    lastStatusUpdates.put(key, System.nanoTime());
                 }
             } catch (KubernetesClientException e)   {
                 if (e.getCode() == 409) {
                     LOGGER.debugCr(reconciliation, "StrimziPodSet {} in namespace {} changed while trying to update status", reconciliation.name(), reconciliation.namespace());
                 } else if (e.getCode() == 404) {
                     LOGGER.debugCr(reconciliation, "StrimziPodSet {} in namespace {} was deleted while trying to update status", reconciliation.name(), reconciliation.namespace());
+                    forgetLastStatusUpdate(key);
                 } else {
                     LOGGER.errorCr(reconciliation, "Failed to update status of StrimziPodSet {} in namespace {}", reconciliation.name(), reconciliation.namespace(), e);
                 }
@@ -418,48 +626,47 @@ public class StrimziPodSetController implements Runnable {
 
     /**
      * Creates missing pod defined in the StrimziPodSet. If the pod already exists, it checks the owner reference and if
-     * needed adds it to the Pod.
+     * needed adds it to the Pod. The pod creations, patches and deletions are issued using the pod operations and
+     * might not be completed when this method returns.
      *
      * @param reconciliation    Reconciliation in which this is executed
-     * @param pod               Pod which should be checked and created if needed
+     * @param desiredPod        Pod which should be checked and created if needed in its Map representation used in
+     *                          the StrimziPodSet
      * @param owner             The OwnerReference which should be set to the pod
      * @param podCounter        Pod Counter used to count pods for the status
+     * @param podOperations     Pod operations used to issue the pod creations, patches and deletions
+     *
+     * @throws InterruptedException     When interrupted while waiting for the in-flight pod operations
      */
-    private void maybeCreateOrPatchPod(Reconciliation reconciliation, Pod pod, OwnerReference owner, PodCounter podCounter)    {
-        Pod currentPod = podLister.namespace(reconciliation.namespace()).get(pod.getMetadata().getName());
+    private void maybeCreateOrPatchPod(Reconciliation reconciliation, Map<String, Object> desiredPod, OwnerReference owner, PodCounter podCounter, PodOperations podOperations) throws InterruptedException {
+        String podName = PodSetUtils.podName(desiredPod);
+        Pod currentPod = informers(reconciliation.namespace()).podLister.namespace(reconciliation.namespace()).get(podName);
 
         if (currentPod == null) {
             // Pod does not exist => we create it
-            LOGGER.debugCr(reconciliation, "Creating pod {} in namespace {}", pod.getMetadata().getName(), reconciliation.namespace());
+            LOGGER.debugCr(reconciliation, "Creating pod {} in namespace {}", podName, reconciliation.namespace());
+            Pod pod = PodSetUtils.mapToPod(desiredPod);
             pod.getMetadata().setOwnerReferences(List.of(owner));
-            podOperator.client().inNamespace(reconciliation.namespace()).resource(pod).create();
+            podOperations.submit("creation of pod " + podName, () -> podOperator.client().inNamespace(reconciliation.namespace()).resource(pod).create());
         } else {
             if (PodSetUtils.isInTerminalState(currentPod))  {
                 // The Pods might reach a terminal state of Succeeded or Failed in some situations such as node failures
                 // The controller detects these states and deletes such pods. Another reconciliation triggered by the
                 // deletion will recreate it.
-                LOGGER.debugCr(reconciliation, "Pod {} in namespace {} reached terminal phase {} => deleting it", currentPod.getMetadata().getName(), reconciliation.namespace(), currentPod.getStatus().getPhase());
-                podOperator.client().inNamespace(reconciliation.namespace()).resource(currentPod).withPropagationPolicy(DeletionPropagation.BACKGROUND).delete();
+                LOGGER.debugCr(reconciliation, "Pod {} in namespace {} reached terminal phase {} => deleting it", podName, reconciliation.namespace(), currentPod.getStatus().getPhase());
+                podOperations.submit("deletion of pod " + podName, () -> podOperator.client().inNamespace(reconciliation.namespace()).resource(currentPod).withPropagationPolicy(DeletionPropagation.BACKGROUND).delete());
             } else if (ModelUtils.hasOwnerReference(currentPod, owner))    {
-                LOGGER.debugCr(reconciliation, "Pod {} in namespace {} already exists => nothing to do right now", pod.getMetadata().getName(), reconciliation.namespace());
+                LOGGER.debugCr(reconciliation, "Pod {} in namespace {} already exists => nothing to do right now", podName, reconciliation.namespace());
             } else  {
-                LOGGER.debugCr(reconciliation, "Pod {} in namespace {} is missing owner reference => patching it", currentPod.getMetadata().getName(), reconciliation.namespace());
-                Pod podWithOwnerReference = new PodBuilder(currentPod).build();
-
-                if (podWithOwnerReference.getMetadata().getOwnerReferences() != null)   {
-                    podWithOwnerReference.getMetadata().getOwnerReferences().add(owner);
-                } else {
-                    podWithOwnerReference.getMetadata().setOwnerReferences(List.of(owner));
-                }
-
-                podOperator.client().inNamespace(reconciliation.namespace()).withName(pod.getMetadata().getName()).patch(PatchContext.of(PatchType.JSON), podWithOwnerReference);
+                LOGGER.debugCr(reconciliation, "Pod {} in namespace {} is missing owner reference => patching it", podName, reconciliation.namespace());
+                podOperations.submit("patching of pod " + podName, () -> patchOwnerReference(reconciliation, podName, owner));
             }
 
             if (Readiness.isPodReady(currentPod))   {
                 podCounter.readyPods++;
             }
 
-            if (!PodRevision.hasChanged(currentPod, pod))    {
+            if (!PodRevision.hasChanged(currentPod, desiredPod))    {
                 podCounter.currentPods++;
             }
 
@@ -469,15 +676,42 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * Removes the pods which were removed from the StrimziPodSet but which match the selector.
+     * Adds the owner reference to the pod.
+     *
+     * @param reconciliation    Reconciliation in which this is executed
+     * @param podName           Name of the pod which should be patched
+     * @param owner             The OwnerReference which should be set to the pod
+     */
+    private void patchOwnerReference(Reconciliation reconciliation, String podName, OwnerReference owner) {
+        // The cached pod is stripped of the fields not used by the controller. So the complete pod is used to
+        // build the patch.
+        Pod podWithOwnerReference = podOperator.client().inNamespace(reconciliation.namespace()).withName(podName).get();
+
+        if (podWithOwnerReference != null) {
+            if (podWithOwnerReference.getMetadata().getOwnerReferences() != null) {
+                podWithOwnerReference.getMetadata().getOwnerReferences().add(owner);
+            } else {
+                podWithOwnerReference.getMetadata().setOwnerReferences(List.of(owner));
+            }
+
+            podOperator.client().inNamespace(reconciliation.namespace()).withName(podName).patch(PatchContext.of(PatchType.JSON), podWithOwnerReference);
+        }
+    }
+
+    /**
+     * Removes the pods which were removed from the StrimziPodSet but which match the selector. The pod deletions are
+     * issued using the pod operations and might not be completed when this method returns.
      *
      * @param reconciliation    Reconciliation in which this is executed
      * @param selector          LabelSelector to match the pods belonging to this StrimziPodSet
      * @param desiredPodNames   Collection with names of the pods which are still desired
      * @param podCounter        Pod Counter used to count pods for the status
+     * @param podOperations     Pod operations used to issue the pod deletions
+     *
+     * @throws InterruptedException     When interrupted while waiting for the in-flight pod operations
      */
-    private void removeDeletedPods(Reconciliation reconciliation, LabelSelector selector, Collection<String> desiredPodNames, PodCounter podCounter) {
-        Set<String> toBeDeleted = podLister
+    private void removeDeletedPods(Reconciliation reconciliation, LabelSelector selector, Collection<String> desiredPodNames, PodCounter podCounter, PodOperations podOperations) throws InterruptedException {
+        Set<String> toBeDeleted = informers(reconciliation.namespace()).podLister
                 .namespace(reconciliation.namespace())
                 .list()
                 .stream()
@@ -488,33 +722,40 @@ public class StrimziPodSetController implements Runnable {
 
         for (String podName : toBeDeleted)  {
             LOGGER.debugCr(reconciliation, "Deleting pod {} in namespace {}", podName, reconciliation.namespace());
-            podOperator.client().inNamespace(reconciliation.namespace()).withName(podName).withPropagationPolicy(DeletionPropagation.BACKGROUND).delete();
+            podOperations.submit("deletion of pod " + podName, () -> podOperator.client().inNamespace(reconciliation.namespace()).withName(podName).withPropagationPolicy(DeletionPropagation.BACKGROUND).delete());
             podCounter.pods++;
         }
     }
 
     /**
      * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
-     * the queue and enqueues the new event only if it is not there yet.
+     * the queue and enqueues the new event only if it is not there yet. When the same resource is being reconciled
+     * right now, it is enqueued again only once the running reconciliation completes.
      *
      * @param reconciliation    Reconciliation identifier
      */
     private void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!workQueue.contains(reconciliation)) {
-            LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.name);
-            workQueue.add(reconciliation);
-        } else {
-            metrics().alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
-            LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.name);
+        synchronized (inProgress) {
+            if (inProgress.contains(reconciliation)) {
+                LOGGER.debugOp("StrimziPodSet {} in namespace {} is being reconciled => it will be enqueued once the reconciliation completes", reconciliation.name, reconciliation.namespace);
+                enqueuedWhileInProgress.add(reconciliation);
+            } else if (!workQueue.contains(reconciliation)) {
+                LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.name);
+                workQueue.add(reconciliation);
+            } else {
+                metrics().alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
+                LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.name);
+            }
         }
     }
 
     /**
-     * The run loop of the controller thread. It picks reconciliations from the work queue and executes them.
+     * The run loop of the controller thread. It starts the informers, waits for them to sync and then starts the
+     * worker threads and works as one of them.
      */
     @Override
     public void run() {
-        LOGGER.infoOp("Starting StrimziPodSet controller for namespace {}", watchedNamespace);
+        LOGGER.infoOp("Starting StrimziPodSet controller for namespaces {}", watchedNamespaces);
         startController();
 
         LOGGER.infoOp("Waiting for informers to sync");
@@ -524,38 +765,232 @@ public class StrimziPodSetController implements Runnable {
 
         LOGGER.infoOp("Informers are in-sync");
 
+        workerThreads.forEach(Thread::start);
+        processWorkQueue();
+
+        for (Thread worker : workerThreads) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                LOGGER.debugOp("StrimziPodSet Controller was interrupted while waiting for the workers to stop", e);
+            }
+        }
+
+        LOGGER.infoOp("Stopping StrimziPodSet controller");
+
+        stopController();
+    }
+
+    /**
+     * The run loop of the worker threads. It picks reconciliations from the work queue and executes them. Each
+     * StrimziPodSet is reconciled by at most one worker at any given time.
+     */
+    private void processWorkQueue() {
         while (!stop) {
             try {
                 LOGGER.debugOp("Waiting for next event from work queue");
-                Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
+                SimplifiedReconciliation next = workQueue.take();
+
+                synchronized (inProgress) {
+                    if (!inProgress.add(next)) {
+                        // Another worker is reconciling the same StrimziPodSet => enqueue it again once it completes
+                        enqueuedWhileInProgress.add(next);
+                        continue;
+                    }
+                }
+
+                try {
+                    reconcile(next.toReconciliation());
+                } finally {
+                    boolean enqueueAgain;
+
+                    synchronized (inProgress) {
+                        inProgress.remove(next);
+                        enqueueAgain = enqueuedWhileInProgress.remove(next);
+                    }
+
+                    if (enqueueAgain) {
+                        enqueue(next);
+                    }
+                }
             } catch (InterruptedException e)    {
                 LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
             } catch (Exception e)   {
                 LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
             }
         }
+    }
 
-        LOGGER.infoOp("Stopping StrimziPodSet controller");
+    /**
+     * Starts the controller: this method creates a new thread in which the controller will run. When the controller is
+     * shared by multiple Cluster Operator verticles, only the first call starts it.
+     */
+    public synchronized void start()  {
+        if (!started) {
+            LOGGER.infoOp("Starting the StrimziPodSet controller");
+            started = true;
+            controllerThread.start();
+        }
+    }
 
-        stopController();
+    /**
+     * Stops the controller: this method sets the stop flag and interrupt the run loop. When the controller is shared
+     * by multiple Cluster Operator verticles, only the first call stops it.
+     */
+    public synchronized void stop()  {
+        if (!stop) {
+            LOGGER.infoOp("Requesting the StrimziPodSet controller to stop");
+            this.stop = true;
+            controllerThread.interrupt();
+            workerThreads.forEach(Thread::interrupt);
+        }
     }
 
     /**
-     * Starts the controller: this method creates a new thread in which the controller will run
+     * Strips the Pod of the fields which are not used by the controller before it is stored in the informer cache. The
+     * controller uses only the metadata (name, labels, annotations, owner references etc.), the phase and the
+     * conditions of the Pod. The Pod spec, the managed fields and the container statuses are usually the biggest parts
+     * of the Pod and are not kept in the cache.
+     *
+     * @param pod   Pod received from the Kubernetes API
+     *
+     * @return  New Pod with only the fields used by the controller
      */
-    public void start()  {
-        LOGGER.infoOp("Starting the StrimziPodSet controller");
-        controllerThread.start();
+    /* test */ static Pod cachedPod(Pod pod) {
+        ObjectMeta metadata = new ObjectMetaBuilder(pod.getMetadata()).build();
+        metadata.setManagedFields(null);
+
+        PodStatus status = pod.getStatus() == null ? null : new PodStatusBuilder()
+                .withPhase(pod.getStatus().getPhase())
+                .withConditions(pod.getStatus().getConditions())
+                .build();
+
+        return new PodBuilder()
+                .withMetadata(metadata)
+                .withStatus(status)
+                .build();
     }
 
     /**
-     * Stops the controller: this method sets the stop flag and interrupt the run loop
+     * Informers and listers for a single watched namespace (or for all namespaces in the cluster-wide mode)
      */
-    public void stop()  {
-        LOGGER.infoOp("Requesting the StrimziPodSet controller to stop");
-        this.stop = true;
-        controllerThread.interrupt();
+    private static class NamespaceInformers {
+        private final SharedIndexInformer<Pod> podInformer;
+        private final SharedIndexInformer<StrimziPodSet> strimziPodSetInformer;
+        private final SharedIndexInformer<Kafka> kafkaInformer;
+        private final SharedIndexInformer<KafkaConnect> kafkaConnectInformer;
+        private final SharedIndexInformer<KafkaMirrorMaker2> kafkaMirrorMaker2Informer;
+        private final Lister<Pod> podLister;
+        private final Lister<StrimziPodSet> strimziPodSetLister;
+        private final Lister<Kafka> kafkaLister;
+        private final Lister<KafkaConnect> kafkaConnectLister;
+        private final Lister<KafkaMirrorMaker2> kafkaMirrorMaker2Lister;
+
+        NamespaceInformers(
+                String namespace,
+                Labels crSelectorLabels,
+                CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator,
+                CrdOperator<KubernetesClient, KafkaConnect, KafkaConnectList> kafkaConnectOperator,
+                CrdOperator<KubernetesClient, KafkaMirrorMaker2, KafkaMirrorMaker2List> kafkaMirrorMaker2Operator,
+                StrimziPodSetOperator strimziPodSetOperator,
+                PodOperator podOperator
+        ) {
+            // Kafka, KafkaConnect and KafkaMirrorMaker2 informers and listers are used to get the CRs quickly.
+            // This is needed for verification of the CR selector labels.
+            this.kafkaInformer = kafkaOperator.informer(namespace, (crSelectorLabels == null) ? Map.of() : crSelectorLabels.toMap());
+            this.kafkaLister = new Lister<>(kafkaInformer.getIndexer());
+            this.kafkaConnectInformer = kafkaConnectOperator.informer(namespace, (crSelectorLabels == null) ? Map.of() : crSelectorLabels.toMap());
+            this.kafkaConnectLister = new Lister<>(kafkaConnectInformer.getIndexer());
+            this.kafkaMirrorMaker2Informer = kafkaMirrorMaker2Operator.informer(namespace, (crSelectorLabels == null) ? Map.of() : crSelectorLabels.toMap());
+            this.kafkaMirrorMaker2Lister = new Lister<>(kafkaMirrorMaker2Informer.getIndexer());
+
+            // StrimziPodSet informer and lister is used to get events about StrimziPodSet and get StrimziPodSet quickly
+            this.strimziPodSetInformer = strimziPodSetOperator.informer(namespace);
+            this.strimziPodSetLister = new Lister<>(strimziPodSetInformer.getIndexer());
+
+            // Pod informer and lister is used to get events about pods and get pods quickly. Only the fields used by
+            // the controller are kept in the cache.
+            this.podInformer = podOperator.informer(namespace, POD_LABEL_SELECTOR, StrimziPodSetController::cachedPod);
+            this.podLister = new Lister<>(podInformer.getIndexer());
+        }
+
+        boolean isSynced() {
+            return podInformer.hasSynced()
+                    && strimziPodSetInformer.hasSynced()
+                    && kafkaInformer.hasSynced()
+                    && kafkaConnectInformer.hasSynced()
+                    && kafkaMirrorMaker2Informer.hasSynced();
+        }
+
+        void stop() {
+            podInformer.stop();
+            strimziPodSetInformer.stop();
+            kafkaInformer.stop();
+            kafkaConnectInformer.stop();
+            kafkaMirrorMaker2Informer.stop();
+        }
+    }
+
+    /**
+     * Pod creations, patches and deletions issued during a single StrimziPodSet reconciliation. The operations are
+     * executed concurrently in the pod operations thread pool, but at most MAX_IN_FLIGHT_POD_OPERATIONS of them are in
+     * flight at the same time. Issuing a new operation blocks until one of the in-flight operations completes.
+     */
+    /* test */ static class PodOperations {
+        private final Reconciliation reconciliation;
+        private final ExecutorService executor;
+        private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT_POD_OPERATIONS);
+        private final List<CompletableFuture<Void>> operations = new ArrayList<>();
+
+        PodOperations(Reconciliation reconciliation, ExecutorService executor) {
+            this.reconciliation = reconciliation;
+            this.executor = executor;
+        }
+
+        /**
+         * Issues the pod operation
+         *
+         * @param description   Description of the operation used in the log messages
+         * @param operation     The operation
+         *
+         * @throws InterruptedException     When interrupted while waiting for the in-flight pod operations
+         */
+        void submit(String description, Runnable operation) throws InterruptedException {
+            inFlight.acquire();
+
+            try {
+                operations.add(CompletableFuture.runAsync(operation, executor)
+                        .whenComplete((ignore, error) -> {
+                            inFlight.release();
+
+                            if (error != null) {
+                                LOGGER.debugCr(reconciliation, "The {} failed", description, error);
+                            }
+                        }));
+            } catch (RuntimeException e) {
+                inFlight.release();
+                throw e;
+            }
+        }
+
+        /**
+         * Waits for all issued operations to complete
+         *
+         * @return  List with the errors of the failed operations
+         */
+        List<Throwable> awaitCompletion() {
+            List<Throwable> errors = new ArrayList<>();
+
+            for (CompletableFuture<Void> operation : operations) {
+                try {
+                    operation.join();
+                } catch (CompletionException e) {
+                    errors.add(e.getCause() != null ? e.getCause() : e);
+                }
+            }
+
+            return errors;
+        }
     }
 
     /**
@@ -0,0 +1,343 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * Pool of shared, long-lived HTTP clients used for talking to the REST APIs of the operands (such as the Kafka Connect
+ * or Cruise Control REST APIs). Unlike {@link HttpClientUtils#withHttpClient(Vertx, HttpClientOptions, BiConsumer)},
+ * the clients are not closed after every request. One client is kept per distinct set of client options and the
+ * Vert.x client itself maintains a keep-alive connection pool per target host and port. So repeated requests to the
+ * same Connect or Cruise Control instance reuse the already open (and for TLS already handshaked) connections.
+ *
+ * Idle connections are closed by the Vert.x client after the keep-alive timeout. Whole clients which have not been
+ * used for a longer time (for example because the Connect cluster was deleted or the Cruise Control certificate
+ * was renewed and the options changed) are evicted and closed by a periodic timer.
+ *
+ * HTTP pipelining is not used. The clients send also non-idempotent requests (such as POST or DELETE) and with
+ * pipelining the requests queued on a connection which fails could be lost or sent again.
+ */
+public class HttpClientPool implements Shareable {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(HttpClientPool.class);
+
+    /**
+     * Maximal number of connections per target host and port
+     */
+    public static final int DEFAULT_MAX_POOL_SIZE = 5;
+
+    /**
+     * Time in seconds after which an idle keep-alive connection is closed
+     */
+    public static final int DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS = 60;
+
+    /**
+     * Time in milliseconds after which a client which has not been used at all is closed and removed from the pool
+     */
+    public static final long DEFAULT_CLIENT_EVICTION_TIMEOUT_MS = 600_000L;
+
+    private static final String METRICS_PREFIX = "strimzi.http.client.pool.";
+    private static final String SHARED_POOLS_MAP = HttpClientPool.class.getName();
+
+    private final Vertx vertx;
+    private final String name;
+    private final long evictionTimeoutMs;
+    private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+
+    private final AtomicInteger clientsGauge;
+    private final Counter requestsCounter;
+    private final Counter clientsCreatedCounter;
+    private final Counter clientsEvictedCounter;
+
+    private long evictionTimerId = -1;
+
+    /**
+     * Constructs the HTTP client pool
+     *
+     * @param vertx             Vert.x instance
+     * @param name              Name of the pool. It is used to tag the metrics.
+     * @param metricsProvider   Metrics provider used to expose the pool metrics. Can be null if no metrics should be
+     *                          exposed.
+     */
+    public HttpClientPool(Vertx vertx, String name, MetricsProvider metricsProvider) {
+        this(vertx, name, metricsProvider, DEFAULT_CLIENT_EVICTION_TIMEOUT_MS);
+    }
+
+    /**
+     * Constructs the HTTP client pool
+     *
+     * @param vertx                 Vert.x instance
+     * @param name                  Name of the pool. It is used to tag the metrics.
+     * @param metricsProvider       Metrics provider used to expose the pool metrics. Can be null if no metrics should be
+     *                              exposed.
+     * @param evictionTimeoutMs     Time in milliseconds after which unused clients are closed
+     */
+    public HttpClientPool(Vertx vertx, String name, MetricsProvider metricsProvider, long evictionTimeoutMs) {
+        this.vertx = vertx;
+        this.name = name;
+        this.evictionTimeoutMs = evictionTimeoutMs;
+
+        if (metricsProvider != null) {
+            Tags tags = Tags.of("pool", name);
+            this.clientsGauge = metricsProvider.gauge(METRICS_PREFIX + "clients", "Number of HTTP clients currently open in the pool", tags);
+            this.requestsCounter = metricsProvider.counter(METRICS_PREFIX + "requests", "Number of operations executed using pooled HTTP clients", tags);
+            this.clientsCreatedCounter = metricsProvider.counter(METRICS_PREFIX + "clients.created", "Number of HTTP clients created by the pool", tags);
+            this.clientsEvictedCounter = metricsProvider.counter(METRICS_PREFIX + "clients.evicted", "Number of idle HTTP clients closed by the pool", tags);
+        } else {
+            this.clientsGauge = new AtomicInteger(0);
+            this.requestsCounter = null;
+            this.clientsCreatedCounter = null;
+            this.clientsEvictedCounter = null;
+        }
+    }
+
+    /**
+     * Returns the pool shared by all users of given Vert.x instance with the same name. The shared pool is created on
+     * the first use and is kept in the Vert.x local shared data. So it is discarded together with its clients and
+     * timers when the Vert.x instance is closed. This is used by the API clients created without an explicit pool.
+     *
+     * @param vertx     Vert.x instance
+     * @param name      Name of the pool
+     *
+     * @return  The shared HTTP client pool
+     */
+    public static HttpClientPool shared(Vertx vertx, String name) {
+        return shared(vertx, name, null);
+    }
+
+    /**
+     * Returns the pool shared by all users of given Vert.x instance with the same name. The shared pool is created on
+     * the first use and is kept in the Vert.x local shared data. So it is discarded together with its clients and
+     * timers when the Vert.x instance is closed. The operators use the shared pools instead of owning their own pools,
+     * so the pools do not need to be closed separately on shutdown.
+     *
+     * @param vertx             Vert.x instance
+     * @param name              Name of the pool
+     * @param metricsProvider   Metrics provider used to expose the pool metrics. It is used only when the pool is
+     *                          created by this call. Can be null if no metrics should be exposed.
+     *
+     * @return  The shared HTTP client pool
+     */
+    public static HttpClientPool shared(Vertx vertx, String name, MetricsProvider metricsProvider) {
+        LocalMap<String, HttpClientPool> pools = vertx.sharedData().getLocalMap(SHARED_POOLS_MAP);
+        return pools.computeIfAbsent(name, n -> new HttpClientPool(vertx, n, metricsProvider));
+    }
+
+    /**
+     * Prepares the client configuration for the given client options. The pool key identifying the client for these
+     * options is computed only once here. So the configuration should be created once and reused for all requests
+     * with the same options instead of creating it for every request.
+     *
+     * @param options   Client options which should be applied. Keep-alive and pool settings are added by the pool.
+     *
+     * @return  The client configuration
+     */
+    public static ClientConfiguration configuration(HttpClientOptions options) {
+        HttpClientOptions pooledOptions = new HttpClientOptions(options)
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS)
+                .setMaxPoolSize(DEFAULT_MAX_POOL_SIZE);
+
+        return new ClientConfiguration(pooledOptions, pooledOptions.toJson().encode());
+    }
+
+    /**
+     * Perform the given operation, which completes the promise, using a pooled HTTP client instance. The client is
+     * shared with other operations using the same client configuration and is not closed once the operation completes.
+     *
+     * @param configuration     Client configuration created using {@link #configuration(HttpClientOptions)}
+     * @param operation         The operation to perform.
+     * @param <T>               The type of the result
+     *
+     * @return A future which is completed with the result performed by the operation
+     */
+    public <T> Future<T> withHttpClient(ClientConfiguration configuration, BiConsumer<HttpClient, Promise<T>> operation) {
+        PooledClient client = acquire(configuration);
+
+        if (requestsCounter != null) {
+            requestsCounter.increment();
+        }
+
+        Promise<T> promise = Promise.promise();
+
+        try {
+            operation.accept(client.httpClient, promise);
+        } catch (RuntimeException e) {
+            promise.tryFail(e);
+        }
+
+        return promise.future()
+                .onComplete(ignore -> release(client));
+    }
+
+    /**
+     * @return  Number of HTTP clients currently held by the pool
+     */
+    public int size() {
+        return clients.size();
+    }
+
+    /**
+     * Closes all clients held by this pool and stops the eviction timer.
+     *
+     * @return  Future which completes when all clients are closed
+     */
+    public synchronized Future<Void> close() {
+        if (evictionTimerId != -1) {
+            vertx.cancelTimer(evictionTimerId);
+            evictionTimerId = -1;
+        }
+
+        @SuppressWarnings({ "rawtypes" }) // Composite future requires raw Future objects
+        List<Future> closeFutures = new ArrayList<>(clients.size());
+        for (String key : clients.keySet()) {
+            PooledClient client = clients.remove(key);
+
+            if (client != null) {
+                closeFutures.add(client.httpClient.close());
+            }
+        }
+        clientsGauge.set(0);
+
+        return CompositeFuture.join(closeFutures).mapEmpty();
+    }
+
+    /**
+     * Gets the client for given configuration (or creates it) and marks it as used. The client is marked as used while
+     * holding the lock of its pool entry. The eviction checks the usage while holding the same lock. So a client cannot
+     * be evicted and closed after it was returned by this method and before it was used.
+     *
+     * @param configuration     Client configuration
+     *
+     * @return  The pooled client marked as used
+     */
+    /* test */ PooledClient acquire(ClientConfiguration configuration) {
+        AtomicBoolean created = new AtomicBoolean(false);
+
+        PooledClient pooledClient = clients.compute(configuration.key, (k, client) -> {
+            if (client == null) {
+                LOGGER.debugOp("Creating new HTTP client in pool {}", name);
+
+                if (clientsCreatedCounter != null) {
+                    clientsCreatedCounter.increment();
+                }
+
+                clientsGauge.incrementAndGet();
+                created.set(true);
+                client = new PooledClient(vertx.createHttpClient(new HttpClientOptions(configuration.options).setMetricsName(name)));
+            }
+
+            client.inFlight.incrementAndGet();
+            client.lastUsed = System.nanoTime();
+
+            return client;
+        });
+
+        if (created.get()) {
+            // Started outside the compute function to not take the pool lock while holding the lock of the pool entry
+            maybeStartEvictionTimer();
+        }
+
+        return pooledClient;
+    }
+
+    /**
+     * Marks the client as no longer used by the operation which acquired it
+     *
+     * @param client    The pooled client
+     */
+    /* test */ void release(PooledClient client) {
+        client.lastUsed = System.nanoTime();
+        client.inFlight.decrementAndGet();
+    }
+
+    private synchronized void maybeStartEvictionTimer() {
+        if (evictionTimerId == -1) {
+            evictionTimerId = vertx.setPeriodic(Math.max(evictionTimeoutMs / 2, 1_000L), id -> evictIdleClients());
+        }
+    }
+
+    /* test */ void evictIdleClients() {
+        long now = System.nanoTime();
+
+        for (String key : clients.keySet()) {
+            AtomicReference<PooledClient> evicted = new AtomicReference<>();
+
+            // The usage is checked while holding the lock of the pool entry to not race with acquiring the client
+            clients.computeIfPresent(key, (k, client) -> {
+                if (client.inFlight.get() == 0
+                        && (now - client.lastUsed) / 1_000_000L >= evictionTimeoutMs) {
+                    evicted.set(client);
+                    return null;
+                } else {
+                    return client;
+                }
+            });
+
+            PooledClient client = evicted.get();
+
+            if (client != null) {
+                LOGGER.debugOp("Closing idle HTTP client in pool {}", name);
+
+                if (clientsEvictedCounter != null) {
+                    clientsEvictedCounter.increment();
+                }
+
+                clientsGauge.decrementAndGet();
+                client.httpClient.close();
+            }
+        }
+    }
+
+    /**
+     * Client options prepared for the pool together with the key identifying the pooled client using them
+     */
+    public static final class ClientConfiguration {
+        private final HttpClientOptions options;
+        private final String key;
+
+        private ClientConfiguration(HttpClientOptions options, String key) {
+            this.options = options;
+            this.key = key;
+        }
+    }
+
+    /**
+     * Shared HTTP client together with its usage tracking
+     */
+    /* test */ static class PooledClient {
+        private final HttpClient httpClient;
+        private final AtomicInteger inFlight = new AtomicInteger(0);
+        private volatile long lastUsed = System.nanoTime();
+
+        PooledClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+        }
+
+        /* test */ HttpClient httpClient() {
+            return httpClient;
+        }
+    }
+}
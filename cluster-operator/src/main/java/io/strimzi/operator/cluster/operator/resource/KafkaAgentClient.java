@@ -0,0 +1,231 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.certs.CertAndKey;
+import io.strimzi.operator.cluster.model.Ca;
+import io.strimzi.operator.cluster.model.DnsNameGenerator;
+import io.strimzi.operator.cluster.model.NodeRef;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.Util;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.PemKeyCertOptions;
+import io.vertx.core.net.PemTrustOptions;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Client for the REST API of the Kafka Agent running inside the Kafka broker pods. The agent serves broker-local data
+ * from the in-memory Yammer metrics of the broker. That makes it much cheaper than the Kafka Admin API calls which
+ * describe all topics and their configurations in the whole cluster. So it is used as a first, cheap check whether the
+ * brokers can be rolled. When the agent data are not available or do not show a fully replicated cluster, the callers
+ * should fall back to the Kafka Admin API.
+ */
+public class KafkaAgentClient {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAgentClient.class);
+
+    /* test */ static final String BROKER_HEALTH_PATH = "/v1/broker-health";
+    private static final int KAFKA_AGENT_PORT = 8443;
+    private static final int REQUEST_TIMEOUT_MS = 5_000;
+    private static final int BROKER_RUNNING_STATE = 3;
+    private static final int BROKER_UNKNOWN_STATE = 127;
+
+    private final Reconciliation reconciliation;
+    private final HttpClientPool httpClientPool;
+    private final HttpClientPool.ClientConfiguration clientConfiguration;
+    private final int port;
+    private final Function<NodeRef, String> hostProvider;
+
+    /**
+     * Constructs the Kafka Agent client
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param httpClientPool        Pool of HTTP clients used to talk to the agents
+     * @param clusterCaCertSecret   Secret with the Cluster CA public key used to trust the broker certificates
+     * @param coKeySecret           Secret with the Cluster Operator certificate and key used for the TLS client authentication
+     */
+    public KafkaAgentClient(Reconciliation reconciliation, HttpClientPool httpClientPool, Secret clusterCaCertSecret, Secret coKeySecret) {
+        this(reconciliation, httpClientPool, clientOptions(clusterCaCertSecret, coKeySecret), KAFKA_AGENT_PORT,
+                node -> DnsNameGenerator.podDnsName(reconciliation.namespace(), KafkaResources.brokersServiceName(reconciliation.name()), node.podName()));
+    }
+
+    /**
+     * Constructs the Kafka Agent client. This constructor is used in tests to connect to a local server.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param httpClientPool    Pool of HTTP clients used to talk to the agents
+     * @param options           HTTP client options
+     * @param port              Port of the Kafka Agent
+     * @param hostProvider      Function returning the hostname of the Kafka Agent for given node
+     */
+    /* test */ KafkaAgentClient(Reconciliation reconciliation, HttpClientPool httpClientPool, HttpClientOptions options, int port, Function<NodeRef, String> hostProvider) {
+        this.reconciliation = reconciliation;
+        this.httpClientPool = httpClientPool;
+        this.clientConfiguration = HttpClientPool.configuration(options);
+        this.port = port;
+        this.hostProvider = hostProvider;
+    }
+
+    private static HttpClientOptions clientOptions(Secret clusterCaCertSecret, Secret coKeySecret) {
+        PemTrustOptions trustOptions = new PemTrustOptions();
+        for (Map.Entry<String, String> entry : clusterCaCertSecret.getData().entrySet()) {
+            if (entry.getKey().endsWith(".crt")) {
+                trustOptions.addCertValue(Buffer.buffer(Base64.getDecoder().decode(entry.getValue())));
+            }
+        }
+
+        CertAndKey coCertKey = Ca.asCertAndKey(coKeySecret, "cluster-operator.key", "cluster-operator.crt", "cluster-operator.p12", "cluster-operator.password");
+        if (coCertKey == null) {
+            throw Util.missingSecretException(coKeySecret.getMetadata().getNamespace(), coKeySecret.getMetadata().getName());
+        }
+
+        return new HttpClientOptions()
+                .setConnectTimeout(REQUEST_TIMEOUT_MS)
+                .setSsl(true)
+                .setVerifyHost(true)
+                .setPemTrustOptions(trustOptions)
+                .setPemKeyCertOptions(new PemKeyCertOptions()
+                        .setCertValue(Buffer.buffer(coCertKey.cert()))
+                        .setKeyValue(Buffer.buffer(coCertKey.key())));
+    }
+
+    /**
+     * Gets the broker health from the Kafka Agent of given node
+     *
+     * @param node  Node from which the health should be collected
+     *
+     * @return  Future with the broker health
+     */
+    public Future<BrokerHealth> brokerHealth(NodeRef node) {
+        String host = hostProvider.apply(node);
+        RequestOptions request = new RequestOptions()
+                .setMethod(HttpMethod.GET)
+                .setHost(host)
+                .setPort(port)
+                .setURI(BROKER_HEALTH_PATH)
+                .setTimeout(REQUEST_TIMEOUT_MS);
+
+        return httpClientPool.withHttpClient(clientConfiguration, (httpClient, result) ->
+                httpClient.request(request)
+                        .compose(req -> req.send())
+                        .compose(response -> {
+                            if (response.statusCode() == 200) {
+                                return response.body().map(buffer -> BrokerHealth.fromJson(buffer.toJsonObject()));
+                            } else {
+                                return Future.failedFuture(new RuntimeException("Unexpected status code " + response.statusCode()
+                                        + " for request to " + host + ":" + port + BROKER_HEALTH_PATH));
+                            }
+                        })
+                        .onComplete(result));
+    }
+
+    /**
+     * Checks whether all brokers are running and all partitions in the cluster are fully replicated. The
+     * under-replicated and under-min-ISR partitions are reported only by the partition leaders and offline partitions
+     * only by the active controller. So the health of all brokers is summed. When all partitions have all their replicas
+     * in the ISR, restarting any single broker keeps every partition with more replicas than its min ISR at or above
+     * the min ISR. That is the same condition as checked by {@link KafkaAvailability}. This is only a cheap first check.
+     * When it returns false, the full check using the Kafka Admin API has to be used instead.
+     *
+     * @param nodes     All nodes of the Kafka cluster
+     *
+     * @return  Future which completes with true if the whole cluster is fully replicated and false otherwise. It
+     *          completes with false as well when the health of any of the brokers could not be collected.
+     */
+    public Future<Boolean> isFullyReplicated(List<NodeRef> nodes) {
+        @SuppressWarnings({ "rawtypes" }) // Composite future requires raw Future objects
+        List<Future> futures = nodes.stream().map(node -> (Future) brokerHealth(node)).toList();
+
+        return CompositeFuture.join(futures)
+                .map(healths -> {
+                    long underReplicated = 0;
+
+                    for (int i = 0; i < nodes.size(); i++) {
+                        BrokerHealth health = healths.resultAt(i);
+
+                        if (!health.isRunning() || !health.hasReplicationMetrics()) {
+                            LOGGER.debugCr(reconciliation, "Broker health of node {} does not allow the Kafka Agent check: {}", nodes.get(i), health);
+                            return false;
+                        }
+
+                        underReplicated += health.underReplicatedPartitions() + health.underMinIsrPartitions() + health.offlinePartitions();
+                    }
+
+                    LOGGER.debugCr(reconciliation, "Kafka Agent reports {} under-replicated or offline partitions", underReplicated);
+                    return underReplicated == 0;
+                })
+                .otherwise(error -> {
+                    LOGGER.debugCr(reconciliation, "Failed to collect the broker health from the Kafka Agents", error);
+                    return false;
+                });
+    }
+
+    /**
+     * Broker-local health data reported by the Kafka Agent. The counts which the broker did not report are set to -1.
+     *
+     * @param brokerState                   State of the broker
+     * @param remainingLogsToRecover        Number of logs which still need to be recovered (or -1 if not recovering)
+     * @param remainingSegmentsToRecover    Number of segments which still need to be recovered (or -1 if not recovering)
+     * @param underReplicatedPartitions     Number of under-replicated partitions led by this broker
+     * @param underMinIsrPartitions         Number of partitions led by this broker which are under their min ISR
+     * @param atMinIsrPartitions            Number of partitions led by this broker which are at their min ISR
+     * @param offlinePartitions             Number of offline partitions (reported only by the active controller)
+     * @param leaderCount                   Number of partitions led by this broker
+     * @param partitionCount                Number of partitions hosted by this broker
+     */
+    public record BrokerHealth(int brokerState, long remainingLogsToRecover, long remainingSegmentsToRecover,
+                               long underReplicatedPartitions, long underMinIsrPartitions, long atMinIsrPartitions,
+                               long offlinePartitions, long leaderCount, long partitionCount) {
+        /**
+         * Parses the broker health from the JSON response of the Kafka Agent
+         *
+         * @param json  JSON response
+         *
+         * @return  The broker health
+         */
+        public static BrokerHealth fromJson(JsonObject json) {
+            JsonObject recoveryState = json.getJsonObject("recoveryState", new JsonObject());
+
+            return new BrokerHealth(
+                    json.getInteger("brokerState", BROKER_UNKNOWN_STATE),
+                    recoveryState.getLong("remainingLogsToRecover", -1L),
+                    recoveryState.getLong("remainingSegmentsToRecover", -1L),
+                    json.getLong("underReplicatedPartitions", -1L),
+                    json.getLong("underMinIsrPartitions", -1L),
+                    json.getLong("atMinIsrPartitions", -1L),
+                    json.getLong("offlinePartitions", -1L),
+                    json.getLong("leaderCount", -1L),
+                    json.getLong("partitionCount", -1L)
+            );
+        }
+
+        /**
+         * @return  True if the broker is running as a broker. False otherwise.
+         */
+        public boolean isRunning() {
+            return brokerState >= BROKER_RUNNING_STATE && brokerState != BROKER_UNKNOWN_STATE;
+        }
+
+        /**
+         * @return  True if the broker reported all metrics needed to decide about the replication of its partitions.
+         *          False otherwise.
+         */
+        public boolean hasReplicationMetrics() {
+            return underReplicatedPartitions >= 0 && underMinIsrPartitions >= 0 && offlinePartitions >= 0;
+        }
+    }
+}
@@ -9,12 +9,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
-import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.kafka.config.model.Scope;
 import io.strimzi.operator.cluster.model.KafkaConfiguration;
@@ -39,6 +37,7 @@ import org.apache.kafka.clients.admin.ConfigEntry;
 public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaBrokerConfigurationDiff.class);
     private static final String PLACE_HOLDER = Pattern.quote("STRIMZI_BROKER_ID");
+    private static final Pattern PLACE_HOLDER_PATTERN = Pattern.compile("\\$\\{" + PLACE_HOLDER + "}");
 
     private final Reconciliation reconciliation;
     private final Collection<AlterConfigOp> diff;
@@ -81,9 +80,13 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
     }
 
     private static void fillPlaceholderValue(Map<String, String> orderedProperties, String value) {
+        String replacement = Matcher.quoteReplacement(value);
+
         orderedProperties.entrySet().forEach(entry -> {
-            String v = entry.getValue().replaceAll("\\$\\{" + PLACE_HOLDER + "}", value);
-            entry.setValue(v);
+            // Most values do not contain any placeholder, so we avoid running the regular expression for them
+            if (entry.getValue().contains("${")) {
+                entry.setValue(PLACE_HOLDER_PATTERN.matcher(entry.getValue()).replaceAll(replacement));
+            }
         });
     }
 
@@ -130,7 +133,9 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
     }
 
     /**
-     * Computes diff between two maps. Entries in IGNORABLE_PROPERTIES are skipped
+     * Computes diff between two maps. Entries in IGNORABLE_PROPERTIES are skipped. Both configurations are sorted by
+     * the property name and compared directly, without converting them to JSON.
+     *
      * @param brokerId id of compared broker
      * @param desired desired configuration, may be null if the related ConfigMap does not exist yet or no changes are required
      * @param brokerConfigs current configuration
@@ -143,64 +148,57 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
         if (brokerConfigs == null || desired == null) {
             return Collections.emptyList();
         }
-        Map<String, String> currentMap;
 
         Collection<AlterConfigOp> updatedCE = new ArrayList<>();
 
-        currentMap = brokerConfigs.entries().stream().collect(
-            Collectors.toMap(
-                ConfigEntry::name,
-                configEntry -> configEntry.value() == null ? "null" : configEntry.value()));
+        Map<String, ConfigEntry> currentMap = new TreeMap<>();
+        for (ConfigEntry entry : brokerConfigs.entries()) {
+            currentMap.put(entry.name(), entry);
+        }
 
         OrderedProperties orderedProperties = new OrderedProperties();
         orderedProperties.addStringPairs(desired);
-        Map<String, String> desiredMap = orderedProperties.asMap();
+        Map<String, String> desiredMap = new TreeMap<>(orderedProperties.asMap());
 
         fillPlaceholderValue(desiredMap, Integer.toString(brokerId));
 
-        JsonNode source = PATCH_MAPPER.valueToTree(currentMap);
-        JsonNode target = PATCH_MAPPER.valueToTree(desiredMap);
-        JsonNode jsonDiff = JsonDiff.asJson(source, target);
+        // Entries which are in the current configuration => they are either updated or removed
+        for (Map.Entry<String, ConfigEntry> current : currentMap.entrySet()) {
+            String name = current.getKey();
+            ConfigEntry entry = current.getValue();
+            String currentValue = entry.value() == null ? "null" : entry.value();
+            String desiredValue = desiredMap.get(name);
 
-        for (JsonNode d : jsonDiff) {
-            String pathValue = d.get("path").asText();
-            String pathValueWithoutSlash = pathValue.substring(1);
-
-            Optional<ConfigEntry> optEntry = brokerConfigs.entries().stream()
-                    .filter(configEntry -> configEntry.name().equals(pathValueWithoutSlash))
-                    .findFirst();
-
-            String op = d.get("op").asText();
-            if (optEntry.isPresent()) {
-                ConfigEntry entry = optEntry.get();
-                if ("remove".equals(op)) {
-                    removeProperty(configModel, updatedCE, pathValueWithoutSlash, entry);
-                } else if ("replace".equals(op)) {
-                    // entry is in the current, desired is updated value
-                    updateOrAdd(entry.name(), configModel, desiredMap, updatedCE);
-                }
-            } else {
-                if ("add".equals(op)) {
-                    // entry is not in the current, it is added
-                    updateOrAdd(pathValueWithoutSlash, configModel, desiredMap, updatedCE);
-                }
+            if (desiredValue == null) {
+                // there is a lot of properties set by default - not having them in desired causes very noisy log output
+                LOGGER.traceCr(reconciliation, "Kafka Broker {} Config Differs : remove {}", brokerId, name);
+                LOGGER.traceCr(reconciliation, "Current Kafka Broker Config path {} has value {}", name, currentValue);
+                removeProperty(configModel, updatedCE, name, entry);
+            } else if (!desiredValue.equals(currentValue)) {
+                logDifference(brokerId, "replace", name, currentValue, desiredValue);
+                updateOrAdd(name, configModel, desiredMap, updatedCE);
             }
+        }
 
-            if ("remove".equals(op)) {
-                // there is a lot of properties set by default - not having them in desired causes very noisy log output
-                LOGGER.traceCr(reconciliation, "Kafka Broker {} Config Differs : {}", brokerId, d);
-                LOGGER.traceCr(reconciliation, "Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                LOGGER.traceCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
-            } else {
-                LOGGER.debugCr(reconciliation, "Kafka Broker {} Config Differs : {}", brokerId, d);
-                LOGGER.debugCr(reconciliation, "Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                LOGGER.debugCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
+        // Entries which are only in the desired configuration => they are added
+        for (Map.Entry<String, String> desiredEntry : desiredMap.entrySet()) {
+            String name = desiredEntry.getKey();
+
+            if (!currentMap.containsKey(name)) {
+                logDifference(brokerId, "add", name, null, desiredEntry.getValue());
+                updateOrAdd(name, configModel, desiredMap, updatedCE);
             }
         }
 
         return updatedCE;
     }
 
+    private void logDifference(int brokerId, String op, String name, String currentValue, String desiredValue) {
+        LOGGER.debugCr(reconciliation, "Kafka Broker {} Config Differs : {} {}", brokerId, op, name);
+        LOGGER.debugCr(reconciliation, "Current Kafka Broker Config path {} has value {}", name, currentValue);
+        LOGGER.debugCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", name, desiredValue);
+    }
+
     private void updateOrAdd(String propertyName, Map<String, ConfigModel> configModel, Map<String, String> desiredMap, Collection<AlterConfigOp> updatedCE) {
         if (!isIgnorableProperty(propertyName)) {
             if (isCustomEntry(propertyName, configModel)) {
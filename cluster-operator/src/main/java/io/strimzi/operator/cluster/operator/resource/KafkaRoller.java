@@ -83,6 +83,8 @@ import static java.util.Collections.singletonList;
  *           i.  Reschedule the restart of this pod by appending it the list
  *           ii. Continue from 1.
  *     5. Otherwise, check whether the pod can be restarted without "impacting availability"
+ *         The Kafka Agents are asked first whether all partitions are fully replicated. Only if they
+ *         cannot confirm it, the full check using the Kafka Admin API is used.
  *         If not then:
  *           i.  Reschedule the restart of this pod by appending it the list
  *           ii. Continue from 1.
@@ -126,6 +128,7 @@ public class KafkaRoller {
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
     private Admin allClient;
+    private KafkaAgentClient kafkaAgentClient;
 
     /**
      * Constructor
@@ -656,6 +659,11 @@ public class KafkaRoller {
 
     private boolean canRoll(NodeRef nodeRef, long timeout, TimeUnit unit, boolean ignoreSslError, RestartContext restartContext)
             throws ForceableProblem, InterruptedException {
+        if (isFullyReplicatedAccordingToKafkaAgents(timeout, unit)) {
+            LOGGER.debugCr(reconciliation, "Kafka Agents report all partitions as fully replicated and pod {} can be rolled", nodeRef);
+            return true;
+        }
+
         try {
             return await(availability(allClient).canRoll(nodeRef.nodeId()), timeout, unit,
                 t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka pods", t));
@@ -765,6 +773,46 @@ public class KafkaRoller {
     protected KafkaAvailability availability(Admin ac) {
         return new KafkaAvailability(reconciliation, ac);
     }
+
+    /**
+     * Creates the Kafka Agent client when it is used for the first time. It is always called from the single roller
+     * thread, so it does not need any synchronization. The client uses the HTTP client pool shared by all rolls of
+     * all Kafka clusters, so the connections to the Kafka Agents are reused and no pool is created for every roll.
+     *
+     * @return  Kafka Agent client
+     */
+    protected KafkaAgentClient kafkaAgentClient() {
+        if (kafkaAgentClient == null) {
+            kafkaAgentClient = new KafkaAgentClient(reconciliation, HttpClientPool.shared(vertx, "kafka-agent"), clusterCaCertSecret, coKeySecret);
+        }
+
+        return kafkaAgentClient;
+    }
+
+    /**
+     * Uses the broker health reported by the Kafka Agents as a cheap first check whether the brokers can be rolled.
+     * Any failure is treated as if the agents could not confirm it, so the caller falls back to the full check using
+     * the Kafka Admin API.
+     *
+     * @param timeout   Timeout for collecting the broker health
+     * @param unit      Unit of the timeout
+     *
+     * @return  True if all partitions are fully replicated according to the Kafka Agents. False otherwise.
+     */
+    private boolean isFullyReplicatedAccordingToKafkaAgents(long timeout, TimeUnit unit) throws InterruptedException {
+        try {
+            KafkaAgentClient agentClient = kafkaAgentClient();
+
+            if (agentClient == null) {
+                return false;
+            }
+
+            return await(agentClient.isFullyReplicated(nodes), timeout, unit, RuntimeException::new);
+        } catch (RuntimeException e) {
+            LOGGER.debugCr(reconciliation, "Failed to check the broker health using the Kafka Agents", e);
+            return false;
+        }
+    }
     
     /**
      * Return true if the given {@code nodeId} is the controller and there are other brokers we might yet have to consider.
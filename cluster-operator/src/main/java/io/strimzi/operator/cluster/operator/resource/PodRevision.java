@@ -14,6 +14,8 @@ import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 
+import java.util.Map;
+
 /**
  * In the future, as we better utilize the StrimziPodSet possibilities and not just replace StatefulSets 1-to-1, the
  * revision might require more complicated setup. That is why this is using separate class, although it currently seems
@@ -46,7 +48,8 @@ public class PodRevision {
 
     /**
      * Compares the current Pod with the desired StrimziPodSet to decide if the desired pod changed and needs to be rolled.
-     * It uses the revision to detect the changes. The desired revision is compared with the current revision.
+     * It uses the revision to detect the changes. The desired revision is compared with the current revision. The
+     * desired pods are not decoded from the StrimziPodSet. Only their name and revision annotation are read.
      *
      * @param currentPod        Current pod
      * @param desiredPodSet    The StrimziPodSet resource with the desired Pods
@@ -54,12 +57,11 @@ public class PodRevision {
      * @return                  True if the revision changed. False otherwise.
      */
     public static boolean hasChanged(Pod currentPod, StrimziPodSet desiredPodSet)   {
-        Pod desiredPod = desiredPodSet
+        Map<String, Object> desiredPod = desiredPodSet
                 .getSpec()
                 .getPods()
                 .stream()
-                .map(pod -> PodSetUtils.mapToPod(pod))
-                .filter(pod -> currentPod.getMetadata().getName().equals(pod.getMetadata().getName()))
+                .filter(pod -> currentPod.getMetadata().getName().equals(PodSetUtils.podName(pod)))
                 .findFirst()
                 .orElse(null);
 
@@ -80,9 +82,24 @@ public class PodRevision {
      * @return                  True if the revision changed. False otherwise.
      */
     public static boolean hasChanged(Pod currentPod, Pod desiredPod)   {
-        String currentRevision = getRevisionFromAnnotations(currentPod);
-        String desiredRevision = getRevisionFromAnnotations(desiredPod);
+        return hasChanged(getRevisionFromAnnotations(currentPod), getRevisionFromAnnotations(desiredPod));
+    }
+
+    /**
+     * Compares the current Pod with the desired Pod in its Map representation used in the StrimziPodSets to decide if
+     * the desired pod changed and needs to be rolled. The desired Pod is not decoded, only its revision annotation is
+     * read from the Map.
+     *
+     * @param currentPod        Current pod
+     * @param desiredPod        Desired pod represented as Map
+     *
+     * @return                  True if the revision changed. False otherwise.
+     */
+    public static boolean hasChanged(Pod currentPod, Map<String, Object> desiredPod)   {
+        return hasChanged(getRevisionFromAnnotations(currentPod), PodSetUtils.podAnnotation(desiredPod, STRIMZI_REVISION_ANNOTATION));
+    }
 
+    private static boolean hasChanged(String currentRevision, String desiredRevision)   {
         if (currentRevision == null && desiredRevision == null) {
             // Both revisions are null => that is weird, but it means they had not changed
             return false;
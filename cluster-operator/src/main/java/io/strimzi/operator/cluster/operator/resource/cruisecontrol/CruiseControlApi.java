@@ -6,6 +6,9 @@ package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
 import io.vertx.core.Future;
 
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Cruise Control REST API interface definition
  */
@@ -88,6 +91,17 @@ public interface CruiseControlApi {
      */
     Future<CruiseControlResponse> getUserTaskStatus(String host, int port, String userTaskID);
 
+    /**
+     *  Get the states of multiple tasks (e.g. rebalances) from the Cruise Control server using a single request.
+     *
+     * @param host The address of the Cruise Control server.
+     * @param port The port the Cruise Control Server is listening on.
+     * @param userTaskIds The unique IDs of the previous rebalance requests or other tasks supported by Cruise Control.
+     * @return A future for the map with the states of the tasks indexed by their IDs. Tasks which are not known to the
+     *         Cruise Control server are not present in the map.
+     */
+    Future<Map<String, CruiseControlResponse>> getUserTasksStatus(String host, int port, Set<String> userTaskIds);
+
     /**
      *  Issue a stop command to the Cruise Control server. This will halt any task (e.g. a rebalance) which is currently
      *  in execution.
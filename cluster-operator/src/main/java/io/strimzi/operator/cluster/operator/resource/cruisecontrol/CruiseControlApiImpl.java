@@ -4,7 +4,7 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
-import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.fabric8.kubernetes.api.model.HTTPHeader;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.operator.cluster.model.CruiseControl;
@@ -18,12 +18,16 @@ import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.PemTrustOptions;
 
 import java.net.ConnectException;
 import java.net.NoRouteToHostException;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -36,15 +40,17 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     public static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1;
     private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
     private static final String STATUS_KEY = "Status";
+    private static final String USER_TASK_ID_KEY = "UserTaskId";
 
-    private final Vertx vertx;
+    private final HttpClientPool httpClientPool;
     private final long idleTimeout;
     private boolean apiSslEnabled;
     private HTTPHeader authHttpHeader;
     private PemTrustOptions pto;
+    private final HttpClientPool.ClientConfiguration clientConfiguration;
 
     /**
-     * Constructor
+     * Constructor using the HTTP client pool shared by all Cruise Control clients of the Vert.x instance
      *
      * @param vertx             Vert.x instance
      * @param idleTimeout       Idle timeout
@@ -54,11 +60,27 @@ public class CruiseControlApiImpl implements CruiseControlApi {
      * @param apiSslEnabled     Flag indicating if TLS is enabled
      */
     public CruiseControlApiImpl(Vertx vertx, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled) {
-        this.vertx = vertx;
+        this(HttpClientPool.shared(vertx, "cruise-control"), idleTimeout, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
+    }
+
+    /**
+     * Constructor using a shared HTTP client pool. The connections to the Cruise Control REST API are kept alive and
+     * reused between the requests, which avoids the repeated TLS handshakes.
+     *
+     * @param httpClientPool    Shared HTTP client pool
+     * @param idleTimeout       Idle timeout
+     * @param ccSecret          Cruise Control Secret
+     * @param ccApiSecret       Cruise Control API Secret
+     * @param apiAuthEnabled    Flag indicating if authentication is enabled
+     * @param apiSslEnabled     Flag indicating if TLS is enabled
+     */
+    public CruiseControlApiImpl(HttpClientPool httpClientPool, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled) {
+        this.httpClientPool = httpClientPool;
         this.idleTimeout = idleTimeout;
         this.apiSslEnabled = apiSslEnabled;
         this.authHttpHeader = getAuthHttpHeader(apiAuthEnabled, ccApiSecret);
         this.pto = new PemTrustOptions().addCertValue(Buffer.buffer(Util.decodeFromSecret(ccSecret, "cruise-control.crt")));
+        this.clientConfiguration = HttpClientPool.configuration(getHttpClientOptions());
     }
 
     @Override
@@ -106,9 +128,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .withParameter(CruiseControlParameters.VERBOSE, String.valueOf(verbose))
                 .build();
 
-        HttpClientOptions options = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(clientConfiguration, (httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -248,9 +268,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .withRebalanceParameters(options)
                 .build();
 
-        HttpClientOptions httpOptions = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(clientConfiguration, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(host, port, path, userTaskId, request, result));
         });
     }
@@ -267,9 +285,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .withAddBrokerParameters(options)
                 .build();
 
-        HttpClientOptions httpOptions = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(clientConfiguration, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(host, port, path, userTaskId, request, result));
         });
     }
@@ -286,9 +302,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .withRemoveBrokerParameters(options)
                 .build();
 
-        HttpClientOptions httpOptions = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(clientConfiguration, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(host, port, path, userTaskId, request, result));
         });
     }
@@ -307,9 +321,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         String path = pathBuilder.build();
 
-        HttpClientOptions options = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(clientConfiguration, (httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -330,38 +342,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                                                 "Error for request: " + host + ":" + port + path + ". Server returned: " +
                                                         json.getString(CC_REST_API_ERROR_KEY)));
                                     }
-                                    JsonObject statusJson = new JsonObject();
-                                    String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
-                                    statusJson.put(STATUS_KEY, taskStatusStr);
-                                    CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
-                                    switch (taskStatus) {
-                                        case ACTIVE:
-                                            // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
-                                            break;
-                                        case IN_EXECUTION:
-                                            // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
-                                            // We handle these in the same way as COMPLETED tasks so we drop down to that case.
-                                        case COMPLETED:
-                                            // Completed tasks will have the original rebalance proposal summary in their original response
-                                            JsonObject originalResponse = (JsonObject) Json.decodeValue(jsonUserTask.getString(
-                                                    CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                            statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
-                                            // Extract the load before/after information for the brokers
-                                            statusJson.put(
-                                                    CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
-                                            statusJson.put(
-                                                    CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
-                                            break;
-                                        case COMPLETED_WITH_ERROR:
-                                            // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
-                                            statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                            break;
-                                        default:
-                                            throw new IllegalStateException("Unexpected user task status: " + taskStatus);
-                                    }
+                                    JsonObject statusJson = userTaskStatusJson(jsonUserTask);
                                     result.complete(new CruiseControlResponse(userTaskID, statusJson));
                                 });
                             } else if (response.result().statusCode() == 500) {
@@ -397,6 +378,87 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
+    @Override
+    @SuppressWarnings("deprecation")
+    public Future<Map<String, CruiseControlResponse>> getUserTasksStatus(String host, int port, Set<String> userTaskIds) {
+        String path = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
+                .withParameter(CruiseControlParameters.JSON, "true")
+                .withParameter(CruiseControlParameters.FETCH_COMPLETE, "true")
+                .withParameter(CruiseControlParameters.USER_TASK_IDS, String.join(",", userTaskIds))
+                .build();
+
+        return httpClientPool.withHttpClient(clientConfiguration, (httpClient, result) -> {
+            httpClient.request(HttpMethod.GET, port, host, path, request -> {
+                if (request.succeeded()) {
+
+                    if (authHttpHeader != null) {
+                        request.result().putHeader(authHttpHeader.getName(), authHttpHeader.getValue());
+                    }
+
+                    request.result().send(response -> {
+                        if (response.succeeded()) {
+                            if (response.result().statusCode() == 200 || response.result().statusCode() == 201) {
+                                response.result().bodyHandler(buffer -> {
+                                    // The pollers wait for this result => unexpected responses have to fail it instead of
+                                    // throwing from the handler and leaving it incomplete
+                                    try {
+                                        JsonObject json = buffer.toJsonObject();
+                                        JsonArray jsonUserTasks = json.getJsonArray("userTasks");
+                                        Map<String, CruiseControlResponse> statuses = new HashMap<>(jsonUserTasks.size());
+
+                                        for (int i = 0; i < jsonUserTasks.size(); i++) {
+                                            JsonObject jsonUserTask = jsonUserTasks.getJsonObject(i);
+                                            String userTaskId = jsonUserTask.getString(USER_TASK_ID_KEY);
+
+                                            // Cruise Control might return also other tasks than those we asked for
+                                            if (userTaskIds.contains(userTaskId)) {
+                                                statuses.put(userTaskId, new CruiseControlResponse(userTaskId, userTaskStatusJson(jsonUserTask)));
+                                            }
+                                        }
+
+                                        result.complete(statuses);
+                                    } catch (RuntimeException e) {
+                                        result.tryFail(new CruiseControlRestException(
+                                                "Unexpected response for request: " + host + ":" + port + path + ": " + e.getMessage()));
+                                    }
+                                });
+                            } else if (response.result().statusCode() == 500) {
+                                response.result().bodyHandler(buffer -> {
+                                    String errorString;
+                                    try {
+                                        JsonObject json = buffer.toJsonObject();
+                                        if (json.containsKey(CC_REST_API_ERROR_KEY)) {
+                                            errorString = json.getString(CC_REST_API_ERROR_KEY);
+                                        } else {
+                                            errorString = json.toString();
+                                        }
+                                    } catch (RuntimeException e) {
+                                        errorString = buffer.toString();
+                                    }
+                                    result.fail(new CruiseControlRestException(
+                                            "Error for request: " + host + ":" + port + path + ". Server returned: " + errorString));
+                                });
+                            } else {
+                                result.fail(new CruiseControlRestException(
+                                        "Unexpected status code " + response.result().statusCode() + " for GET request to " +
+                                                host + ":" + port + path));
+                            }
+                        } else {
+                            result.fail(response.cause());
+                        }
+                    });
+
+                    if (idleTimeout != HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS) {
+                        request.result().setTimeout(idleTimeout * 1000);
+                    }
+
+                } else {
+                    httpExceptionHandler(result, request.cause());
+                }
+            });
+        });
+    }
+
     @Override
     @SuppressWarnings("deprecation")
     public Future<CruiseControlResponse> stopExecution(String host, int port) {
@@ -404,9 +466,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         String path = new PathBuilder(CruiseControlEndpoints.STOP)
                         .withParameter(CruiseControlParameters.JSON, "true").build();
 
-        HttpClientOptions options = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(clientConfiguration, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -447,7 +507,52 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
-    private void httpExceptionHandler(Promise<? extends CruiseControlResponse> result, Throwable t) {
+    /**
+     * Extracts the status of a single user task from the user tasks response.
+     *
+     * @param jsonUserTask  JSON object describing the user task as returned by the user tasks endpoint
+     *
+     * @return  JSON object with the status of the task and for tasks with a rebalance proposal also with its summary
+     *          and broker load
+     */
+    private static JsonObject userTaskStatusJson(JsonObject jsonUserTask) {
+        JsonObject statusJson = new JsonObject();
+        String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
+        statusJson.put(STATUS_KEY, taskStatusStr);
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
+        switch (taskStatus) {
+            case ACTIVE:
+                // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
+                break;
+            case IN_EXECUTION:
+                // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
+                // We handle these in the same way as COMPLETED tasks so we drop down to that case.
+            case COMPLETED:
+                // Completed tasks will have the original rebalance proposal summary in their original response
+                JsonObject originalResponse = (JsonObject) Json.decodeValue(jsonUserTask.getString(
+                        CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
+                // Extract the load before/after information for the brokers
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
+                break;
+            case COMPLETED_WITH_ERROR:
+                // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                break;
+            default:
+                throw new IllegalStateException("Unexpected user task status: " + taskStatus);
+        }
+
+        return statusJson;
+    }
+
+    private void httpExceptionHandler(Promise<?> result, Throwable t) {
         if (t instanceof TimeoutException) {
             // Vert.x throws a NoStackTraceTimeoutException (inherits from TimeoutException) when the request times out
             // so we catch and raise a TimeoutException instead
@@ -74,6 +74,9 @@ public class ClusterOperatorConfigTest {
         assertThat(config.isPodSetReconciliationOnly(), is(false));
         assertThat(config.getPodSecurityProviderClass(), is(ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS));
         assertThat(config.getLeaderElectionConfig(), is(nullValue()));
+        assertThat(config.getReconciliationStepsParallelism(), is(ClusterOperatorConfig.DEFAULT_RECONCILIATION_STEPS_PARALLELISM));
+        assertThat(config.getMaxSkippedReconciliations(), is(ClusterOperatorConfig.DEFAULT_MAX_SKIPPED_RECONCILIATIONS));
+        assertThat(config.getPodSetControllerWorkerThreads(), is(ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKER_THREADS));
     }
 
     @Test
@@ -98,7 +101,8 @@ public class ClusterOperatorConfigTest {
                 false,
                 1024,
                 "operator_name",
-                null, null);
+                null, null,
+                2, 3, 8);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
@@ -106,6 +110,9 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getZkAdminSessionTimeoutMs(), is(20_000));
         assertThat(config.getConnectBuildTimeoutMs(), is(120_000L));
         assertThat(config.getDnsCacheTtlSec(), is(10));
+        assertThat(config.getReconciliationStepsParallelism(), is(2));
+        assertThat(config.getMaxSkippedReconciliations(), is(3));
+        assertThat(config.getPodSetControllerWorkerThreads(), is(8));
     }
 
     @Test
@@ -208,6 +215,22 @@ public class ClusterOperatorConfigTest {
         });
     }
 
+    @Test
+    public void testInvalidReconciliationStepsParallelism() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_RECONCILIATION_STEPS_PARALLELISM, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testInvalidPodSetControllerWorkerThreads() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_POD_SET_CONTROLLER_WORKER_THREADS, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
     @Test
     public void testImagePullPolicyWithEnvVarNotDefined() {
         assertThat(ClusterOperatorConfig.fromMap(ENV_VARS, KafkaVersionTestUtils.getKafkaVersionLookup()).getImagePullPolicy(), is(nullValue()));
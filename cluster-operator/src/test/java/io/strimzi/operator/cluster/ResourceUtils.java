@@ -635,7 +635,8 @@ public class ResourceUtils {
                 false,
                 1024,
                 "cluster-operator-name",
-                ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS, null);
+                ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS, null,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_STEPS_PARALLELISM, 0, ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKER_THREADS);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfig(KafkaVersion.Lookup versions, long operationTimeoutMs) {
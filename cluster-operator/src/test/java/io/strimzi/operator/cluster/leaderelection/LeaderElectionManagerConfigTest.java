@@ -30,6 +30,7 @@ public class LeaderElectionManagerConfigTest {
         assertThat(config.getLeaseDuration().toMillis(), is(15_000L));
         assertThat(config.getRenewDeadline().toMillis(), is(10_000L));
         assertThat(config.getRetryPeriod().toMillis(), is(2_000L));
+        assertThat(config.getShards(), is(0));
     }
 
     @Test
@@ -41,6 +42,7 @@ public class LeaderElectionManagerConfigTest {
         envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_DURATION_MS, "30000");
         envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_RENEW_DEADLINE_MS, "20000");
         envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_RETRY_PERIOD_MS, "5000");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_SHARDS, "8");
 
         LeaderElectionManagerConfig config = LeaderElectionManagerConfig.fromMap(envVars);
 
@@ -50,6 +52,7 @@ public class LeaderElectionManagerConfigTest {
         assertThat(config.getLeaseDuration().toMillis(), is(30_000L));
         assertThat(config.getRenewDeadline().toMillis(), is(20_000L));
         assertThat(config.getRetryPeriod().toMillis(), is(5_000L));
+        assertThat(config.getShards(), is(8));
     }
 
     @Test
@@ -0,0 +1,223 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
+
+@EnableKubernetesMockClient(crud = true)
+public class ShardManagerMockTest {
+    private final static String NAMESPACE = "my-le-namespace";
+    private final static String LEASE_NAME = "my-lease";
+    private final static int SHARDS = 4;
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+
+    @Test
+    public void testShardOfIsStable() {
+        for (int i = 0; i < 100; i++) {
+            int shard = ShardManager.shardOf("my-namespace", "my-cluster-" + i, SHARDS);
+
+            assertThat(shard, lessThan(SHARDS));
+            assertThat(ShardManager.shardOf("my-namespace", "my-cluster-" + i, SHARDS), is(shard));
+        }
+
+        // Negative hash codes are mapped to valid shards as well
+        assertThat(ShardManager.shardOf("polygenelubricants", "", SHARDS), is(Math.floorMod("polygenelubricants/".hashCode(), SHARDS)));
+    }
+
+    @Test
+    public void testShardsAreRebalanced() {
+        MutableClock clock = new MutableClock();
+        List<Set<Integer>> changes = new CopyOnWriteArrayList<>();
+
+        ShardManager sm1 = createShardManager("sm-1", clock);
+        ShardManager sm2 = createShardManager("sm-2", clock);
+        sm1.addShardsChangedListener(changes::add);
+
+        // The first member is alone => it takes all shards
+        sm1.maintainShards();
+        assertThat(sm1.ownedShards(), is(Set.of(0, 1, 2, 3)));
+        assertThat(changes, is(List.of(Set.of(0, 1, 2, 3))));
+        assertThat(sm1.isOwned("my-namespace", "my-cluster"), is(true));
+
+        // The second member joins => it does not get anything until the first member releases its extra shards
+        clock.advance(100);
+        sm2.maintainShards();
+        assertThat(sm2.ownedShards(), is(empty()));
+
+        clock.advance(100);
+        sm1.maintainShards();
+        assertThat(sm1.ownedShards(), is(Set.of(0, 1)));
+
+        clock.advance(100);
+        sm2.maintainShards();
+        assertThat(sm2.ownedShards(), is(Set.of(2, 3)));
+
+        // Every custom resource is owned by exactly one member
+        for (int i = 0; i < 100; i++) {
+            assertThat(sm1.isOwned("my-namespace", "my-cluster-" + i) ^ sm2.isOwned("my-namespace", "my-cluster-" + i), is(true));
+        }
+
+        // The first member stops renewing => its shards expire and the second member takes them over
+        clock.advance(1_100);
+        assertThat(sm1.isOwned("my-namespace", "my-cluster"), is(false));
+        sm2.maintainShards();
+        assertThat(sm2.ownedShards(), is(Set.of(0, 1, 2, 3)));
+    }
+
+    @Test
+    public void testShardsAreReleasedOnStop() {
+        MutableClock clock = new MutableClock();
+        ShardManager sm1 = createShardManager("sm-1", clock);
+        ShardManager sm2 = createShardManager("sm-2", clock);
+
+        sm1.maintainShards();
+        assertThat(sm1.ownedShards(), hasSize(SHARDS));
+
+        // Stopping the manager releases the shards without waiting for them to expire
+        sm1.stop();
+        sm1.run();
+        assertThat(sm1.ownedShards(), is(empty()));
+
+        clock.advance(100);
+        sm2.maintainShards();
+        assertThat(sm2.ownedShards(), is(Set.of(0, 1, 2, 3)));
+    }
+
+    @Test
+    public void testShardIsReleasedAfterReconciliationsInProgress() {
+        MutableClock clock = new MutableClock();
+        ShardManager sm1 = createShardManager("sm-1", clock);
+        ShardManager sm2 = createShardManager("sm-2", clock);
+
+        sm1.maintainShards();
+        assertThat(sm1.ownedShards(), is(Set.of(0, 1, 2, 3)));
+
+        // A reconciliation of a resource from the last shard is in progress
+        String name = resourceInShard(3);
+        assertThat(sm1.startReconciliation("my-namespace", name), is(true));
+
+        clock.advance(100);
+        sm2.maintainShards();
+
+        // The shard above the fair share is drained => no new reconciliations are started, but it is not released yet
+        clock.advance(100);
+        sm1.maintainShards();
+        assertThat(sm1.ownedShards(), is(Set.of(0, 1)));
+        assertThat(sm1.isOwned("my-namespace", name), is(false));
+        assertThat(sm1.startReconciliation("my-namespace", resourceInShard(3)), is(false));
+
+        clock.advance(100);
+        sm2.maintainShards();
+        assertThat(sm2.ownedShards(), is(Set.of(2)));
+
+        // Once the reconciliation completes, the shard is released and taken over by the other member
+        sm1.finishReconciliation("my-namespace", name);
+
+        clock.advance(100);
+        sm1.maintainShards();
+        assertThat(sm1.ownedShards(), is(Set.of(0, 1)));
+
+        clock.advance(100);
+        sm2.maintainShards();
+        assertThat(sm2.ownedShards(), is(Set.of(2, 3)));
+    }
+
+    @Test
+    public void testClockSkewDoesNotExpireLeases() {
+        MutableClock clock1 = new MutableClock();
+        MutableClock clock2 = new MutableClock();
+        // The clock of the second member is one hour ahead
+        clock2.advance(3_600_000);
+
+        ShardManager sm1 = createShardManager("sm-1", clock1);
+        ShardManager sm2 = createShardManager("sm-2", clock2);
+
+        sm1.maintainShards();
+        assertThat(sm1.ownedShards(), is(Set.of(0, 1, 2, 3)));
+
+        // The second member does not consider the first member or its Leases expired based on their timestamps
+        clock2.advance(100);
+        sm2.maintainShards();
+        assertThat(sm2.ownedShards(), is(empty()));
+
+        clock1.advance(200);
+        sm1.maintainShards();
+        assertThat(sm1.ownedShards(), is(Set.of(0, 1)));
+
+        clock2.advance(200);
+        sm2.maintainShards();
+        assertThat(sm2.ownedShards(), is(Set.of(2, 3)));
+
+        // The Leases of the first member expire only after they did not change for the lease duration
+        clock2.advance(900);
+        sm2.maintainShards();
+        assertThat(sm2.ownedShards(), is(Set.of(2, 3)));
+
+        clock2.advance(200);
+        sm2.maintainShards();
+        assertThat(sm2.ownedShards(), is(Set.of(0, 1, 2, 3)));
+    }
+
+    private static String resourceInShard(int shard) {
+        for (int i = 0; ; i++) {
+            if (ShardManager.shardOf("my-namespace", "my-cluster-" + i, SHARDS) == shard) {
+                return "my-cluster-" + i;
+            }
+        }
+    }
+
+    private ShardManager createShardManager(String identity, Clock clock)   {
+        return new ShardManager(
+                client,
+                new LeaderElectionManagerConfig(LEASE_NAME, NAMESPACE, identity, Duration.ofMillis(1_000L), Duration.ofMillis(800L), Duration.ofMillis(200L), SHARDS),
+                clock);
+    }
+
+    /**
+     * Clock which is moved forward manually by the test
+     */
+    static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2023-04-01T00:00:00Z");
+
+        void advance(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -105,6 +105,7 @@ import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -3536,6 +3537,52 @@ public class KafkaClusterTest {
         assertThat(brokerConfig, CoreMatchers.containsString(CruiseControlConfigurationParameters.METRICS_TOPIC_MIN_ISR + "=" + 1));
     }
 
+    @ParallelTest
+    public void testSharedBrokerConfiguration() {
+        Map<Integer, Map<String, String>> advertisedHostnames = Map.of(
+                0, Map.of("PLAIN_9092", "broker-0", "TLS_9093", "broker-0"),
+                1, Map.of("PLAIN_9092", "broker-1", "TLS_9093", "broker-1"),
+                2, Map.of("PLAIN_9092", "broker-2", "TLS_9093", "broker-2")
+        );
+        Map<Integer, Map<String, String>> advertisedPorts = Map.of(
+                0, Map.of("PLAIN_9092", "9092", "TLS_9093", "10000"),
+                1, Map.of("PLAIN_9092", "9092", "TLS_9093", "10001"),
+                2, Map.of("PLAIN_9092", "9092", "TLS_9093", "10002")
+        );
+
+        Kafka kafkaAssembly = new KafkaBuilder(KAFKA)
+                .editSpec()
+                    .editKafka()
+                        .withConfig(Map.of("my.plugin.option", "my-value", "auto.create.topics.enable", "false"))
+                        .withNewKafkaAuthorizationSimple()
+                            .withSuperUsers("CN=my-user")
+                        .endKafkaAuthorizationSimple()
+                    .endKafka()
+                    .withNewCruiseControl()
+                    .endCruiseControl()
+                .endSpec()
+                .build();
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafkaAssembly, VERSIONS);
+        String sharedConfig = kafkaCluster.generateSharedBrokerConfiguration();
+        KafkaConfiguration parsedSharedConfig = KafkaConfiguration.unvalidated(Reconciliation.DUMMY_RECONCILIATION, sharedConfig);
+
+        assertThat(sharedConfig, not(containsString("broker.id")));
+
+        for (int brokerId = 0; brokerId < REPLICAS; brokerId++) {
+            String brokerSpecificConfig = kafkaCluster.generateBrokerSpecificConfiguration(brokerId, advertisedHostnames, advertisedPorts);
+            String brokerConfig = kafkaCluster.generatePerBrokerBrokerConfiguration(brokerId, advertisedHostnames, advertisedPorts);
+
+            // Joining the broker specific and shared parts gives the full broker configuration
+            assertThat(KafkaCluster.joinBrokerConfiguration(brokerSpecificConfig, sharedConfig), is(brokerConfig));
+
+            // The unknown configurations found with the shared base parsed only once are the same as in the full configuration
+            Set<String> unknownConfigs = KafkaConfiguration.unvalidated(Reconciliation.DUMMY_RECONCILIATION, brokerSpecificConfig)
+                    .unknownConfigsWithValues(kafkaCluster.getKafkaVersion(), parsedSharedConfig);
+            assertThat(unknownConfigs, is(KafkaConfiguration.unvalidated(Reconciliation.DUMMY_RECONCILIATION, brokerConfig).unknownConfigsWithValues(kafkaCluster.getKafkaVersion())));
+            assertThat(unknownConfigs.contains("my.plugin.option=my-value"), is(true));
+        }
+    }
+
     @ParallelTest
     public void testCruiseControlCustomMetricsReporterTopic() {
         Map<Integer, Map<String, String>> advertisedHostnames = Map.of(
@@ -281,6 +281,44 @@ public class KafkaConnectBuildTest {
         TestUtils.checkOwnerReference(cm, kc);
     }
 
+    @ParallelTest
+    public void testKanikoCacheOption()   {
+        assertThat(buildWithKanikoOptions().isKanikoCacheEnabled(), is(false));
+        assertThat(buildWithKanikoOptions("--cache-ttl=24h").isKanikoCacheEnabled(), is(false));
+        assertThat(buildWithKanikoOptions("--cache").isKanikoCacheEnabled(), is(true));
+        assertThat(buildWithKanikoOptions("--cache=true", "--cache-ttl=24h").isKanikoCacheEnabled(), is(true));
+        assertThat(buildWithKanikoOptions("--cache=false").isKanikoCacheEnabled(), is(false));
+        assertThat(buildWithKanikoOptions("--cache=true", "--cache=false").isKanikoCacheEnabled(), is(false));
+
+        // Plugin stages are used only with the Kaniko cache and never on OpenShift
+        KafkaConnectBuild build = buildWithKanikoOptions("--cache=true");
+        assertThat(build.generateDockerfile(false).pluginLayers().size(), is(2));
+        assertThat(build.generateDockerfile(true).pluginLayers().size(), is(0));
+        assertThat(buildWithKanikoOptions().generateDockerfile(false).pluginLayers().size(), is(0));
+    }
+
+    private KafkaConnectBuild buildWithKanikoOptions(String... options)   {
+        KafkaConnect kc = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withName(cluster)
+                    .withNamespace(namespace)
+                .endMetadata()
+                .withNewSpec()
+                    .withBootstrapServers("my-kafka:9092")
+                    .withNewBuild()
+                        .withNewDockerOutput()
+                            .withImage("my-image:latest")
+                            .withAdditionalKanikoOptions(options)
+                        .endDockerOutput()
+                        .withPlugins(new PluginBuilder().withName("my-connector").withArtifacts(jarArtifactWithChecksum).build(),
+                                new PluginBuilder().withName("my-connector2").withArtifacts(jarArtifactNoChecksum).build())
+                    .endBuild()
+                .endSpec()
+                .build();
+
+        return KafkaConnectBuild.fromCrd(new Reconciliation("test", kc.getKind(), kc.getMetadata().getNamespace(), kc.getMetadata().getName()), kc, VERSIONS);
+    }
+
     @ParallelTest
     public void testBuildconfigWithDockerOutput()   {
         Map<String, Quantity> limit = new HashMap<>();
@@ -21,6 +21,9 @@ import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 
+import java.util.List;
+import java.util.Set;
+
 import static io.strimzi.operator.cluster.model.KafkaBrokerConfigurationBuilderTest.IsEquivalent.isEquivalent;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -655,6 +658,101 @@ public class KafkaConnectDockerfileTest {
                 "\n"));
     }
 
+    @ParallelTest
+    public void testDockerfileWithPluginStages()   {
+        JarArtifact jar = new JarArtifactBuilder()
+                .withUrl("http://url.com/ar.jar")
+                .build();
+
+        MavenArtifact mvn1 = new MavenArtifactBuilder()
+                .withGroup("g1")
+                .withArtifact("a1")
+                .withVersion("v1")
+                .build();
+
+        MavenArtifact mvn2 = new MavenArtifactBuilder()
+                .withGroup("g2")
+                .withArtifact("a2")
+                .withVersion("v2")
+                .build();
+
+        // The plugins are in reverse order to check they are sorted
+        Build connectBuild = new BuildBuilder()
+                .withPlugins(
+                    new PluginBuilder()
+                        .withName("other-connector-plugin")
+                        .withArtifacts(jar)
+                        .build(),
+                    new PluginBuilder()
+                        .withName("my-connector-plugin")
+                        .withArtifacts(jar, mvn1, mvn2)
+                        .build())
+                .build();
+
+        KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, true);
+
+        assertThat(df.getDockerfile(), is("##############################\n" +
+                "##############################\n" +
+                "# This file is automatically generated by the Strimzi Cluster Operator\n" +
+                "# Any changes to this file will be ignored and overwritten!\n" +
+                "##############################\n" +
+                "##############################\n" +
+                "\n" +
+                "FROM quay.io/strimzi/maven-builder:latest AS downloadArtifacts\n" +
+                "RUN 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/my-connector-plugin/64cebd9c/pom.xml' 'https://repo1.maven.org/maven2/g1/a1/v1/a1-v1.pom' \\\n" +
+                "      && 'echo' '<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>https://repo1.maven.org/maven2/</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>' > '/tmp/64cebd9c.xml' \\\n" +
+                "      && 'mvn' 'dependency:copy-dependencies' '-s' '/tmp/64cebd9c.xml' '-DoutputDirectory=/tmp/artifacts/my-connector-plugin/64cebd9c' '-f' '/tmp/my-connector-plugin/64cebd9c/pom.xml' \\\n" +
+                "      && 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/artifacts/my-connector-plugin/64cebd9c/a1-v1.jar' 'https://repo1.maven.org/maven2/g1/a1/v1/a1-v1.jar'\n" +
+                "\n" +
+                "RUN 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/my-connector-plugin/9983060e/pom.xml' 'https://repo1.maven.org/maven2/g2/a2/v2/a2-v2.pom' \\\n" +
+                "      && 'echo' '<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>https://repo1.maven.org/maven2/</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>' > '/tmp/9983060e.xml' \\\n" +
+                "      && 'mvn' 'dependency:copy-dependencies' '-s' '/tmp/9983060e.xml' '-DoutputDirectory=/tmp/artifacts/my-connector-plugin/9983060e' '-f' '/tmp/my-connector-plugin/9983060e/pom.xml' \\\n" +
+                "      && 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/artifacts/my-connector-plugin/9983060e/a2-v2.jar' 'https://repo1.maven.org/maven2/g2/a2/v2/a2-v2.jar'\n" +
+                "\n" +
+                "FROM myImage:latest AS downloadPlugins\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
+                "FROM downloadPlugins AS plugin-5ab2fd8e\n" +
+                "\n" +
+                "##########\n" +
+                "# Connector plugin my-connector-plugin\n" +
+                "##########\n" +
+                "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/9bb2fd11' \\\n" +
+                "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/9bb2fd11/9bb2fd11.jar' 'http://url.com/ar.jar'\n" +
+                "\n" +
+                "COPY --from=downloadArtifacts '/tmp/artifacts/my-connector-plugin/64cebd9c' '/opt/kafka/plugins/my-connector-plugin/64cebd9c'\n" +
+                "\n" +
+                "COPY --from=downloadArtifacts '/tmp/artifacts/my-connector-plugin/9983060e' '/opt/kafka/plugins/my-connector-plugin/9983060e'\n" +
+                "\n" +
+                "FROM downloadPlugins AS plugin-576d34a7\n" +
+                "\n" +
+                "##########\n" +
+                "# Connector plugin other-connector-plugin\n" +
+                "##########\n" +
+                "RUN 'mkdir' '-p' '/opt/kafka/plugins/other-connector-plugin/9bb2fd11' \\\n" +
+                "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/other-connector-plugin/9bb2fd11/9bb2fd11.jar' 'http://url.com/ar.jar'\n" +
+                "\n" +
+                "FROM myImage:latest\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
+                "COPY --from=plugin-5ab2fd8e '/opt/kafka/plugins/my-connector-plugin' '/opt/kafka/plugins/my-connector-plugin'\n" +
+                "\n" +
+                "COPY --from=plugin-576d34a7 '/opt/kafka/plugins/other-connector-plugin' '/opt/kafka/plugins/other-connector-plugin'\n" +
+                "\n" +
+                "USER 1001\n\n"));
+
+        assertThat(df.pluginLayers(), is(List.of("plugin-5ab2fd8e", "plugin-576d34a7")));
+        assertThat(KafkaConnectDockerfile.pluginLayers(df.getDockerfile()), is(Set.of("plugin-5ab2fd8e", "plugin-576d34a7")));
+
+        // Without the plugin stages, there are no plugin layers
+        KafkaConnectDockerfile defaultDf = new KafkaConnectDockerfile("myImage:latest", connectBuild);
+        assertThat(defaultDf.pluginLayers(), is(emptyList()));
+        assertThat(KafkaConnectDockerfile.pluginLayers(defaultDf.getDockerfile()), is(Set.of()));
+        assertThat(KafkaConnectDockerfile.pluginLayers(null), is(Set.of()));
+    }
+
     private static Build connectBuildFromGavAndUrl(String g, String a, String v, String url) {
         MavenArtifact mvn = new MavenArtifactBuilder()
                 .withGroup(g)
@@ -177,8 +177,8 @@ public class KafkaMirrorMakerClusterTest {
         expected.add(new EnvVarBuilder().withName(KafkaMirrorMakerCluster.ENV_VAR_KAFKA_MIRRORMAKER_ABORT_ON_SEND_FAILURE).withValue(Boolean.toString(abortOnSendFailure)).build());
         expected.add(new EnvVarBuilder().withName(KafkaMirrorMakerCluster.ENV_VAR_STRIMZI_KAFKA_GC_LOG_ENABLED).withValue(Boolean.toString(JvmOptions.DEFAULT_GC_LOGGING_ENABLED)).build());
         expected.add(new EnvVarBuilder().withName(KafkaMirrorMakerCluster.ENV_VAR_KAFKA_HEAP_OPTS).withValue(kafkaHeapOpts).build());
+        expected.add(new EnvVarBuilder().withName(KafkaMirrorMakerCluster.ENV_VAR_STRIMZI_HEALTHCHECK_PORT).withValue(String.valueOf(KafkaMirrorMakerCluster.HEALTHCHECK_PORT)).build());
         expected.add(new EnvVarBuilder().withName(KafkaMirrorMakerCluster.ENV_VAR_STRIMZI_LIVENESS_PERIOD).withValue("10").build());
-        expected.add(new EnvVarBuilder().withName(KafkaMirrorMakerCluster.ENV_VAR_STRIMZI_READINESS_PERIOD).withValue("10").build());
 
         return expected;
     }
@@ -271,7 +271,9 @@ public class KafkaMirrorMakerClusterTest {
         assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getName(), is(KafkaMirrorMakerResources.deploymentName(this.cluster)));
         assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is(mm.image));
         assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getEnv(), is(getExpectedEnvVars()));
-        assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getPorts().size(), is(1));
+        assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getPorts().size(), is(2));
+        assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getPorts().get(0).getName(), is(KafkaMirrorMakerCluster.HEALTHCHECK_PORT_NAME));
+        assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getPorts().get(0).getContainerPort(), is(KafkaMirrorMakerCluster.HEALTHCHECK_PORT));
         assertThat(dep.getSpec().getStrategy().getType(), is("RollingUpdate"));
         assertThat(dep.getSpec().getStrategy().getRollingUpdate().getMaxSurge().getIntVal(), is(1));
         assertThat(dep.getSpec().getStrategy().getRollingUpdate().getMaxUnavailable().getIntVal(), is(0));
@@ -894,19 +896,15 @@ public class KafkaMirrorMakerClusterTest {
         Probe livenessProbe = cont.getLivenessProbe();
         Probe readinessProbe = cont.getReadinessProbe();
 
-        assertThat(livenessProbe.getExec().getCommand().get(0), is("/opt/kafka/kafka_mirror_maker_liveness.sh"));
+        assertThat(livenessProbe.getHttpGet().getPath(), is("/healthy"));
+        assertThat(livenessProbe.getHttpGet().getPort().getStrVal(), is(KafkaMirrorMakerCluster.HEALTHCHECK_PORT_NAME));
         assertThat(livenessProbe.getInitialDelaySeconds(), is(60));
         assertThat(livenessProbe.getTimeoutSeconds(), is(5));
 
-        assertThat(readinessProbe.getExec().getCommand().size(), is(3));
-        assertThat(readinessProbe.getExec().getCommand().get(0), is("test"));
-        assertThat(readinessProbe.getExec().getCommand().get(1), is("-f"));
-        assertThat(readinessProbe.getExec().getCommand().get(2), is("/tmp/mirror-maker-ready"));
+        assertThat(readinessProbe.getHttpGet().getPath(), is("/ready"));
+        assertThat(readinessProbe.getHttpGet().getPort().getStrVal(), is(KafkaMirrorMakerCluster.HEALTHCHECK_PORT_NAME));
         assertThat(readinessProbe.getInitialDelaySeconds(), is(60));
         assertThat(readinessProbe.getTimeoutSeconds(), is(5));
-
-        assertThat(cont.getEnv().stream().filter(env -> "STRIMZI_READINESS_PERIOD".equals(env.getName())).map(EnvVar::getValue).findFirst().orElse("").equals("10"), is(true));
-        assertThat(cont.getEnv().stream().filter(env -> "STRIMZI_LIVENESS_PERIOD".equals(env.getName())).map(EnvVar::getValue).findFirst().orElse("").equals("10"), is(true));
     }
 
     @ParallelTest
@@ -932,21 +930,17 @@ public class KafkaMirrorMakerClusterTest {
         Probe livenessProbe = cont.getLivenessProbe();
         Probe readinessProbe = cont.getReadinessProbe();
 
-        assertThat(livenessProbe.getExec().getCommand().get(0), is("/opt/kafka/kafka_mirror_maker_liveness.sh"));
+        assertThat(livenessProbe.getHttpGet().getPath(), is("/healthy"));
         assertThat(livenessProbe.getInitialDelaySeconds(), is(120));
         assertThat(livenessProbe.getTimeoutSeconds(), is(10));
         assertThat(livenessProbe.getPeriodSeconds(), is(60));
 
-        assertThat(readinessProbe.getExec().getCommand().size(), is(3));
-        assertThat(readinessProbe.getExec().getCommand().get(0), is("test"));
-        assertThat(readinessProbe.getExec().getCommand().get(1), is("-f"));
-        assertThat(readinessProbe.getExec().getCommand().get(2), is("/tmp/mirror-maker-ready"));
+        assertThat(readinessProbe.getHttpGet().getPath(), is("/ready"));
         assertThat(readinessProbe.getInitialDelaySeconds(), is(121));
         assertThat(readinessProbe.getTimeoutSeconds(), is(11));
         assertThat(readinessProbe.getPeriodSeconds(), is(61));
 
-        assertThat(cont.getEnv().stream().filter(env -> "STRIMZI_READINESS_PERIOD".equals(env.getName())).map(EnvVar::getValue).findFirst().orElse("").equals("61"), is(true));
-        assertThat(cont.getEnv().stream().filter(env -> "STRIMZI_LIVENESS_PERIOD".equals(env.getName())).map(EnvVar::getValue).findFirst().orElse("").equals("60"), is(true));
+        assertThat(cont.getEnv().stream().filter(env -> KafkaMirrorMakerCluster.ENV_VAR_STRIMZI_LIVENESS_PERIOD.equals(env.getName())).map(EnvVar::getValue).findFirst().orElse(""), is("60"));
     }
 
     @ParallelTest
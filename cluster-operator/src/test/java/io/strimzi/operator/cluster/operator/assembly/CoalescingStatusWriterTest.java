@@ -0,0 +1,123 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith(VertxExtension.class)
+public class CoalescingStatusWriterTest {
+    @Test
+    public void testUpdatesWithinWindowAreCoalesced(Vertx vertx, VertxTestContext context) {
+        AtomicInteger coalesced = new AtomicInteger(0);
+        List<String> written = new CopyOnWriteArrayList<>();
+        CoalescingStatusWriter writer = new CoalescingStatusWriter(vertx, 200L, 10, ns -> coalesced.incrementAndGet());
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(
+                writer.write("ns", "my-connector", () -> write(written, "first")),
+                writer.write("ns", "my-connector", () -> write(written, "second")),
+                writer.write("ns", "my-connector", () -> write(written, "third")),
+                writer.write("ns", "other-connector", () -> write(written, "other"))
+        ).onComplete(context.succeeding(i -> context.verify(() -> {
+            assertThat(written.size(), is(2));
+            assertThat(written.contains("third"), is(true));
+            assertThat(written.contains("other"), is(true));
+            assertThat(coalesced.get(), is(2));
+            assertThat(writer.pendingUpdates(), is(0));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testUpdateDuringWriteIsExecutedAfterwards(Vertx vertx, VertxTestContext context) {
+        AtomicInteger coalesced = new AtomicInteger(0);
+        List<String> written = new CopyOnWriteArrayList<>();
+        Promise<Void> firstWrite = Promise.promise();
+        CoalescingStatusWriter writer = new CoalescingStatusWriter(vertx, 0L, 10, ns -> coalesced.incrementAndGet());
+
+        Future<Void> first = writer.write("ns", "my-connector", () -> {
+            written.add("first");
+            return firstWrite.future();
+        });
+
+        // The first update is in progress => these are coalesced and written after it completes
+        Future<Void> second = writer.write("ns", "my-connector", () -> write(written, "second"));
+        Future<Void> third = writer.write("ns", "my-connector", () -> write(written, "third"));
+
+        firstWrite.complete();
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(first, second, third)
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    assertThat(written, is(List.of("first", "third")));
+                    assertThat(coalesced.get(), is(1));
+                    assertThat(writer.pendingUpdates(), is(0));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testConcurrentUpdatesPerNamespaceAreLimited(Vertx vertx, VertxTestContext context) {
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+        CoalescingStatusWriter writer = new CoalescingStatusWriter(vertx, 0L, 2, ns -> { });
+
+        @SuppressWarnings({ "rawtypes" })
+        List<Future> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(writer.write("ns", "connector-" + i, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Promise<Void> promise = Promise.promise();
+                vertx.setTimer(10, id -> {
+                    running.decrementAndGet();
+                    promise.complete();
+                });
+                return promise.future();
+            }));
+        }
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(futures)
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    assertThat(maxRunning.get(), is(2));
+                    assertThat(writer.pendingUpdates(), is(0));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailedUpdateIsPropagated(Vertx vertx, VertxTestContext context) {
+        CoalescingStatusWriter writer = new CoalescingStatusWriter(vertx, 0L, 10, ns -> { });
+
+        Checkpoint async = context.checkpoint();
+        writer.write("ns", "my-connector", () -> Future.failedFuture(new RuntimeException("Conflict")))
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(e.getMessage(), is("Conflict"));
+                    assertThat(writer.pendingUpdates(), is(0));
+                    async.flag();
+                })));
+    }
+
+    private static Future<Void> write(List<String> written, String status) {
+        written.add(status);
+        return Future.succeededFuture();
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlResponse;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRestException;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskStatus;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class CruiseControlUserTasksPollerTest {
+    private static final String HOST = "my-cluster-cruise-control.my-namespace.svc";
+    private static final int PORT = 9090;
+
+    @Test
+    public void testTasksArePolledInSingleRequest(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        Map<String, CruiseControlResponse> statuses = Map.of(
+                "task-1", response("task-1", CruiseControlUserTaskStatus.ACTIVE),
+                "task-2", response("task-2", CruiseControlUserTaskStatus.COMPLETED)
+        );
+        when(api.getUserTasksStatus(anyString(), anyInt(), any())).thenReturn(Future.succeededFuture(statuses));
+
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, 10L, 100L);
+
+        Checkpoint async = context.checkpoint(2);
+        CruiseControlUserTasksPoller.Registration[] registrations = new CruiseControlUserTasksPoller.Registration[2];
+        registrations[0] = poller.register(HOST, PORT, api, "task-1", res -> context.verify(() -> {
+            assertThat(res.succeeded(), is(true));
+            assertThat(res.result().getJson().getString("Status"), is(CruiseControlUserTaskStatus.ACTIVE.toString()));
+            registrations[0].cancel();
+            async.flag();
+        }));
+        registrations[1] = poller.register(HOST, PORT, api, "task-2", res -> context.verify(() -> {
+            assertThat(res.succeeded(), is(true));
+            assertThat(res.result().getJson().getString("Status"), is(CruiseControlUserTaskStatus.COMPLETED.toString()));
+            registrations[1].cancel();
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Set<String>> idsCaptor = ArgumentCaptor.forClass(Set.class);
+            verify(api, times(1)).getUserTasksStatus(any(), anyInt(), idsCaptor.capture());
+            assertThat(idsCaptor.getValue(), is(Set.of("task-1", "task-2")));
+            assertThat(poller.pollers(), is(0));
+            async.flag();
+        }));
+    }
+
+    @Test
+    public void testUnknownTaskAndFailedPollAreReported(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        when(api.getUserTasksStatus(anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of()))
+                .thenReturn(Future.failedFuture(new CruiseControlRestException("Unavailable")));
+
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, 10L, 100L);
+
+        AtomicInteger polls = new AtomicInteger(0);
+        Checkpoint async = context.checkpoint();
+        CruiseControlUserTasksPoller.Registration[] registration = new CruiseControlUserTasksPoller.Registration[1];
+        registration[0] = poller.register(HOST, PORT, api, "task-1", res -> context.verify(() -> {
+            assertThat(res.failed(), is(true));
+            assertThat(res.cause(), instanceOf(CruiseControlRestException.class));
+
+            if (polls.incrementAndGet() == 2) {
+                assertThat(res.cause().getMessage(), is("Unavailable"));
+                registration[0].cancel();
+                assertThat(poller.pollers(), is(0));
+                async.flag();
+            }
+        }));
+    }
+
+    @Test
+    public void testPollingContinuesWhenHandlerFails(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        Map<String, CruiseControlResponse> statuses = Map.of("task-1", response("task-1", CruiseControlUserTaskStatus.ACTIVE));
+        when(api.getUserTasksStatus(anyString(), anyInt(), any())).thenReturn(Future.succeededFuture(statuses));
+
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, 10L, 100L);
+
+        AtomicInteger polls = new AtomicInteger(0);
+        Checkpoint async = context.checkpoint();
+        CruiseControlUserTasksPoller.Registration[] registration = new CruiseControlUserTasksPoller.Registration[1];
+        registration[0] = poller.register(HOST, PORT, api, "task-1", res -> {
+            if (polls.incrementAndGet() == 1) {
+                throw new IllegalStateException("Handler failed");
+            }
+
+            registration[0].cancel();
+            context.verify(() -> assertThat(poller.pollers(), is(0)));
+            async.flag();
+        });
+    }
+
+    @Test
+    public void testPollingBacksOffForTasksInExecution(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        List<Long> pollTimes = new CopyOnWriteArrayList<>();
+        Map<String, CruiseControlResponse> statuses = Map.of("task-1", response("task-1", CruiseControlUserTaskStatus.IN_EXECUTION));
+        when(api.getUserTasksStatus(anyString(), anyInt(), any())).thenAnswer(i -> {
+            pollTimes.add(System.nanoTime());
+            return Future.succeededFuture(statuses);
+        });
+
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, 10L, 80L);
+
+        Checkpoint async = context.checkpoint();
+        CruiseControlUserTasksPoller.Registration[] registration = new CruiseControlUserTasksPoller.Registration[1];
+        registration[0] = poller.register(HOST, PORT, api, "task-1", res -> context.verify(() -> {
+            if (pollTimes.size() == 5) {
+                registration[0].cancel();
+
+                // Intervals after the first status is known: 10ms => 20ms => 40ms => 80ms
+                long lastIntervalMs = (pollTimes.get(4) - pollTimes.get(3)) / 1_000_000L;
+                assertThat(lastIntervalMs, greaterThanOrEqualTo(80L));
+                async.flag();
+            }
+        }));
+    }
+
+    @Test
+    public void testPollNowAfterBackOff(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        List<Long> pollTimes = new CopyOnWriteArrayList<>();
+        Map<String, CruiseControlResponse> statuses = Map.of("task-1", response("task-1", CruiseControlUserTaskStatus.IN_EXECUTION));
+        when(api.getUserTasksStatus(anyString(), anyInt(), any())).thenAnswer(i -> {
+            pollTimes.add(System.nanoTime());
+            return Future.succeededFuture(statuses);
+        });
+
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, 200L, 60_000L);
+
+        AtomicLong pollNowTime = new AtomicLong();
+        Checkpoint async = context.checkpoint();
+        CruiseControlUserTasksPoller.Registration[] registration = new CruiseControlUserTasksPoller.Registration[1];
+        registration[0] = poller.register(HOST, PORT, api, "task-1", res -> context.verify(() -> {
+            if (pollTimes.size() == 4) {
+                // Intervals after the first status is known: 200ms => 400ms => 800ms => 1600ms. The poll is requested
+                // while the backed off poll is still scheduled (e.g. when the stop annotation is set).
+                vertx.setTimer(100, t -> {
+                    pollNowTime.set(System.nanoTime());
+                    poller.pollNow("task-1");
+                });
+            } else if (pollTimes.size() == 5) {
+                registration[0].cancel();
+
+                long pollNowDelayMs = (pollTimes.get(4) - pollNowTime.get()) / 1_000_000L;
+                assertThat(pollNowDelayMs, lessThan(200L));
+                async.flag();
+            }
+        }));
+    }
+
+    @Test
+    public void testPollNowIgnoresUnknownTask(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, 10L, 100L);
+
+        poller.pollNow("task-1");
+
+        vertx.setTimer(50, t -> context.verify(() -> {
+            verify(api, never()).getUserTasksStatus(any(), anyInt(), any());
+            assertThat(poller.pollers(), is(0));
+            context.completeNow();
+        }));
+    }
+
+    private static CruiseControlResponse response(String userTaskId, CruiseControlUserTaskStatus status) {
+        CruiseControlResponse response = mock(CruiseControlResponse.class);
+        when(response.getUserTaskId()).thenReturn(userTaskId);
+        when(response.getJson()).thenReturn(new JsonObject().put("Status", status.toString()));
+        return response;
+    }
+}
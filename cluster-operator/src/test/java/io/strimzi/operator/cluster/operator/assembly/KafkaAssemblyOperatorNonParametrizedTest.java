@@ -4,14 +4,23 @@
  */
 package io.strimzi.operator.cluster.operator.assembly;
 
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodConditionBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
+import io.strimzi.api.kafka.model.CertSecretSourceBuilder;
 import io.strimzi.api.kafka.model.CertificateAuthority;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaBuilder;
 import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.ClusterOperator;
@@ -46,6 +55,8 @@ import java.time.Clock;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Collections.singleton;
 import static org.hamcrest.CoreMatchers.is;
@@ -56,7 +67,10 @@ import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -405,7 +419,8 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                 false,
                 1024,
                 "cluster-operator-name",
-                ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS, null);
+                ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS, null,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_STEPS_PARALLELISM, 0, ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKER_THREADS);
 
         KafkaAssemblyOperator op = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION), certManager, passwordGenerator,
                 supplier, config);
@@ -430,4 +445,239 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                     async.flag();
                 })));
     }
+
+    @Test
+    public void testReconciliationOfUnchangedClusterIsSkipped(VertxTestContext context) {
+        Kafka kafka = skippingTestKafka();
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        AtomicReference<Pod> pod = new AtomicReference<>(readyPod("1"));
+        AtomicReference<ConfigMap> metricsCm = new AtomicReference<>(configMap("my-metrics", "1"));
+        AtomicReference<Secret> listenerCert = new AtomicReference<>(secret("my-listener-cert", "1"));
+        mockFingerprintResources(supplier, pod, metricsCm, listenerCert);
+
+        AtomicInteger fullReconciliations = new AtomicInteger(0);
+        KafkaAssemblyOperator op = skippingTestOperator(supplier, 2, fullReconciliations);
+        Reconciliation reconciliation = new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, NAME);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(reconciliation, kafka)
+                .compose(i -> op.createOrUpdate(reconciliation, kafka))
+                .compose(i -> op.createOrUpdate(reconciliation, kafka))
+                .compose(status -> {
+                    // First reconciliation is full, the next two are skipped
+                    context.verify(() -> {
+                        assertThat(fullReconciliations.get(), is(1));
+                        assertThat(status.getObservedGeneration(), is(1L));
+                        assertThat(status.getConditions().get(0).getType(), is("Ready"));
+                    });
+
+                    return op.createOrUpdate(reconciliation, kafka);
+                })
+                .compose(i -> {
+                    // The maximal number of skipped reconciliations was reached => full reconciliation is forced
+                    context.verify(() -> assertThat(fullReconciliations.get(), is(2)));
+
+                    pod.set(readyPod("2"));
+                    return op.createOrUpdate(reconciliation, kafka);
+                })
+                .compose(i -> {
+                    // The pod changed => full reconciliation
+                    context.verify(() -> assertThat(fullReconciliations.get(), is(3)));
+
+                    metricsCm.set(configMap("my-metrics", "2"));
+                    return op.createOrUpdate(reconciliation, kafka);
+                })
+                .compose(i -> {
+                    // The referenced metrics ConfigMap changed => full reconciliation
+                    context.verify(() -> assertThat(fullReconciliations.get(), is(4)));
+
+                    listenerCert.set(secret("my-listener-cert", "2"));
+                    return op.createOrUpdate(reconciliation, kafka);
+                })
+                .compose(i -> {
+                    // The referenced custom listener certificate changed => full reconciliation
+                    context.verify(() -> assertThat(fullReconciliations.get(), is(5)));
+
+                    return op.createOrUpdate(reconciliation, new KafkaBuilder(kafka).editMetadata().withGeneration(2L).endMetadata().build());
+                })
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    // The Kafka resource changed => full reconciliation
+                    assertThat(fullReconciliations.get(), is(6));
+                    assertThat(op.metrics().fullReconciliationsCounter(NAMESPACE).count(), is(6.0));
+                    assertThat(op.metrics().skippedReconciliationsCounter(NAMESPACE).count(), is(2.0));
+
+                    // The Secrets are read by name instead of being listed
+                    verify(supplier.secretOperations, never()).listAsync(any(), any(Labels.class));
+                    verify(supplier.secretOperations, atLeastOnce()).getAsync(NAMESPACE, "my-listener-cert");
+                    verify(supplier.secretOperations, atLeastOnce()).getAsync(NAMESPACE, "my-oauth-secret");
+                    verify(supplier.secretOperations, atLeastOnce()).getAsync(NAMESPACE, "my-oauth-ca");
+                    verify(supplier.configMapOperations, atLeastOnce()).getAsync(NAMESPACE, "my-logging");
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReconciliationIsNotSkippedByDefault(VertxTestContext context) {
+        Kafka kafka = skippingTestKafka();
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        mockFingerprintResources(supplier, new AtomicReference<>(readyPod("1")), new AtomicReference<>(configMap("my-metrics", "1")), new AtomicReference<>(secret("my-listener-cert", "1")));
+
+        AtomicInteger fullReconciliations = new AtomicInteger(0);
+        KafkaAssemblyOperator op = skippingTestOperator(supplier, ClusterOperatorConfig.DEFAULT_MAX_SKIPPED_RECONCILIATIONS, fullReconciliations);
+        Reconciliation reconciliation = new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, NAME);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(reconciliation, kafka)
+                .compose(i -> op.createOrUpdate(reconciliation, kafka))
+                .compose(i -> op.createOrUpdate(reconciliation, kafka))
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    // Skipping is disabled => every reconciliation is full and no fingerprint is computed
+                    assertThat(fullReconciliations.get(), is(3));
+                    assertThat(op.metrics().skippedReconciliationsCounter(NAMESPACE).count(), is(0.0));
+                    verify(supplier.podOperations, never()).listAsync(any(), any(Labels.class));
+
+                    async.flag();
+                })));
+    }
+
+    private static Kafka skippingTestKafka() {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                    .withGeneration(1L)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(3)
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                .withName("tls")
+                                .withPort(9093)
+                                .withType(KafkaListenerType.INTERNAL)
+                                .withTls(true)
+                                .withNewConfiguration()
+                                    .withNewBrokerCertChainAndKey()
+                                        .withSecretName("my-listener-cert")
+                                        .withCertificate("tls.crt")
+                                        .withKey("tls.key")
+                                    .endBrokerCertChainAndKey()
+                                .endConfiguration()
+                                .withNewKafkaListenerAuthenticationOAuth()
+                                    .withClientId("my-client")
+                                    .withNewClientSecret()
+                                        .withSecretName("my-oauth-secret")
+                                        .withKey("secret")
+                                    .endClientSecret()
+                                    .withTlsTrustedCertificates(new CertSecretSourceBuilder().withSecretName("my-oauth-ca").withCertificate("ca.crt").build())
+                                .endKafkaListenerAuthenticationOAuth()
+                                .build())
+                        .withNewJmxPrometheusExporterMetricsConfig()
+                            .withNewValueFrom()
+                                .withNewConfigMapKeyRef("metrics.yaml", "my-metrics", false)
+                            .endValueFrom()
+                        .endJmxPrometheusExporterMetricsConfig()
+                        .withNewExternalLogging()
+                            .withNewValueFrom()
+                                .withNewConfigMapKeyRef("log4j.properties", "my-logging", false)
+                            .endValueFrom()
+                        .endExternalLogging()
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+    }
+
+    private static void mockFingerprintResources(ResourceOperatorSupplier supplier, AtomicReference<Pod> pod, AtomicReference<ConfigMap> metricsCm, AtomicReference<Secret> listenerCert) {
+        when(supplier.configMapOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(supplier.serviceOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(supplier.pvcOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(supplier.strimziPodSetOperator.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(supplier.deploymentOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(supplier.podOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenAnswer(i -> Future.succeededFuture(List.of(pod.get())));
+
+        when(supplier.secretOperations.getAsync(eq(NAMESPACE), any())).thenAnswer(i -> {
+            String name = i.getArgument(1);
+            return Future.succeededFuture(name.equals(listenerCert.get().getMetadata().getName()) ? listenerCert.get() : secret(name, "1"));
+        });
+        when(supplier.configMapOperations.getAsync(eq(NAMESPACE), any())).thenAnswer(i -> {
+            String name = i.getArgument(1);
+            return Future.succeededFuture(name.equals(metricsCm.get().getMetadata().getName()) ? metricsCm.get() : configMap(name, "1"));
+        });
+    }
+
+    private KafkaAssemblyOperator skippingTestOperator(ResourceOperatorSupplier supplier, int maxSkippedReconciliations, AtomicInteger fullReconciliations) {
+        ClusterOperatorConfig config = new ClusterOperatorConfig(
+                singleton("dummy"),
+                60_000,
+                120_000,
+                300_000,
+                false,
+                true,
+                KafkaVersionTestUtils.getKafkaVersionLookup(),
+                null,
+                null,
+                null,
+                null,
+                null,
+                "",
+                10,
+                10_000,
+                30,
+                false,
+                1024,
+                "cluster-operator-name",
+                ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS, null,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_STEPS_PARALLELISM, maxSkippedReconciliations, ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKER_THREADS);
+
+        return new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION), certManager, passwordGenerator,
+                supplier, config) {
+            @Override
+            Future<Void> reconcile(ReconciliationState reconcileState) {
+                fullReconciliations.incrementAndGet();
+                return Future.succeededFuture();
+            }
+        };
+    }
+
+    private static Pod readyPod(String resourceVersion) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName(KafkaResources.kafkaPodName(NAME, 0))
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .withNewStatus()
+                    .withConditions(new PodConditionBuilder().withType("Ready").withStatus("True").build())
+                .endStatus()
+                .build();
+    }
+
+    private static ConfigMap configMap(String name, String resourceVersion) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
+    private static Secret secret(String name, String resourceVersion) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
 }
@@ -15,11 +15,15 @@ import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 @ExtendWith(VertxExtension.class)
 public class KafkaConnectApiImplTest {
@@ -62,6 +66,40 @@ public class KafkaConnectApiImplTest {
                 })));
     }
 
+    @Test
+    public void testListWithInfoAndStatus(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = vertx.createHttpServer().requestHandler(request -> {
+            if ("/connectors".equals(request.path()) && request.params().getAll("expand").containsAll(List.of("info", "status"))) {
+                request.response().setStatusCode(200).end("{\"my-connector\": {"
+                        + "\"info\": {\"name\": \"my-connector\", \"config\": {\"name\": \"my-connector\", \"tasks.max\": \"1\"}, \"tasks\": [], \"type\": \"source\"}, "
+                        + "\"status\": {\"name\": \"my-connector\", \"connector\": {\"state\": \"RUNNING\", \"worker_id\": \"my-worker:8083\"}, \"tasks\": [], \"type\": \"source\"}}}");
+            } else {
+                request.response().setStatusCode(404).end();
+            }
+        }).listen(0).toCompletionStage().toCompletableFuture().get();
+
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+
+        Checkpoint async = context.checkpoint();
+        api.listWithInfoAndStatus(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort())
+                .onComplete(context.succeeding(connectors -> context.verify(() -> {
+                    assertThat(connectors.keySet(), is(Set.of("my-connector")));
+                    assertThat(AbstractConnectOperator.currentConnectorConfig(connectors.get("my-connector")), is(Map.of("name", "my-connector", "tasks.max", "1")));
+                    assertThat(new JsonObject(AbstractConnectOperator.currentConnectorStatus(connectors.get("my-connector"))).getJsonObject("connector").getString("state"), is("RUNNING"));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testCurrentConnectorConfigAndStatusWhenMissing() {
+        assertThat(AbstractConnectOperator.currentConnectorConfig(null), is(nullValue()));
+        assertThat(AbstractConnectOperator.currentConnectorStatus(null), is(nullValue()));
+        assertThat(AbstractConnectOperator.currentConnectorConfig(Map.of()), is(nullValue()));
+        assertThat(AbstractConnectOperator.currentConnectorStatus(Map.of()), is(nullValue()));
+    }
+
     HttpServer mockApi(Vertx vertx, String error) throws InterruptedException, ExecutionException {
         HttpServer httpServer = vertx.createHttpServer().requestHandler(request -> request.response().setStatusCode(500).end(error));
 
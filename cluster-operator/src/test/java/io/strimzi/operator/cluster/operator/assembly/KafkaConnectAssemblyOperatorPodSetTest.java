@@ -557,6 +557,7 @@ public class KafkaConnectAssemblyOperatorPodSetTest {
         // Mock Config Maps
         ConfigMapOperator mockCmOps = supplier.configMapOperations;
         when(mockCmOps.reconcile(any(), eq(NAMESPACE), startsWith(COMPONENT_NAME), any())).thenReturn(Future.succeededFuture());
+        when(mockCmOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)))).thenReturn(Future.succeededFuture());
 
         // Mock Services
         ServiceOperator mockServiceOps = supplier.serviceOperations;
@@ -13,6 +13,7 @@ import io.fabric8.kubernetes.api.model.ServiceAccount;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicy;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.strimzi.api.kafka.KafkaConnectorList;
 import io.strimzi.api.kafka.model.KafkaConnect;
 import io.strimzi.api.kafka.model.KafkaConnectBuilder;
@@ -169,6 +170,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockPodSetOps.getAsync(any(), any())).thenReturn(Future.succeededFuture());
 
         // Mock and capture CM ops
+        when(mockCmOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)))).thenReturn(Future.succeededFuture(null));
         when(mockCmOps.reconcile(any(), anyString(), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
         ArgumentCaptor<ConfigMap> dockerfileCaptor = ArgumentCaptor.forClass(ConfigMap.class);
         when(mockCmOps.reconcile(any(), anyString(), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)), dockerfileCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
@@ -235,14 +237,14 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(false).hashStub() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
                 assertThat(capturedCms, hasSize(1));
                 ConfigMap dockerfileCm = capturedCms.get(0);
                 assertThat(dockerfileCm.getData().containsKey("Dockerfile"), is(true));
-                assertThat(dockerfileCm.getData().get("Dockerfile"), is(build.generateDockerfile().getDockerfile()));
+                assertThat(dockerfileCm.getData().get("Dockerfile"), is(build.generateDockerfile(false).getDockerfile()));
 
                 // Verify Service Account
                 List<ServiceAccount> capturedSas = saCaptor.getAllValues();
@@ -335,6 +337,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockPodSetOps.getAsync(any(), any())).thenReturn(Future.succeededFuture());
 
         // Mock and capture CM ops
+        when(mockCmOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)))).thenReturn(Future.succeededFuture(null));
         when(mockCmOps.reconcile(any(), anyString(), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
         ArgumentCaptor<ConfigMap> dockerfileCaptor = ArgumentCaptor.forClass(ConfigMap.class);
         when(mockCmOps.reconcile(any(), anyString(), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)), dockerfileCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
@@ -422,6 +425,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                         .withNewDockerOutput()
                             .withImage(OUTPUT_IMAGE)
                             .withPushSecret("my-docker-credentials")
+                            .withAdditionalKanikoOptions("--cache=true")
                         .endDockerOutput()
                         .withPlugins(plugin1)
                     .endBuild()
@@ -472,7 +476,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockDepOps.reconcile(any(), anyString(), anyString(), depCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockDepOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.deploymentName(NAME)))).thenAnswer(inv -> {
             Deployment dep = oldConnect.generateDeployment(3, null, emptyMap(), false, null, null, null);
-            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub());
+            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile(false).hashStub());
             dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_IMAGE, "my-connect-build@sha256:olddigest");
             return Future.succeededFuture(dep);
         });
@@ -486,6 +490,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockPodSetOps.getAsync(any(), any())).thenReturn(Future.succeededFuture());
 
         // Mock and capture CM ops
+        when(mockCmOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)))).thenReturn(Future.succeededFuture(oldBuild.generateDockerfileConfigMap(oldBuild.generateDockerfile(false))));
         when(mockCmOps.reconcile(any(), anyString(), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
         ArgumentCaptor<ConfigMap> dockerfileCaptor = ArgumentCaptor.forClass(ConfigMap.class);
         when(mockCmOps.reconcile(any(), anyString(), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)), dockerfileCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
@@ -548,20 +553,26 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(false).hashStub() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
                 assertThat(capturedCms, hasSize(1));
                 ConfigMap dockerfileCm = capturedCms.get(0);
                 assertThat(dockerfileCm.getData().containsKey("Dockerfile"), is(true));
-                assertThat(dockerfileCm.getData().get("Dockerfile"), is(build.generateDockerfile().getDockerfile()));
+                assertThat(dockerfileCm.getData().get("Dockerfile"), is(build.generateDockerfile(false).getDockerfile()));
 
                 // Verify builder Pod
                 List<Pod> capturedBuilderPods = builderPodCaptor.getAllValues();
                 assertThat(capturedBuilderPods, hasSize(2));
                 assertThat(capturedBuilderPods.stream().filter(Objects::nonNull).collect(Collectors.toList()), hasSize(1));
 
+                // Verify build metrics => the build cache is enabled, the stage of plugin1 did not change and only plugin2 is new
+                MeterRegistry registry = ops.metrics().metricsProvider().meterRegistry();
+                assertThat(registry.get("strimzi.connect.build.plugin.stages.unchanged").tag("namespace", NAMESPACE).counter().count(), is(1.0));
+                assertThat(registry.get("strimzi.connect.build.plugin.stages.changed").tag("namespace", NAMESPACE).counter().count(), is(1.0));
+                assertThat(registry.get("strimzi.connect.build.duration").tag("namespace", NAMESPACE).timer().count(), is(1L));
+
                 // Verify status
                 List<KafkaConnect> capturedConnects = connectCaptor.getAllValues();
                 assertThat(capturedConnects, hasSize(1));
@@ -647,7 +658,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockDepOps.reconcile(any(), anyString(), anyString(), depCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockDepOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.deploymentName(NAME)))).thenAnswer(inv -> {
             Deployment dep = oldConnect.generateDeployment(3, null, emptyMap(), false, null, null, null);
-            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub() + Util.hashStub(oldBuild.getBuild().getOutput().getImage()));
+            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile(false).hashStub() + Util.hashStub(oldBuild.getBuild().getOutput().getImage()));
             dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_IMAGE, "my-connect-build-2@sha256:olddigest");
             return Future.succeededFuture(dep);
         });
@@ -661,6 +672,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockPodSetOps.getAsync(any(), any())).thenReturn(Future.succeededFuture());
 
         // Mock and capture CM ops
+        when(mockCmOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)))).thenReturn(Future.succeededFuture(null));
         when(mockCmOps.reconcile(any(), anyString(), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
         ArgumentCaptor<ConfigMap> dockerfileCaptor = ArgumentCaptor.forClass(ConfigMap.class);
         when(mockCmOps.reconcile(any(), anyString(), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)), dockerfileCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
@@ -723,14 +735,14 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                     Deployment dep = capturedDeps.get(0);
                     assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                     assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build-2@sha256:blablabla"));
-                    assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + Util.hashStub(build.getBuild().getOutput().getImage())));
+                    assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(false).hashStub() + Util.hashStub(build.getBuild().getOutput().getImage())));
 
                     // Verify ConfigMap
                     List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
                     assertThat(capturedCms, hasSize(1));
                     ConfigMap dockerfileCm = capturedCms.get(0);
                     assertThat(dockerfileCm.getData().containsKey("Dockerfile"), is(true));
-                    assertThat(dockerfileCm.getData().get("Dockerfile"), is(build.generateDockerfile().getDockerfile()));
+                    assertThat(dockerfileCm.getData().get("Dockerfile"), is(build.generateDockerfile(false).getDockerfile()));
 
                     // Verify builder Pod
                     List<Pod> capturedBuilderPods = builderPodCaptor.getAllValues();
@@ -837,6 +849,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockPodSetOps.getAsync(any(), any())).thenReturn(Future.succeededFuture());
 
         // Mock and capture CM ops
+        when(mockCmOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)))).thenReturn(Future.succeededFuture(null));
         when(mockCmOps.reconcile(any(), anyString(), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
         ArgumentCaptor<ConfigMap> dockerfileCaptor = ArgumentCaptor.forClass(ConfigMap.class);
         when(mockCmOps.reconcile(any(), anyString(), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)), dockerfileCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
@@ -849,7 +862,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 .withNewMetadata()
                     .withName(KafkaConnectResources.buildPodName(NAME))
                     .withNamespace(NAMESPACE)
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile(false).hashStub() + OUTPUT_IMAGE_HASH_STUB))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -859,7 +872,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 .withNewMetadata()
                     .withName(KafkaConnectResources.buildPodName(NAME))
                     .withNamespace(NAMESPACE)
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile(false).hashStub()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -910,7 +923,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(false).hashStub() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
@@ -1021,6 +1034,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockPodSetOps.getAsync(any(), any())).thenReturn(Future.succeededFuture());
 
         // Mock and capture CM ops
+        when(mockCmOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)))).thenReturn(Future.succeededFuture(null));
         when(mockCmOps.reconcile(any(), anyString(), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
         ArgumentCaptor<ConfigMap> dockerfileCaptor = ArgumentCaptor.forClass(ConfigMap.class);
         when(mockCmOps.reconcile(any(), anyString(), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)), dockerfileCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
@@ -1033,7 +1047,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 .withNewMetadata()
                     .withName(KafkaConnectResources.buildPodName(NAME))
                     .withNamespace(NAMESPACE)
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile(false).hashStub()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -1043,7 +1057,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 .withNewMetadata()
                     .withName(KafkaConnectResources.buildPodName(NAME))
                     .withNamespace(NAMESPACE)
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile(false).hashStub()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -1095,14 +1109,14 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(false).hashStub() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
                 assertThat(capturedCms, hasSize(1));
                 ConfigMap dockerfileCm = capturedCms.get(0);
                 assertThat(dockerfileCm.getData().containsKey("Dockerfile"), is(true));
-                assertThat(dockerfileCm.getData().get("Dockerfile"), is(build.generateDockerfile().getDockerfile()));
+                assertThat(dockerfileCm.getData().get("Dockerfile"), is(build.generateDockerfile(false).getDockerfile()));
 
                 // Verify builder Pod
                 List<Pod> capturedBuilderPods = builderPodCaptor.getAllValues();
@@ -1209,6 +1223,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockPodSetOps.getAsync(any(), any())).thenReturn(Future.succeededFuture());
 
         // Mock and capture CM ops
+        when(mockCmOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)))).thenReturn(Future.succeededFuture(null));
         when(mockCmOps.reconcile(any(), anyString(), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
         ArgumentCaptor<ConfigMap> dockerfileCaptor = ArgumentCaptor.forClass(ConfigMap.class);
         when(mockCmOps.reconcile(any(), anyString(), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)), dockerfileCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
@@ -1221,7 +1236,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 .withNewMetadata()
                     .withName(KafkaConnectResources.buildPodName(NAME))
                     .withNamespace(NAMESPACE)
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile(false).hashStub()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -1234,7 +1249,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 .withNewMetadata()
                     .withName(KafkaConnectResources.buildPodName(NAME))
                     .withNamespace(NAMESPACE)
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile(false).hashStub()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -1285,14 +1300,14 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(false).hashStub() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
                 assertThat(capturedCms, hasSize(1));
                 ConfigMap dockerfileCm = capturedCms.get(0);
                 assertThat(dockerfileCm.getData().containsKey("Dockerfile"), is(true));
-                assertThat(dockerfileCm.getData().get("Dockerfile"), is(build.generateDockerfile().getDockerfile()));
+                assertThat(dockerfileCm.getData().get("Dockerfile"), is(build.generateDockerfile(false).getDockerfile()));
 
                 // Verify builder Pod
                 List<Pod> capturedBuilderPods = builderPodCaptor.getAllValues();
@@ -1369,7 +1384,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockDepOps.reconcile(any(), anyString(), anyString(), depCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockDepOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.deploymentName(NAME)))).thenAnswer(inv -> {
             Deployment dep = connect.generateDeployment(3, null, emptyMap(), false, null, null, null);
-            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB);
+            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile(false).hashStub() + OUTPUT_IMAGE_HASH_STUB);
             dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_IMAGE, "my-connect-build@sha256:blablabla");
             return Future.succeededFuture(dep);
         });
@@ -1383,6 +1398,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockPodSetOps.getAsync(any(), any())).thenReturn(Future.succeededFuture());
 
         // Mock and capture CM ops
+        when(mockCmOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)))).thenReturn(Future.succeededFuture(null));
         when(mockCmOps.reconcile(any(), anyString(), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
         ArgumentCaptor<ConfigMap> dockerfileCaptor = ArgumentCaptor.forClass(ConfigMap.class);
         when(mockCmOps.reconcile(any(), anyString(), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)), dockerfileCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
@@ -1421,7 +1437,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(false).hashStub() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
@@ -1509,7 +1525,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 dep.getMetadata().setAnnotations(Map.of(Annotations.STRIMZI_IO_CONNECT_FORCE_REBUILD, "true"));
             }
 
-            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile().hashStub());
+            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile(false).hashStub());
             dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_IMAGE, "my-connect-build@sha256:blablabla");
 
             return Future.succeededFuture(dep);
@@ -1524,6 +1540,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockPodSetOps.getAsync(any(), any())).thenReturn(Future.succeededFuture());
 
         // Mock and capture CM ops
+        when(mockCmOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)))).thenReturn(Future.succeededFuture(null));
         when(mockCmOps.reconcile(any(), anyString(), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
         ArgumentCaptor<ConfigMap> dockerfileCaptor = ArgumentCaptor.forClass(ConfigMap.class);
         when(mockCmOps.reconcile(any(), anyString(), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)), dockerfileCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
@@ -1584,14 +1601,14 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:rebuiltblablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(false).hashStub() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
                 assertThat(capturedCms, hasSize(1));
                 ConfigMap dockerfileCm = capturedCms.get(0);
                 assertThat(dockerfileCm.getData().containsKey("Dockerfile"), is(true));
-                assertThat(dockerfileCm.getData().get("Dockerfile"), is(build.generateDockerfile().getDockerfile()));
+                assertThat(dockerfileCm.getData().get("Dockerfile"), is(build.generateDockerfile(false).getDockerfile()));
 
                 // Verify builder Pod
                 List<Pod> capturedBuilderPods = builderPodCaptor.getAllValues();
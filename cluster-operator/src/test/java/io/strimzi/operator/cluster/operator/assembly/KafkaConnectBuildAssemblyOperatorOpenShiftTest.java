@@ -231,13 +231,13 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(true).hashStub() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify BuildConfig
                 List<BuildConfig> capturedBcs = buildConfigCaptor.getAllValues();
                 assertThat(capturedBcs, hasSize(1));
                 BuildConfig buildConfig = capturedBcs.get(0);
-                assertThat(buildConfig.getSpec().getSource().getDockerfile(), is(build.generateDockerfile().getDockerfile()));
+                assertThat(buildConfig.getSpec().getSource().getDockerfile(), is(build.generateDockerfile(true).getDockerfile()));
 
                 // Verify status
                 List<KafkaConnect> capturedConnects = connectCaptor.getAllValues();
@@ -449,7 +449,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
         when(mockDepOps.reconcile(any(), anyString(), anyString(), depCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockDepOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.deploymentName(NAME)))).thenAnswer(inv -> {
             Deployment dep = oldConnect.generateDeployment(3, null, emptyMap(), false, null, null, null);
-            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub());
+            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile(true).hashStub());
             dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_IMAGE, "my-connect-build@sha256:olddigest");
             return Future.succeededFuture(dep);
         });
@@ -527,13 +527,13 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(true).hashStub() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify BuildConfig
                 List<BuildConfig> capturedBcs = buildConfigCaptor.getAllValues();
                 assertThat(capturedBcs, hasSize(1));
                 BuildConfig buildConfig = capturedBcs.get(0);
-                assertThat(buildConfig.getSpec().getSource().getDockerfile(), is(build.generateDockerfile().getDockerfile()));
+                assertThat(buildConfig.getSpec().getSource().getDockerfile(), is(build.generateDockerfile(true).getDockerfile()));
 
                 // Verify status
                 List<KafkaConnect> capturedConnects = connectCaptor.getAllValues();
@@ -620,7 +620,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
         when(mockDepOps.reconcile(any(), anyString(), anyString(), depCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockDepOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.deploymentName(NAME)))).thenAnswer(inv -> {
             Deployment dep = oldConnect.generateDeployment(3, null, emptyMap(), false, null, null, null);
-            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub() + Util.hashStub(oldBuild.getBuild().getOutput().getImage()));
+            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile(true).hashStub() + Util.hashStub(oldBuild.getBuild().getOutput().getImage()));
             dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_IMAGE, "my-connect-build-2@sha256:olddigest");
             return Future.succeededFuture(dep);
         });
@@ -698,13 +698,13 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                     Deployment dep = capturedDeps.get(0);
                     assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                     assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build-2@sha256:blablabla"));
-                    assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + Util.hashStub(build.getBuild().getOutput().getImage())));
+                    assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(true).hashStub() + Util.hashStub(build.getBuild().getOutput().getImage())));
 
                     // Verify BuildConfig
                     List<BuildConfig> capturedBcs = buildConfigCaptor.getAllValues();
                     assertThat(capturedBcs, hasSize(1));
                     BuildConfig buildConfig = capturedBcs.get(0);
-                    assertThat(buildConfig.getSpec().getSource().getDockerfile(), is(build.generateDockerfile().getDockerfile()));
+                    assertThat(buildConfig.getSpec().getSource().getDockerfile(), is(build.generateDockerfile(true).getDockerfile()));
 
                     // Verify status
                     List<KafkaConnect> capturedConnects = connectCaptor.getAllValues();
@@ -776,7 +776,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
         when(mockDepOps.reconcile(any(), anyString(), anyString(), depCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockDepOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.deploymentName(NAME)))).thenAnswer(inv -> {
             Deployment dep = connect.generateDeployment(3, null, emptyMap(), false, null, null, null);
-            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB);
+            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile(true).hashStub() + OUTPUT_IMAGE_HASH_STUB);
             dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_IMAGE, "my-connect-build@sha256:blablabla");
             return Future.succeededFuture(dep);
         });
@@ -826,7 +826,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(true).hashStub() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify BuildConfig
                 List<BuildConfig> capturedBcs = buildConfigCaptor.getAllValues();
@@ -911,7 +911,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                 dep.getMetadata().setAnnotations(Map.of(Annotations.STRIMZI_IO_CONNECT_FORCE_REBUILD, "true"));
             }
 
-            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB);
+            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile(true).hashStub() + OUTPUT_IMAGE_HASH_STUB);
             dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_IMAGE, "my-connect-build@sha256:blablabla");
 
             return Future.succeededFuture(dep);
@@ -986,13 +986,13 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:rebuiltblablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(true).hashStub() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify BuildConfig
                 List<BuildConfig> capturedBcs = buildConfigCaptor.getAllValues();
                 assertThat(capturedBcs, hasSize(1));
                 BuildConfig buildConfig = capturedBcs.get(0);
-                assertThat(buildConfig.getSpec().getSource().getDockerfile(), is(build.generateDockerfile().getDockerfile()));
+                assertThat(buildConfig.getSpec().getSource().getDockerfile(), is(build.generateDockerfile(true).getDockerfile()));
 
                 // Verify status
                 List<KafkaConnect> capturedConnects = connectCaptor.getAllValues();
@@ -1081,7 +1081,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
         when(mockDepOps.reconcile(any(), anyString(), anyString(), depCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockDepOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.deploymentName(NAME)))).thenAnswer(inv -> {
             Deployment dep = oldConnect.generateDeployment(3, null, emptyMap(), false, null, null, null);
-            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub());
+            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile(true).hashStub());
             dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_IMAGE, "my-connect-build@sha256:olddigest");
             return Future.succeededFuture(dep);
         });
@@ -1105,7 +1105,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                 .withNewMetadata()
                     .withNamespace(NAMESPACE)
                     .withName(KafkaConnectResources.buildName(NAME, 1L))
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile(true).hashStub()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -1118,7 +1118,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                 .withNewMetadata()
                     .withNamespace(NAMESPACE)
                     .withName(KafkaConnectResources.buildName(NAME, 1L))
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile(true).hashStub()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -1141,7 +1141,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
         ArgumentCaptor<BuildConfig> buildConfigCaptor = ArgumentCaptor.forClass(BuildConfig.class);
         when(mockBcOps.reconcile(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildConfigName(NAME)), buildConfigCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
 
-        BuildConfig oldBuildConfig = new BuildConfigBuilder(oldBuild.generateBuildConfig(oldBuild.generateDockerfile()))
+        BuildConfig oldBuildConfig = new BuildConfigBuilder(oldBuild.generateBuildConfig(oldBuild.generateDockerfile(true)))
                 .withNewStatus()
                     .withLastVersion(1L)
                 .endStatus()
@@ -1182,7 +1182,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(true).hashStub() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify BuildConfig
                 List<BuildConfig> capturedBcs = buildConfigCaptor.getAllValues();
@@ -1275,7 +1275,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
         when(mockDepOps.reconcile(any(), anyString(), anyString(), depCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockDepOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.deploymentName(NAME)))).thenAnswer(inv -> {
             Deployment dep = oldConnect.generateDeployment(3, null, emptyMap(), false, null, null, null);
-            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub());
+            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile(true).hashStub());
             dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_IMAGE, "my-connect-build@sha256:olddigest");
             return Future.succeededFuture(dep);
         });
@@ -1299,7 +1299,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                 .withNewMetadata()
                     .withNamespace(NAMESPACE)
                     .withName(KafkaConnectResources.buildName(NAME, 1L))
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile(true).hashStub()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -1312,7 +1312,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                 .withNewMetadata()
                     .withNamespace(NAMESPACE)
                     .withName(KafkaConnectResources.buildName(NAME, 2L))
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile(true).hashStub()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -1335,7 +1335,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
         ArgumentCaptor<BuildConfig> buildConfigCaptor = ArgumentCaptor.forClass(BuildConfig.class);
         when(mockBcOps.reconcile(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildConfigName(NAME)), buildConfigCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
 
-        BuildConfig oldBuildConfig = new BuildConfigBuilder(oldBuild.generateBuildConfig(oldBuild.generateDockerfile()))
+        BuildConfig oldBuildConfig = new BuildConfigBuilder(oldBuild.generateBuildConfig(oldBuild.generateDockerfile(true)))
                 .withNewStatus()
                     .withLastVersion(1L)
                 .endStatus()
@@ -1376,13 +1376,13 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(true).hashStub() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify BuildConfig
                 List<BuildConfig> capturedBcs = buildConfigCaptor.getAllValues();
                 assertThat(capturedBcs, hasSize(1));
                 BuildConfig buildConfig = capturedBcs.get(0);
-                assertThat(buildConfig.getSpec().getSource().getDockerfile(), is(build.generateDockerfile().getDockerfile()));
+                assertThat(buildConfig.getSpec().getSource().getDockerfile(), is(build.generateDockerfile(true).getDockerfile()));
 
                 // Verify status
                 List<KafkaConnect> capturedConnects = connectCaptor.getAllValues();
@@ -1471,7 +1471,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
         when(mockDepOps.reconcile(any(), anyString(), anyString(), depCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockDepOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.deploymentName(NAME)))).thenAnswer(inv -> {
             Deployment dep = oldConnect.generateDeployment(3, null, emptyMap(), false, null, null, null);
-            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub());
+            dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile(true).hashStub());
             dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_IMAGE, "my-connect-build@sha256:olddigest");
             return Future.succeededFuture(dep);
         });
@@ -1495,7 +1495,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                 .withNewMetadata()
                     .withNamespace(NAMESPACE)
                     .withName(KafkaConnectResources.buildName(NAME, 1L))
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile(true).hashStub()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -1508,7 +1508,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                 .withNewMetadata()
                     .withNamespace(NAMESPACE)
                     .withName(KafkaConnectResources.buildName(NAME, 2L))
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile(true).hashStub()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -1531,7 +1531,7 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
         ArgumentCaptor<BuildConfig> buildConfigCaptor = ArgumentCaptor.forClass(BuildConfig.class);
         when(mockBcOps.reconcile(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildConfigName(NAME)), buildConfigCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
 
-        BuildConfig oldBuildConfig = new BuildConfigBuilder(oldBuild.generateBuildConfig(oldBuild.generateDockerfile()))
+        BuildConfig oldBuildConfig = new BuildConfigBuilder(oldBuild.generateBuildConfig(oldBuild.generateDockerfile(true)))
                 .withNewStatus()
                     .withLastVersion(1L)
                 .endStatus()
@@ -1572,13 +1572,13 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile(true).hashStub() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify BuildConfig
                 List<BuildConfig> capturedBcs = buildConfigCaptor.getAllValues();
                 assertThat(capturedBcs, hasSize(1));
                 BuildConfig buildConfig = capturedBcs.get(0);
-                assertThat(buildConfig.getSpec().getSource().getDockerfile(), is(build.generateDockerfile().getDockerfile()));
+                assertThat(buildConfig.getSpec().getSource().getDockerfile(), is(build.generateDockerfile(true).getDockerfile()));
 
                 // Verify status
                 List<KafkaConnect> capturedConnects = connectCaptor.getAllValues();
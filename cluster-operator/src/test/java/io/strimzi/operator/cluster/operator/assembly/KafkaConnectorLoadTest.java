@@ -0,0 +1,250 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.KafkaConnect;
+import io.strimzi.api.kafka.model.KafkaConnectBuilder;
+import io.strimzi.api.kafka.model.KafkaConnector;
+import io.strimzi.api.kafka.model.KafkaConnectorBuilder;
+import io.strimzi.api.kafka.model.connect.ConnectorPluginBuilder;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.model.OrderedProperties;
+import io.strimzi.platform.KubernetesVersion;
+import io.strimzi.test.mockkube2.MockKube2;
+import io.strimzi.test.mockkube2.load.ApiCallCounter;
+import io.strimzi.test.mockkube2.load.LoadTestReport;
+import io.strimzi.test.mockkube2.load.ReconciliationLatencyTracker;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import static io.strimzi.test.TestUtils.map;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load test of the KafkaConnector reconciliation. It runs the real KafkaConnectAssemblyOperator with its Connect and
+ * connector watches against MockKube2 and an in-memory fake of the Kafka Connect REST API, deploys a single Kafka
+ * Connect cluster, creates the configured number of KafkaConnectors and writes the reconciliation latencies, the
+ * Kubernetes API call counts and the heap usage into the load test report. The connectors which were not reconciled
+ * from their watch events because the Connect cluster lock could not be acquired in time are picked up by the periodic
+ * reconciliation in the same way as in the Cluster Operator. It is enabled only when the strimzi.loadtest.enabled
+ * system property is set to true.
+ */
+@EnabledIfSystemProperty(named = "strimzi.loadtest.enabled", matches = "true")
+@EnableKubernetesMockClient(crud = true)
+public class KafkaConnectorLoadTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String CONNECT_NAME = "my-connect";
+    private static final int CONNECTORS = Integer.getInteger("strimzi.loadtest.connectors", 1_000);
+    private static final long TIMEOUT_MS = Long.getLong("strimzi.loadtest.timeout.ms", 600_000L);
+    private static final long FULL_RECONCILIATION_INTERVAL_MS = Long.getLong("strimzi.loadtest.full.reconciliation.interval.ms", 30_000L);
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+    private MockKube2 mockKube;
+    private Vertx vertx;
+    private WorkerExecutor sharedWorkerExecutor;
+
+    @BeforeEach
+    public void beforeEach() {
+        mockKube = new MockKube2.MockKube2Builder(client)
+                .withKafkaConnectCrd()
+                .withKafkaConnectorCrd()
+                .withDeploymentController()
+                .build();
+        mockKube.start();
+
+        vertx = Vertx.vertx();
+        // Keeps the shared worker pool used by the Kubernetes operations open for the whole test
+        sharedWorkerExecutor = vertx.createSharedWorkerExecutor("kubernetes-ops-pool");
+    }
+
+    @AfterEach
+    public void afterEach() throws ExecutionException, InterruptedException {
+        sharedWorkerExecutor.close();
+        vertx.close().toCompletionStage().toCompletableFuture().get();
+        mockKube.stop();
+    }
+
+    @Test
+    public void testKafkaConnectorLoad() throws ExecutionException, InterruptedException {
+        ApiCallCounter apiCalls = new ApiCallCounter();
+        KubernetesClient operatorClient = apiCalls.countingClient(client);
+        PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION);
+        ResourceOperatorSupplier supplier = new ResourceOperatorSupplier(vertx, operatorClient, ResourceUtils.zookeeperLeaderFinder(vertx, operatorClient),
+                ResourceUtils.adminClientProvider(), ResourceUtils.zookeeperScalerProvider(), ResourceUtils.metricsProvider(), pfa, 10_000);
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(map(
+                ClusterOperatorConfig.STRIMZI_KAFKA_IMAGES, KafkaVersionTestUtils.getKafkaImagesEnvVarString(),
+                ClusterOperatorConfig.STRIMZI_KAFKA_CONNECT_IMAGES, KafkaVersionTestUtils.getKafkaConnectImagesEnvVarString(),
+                ClusterOperatorConfig.STRIMZI_KAFKA_MIRROR_MAKER_2_IMAGES, KafkaVersionTestUtils.getKafkaMirrorMaker2ImagesEnvVarString(),
+                ClusterOperatorConfig.STRIMZI_FULL_RECONCILIATION_INTERVAL_MS, Long.toString(Long.MAX_VALUE)),
+                KafkaVersionTestUtils.getKafkaVersionLookup());
+        KafkaConnectApi api = inMemoryConnectApi();
+        KafkaConnectAssemblyOperator operator = new KafkaConnectAssemblyOperator(vertx, pfa, supplier, config, x -> api);
+
+        Watch connectWatch = operator.createWatch(NAMESPACE, e -> { }).toCompletionStage().toCompletableFuture().get();
+        Watch connectorWatch = AbstractConnectOperator.createConnectorWatch(operator, NAMESPACE, null).toCompletionStage().toCompletableFuture().get();
+        long timerId = vertx.setPeriodic(FULL_RECONCILIATION_INTERVAL_MS, id -> operator.reconcileAll("timer", NAMESPACE, ignore -> { }));
+        ReconciliationLatencyTracker<KafkaConnect> connectTracker = new ReconciliationLatencyTracker<>(KafkaConnect.RESOURCE_KIND, NAMESPACE, Crds.kafkaConnectOperation(client));
+        ReconciliationLatencyTracker<KafkaConnector> connectorTracker = new ReconciliationLatencyTracker<>(KafkaConnector.RESOURCE_KIND, NAMESPACE, Crds.kafkaConnectorOperation(client));
+
+        connectTracker.start();
+        connectorTracker.start();
+        apiCalls.reset();
+
+        LoadTestReport report = new LoadTestReport("kafka-connector-load-test")
+                .withParameter("connectors", CONNECTORS)
+                .withParameter("fullReconciliationIntervalMs", FULL_RECONCILIATION_INTERVAL_MS);
+
+        try {
+            // The connectors are reconciled only once the Connect cluster is ready
+            connectTracker.create(kafkaConnect());
+            connectTracker.awaitReconciled(TIMEOUT_MS);
+
+            for (int i = 0; i < CONNECTORS; i++) {
+                connectorTracker.create(kafkaConnector(i));
+            }
+
+            connectorTracker.awaitReconciled(TIMEOUT_MS);
+        } finally {
+            report.withLatencies(connectTracker)
+                    .withLatencies(connectorTracker)
+                    .withApiCalls(apiCalls)
+                    .write();
+
+            connectorTracker.stop();
+            connectTracker.stop();
+            vertx.cancelTimer(timerId);
+            connectorWatch.close();
+            connectWatch.close();
+            operatorClient.close();
+        }
+
+        assertThat(connectorTracker.pending(), is(0));
+    }
+
+    private static KafkaConnect kafkaConnect() {
+        return new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withName(CONNECT_NAME)
+                    .withNamespace(NAMESPACE)
+                    .addToAnnotations(Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES, "true")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                .endSpec()
+                .build();
+    }
+
+    private static KafkaConnector kafkaConnector(int index) {
+        return new KafkaConnectorBuilder()
+                .withNewMetadata()
+                    .withName("connector-" + index)
+                    .withNamespace(NAMESPACE)
+                    .addToLabels(Labels.STRIMZI_CLUSTER_LABEL, CONNECT_NAME)
+                .endMetadata()
+                .withNewSpec()
+                    .withTasksMax(1)
+                    .withClassName("io.strimzi.LoadTestConnector")
+                    .withConfig(Map.of("topic", "topic-" + index))
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Creates a fake of the Kafka Connect REST API which keeps the connectors in memory and which is safe to use from
+     * multiple threads. All connectors are always reported as running.
+     *
+     * @return  Fake Kafka Connect API
+     */
+    private static KafkaConnectApi inMemoryConnectApi() {
+        KafkaConnectApi api = mock(KafkaConnectApi.class, Mockito.withSettings().stubOnly());
+        Map<String, JsonObject> connectors = new ConcurrentHashMap<>();
+
+        when(api.listWithInfoAndStatus(any(), anyString(), anyInt())).thenAnswer(i -> {
+            Map<String, Map<String, Object>> result = new HashMap<>();
+            connectors.forEach((name, config) -> result.put(name, Map.of("info", Map.of("name", name, "config", connectorConfig(name, config)), "status", connectorStatus(name))));
+            return Future.succeededFuture(result);
+        });
+        when(api.listConnectorPlugins(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(List.of(new ConnectorPluginBuilder()
+                .withConnectorClass("io.strimzi.LoadTestConnector")
+                .withType("source")
+                .withVersion("1.0.0")
+                .build())));
+        when(api.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
+        when(api.getConnectorConfig(any(), any(), anyString(), anyInt(), anyString())).thenAnswer(i -> {
+            String name = i.getArgument(4);
+            JsonObject config = connectors.get(name);
+            return config != null ? Future.succeededFuture(connectorConfig(name, config))
+                    : Future.failedFuture(new ConnectRestException("GET", String.format("/connectors/%s/config", name), 404, "Not Found", ""));
+        });
+        when(api.createOrUpdatePutRequest(any(), anyString(), anyInt(), anyString(), any())).thenAnswer(i -> {
+            String name = i.getArgument(3);
+            connectors.put(name, i.getArgument(4));
+            return Future.succeededFuture(Map.of("name", name));
+        });
+        when(api.delete(any(), anyString(), anyInt(), anyString())).thenAnswer(i -> {
+            connectors.remove((String) i.getArgument(3));
+            return Future.succeededFuture();
+        });
+        when(api.statusWithBackOff(any(), any(), anyString(), anyInt(), anyString())).thenAnswer(i -> Future.succeededFuture(connectorStatus(i.getArgument(4))));
+        when(api.status(any(), anyString(), anyInt(), anyString())).thenAnswer(i -> Future.succeededFuture(connectorStatus(i.getArgument(3))));
+        when(api.getConnectorTopics(any(), anyString(), anyInt(), anyString())).thenAnswer(i -> Future.succeededFuture(List.of()));
+        when(api.pause(any(), anyString(), anyInt(), anyString())).thenReturn(Future.succeededFuture());
+        when(api.resume(any(), anyString(), anyInt(), anyString())).thenReturn(Future.succeededFuture());
+        when(api.restart(anyString(), anyInt(), anyString(), anyBoolean(), anyBoolean())).thenReturn(Future.succeededFuture());
+        when(api.restartTask(anyString(), anyInt(), anyString(), anyInt())).thenReturn(Future.succeededFuture());
+
+        return api;
+    }
+
+    private static Map<String, String> connectorConfig(String name, JsonObject config) {
+        Map<String, String> result = new HashMap<>();
+        result.put("name", name);
+        config.forEach(entry -> {
+            if (entry.getValue() != null) {
+                result.put(entry.getKey(), entry.getValue().toString());
+            }
+        });
+        return result;
+    }
+
+    private static Map<String, Object> connectorStatus(String name) {
+        return Map.of(
+                "name", name,
+                "connector", Map.of("state", "RUNNING", "worker_id", "my-connect-connect-0:8083"),
+                "tasks", List.of(Map.of("id", 0, "state", "RUNNING", "worker_id", "my-connect-connect-0:8083")));
+    }
+}
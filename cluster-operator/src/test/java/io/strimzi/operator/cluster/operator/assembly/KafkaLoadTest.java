@@ -0,0 +1,159 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.platform.KubernetesVersion;
+import io.strimzi.test.mockkube2.MockKube2;
+import io.strimzi.test.mockkube2.load.ApiCallCounter;
+import io.strimzi.test.mockkube2.load.LoadTestReport;
+import io.strimzi.test.mockkube2.load.ReconciliationLatencyTracker;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Load test of the Kafka cluster reconciliation. It runs the real KafkaAssemblyOperator with its watch and the
+ * StrimziPodSetController against MockKube2 with the mocked Kafka and ZooKeeper clients used by the other mock tests,
+ * creates the configured number of Kafka clusters and writes the reconciliation latencies, the Kubernetes API call
+ * counts and the heap usage into the load test report. It is enabled only when the strimzi.loadtest.enabled system
+ * property is set to true.
+ */
+@EnabledIfSystemProperty(named = "strimzi.loadtest.enabled", matches = "true")
+@EnableKubernetesMockClient(crud = true)
+public class KafkaLoadTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final int KAFKAS = Integer.getInteger("strimzi.loadtest.kafkas", 10);
+    private static final long TIMEOUT_MS = Long.getLong("strimzi.loadtest.timeout.ms", 600_000L);
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+    private MockKube2 mockKube;
+    private Vertx vertx;
+    private WorkerExecutor sharedWorkerExecutor;
+
+    @BeforeEach
+    public void beforeEach() {
+        mockKube = new MockKube2.MockKube2Builder(client)
+                .withKafkaCrd()
+                .withStrimziPodSetCrd()
+                .withDeploymentController()
+                .withPodController()
+                .withServiceController()
+                .build();
+        mockKube.start();
+
+        vertx = Vertx.vertx();
+        // Keeps the shared worker pool used by the Kubernetes operations open for the whole test
+        sharedWorkerExecutor = vertx.createSharedWorkerExecutor("kubernetes-ops-pool");
+    }
+
+    @AfterEach
+    public void afterEach() throws ExecutionException, InterruptedException {
+        sharedWorkerExecutor.close();
+        vertx.close().toCompletionStage().toCompletableFuture().get();
+        mockKube.stop();
+        ResourceUtils.cleanUpTemporaryTLSFiles();
+    }
+
+    @Test
+    public void testKafkaLoad() throws ExecutionException, InterruptedException {
+        ApiCallCounter apiCalls = new ApiCallCounter();
+        KubernetesClient operatorClient = apiCalls.countingClient(client);
+        PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION);
+        ResourceOperatorSupplier supplier = new ResourceOperatorSupplier(vertx, operatorClient, ResourceUtils.zookeeperLeaderFinder(vertx, operatorClient),
+                ResourceUtils.adminClientProvider(), ResourceUtils.zookeeperScalerProvider(), ResourceUtils.metricsProvider(), pfa, 2_000);
+
+        StrimziPodSetController podSetController = new StrimziPodSetController(NAMESPACE, Labels.EMPTY, supplier.kafkaOperator, supplier.connectOperator,
+                supplier.mirrorMaker2Operator, supplier.strimziPodSetOperator, supplier.podOperations, supplier.metricsProvider,
+                ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
+        podSetController.start();
+
+        KafkaAssemblyOperator operator = new KafkaAssemblyOperator(vertx, pfa, new MockCertManager(), new PasswordGenerator(10, "a", "a"), supplier,
+                ResourceUtils.dummyClusterOperatorConfig(KafkaVersionTestUtils.getKafkaVersionLookup()));
+        Watch watch = operator.createWatch(NAMESPACE, e -> { }).toCompletionStage().toCompletableFuture().get();
+        ReconciliationLatencyTracker<Kafka> tracker = new ReconciliationLatencyTracker<>(Kafka.RESOURCE_KIND, NAMESPACE, Crds.kafkaOperation(client));
+
+        tracker.start();
+        apiCalls.reset();
+
+        LoadTestReport report = new LoadTestReport("kafka-load-test")
+                .withParameter("kafkas", KAFKAS);
+
+        try {
+            for (int i = 0; i < KAFKAS; i++) {
+                tracker.create(kafka(i));
+            }
+
+            tracker.awaitReconciled(TIMEOUT_MS);
+        } finally {
+            report.withLatencies(tracker)
+                    .withApiCalls(apiCalls)
+                    .write();
+
+            tracker.stop();
+            watch.close();
+            podSetController.stop();
+            operatorClient.close();
+        }
+
+        assertThat(tracker.pending(), is(0));
+    }
+
+    private static Kafka kafka(int index) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName("cluster-" + index)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(3)
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                .withName("tls")
+                                .withPort(9093)
+                                .withType(KafkaListenerType.INTERNAL)
+                                .withTls(true)
+                                .build())
+                        .withNewPersistentClaimStorage()
+                            .withSize("100Gi")
+                            .withDeleteClaim(true)
+                        .endPersistentClaimStorage()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewPersistentClaimStorage()
+                            .withSize("10Gi")
+                            .withDeleteClaim(true)
+                        .endPersistentClaimStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+    }
+}
@@ -10,6 +10,8 @@ import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicy;
 import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.KafkaMirrorMaker2Resources;
 import io.strimzi.api.kafka.model.KafkaMirrorMaker2;
 import io.strimzi.api.kafka.model.KafkaMirrorMaker2ClusterSpec;
@@ -27,6 +29,7 @@ import io.strimzi.platform.KubernetesVersion;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.cluster.model.KafkaMirrorMaker2Cluster;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
@@ -46,6 +49,7 @@ import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.common.operator.resource.ServiceOperator;
 import io.strimzi.test.TestUtils;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -56,6 +60,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -64,10 +69,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
@@ -83,6 +92,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
+@SuppressWarnings("ClassFanOutComplexity")
 public class KafkaMirrorMaker2AssemblyOperatorTest {
 
     private static final KafkaVersion.Lookup VERSIONS = KafkaVersionTestUtils.getKafkaVersionLookup();
@@ -1058,6 +1068,142 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         return mirrorMaker2Captor;
     }
 
+    @Test
+    public void testMirrorReconciliationTimer(VertxTestContext context) {
+        String kmm2Name = "foo";
+        String namespace = "test-ns";
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(true);
+        KafkaMirrorMaker2 kmm2 = ResourceUtils.createEmptyKafkaMirrorMaker2(namespace, kmm2Name);
+        createMirrorMaker2CaptorMock(namespace, kmm2Name, kmm2, supplier);
+        KafkaConnectApi mockConnectClient = createConnectClientMock();
+
+        kmm2.getSpec().setClusters(List.of(
+                new KafkaMirrorMaker2ClusterSpecBuilder(true).withAlias("src").withBootstrapServers("src:9092").build(),
+                new KafkaMirrorMaker2ClusterSpecBuilder(true).withAlias("tgt").withBootstrapServers("tgt:9092").build()));
+        kmm2.getSpec().setMirrors(List.of(new KafkaMirrorMaker2MirrorSpecBuilder().withSourceCluster("src").withTargetCluster("tgt").build()));
+
+        KafkaMirrorMaker2AssemblyOperator mm2AssemblyOperator = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
+                supplier, ResourceUtils.dummyClusterOperatorConfig(VERSIONS), x -> mockConnectClient);
+
+        Checkpoint async = context.checkpoint();
+        mm2AssemblyOperator.reconcile(new Reconciliation("test-timer", KafkaMirrorMaker2.RESOURCE_KIND, namespace, kmm2Name))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    Timer timer = mm2AssemblyOperator.metrics().metricsProvider().meterRegistry()
+                            .get("strimzi.mirror.reconciliations.duration")
+                            .tag("name", kmm2Name)
+                            .tag("mirror", "src->tgt")
+                            .timer();
+                    assertThat(timer.count(), is(1L));
+                    verify(mockConnectClient).updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testMirrorReconciliationTimersAreRemoved(VertxTestContext context) {
+        String kmm2Name = "foo";
+        String namespace = "test-ns";
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(true);
+        KafkaMirrorMaker2 kmm2 = ResourceUtils.createEmptyKafkaMirrorMaker2(namespace, kmm2Name);
+        createMirrorMaker2CaptorMock(namespace, kmm2Name, kmm2, supplier);
+        when(supplier.kafkaConnectorOperator.listAsync(anyString(), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
+        KafkaConnectApi mockConnectClient = createConnectClientMock();
+
+        kmm2.getSpec().setClusters(List.of(
+                new KafkaMirrorMaker2ClusterSpecBuilder(true).withAlias("src").withBootstrapServers("src:9092").build(),
+                new KafkaMirrorMaker2ClusterSpecBuilder(true).withAlias("tgt").withBootstrapServers("tgt:9092").build()));
+        kmm2.getSpec().setMirrors(List.of(
+                new KafkaMirrorMaker2MirrorSpecBuilder().withSourceCluster("src").withTargetCluster("tgt").build(),
+                new KafkaMirrorMaker2MirrorSpecBuilder().withSourceCluster("tgt").withTargetCluster("src").build()));
+
+        KafkaMirrorMaker2AssemblyOperator mm2AssemblyOperator = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
+                supplier, ResourceUtils.dummyClusterOperatorConfig(VERSIONS), x -> mockConnectClient);
+        MeterRegistry meterRegistry = mm2AssemblyOperator.metrics().metricsProvider().meterRegistry();
+        Reconciliation reconciliation = new Reconciliation("test-timer", KafkaMirrorMaker2.RESOURCE_KIND, namespace, kmm2Name);
+
+        Checkpoint async = context.checkpoint();
+        mm2AssemblyOperator.reconcile(reconciliation)
+                .compose(i -> {
+                    context.verify(() -> {
+                        assertThat(meterRegistry.find("strimzi.mirror.reconciliations.duration").tag("mirror", "src->tgt").timer(), is(notNullValue()));
+                        assertThat(meterRegistry.find("strimzi.mirror.reconciliations.duration").tag("mirror", "tgt->src").timer(), is(notNullValue()));
+                    });
+
+                    // Remove one of the mirrors
+                    kmm2.getSpec().setMirrors(List.of(new KafkaMirrorMaker2MirrorSpecBuilder().withSourceCluster("src").withTargetCluster("tgt").build()));
+                    return mm2AssemblyOperator.reconcile(reconciliation);
+                })
+                .compose(i -> {
+                    context.verify(() -> {
+                        assertThat(meterRegistry.find("strimzi.mirror.reconciliations.duration").tag("mirror", "src->tgt").timer(), is(notNullValue()));
+                        assertThat(meterRegistry.find("strimzi.mirror.reconciliations.duration").tag("mirror", "tgt->src").timer(), is(nullValue()));
+                    });
+
+                    // Delete the whole resource
+                    return mm2AssemblyOperator.delete(reconciliation);
+                })
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(meterRegistry.find("strimzi.mirror.reconciliations.duration").timers(), hasSize(0));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testMirrorErrorsAreAggregated() {
+        Throwable single = new InvalidResourceException("targetCluster property is required");
+        assertThat(KafkaMirrorMaker2AssemblyOperator.mirrorErrors(List.of(single)), is(single));
+
+        Throwable invalid = KafkaMirrorMaker2AssemblyOperator.mirrorErrors(List.of(
+                new InvalidResourceException("sourceCluster with alias b cannot be found in the list of clusters at spec.clusters"),
+                new InvalidResourceException("targetCluster property is required")));
+        assertThat(invalid, instanceOf(InvalidResourceException.class));
+        assertThat(invalid.getMessage(), is("sourceCluster with alias b cannot be found in the list of clusters at spec.clusters; targetCluster property is required"));
+        assertThat(invalid.getSuppressed().length, is(2));
+
+        Throwable mixed = KafkaMirrorMaker2AssemblyOperator.mirrorErrors(List.of(
+                new RuntimeException("Connector b->a.MirrorSourceConnector failed"),
+                new InvalidResourceException("targetCluster property is required")));
+        assertThat(mixed, not(instanceOf(InvalidResourceException.class)));
+        assertThat(mixed.getMessage(), is("Connector b->a.MirrorSourceConnector failed; targetCluster property is required"));
+    }
+
+    @Test
+    public void testForEachWithConcurrencyLimit(VertxTestContext context) {
+        List<Promise<Void>> promises = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            promises.add(Promise.promise());
+        }
+
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+        Future<Void> result = KafkaMirrorMaker2AssemblyOperator.forEachWithConcurrencyLimit(promises, 10, promise -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            return promise.future().onComplete(i -> running.decrementAndGet());
+        });
+
+        // Only the first ten operations are started
+        assertThat(running.get(), is(10));
+
+        // The remaining operations are started as the running ones complete, even when some of them fail
+        for (int i = 0; i < promises.size(); i++) {
+            if (i == 3) {
+                promises.get(i).fail("Failure");
+            } else {
+                promises.get(i).complete();
+            }
+        }
+
+        Checkpoint async = context.checkpoint();
+        result.onComplete(context.failing(error -> context.verify(() -> {
+            assertThat(error.getMessage(), is("Failure"));
+            assertThat(running.get(), is(0));
+            assertThat(maxRunning.get(), is(10));
+            async.flag();
+        })));
+    }
+
     private KafkaConnectApi createConnectClientMock() {
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
         when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
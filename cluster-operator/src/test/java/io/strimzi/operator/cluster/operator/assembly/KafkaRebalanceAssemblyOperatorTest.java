@@ -1329,7 +1329,8 @@ public class KafkaRebalanceAssemblyOperatorTest {
                 false,
                 1024,
                 "cluster-operator-name",
-                ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS, null);
+                ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS, null,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_STEPS_PARALLELISM, 0, ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKER_THREADS);
 
         kcrao = new KafkaRebalanceAssemblyOperator(Vertx.vertx(), supplier, config);
 
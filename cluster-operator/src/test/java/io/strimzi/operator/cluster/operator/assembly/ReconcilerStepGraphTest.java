@@ -0,0 +1,151 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class ReconcilerStepGraphTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "namespace", "name");
+
+    @Test
+    public void testStepsRunInDeclarationOrderWithParallelismOne(VertxTestContext context) {
+        List<String> executed = new CopyOnWriteArrayList<>();
+
+        Checkpoint async = context.checkpoint();
+        new ReconcilerStepGraph(RECONCILIATION, "Test", 1)
+                .step("a", () -> record(executed, "a"))
+                .step("b", () -> record(executed, "b"))
+                .step("c", () -> record(executed, "c"), "a")
+                .step("d", () -> record(executed, "d"))
+                .execute()
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(executed, is(List.of("a", "b", "c", "d")));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testIndependentStepsRunConcurrently(Vertx vertx, VertxTestContext context) {
+        List<String> executed = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+
+        Checkpoint async = context.checkpoint();
+        ReconcilerStepGraph graph = new ReconcilerStepGraph(RECONCILIATION, "Test", 2)
+                .step("a", delayed(vertx, executed, "a", running, maxRunning))
+                .step("b", delayed(vertx, executed, "b", running, maxRunning))
+                .step("c", delayed(vertx, executed, "c", running, maxRunning))
+                .step("d", delayed(vertx, executed, "d", running, maxRunning), "a", "b", "c");
+
+        graph.execute()
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(maxRunning.get(), is(2));
+                    assertThat(executed.size(), is(4));
+                    assertThat(executed.get(3), is("d"));
+                    assertThat(graph.durationsMs().keySet().size(), is(4));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testNoStepsAreStartedAfterFailure(Vertx vertx, VertxTestContext context) {
+        List<String> executed = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+
+        Checkpoint async = context.checkpoint();
+        new ReconcilerStepGraph(RECONCILIATION, "Test", 4)
+                .step("a", () -> Future.failedFuture(new RuntimeException("Failed step")))
+                .step("b", delayed(vertx, executed, "b", running, maxRunning))
+                .step("c", () -> record(executed, "c"), "a")
+                .step("d", () -> {
+                    throw new IllegalStateException("Should not be called");
+                }, "b")
+                .execute()
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(e.getMessage(), is("Failed step"));
+                    // The independent step which was already running completes, but nothing new is started
+                    assertThat(executed, is(List.of("b")));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testStepDurationsAreRecordedAsMetrics(Vertx vertx, VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        List<String> executed = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+
+        Checkpoint async = context.checkpoint();
+        new ReconcilerStepGraph(RECONCILIATION, "Test", 2, new MicrometerMetricsProvider(registry))
+                .step("a", delayed(vertx, executed, "a", running, maxRunning))
+                .step("b", () -> record(executed, "b"), "a")
+                .execute()
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    Timer a = registry.get(ReconcilerStepGraph.STEP_DURATION_METRIC)
+                            .tags("kind", "Kafka", "component", "Test", "step", "a")
+                            .timer();
+                    assertThat(a.count(), is(1L));
+                    assertThat(a.totalTime(TimeUnit.MILLISECONDS) >= 20, is(true));
+
+                    Timer b = registry.get(ReconcilerStepGraph.STEP_DURATION_METRIC)
+                            .tags("kind", "Kafka", "component", "Test", "step", "b")
+                            .timer();
+                    assertThat(b.count(), is(1L));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testDependenciesHaveToBeDeclaredFirst() {
+        ReconcilerStepGraph graph = new ReconcilerStepGraph(RECONCILIATION, "Test", 1)
+                .step("a", Future::succeededFuture);
+
+        assertThrows(IllegalArgumentException.class, () -> graph.step("b", Future::succeededFuture, "c"));
+        assertThrows(IllegalArgumentException.class, () -> graph.step("a", Future::succeededFuture));
+    }
+
+    private static Future<Void> record(List<String> executed, String step) {
+        executed.add(step);
+        return Future.succeededFuture();
+    }
+
+    private static Supplier<Future<Void>> delayed(Vertx vertx, List<String> executed, String step, AtomicInteger running, AtomicInteger maxRunning) {
+        return () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Promise<Void> promise = Promise.promise();
+            vertx.setTimer(20, id -> {
+                running.decrementAndGet();
+                executed.add(step);
+                promise.complete();
+            });
+            return promise.future();
+        };
+    }
+}
@@ -13,6 +13,7 @@ import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.readiness.Readiness;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -53,7 +54,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -238,7 +241,7 @@ public class StrimziPodSetControllerMockTest {
     }
 
     private void startController()  {
-        controller = new StrimziPodSetController(NAMESPACE, Labels.fromMap(MATCHING_LABELS), kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, podSetOperator, podOperator, metricsProvider, ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
+        controller = new StrimziPodSetController(Set.of(NAMESPACE), Labels.fromMap(MATCHING_LABELS), kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, podSetOperator, podOperator, metricsProvider, ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE, ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKER_THREADS, (namespace, name) -> true);
         controller.start();
     }
 
@@ -442,6 +445,70 @@ public class StrimziPodSetControllerMockTest {
         }
     }
 
+    /**
+     * Tests scaling up and down of the StrimziPodSet with more pods than the number of pod operations which can be in
+     * flight at the same time.
+     *
+     * @param context   Test context
+     */
+    @Test
+    public void testScaleUpScaleDownWithManyPods(VertxTestContext context) {
+        String podSetName = "scale-many";
+        int replicas = StrimziPodSetController.MAX_IN_FLIGHT_POD_OPERATIONS * 2 + 5;
+
+        try {
+            Pod[] pods = new Pod[replicas];
+            for (int i = 0; i < replicas; i++) {
+                pods[i] = pod(podSetName + "-" + i, KAFKA_NAME, podSetName, "Kafka");
+            }
+
+            podSetOp().inNamespace(NAMESPACE).resource(podSet(podSetName, KAFKA_NAME, "Kafka", pods)).create();
+
+            // Check status of the PodSet
+            TestUtils.waitFor(
+                    "Wait for StrimziPodSetStatus",
+                    100,
+                    30_000,
+                    () -> {
+                        StrimziPodSet podSet = podSetOp().inNamespace(NAMESPACE).withName(podSetName).get();
+                        return podSet.getStatus() != null
+                                && podSet.getStatus().getCurrentPods() == replicas
+                                && podSet.getStatus().getReadyPods() == replicas
+                                && podSet.getStatus().getPods() == replicas;
+                    },
+                    () -> context.failNow("Pod stats do not match"));
+
+            // Scale-down the pod-set to a single pod
+            podSetOp().inNamespace(NAMESPACE).resource(podSet(podSetName, KAFKA_NAME, "Kafka", pods[0])).replace();
+
+            // Wait until the pods are deleted
+            TestUtils.waitFor(
+                    "Wait for Pods to be deleted",
+                    100,
+                    30_000,
+                    () -> client.pods().inNamespace(NAMESPACE).withLabel(Labels.STRIMZI_NAME_LABEL, podSetName).list().getItems().size() == 1,
+                    () -> context.failNow("Test timed out waiting for pods to be deleted!"));
+
+            // Check status of the PodSet
+            TestUtils.waitFor(
+                    "Wait for StrimziPodSetStatus",
+                    100,
+                    10_000,
+                    () -> {
+                        StrimziPodSet podSet = podSetOp().inNamespace(NAMESPACE).withName(podSetName).get();
+                        return podSet.getStatus().getCurrentPods() == 1
+                                && podSet.getStatus().getReadyPods() == 1
+                                && podSet.getStatus().getPods() == 1
+                                && (podSet.getStatus().getConditions() == null || podSet.getStatus().getConditions().isEmpty());
+                    },
+                    () -> context.failNow("Pod stats do not match"));
+
+            context.completeNow();
+        } finally {
+            podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete();
+        }
+    }
+
     /**
      * Tests updates pods in the StrimziPodSet:
      *   - StrimziPodSetController should not roll the pods => the dedicated rollers do it
@@ -779,4 +846,148 @@ public class StrimziPodSetControllerMockTest {
             podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete();
         }
     }
+
+    /**
+     * Tests that the pods stored in the informer cache keep only the fields used by the controller
+     */
+    @Test
+    public void testCachedPod() {
+        Pod pod = new PodBuilder(pod("my-pod", KAFKA_NAME, "my-podset", "Kafka"))
+                .editMetadata()
+                    .withResourceVersion("1234")
+                    .withAnnotations(Map.of(PodRevision.STRIMZI_REVISION_ANNOTATION, "827d8b53"))
+                    .withOwnerReferences(new OwnerReference("v1beta2", true, true, "StrimziPodSet", "my-podset", "some-uid"))
+                    .addNewManagedField()
+                        .withManager("kubelet")
+                    .endManagedField()
+                .endMetadata()
+                .withNewStatus()
+                    .withPhase("Running")
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                    .addNewContainerStatus()
+                        .withName("busybox")
+                        .withReady(true)
+                    .endContainerStatus()
+                .endStatus()
+                .build();
+
+        Pod cachedPod = StrimziPodSetController.cachedPod(pod);
+
+        // Fields used by the controller are kept
+        assertThat(cachedPod.getMetadata().getName(), is("my-pod"));
+        assertThat(cachedPod.getMetadata().getResourceVersion(), is("1234"));
+        assertThat(cachedPod.getMetadata().getLabels(), is(pod.getMetadata().getLabels()));
+        assertThat(cachedPod.getMetadata().getOwnerReferences(), is(pod.getMetadata().getOwnerReferences()));
+        assertThat(PodRevision.hasChanged(cachedPod, pod), is(false));
+        assertThat(cachedPod.getStatus().getPhase(), is("Running"));
+        assertThat(Readiness.isPodReady(cachedPod), is(true));
+
+        // Other fields are stripped
+        assertThat(cachedPod.getMetadata().getManagedFields(), is(nullValue()));
+        assertThat(cachedPod.getSpec(), is(nullValue()));
+        assertThat(cachedPod.getStatus().getContainerStatuses().isEmpty(), is(true));
+
+        // The original pod is not changed
+        assertThat(pod.getMetadata().getManagedFields().size(), is(1));
+        assertThat(pod.getSpec(), is(notNullValue()));
+    }
+
+    /**
+     * Tests detection of the StrimziPodSet updates caused only by the status updates
+     */
+    @Test
+    public void testIsStatusOnlyUpdate() {
+        StrimziPodSet podSet = new StrimziPodSetBuilder(podSet("my-podset", KAFKA_NAME, "Kafka", pod("my-podset-0", KAFKA_NAME, "my-podset", "Kafka")))
+                .editMetadata()
+                    .withGeneration(1L)
+                    .withResourceVersion("1")
+                .endMetadata()
+                .build();
+
+        // Status update
+        StrimziPodSet statusUpdate = new StrimziPodSetBuilder(podSet)
+                .editMetadata()
+                    .withResourceVersion("2")
+                .endMetadata()
+                .withNewStatus()
+                    .withPods(1)
+                .endStatus()
+                .build();
+        assertThat(StrimziPodSetController.isStatusOnlyUpdate(podSet, statusUpdate), is(true));
+
+        // Periodic resync
+        assertThat(StrimziPodSetController.isStatusOnlyUpdate(podSet, new StrimziPodSetBuilder(podSet).build()), is(false));
+
+        // Spec update
+        StrimziPodSet specUpdate = new StrimziPodSetBuilder(podSet)
+                .editMetadata()
+                    .withResourceVersion("2")
+                    .withGeneration(2L)
+                .endMetadata()
+                .build();
+        assertThat(StrimziPodSetController.isStatusOnlyUpdate(podSet, specUpdate), is(false));
+
+        // Spec update without generation change
+        StrimziPodSet specUpdateWithoutGeneration = new StrimziPodSetBuilder(podSet)
+                .editMetadata()
+                    .withResourceVersion("2")
+                .endMetadata()
+                .editSpec()
+                    .withPods(PodSetUtils.podsToMaps(List.of(pod("my-podset-0", KAFKA_NAME, "my-podset", "Kafka"), pod("my-podset-1", KAFKA_NAME, "my-podset", "Kafka"))))
+                .endSpec()
+                .build();
+        assertThat(StrimziPodSetController.isStatusOnlyUpdate(podSet, specUpdateWithoutGeneration), is(false));
+
+        // Metadata update
+        StrimziPodSet metadataUpdate = new StrimziPodSetBuilder(podSet)
+                .editMetadata()
+                    .withResourceVersion("2")
+                    .addToAnnotations("my-annotation", "my-value")
+                .endMetadata()
+                .build();
+        assertThat(StrimziPodSetController.isStatusOnlyUpdate(podSet, metadataUpdate), is(false));
+    }
+
+    /**
+     * Tests that the time of the last status update is not kept for StrimziPodSets which are not matched by the
+     * selector anymore
+     *
+     * @param context   Test context
+     */
+    @Test
+    public void testLastStatusUpdateIsForgottenWhenNotMatched(VertxTestContext context) {
+        String podSetName = "unmatched-podset";
+        String podName = podSetName + "-0";
+
+        try {
+            podSetOp().inNamespace(NAMESPACE).resource(podSet(podSetName, KAFKA_NAME, "Kafka", pod(podName, KAFKA_NAME, podSetName, "Kafka"))).create();
+
+            // Wait for the status update
+            TestUtils.waitFor(
+                    "Wait for StrimziPodSetStatus",
+                    100,
+                    10_000,
+                    () -> controller.isLastStatusUpdateTracked(NAMESPACE, podSetName),
+                    () -> context.failNow("Test timed out waiting for the status update!"));
+
+            // The Kafka cluster does not match the selector anymore
+            kafkaOp().inNamespace(NAMESPACE).withName(KAFKA_NAME).edit(k -> new KafkaBuilder(k).editMetadata().withLabels(OTHER_LABELS).endMetadata().build());
+            TestUtils.waitFor(
+                    "Wait for the Kafka cluster to not match the selector",
+                    100,
+                    10_000,
+                    () -> {
+                        podSetOp().inNamespace(NAMESPACE).withName(podSetName).edit(ps -> new StrimziPodSetBuilder(ps).editMetadata().addToAnnotations("my-annotation", String.valueOf(System.nanoTime())).endMetadata().build());
+                        return !controller.isLastStatusUpdateTracked(NAMESPACE, podSetName);
+                    },
+                    () -> context.failNow("Test timed out waiting for the last status update to be forgotten!"));
+
+            context.completeNow();
+        } finally {
+            podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete();
+        }
+    }
 }
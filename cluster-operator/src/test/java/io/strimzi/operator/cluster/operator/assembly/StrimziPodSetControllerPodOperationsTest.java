@@ -0,0 +1,80 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.Reconciliation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class StrimziPodSetControllerPodOperationsTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "StrimziPodSet", "namespace", "name");
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        // Single worker => the pool has exactly as many threads as the in-flight operations limit
+        executor = StrimziPodSetController.podOperationsExecutor(StrimziPodSetController.MAX_IN_FLIGHT_POD_OPERATIONS);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testSaturatedPodOperationsAreNotRejected() throws InterruptedException {
+        int operationsCount = 10_000;
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+        AtomicInteger completed = new AtomicInteger(0);
+
+        StrimziPodSetController.PodOperations podOperations = new StrimziPodSetController.PodOperations(RECONCILIATION, executor);
+
+        for (int i = 0; i < operationsCount; i++) {
+            podOperations.submit("operation " + i, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                running.decrementAndGet();
+                completed.incrementAndGet();
+            });
+        }
+
+        List<Throwable> errors = podOperations.awaitCompletion();
+
+        assertThat(errors.isEmpty(), is(true));
+        assertThat(completed.get(), is(operationsCount));
+        assertThat(maxRunning.get(), lessThanOrEqualTo(StrimziPodSetController.MAX_IN_FLIGHT_POD_OPERATIONS));
+    }
+
+    @Test
+    public void testPodOperationsOfMultipleWorkersShareThePool() throws InterruptedException {
+        int operationsCount = 1_000;
+        AtomicInteger completed = new AtomicInteger(0);
+
+        // Two workers sharing a pool sized for one worker saturate it even more
+        StrimziPodSetController.PodOperations first = new StrimziPodSetController.PodOperations(RECONCILIATION, executor);
+        StrimziPodSetController.PodOperations second = new StrimziPodSetController.PodOperations(RECONCILIATION, executor);
+
+        for (int i = 0; i < operationsCount; i++) {
+            first.submit("first " + i, completed::incrementAndGet);
+            second.submit("second " + i, completed::incrementAndGet);
+        }
+
+        assertThat(first.awaitCompletion().isEmpty(), is(true));
+        assertThat(second.awaitCompletion().isEmpty(), is(true));
+        assertThat(completed.get(), is(2 * operationsCount));
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+@ExtendWith(VertxExtension.class)
+public class HttpClientPoolTest {
+    private static final HttpClientPool.ClientConfiguration CONFIGURATION = HttpClientPool.configuration(new HttpClientOptions());
+
+    @Test
+    public void testConnectionsAreReused(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        Set<String> remoteAddresses = ConcurrentHashMap.newKeySet();
+        HttpServer server = vertx.createHttpServer()
+                .requestHandler(request -> {
+                    remoteAddresses.add(request.remoteAddress().toString());
+                    request.response().setStatusCode(200).end("OK");
+                })
+                .listen(0).toCompletionStage().toCompletableFuture().get();
+
+        HttpClientPool pool = new HttpClientPool(vertx, "test", null);
+
+        Checkpoint async = context.checkpoint();
+        // The connection is returned to the pool only after the response is handled => the next request is sent
+        // in a later timer to reuse it
+        get(pool, server.actualPort())
+                .compose(i -> delay(vertx))
+                .compose(i -> get(pool, server.actualPort()))
+                .compose(i -> delay(vertx))
+                .compose(i -> get(pool, server.actualPort()))
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(body, is("OK"));
+                    assertThat(pool.size(), is(1));
+                    assertThat(remoteAddresses.size(), is(1));
+
+                    pool.close().onComplete(context.succeeding(i -> context.verify(() -> {
+                        assertThat(pool.size(), is(0));
+                        server.close();
+                        async.flag();
+                    })));
+                })));
+    }
+
+    @Test
+    public void testDifferentOptionsUseDifferentClients(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = vertx.createHttpServer()
+                .requestHandler(request -> request.response().setStatusCode(200).end("OK"))
+                .listen(0).toCompletionStage().toCompletableFuture().get();
+
+        HttpClientPool pool = new HttpClientPool(vertx, "test", null);
+
+        Checkpoint async = context.checkpoint();
+        get(pool, server.actualPort())
+                .compose(i -> pool.withHttpClient(HttpClientPool.configuration(new HttpClientOptions().setLogActivity(true)), (client, promise) ->
+                        client.request(HttpMethod.GET, server.actualPort(), "127.0.0.1", "/")
+                                .compose(request -> request.send())
+                                .compose(response -> response.body())
+                                .onComplete(body -> promise.complete(body.result().toString()))))
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(pool.size(), is(2));
+
+                    pool.close().onComplete(i -> {
+                        server.close();
+                        async.flag();
+                    });
+                })));
+    }
+
+    @Test
+    public void testIdleClientsAreEvicted(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = vertx.createHttpServer()
+                .requestHandler(request -> request.response().setStatusCode(200).end("OK"))
+                .listen(0).toCompletionStage().toCompletableFuture().get();
+
+        HttpClientPool pool = new HttpClientPool(vertx, "test", null, 0L);
+
+        Checkpoint async = context.checkpoint();
+        get(pool, server.actualPort())
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(pool.size(), is(1));
+
+                    pool.evictIdleClients();
+                    assertThat(pool.size(), is(0));
+
+                    pool.close().onComplete(i -> {
+                        server.close();
+                        async.flag();
+                    });
+                })));
+    }
+
+    @Test
+    public void testAcquiredClientIsNotEvicted(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = vertx.createHttpServer()
+                .requestHandler(request -> request.response().setStatusCode(200).end("OK"))
+                .listen(0).toCompletionStage().toCompletableFuture().get();
+
+        // Every client which is not in use is evicted right away
+        HttpClientPool pool = new HttpClientPool(vertx, "test", null, 0L);
+
+        HttpClientPool.PooledClient client = pool.acquire(CONFIGURATION);
+
+        // Eviction runs after the client was acquired, but before it is used
+        pool.evictIdleClients();
+        assertThat(pool.size(), is(1));
+
+        Checkpoint async = context.checkpoint();
+        client.httpClient().request(HttpMethod.GET, server.actualPort(), "127.0.0.1", "/")
+                .compose(request -> request.send())
+                .compose(response -> response.body())
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(body.toString(), is("OK"));
+
+                    // Once released, the client is evicted
+                    pool.release(client);
+                    pool.evictIdleClients();
+                    assertThat(pool.size(), is(0));
+
+                    pool.close().onComplete(i -> {
+                        server.close();
+                        async.flag();
+                    });
+                })));
+    }
+
+    @Test
+    public void testEqualOptionsUseSameClient(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = vertx.createHttpServer()
+                .requestHandler(request -> request.response().setStatusCode(200).end("OK"))
+                .listen(0).toCompletionStage().toCompletableFuture().get();
+
+        HttpClientPool pool = new HttpClientPool(vertx, "test", null);
+        // Configuration created separately from equal options
+        HttpClientPool.ClientConfiguration configuration = HttpClientPool.configuration(new HttpClientOptions());
+
+        Checkpoint async = context.checkpoint();
+        get(pool, server.actualPort())
+                .compose(i -> pool.withHttpClient(configuration, (client, promise) ->
+                        client.request(HttpMethod.GET, server.actualPort(), "127.0.0.1", "/")
+                                .compose(request -> request.send())
+                                .compose(response -> response.body())
+                                .onComplete(body -> promise.complete(body.result().toString()))))
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(pool.size(), is(1));
+
+                    pool.close().onComplete(i -> {
+                        server.close();
+                        async.flag();
+                    });
+                })));
+    }
+
+    @Test
+    public void testSharedPool(Vertx vertx) {
+        HttpClientPool pool = HttpClientPool.shared(vertx, "test");
+
+        assertThat(HttpClientPool.shared(vertx, "test"), is(sameInstance(pool)));
+        assertThat(HttpClientPool.shared(vertx, "other"), is(not(sameInstance(pool))));
+
+        // The operators get the same pool as the API clients created without an explicit pool
+        HttpClientPool poolWithMetrics = HttpClientPool.shared(vertx, "test-metrics", new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        assertThat(HttpClientPool.shared(vertx, "test-metrics"), is(sameInstance(poolWithMetrics)));
+    }
+
+    private static Future<Void> delay(Vertx vertx) {
+        Promise<Void> promise = Promise.promise();
+        vertx.setTimer(10, id -> promise.complete());
+        return promise.future();
+    }
+
+    private static Future<String> get(HttpClientPool pool, int port) {
+        return pool.withHttpClient(CONFIGURATION, (client, promise) ->
+                client.request(HttpMethod.GET, port, "127.0.0.1", "/")
+                        .compose(request -> request.send())
+                        .compose(response -> response.body())
+                        .onComplete(body -> {
+                            if (body.succeeded()) {
+                                promise.complete(body.result().toString());
+                            } else {
+                                promise.fail(body.cause());
+                            }
+                        }));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.operator.cluster.model.NodeRef;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaAgentClientTest {
+    private static final List<NodeRef> NODES = List.of(new NodeRef("my-cluster-kafka-0", 0), new NodeRef("my-cluster-kafka-1", 1), new NodeRef("my-cluster-kafka-2", 2));
+
+    private static JsonObject health(int brokerState, long underReplicated) {
+        return new JsonObject()
+                .put("brokerState", brokerState)
+                .put("recoveryState", new JsonObject())
+                .put("underReplicatedPartitions", underReplicated)
+                .put("underMinIsrPartitions", 0)
+                .put("atMinIsrPartitions", 0)
+                .put("offlinePartitions", 0)
+                .put("leaderCount", 10)
+                .put("partitionCount", 30);
+    }
+
+    private static HttpServer server(Vertx vertx, Function<Integer, JsonObject> responseForRequest) throws ExecutionException, InterruptedException {
+        AtomicInteger requests = new AtomicInteger(0);
+
+        return vertx.createHttpServer()
+                .requestHandler(request -> {
+                    if (KafkaAgentClient.BROKER_HEALTH_PATH.equals(request.path())) {
+                        request.response().setStatusCode(200).end(responseForRequest.apply(requests.getAndIncrement()).encode());
+                    } else {
+                        request.response().setStatusCode(404).end();
+                    }
+                })
+                .listen(0).toCompletionStage().toCompletableFuture().get();
+    }
+
+    private static KafkaAgentClient client(HttpClientPool pool, HttpServer server) {
+        return new KafkaAgentClient(Reconciliation.DUMMY_RECONCILIATION, pool, new HttpClientOptions(), server.actualPort(), node -> "127.0.0.1");
+    }
+
+    @Test
+    public void testBrokerHealth(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = server(vertx, i -> health(3, 2));
+        HttpClientPool pool = new HttpClientPool(vertx, "test", null);
+
+        Checkpoint async = context.checkpoint();
+        client(pool, server).brokerHealth(NODES.get(0))
+                .onComplete(context.succeeding(health -> context.verify(() -> {
+                    assertThat(health.brokerState(), is(3));
+                    assertThat(health.isRunning(), is(true));
+                    assertThat(health.hasReplicationMetrics(), is(true));
+                    assertThat(health.remainingLogsToRecover(), is(-1L));
+                    assertThat(health.underReplicatedPartitions(), is(2L));
+                    assertThat(health.leaderCount(), is(10L));
+                    assertThat(health.partitionCount(), is(30L));
+
+                    pool.close().onComplete(i -> {
+                        server.close();
+                        async.flag();
+                    });
+                })));
+    }
+
+    @Test
+    public void testFullyReplicated(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = server(vertx, i -> health(3, 0));
+        HttpClientPool pool = new HttpClientPool(vertx, "test", null);
+
+        Checkpoint async = context.checkpoint();
+        client(pool, server).isFullyReplicated(NODES)
+                .onComplete(context.succeeding(fullyReplicated -> context.verify(() -> {
+                    assertThat(fullyReplicated, is(true));
+
+                    pool.close().onComplete(i -> {
+                        server.close();
+                        async.flag();
+                    });
+                })));
+    }
+
+    @Test
+    public void testNotFullyReplicated(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        // Only one of the brokers leads an under-replicated partition
+        HttpServer server = server(vertx, i -> health(3, i == 1 ? 1 : 0));
+        HttpClientPool pool = new HttpClientPool(vertx, "test", null);
+
+        Checkpoint async = context.checkpoint();
+        client(pool, server).isFullyReplicated(NODES)
+                .onComplete(context.succeeding(fullyReplicated -> context.verify(() -> {
+                    assertThat(fullyReplicated, is(false));
+
+                    pool.close().onComplete(i -> {
+                        server.close();
+                        async.flag();
+                    });
+                })));
+    }
+
+    @Test
+    public void testNotFullyReplicatedWhenBrokerRecovering(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = server(vertx, i -> i == 2 ? health(2, 0) : health(3, 0));
+        HttpClientPool pool = new HttpClientPool(vertx, "test", null);
+
+        Checkpoint async = context.checkpoint();
+        client(pool, server).isFullyReplicated(NODES)
+                .onComplete(context.succeeding(fullyReplicated -> context.verify(() -> {
+                    assertThat(fullyReplicated, is(false));
+
+                    pool.close().onComplete(i -> {
+                        server.close();
+                        async.flag();
+                    });
+                })));
+    }
+
+    @Test
+    public void testNotFullyReplicatedWhenAgentFails(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = vertx.createHttpServer()
+                .requestHandler(request -> request.response().setStatusCode(404).end())
+                .listen(0).toCompletionStage().toCompletableFuture().get();
+        HttpClientPool pool = new HttpClientPool(vertx, "test", null);
+        KafkaAgentClient client = client(pool, server);
+
+        Checkpoint async = context.checkpoint(2);
+        client.brokerHealth(NODES.get(0))
+                .onComplete(context.failing(error -> async.flag()));
+
+        client.isFullyReplicated(NODES)
+                .onComplete(context.succeeding(fullyReplicated -> context.verify(() -> {
+                    assertThat(fullyReplicated, is(false));
+
+                    pool.close().onComplete(i -> {
+                        server.close();
+                        async.flag();
+                    });
+                })));
+    }
+}
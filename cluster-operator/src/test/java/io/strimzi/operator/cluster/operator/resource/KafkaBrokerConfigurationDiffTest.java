@@ -285,4 +285,17 @@ public class KafkaBrokerConfigurationDiffTest {
         assertThat(kcd.canBeUpdatedDynamically(), is(false));
     }
 
+    @Test
+    public void testRemovedAndAddedPropertiesWithSameValue() {
+        // One property is removed and another one with the same value is added => both have to be in the diff
+        List<ConfigEntry> ces = singletonList(new ConfigEntry("log.retention.hours", "77"));
+        List<ConfigEntry> ces2 = singletonList(new ConfigEntry("fetch.max.bytes", "77"));
+        KafkaBrokerConfigurationDiff kcd = new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, getCurrentConfiguration(ces),
+                getDesiredConfiguration(ces2), kafkaVersion, brokerId);
+        assertThat(kcd.getDiffSize(), is(2));
+        assertThat(kcd.canBeUpdatedDynamically(), is(false));
+        assertConfig(kcd, new ConfigEntry("log.retention.hours", null));
+        assertConfig(kcd, new ConfigEntry("fetch.max.bytes", "77"));
+    }
+
 }
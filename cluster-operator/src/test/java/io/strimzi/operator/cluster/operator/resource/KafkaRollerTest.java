@@ -435,6 +435,52 @@ public class KafkaRollerTest {
                 emptyList());
     }
 
+    @Test
+    public void testRollWhenKafkaAgentsReportFullyReplicated(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        AtomicInteger canRollCalls = new AtomicInteger(0);
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(null, null, addPodNames(REPLICAS), podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> {
+                canRollCalls.incrementAndGet();
+                return succeededFuture(brokerId != 1);
+            },
+                false, new DefaultAdminClientProvider(), false, 2);
+        KafkaAgentClient agentClient = mock(KafkaAgentClient.class);
+        when(agentClient.isFullyReplicated(any())).thenReturn(succeededFuture(true));
+        kafkaRoller.agentClient = agentClient;
+
+        // The Kafka Agents confirm that the cluster is fully replicated => the Admin API check is skipped and broker 1
+        // is rolled as well
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                asList(0, 1, 3, 4, 2), () -> assertThat(canRollCalls.get(), is(0)));
+    }
+
+    @Test
+    public void testRollWhenKafkaAgentsDoNotReportFullyReplicated(VertxTestContext testContext) throws InterruptedException {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        AtomicInteger canRollCalls = new AtomicInteger(0);
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(null, null, addPodNames(REPLICAS), podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> {
+                canRollCalls.incrementAndGet();
+                return succeededFuture(brokerId != 1);
+            },
+                false, new DefaultAdminClientProvider(), false, 2);
+        KafkaAgentClient agentClient = mock(KafkaAgentClient.class);
+        when(agentClient.isFullyReplicated(any())).thenReturn(succeededFuture(false));
+        kafkaRoller.agentClient = agentClient;
+
+        // The Kafka Agents do not confirm that the cluster is fully replicated => the Admin API check is used and
+        // broker 1 is never rolled
+        doFailingRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                KafkaRoller.UnforceableProblem.class, "Pod c-kafka-1 cannot be updated right now.",
+                asList(0, 3, 4, 2));
+        assertThat(canRollCalls.get() > 0, is(true));
+    }
+
     @Test
     public void testRollHandlesErrorWhenGettingConfigFromNonController(VertxTestContext testContext) {
         PodOperator podOps = mockPodOps(podId -> succeededFuture());
@@ -635,6 +681,7 @@ public class KafkaRollerTest {
         private final boolean delegateAdminClientCall;
         private final int[] controllers;
         private final List<String> tcpProbes = new ArrayList<>();
+        private KafkaAgentClient agentClient;
 
         @SuppressWarnings("checkstyle:ParameterNumber")
         private TestingKafkaRoller(Secret clusterCaCertSecret, Secret coKeySecret, List<NodeRef> nodes,
@@ -723,6 +770,13 @@ public class KafkaRollerTest {
             };
         }
 
+        @Override
+        protected KafkaAgentClient kafkaAgentClient() {
+            // Unless a mock is set by the test, the Kafka Agents are not available => the availability is always
+            // checked with canRollFn
+            return agentClient;
+        }
+
         @Override
         int controller(NodeRef nodeRef, long timeout, TimeUnit unit, RestartContext restartContext) throws Exception {
             if (delegateControllerCall) {
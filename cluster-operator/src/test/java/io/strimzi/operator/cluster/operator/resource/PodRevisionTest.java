@@ -117,6 +117,29 @@ public class PodRevisionTest {
         assertThat(PodRevision.hasChanged(POD, podSet(pod2)), is(true));
     }
 
+    @ParallelTest
+    public void testHasChangedWithPodAndMap()    {
+        // Two pods without the revision annotation
+        assertThat(PodRevision.hasChanged(POD, PodSetUtils.podToMap(POD)), is(false));
+
+        // Pods with the annotation
+        Pod pod1 = new PodBuilder(POD)
+                .editMetadata()
+                    .withAnnotations(Map.of(PodRevision.STRIMZI_REVISION_ANNOTATION, "827d8b53"))
+                .endMetadata()
+                .build();
+        Pod pod2 = new PodBuilder(POD)
+                .editMetadata()
+                    .withAnnotations(Map.of(PodRevision.STRIMZI_REVISION_ANNOTATION, "35db17f2"))
+                .endMetadata()
+                .build();
+
+        assertThat(PodRevision.hasChanged(pod1, PodSetUtils.podToMap(pod1)), is(false));
+        assertThat(PodRevision.hasChanged(pod1, PodSetUtils.podToMap(pod2)), is(true));
+        assertThat(PodRevision.hasChanged(POD, PodSetUtils.podToMap(pod2)), is(true));
+        assertThat(PodRevision.hasChanged(pod1, PodSetUtils.podToMap(POD)), is(true));
+    }
+
     /**
      * Helper method to generate the StrimziPodSet resource
      *
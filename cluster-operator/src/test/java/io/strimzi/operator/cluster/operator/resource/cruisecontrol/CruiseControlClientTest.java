@@ -18,6 +18,7 @@ import org.mockserver.integration.ClientAndServer;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasEntry;
@@ -126,6 +127,37 @@ public class CruiseControlClientTest {
         }));
     }
 
+    @Test
+    public void testCCGetRebalanceUserTasks(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
+
+        MockCruiseControl.setupCCUserTasksResponseNoGoals(ccServer, 0, 0);
+
+        CruiseControlApi client = cruiseControlClientProvider(vertx);
+        String userTaskID = MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID;
+
+        Checkpoint checkpoint = context.checkpoint();
+        client.getUserTasksStatus(HOST, PORT, Set.of(userTaskID)).onComplete(context.succeeding(result -> {
+            context.verify(() -> assertThat(result.size(), is(1)));
+            context.verify(() -> assertThat(result.get(userTaskID).getUserTaskId(), is(userTaskID)));
+            context.verify(() -> assertThat(result.get(userTaskID).getJson().getString("Status"), is(CruiseControlUserTaskStatus.COMPLETED.toString())));
+            context.verify(() -> assertThat(result.get(userTaskID).getJson().getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()), is(notNullValue())));
+            checkpoint.flag();
+        }));
+    }
+
+    @Test
+    public void testCCGetRebalanceUserTasksMalformedResponse(Vertx vertx, VertxTestContext context) {
+        MockCruiseControl.setupCCUserTasksMalformedResponse(ccServer);
+
+        CruiseControlApi client = cruiseControlClientProvider(vertx);
+
+        Checkpoint checkpoint = context.checkpoint();
+        client.getUserTasksStatus(HOST, PORT, Set.of(MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID)).onComplete(context.failing(cause -> context.verify(() -> {
+            assertThat(cause, instanceOf(CruiseControlRestException.class));
+            checkpoint.flag();
+        })));
+    }
+
     @Test
     public void testCCAddBroker(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
         AddBrokerOptions options = new AddBrokerOptions.AddBrokerOptionsBuilder()
@@ -382,6 +382,24 @@ public class MockCruiseControl {
                                 .withDelay(TimeUnit.SECONDS, RESPONSE_DELAY_SEC));
     }
 
+    /**
+     * Sets up the user tasks endpoint to respond with a user task in an unexpected state
+     *
+     * @param ccServer  Cruise Control mock server
+     */
+    public static void setupCCUserTasksMalformedResponse(ClientAndServer ccServer) {
+        ccServer
+                .when(
+                        request()
+                                .withMethod("GET")
+                                .withPath(CruiseControlEndpoints.USER_TASKS.path)
+                                .withHeader(AUTH_HEADER)
+                                .withSecure(true))
+                .respond(
+                        response()
+                                .withBody("{\"userTasks\":[{\"UserTaskId\":\"" + REBALANCE_NO_GOALS_RESPONSE_UTID + "\",\"Status\":\"Unexpected\"}]}"));
+    }
+
     /**
      * Sets up the User Tasks endpoint. These endpoints expect the query to contain the user-task-id returned in the header of the response from
      * the rebalance endpoints.
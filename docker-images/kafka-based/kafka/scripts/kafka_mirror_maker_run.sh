@@ -52,9 +52,8 @@ fi
 # directory avoids trying to create it (and logging a permission denied error)
 export LOG_DIR="$KAFKA_HOME"
 
-# Enabling the Mirror Maker agent which monitors readiness / liveness
-rm -f /tmp/mirror-maker-ready /tmp/mirror-maker-alive 2> /dev/null
-KAFKA_OPTS="$KAFKA_OPTS -javaagent:$(ls "$KAFKA_HOME"/libs/mirror-maker-agent*.jar)=/tmp/mirror-maker-ready:/tmp/mirror-maker-alive:${STRIMZI_READINESS_PERIOD:-10}:${STRIMZI_LIVENESS_PERIOD:-10}"
+# Enabling the Mirror Maker agent which serves the readiness / liveness endpoints on the healthcheck port
+KAFKA_OPTS="$KAFKA_OPTS -javaagent:$(ls "$KAFKA_HOME"/libs/mirror-maker-agent*.jar)=${STRIMZI_HEALTHCHECK_PORT:-8080}:${STRIMZI_LIVENESS_PERIOD:-10}"
 export KAFKA_OPTS
 
 # enabling Prometheus JMX exporter as Java agent
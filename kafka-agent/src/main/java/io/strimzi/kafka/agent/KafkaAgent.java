@@ -21,6 +21,7 @@ import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.server.handler.AbstractHandler;
 import org.eclipse.jetty.server.handler.ContextHandler;
+import org.eclipse.jetty.server.handler.ContextHandlerCollection;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,13 +34,14 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A very simple Java agent which polls the value of the {@code kafka.server:type=KafkaServer,name=BrokerState}
  * Yammer Metric and once it reaches the value 3 (meaning "running as broker", see {@code kafka.server.BrokerState}),
  * creates a given file.
  * The presence of this file is tested via a Kube "exec" readiness probe to determine when the broker is ready.
- * It also exposes a REST endpoint for broker metrics.
+ * It also exposes REST endpoints for broker metrics.
  * <dl>
  *     <dt>{@code GET /v1/broker-state}</dt>
  *     <dd>Reflects the BrokerState metric, returning a JSON response e.g. {"brokerState": 3}.
@@ -50,11 +52,21 @@ import java.util.Map;
  *          "remainingSegmentsToRecover": 456
  *        }
  *      }</dd>
+ *     <dt>{@code GET /v1/broker-health}</dt>
+ *     <dd>Reflects the broker-local partition health metrics of the ReplicaManager and KafkaController, returning a
+ *      JSON response e.g. {"brokerState": 3, "underReplicatedPartitions": 0, "underMinIsrPartitions": 0,
+ *      "atMinIsrPartitions": 0, "offlinePartitions": 0, "leaderCount": 12, "partitionCount": 36}. The metrics which
+ *      are not registered (yet) are omitted. If broker state is RECOVERY(2), it includes the recoveryState in the
+ *      same way as the broker-state endpoint. The metrics are read from the in-memory Yammer Metrics, so this endpoint
+ *      is cheap compared to describing all topics using the Kafka Admin API.</dd>
  * </dl>
  */
 public class KafkaAgent {
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaAgent.class);
     private static final String BROKER_STATE_PATH = "/v1/broker-state";
+    private static final String BROKER_HEALTH_PATH = "/v1/broker-health";
+    // ObjectMapper is thread-safe and expensive to create, so it is shared by all requests
+    private static final ObjectMapper MAPPER = new ObjectMapper();
     private static final int HTTPS_PORT = 8443;
     private static final long GRACEFUL_SHUTDOWN_TIMEOUT_MS = 30 * 1000;
 
@@ -66,6 +78,32 @@ public class KafkaAgent {
     private static final byte BROKER_RUNNING_STATE = 3;
     private static final byte BROKER_RECOVERY_STATE = 2;
     private static final byte BROKER_UNKNOWN_STATE = 127;
+
+    /**
+     * Key in the broker health response with the number of under-replicated partitions led by the broker
+     */
+    public static final String UNDER_REPLICATED_PARTITIONS = "underReplicatedPartitions";
+    /**
+     * Key in the broker health response with the number of partitions led by the broker which are under their min ISR
+     */
+    public static final String UNDER_MIN_ISR_PARTITIONS = "underMinIsrPartitions";
+    /**
+     * Key in the broker health response with the number of partitions led by the broker which are at their min ISR
+     */
+    public static final String AT_MIN_ISR_PARTITIONS = "atMinIsrPartitions";
+    /**
+     * Key in the broker health response with the number of offline partitions (reported only by the active controller)
+     */
+    public static final String OFFLINE_PARTITIONS = "offlinePartitions";
+    /**
+     * Key in the broker health response with the number of partitions led by the broker
+     */
+    public static final String LEADER_COUNT = "leaderCount";
+    /**
+     * Key in the broker health response with the number of partitions hosted by the broker
+     */
+    public static final String PARTITION_COUNT = "partitionCount";
+
     private File sessionConnectedFile;
     private File brokerReadyFile;
     private String sslKeyStorePath;
@@ -78,6 +116,7 @@ public class KafkaAgent {
     private Gauge remainingSegmentsToRecover;
     private MetricName sessionStateName;
     private Gauge sessionState;
+    private final Map<String, Gauge> healthGauges = new ConcurrentHashMap<>();
     private boolean pollerRunning;
 
     /**
@@ -108,9 +147,23 @@ public class KafkaAgent {
      * @param remainingSegmentsToRecover  Number of remaining segments to recover
      */
     public KafkaAgent(Gauge brokerState, Gauge remainingLogsToRecover, Gauge remainingSegmentsToRecover) {
+        this(brokerState, remainingLogsToRecover, remainingSegmentsToRecover, Map.of());
+    }
+
+    // public for testing
+    /**
+     * Constructor of the KafkaAgent
+     *
+     * @param brokerState                 Current state of the broker
+     * @param remainingLogsToRecover      Number of remaining logs to recover
+     * @param remainingSegmentsToRecover  Number of remaining segments to recover
+     * @param healthGauges                Broker health metrics indexed by their key in the broker health response
+     */
+    public KafkaAgent(Gauge brokerState, Gauge remainingLogsToRecover, Gauge remainingSegmentsToRecover, Map<String, Gauge> healthGauges) {
         this.brokerState = brokerState;
         this.remainingLogsToRecover = remainingLogsToRecover;
         this.remainingSegmentsToRecover = remainingSegmentsToRecover;
+        this.healthGauges.putAll(healthGauges);
     }
 
     private void run() {
@@ -147,6 +200,8 @@ public class KafkaAgent {
                         && metric instanceof Gauge) {
                     sessionStateName = metricName;
                     sessionState = (Gauge) metric;
+                } else if (healthKey(metricName) != null && metric instanceof Gauge) {
+                    healthGauges.put(healthKey(metricName), (Gauge) metric);
                 }
 
                 if (brokerState != null && sessionState != null && !pollerRunning) {
@@ -222,6 +277,38 @@ public class KafkaAgent {
                 && "SessionExpireListener".equals(name.getType());
     }
 
+    /**
+     * Maps the broker health metrics to their keys in the broker health response
+     *
+     * @param name  Name of the metric
+     *
+     * @return  Key of the metric in the broker health response or null if the metric is not part of it
+     */
+    private String healthKey(MetricName name) {
+        if ("kafka.server".equals(name.getGroup()) && "ReplicaManager".equals(name.getType())) {
+            switch (name.getName()) {
+                case "UnderReplicatedPartitions":
+                    return UNDER_REPLICATED_PARTITIONS;
+                case "UnderMinIsrPartitionCount":
+                    return UNDER_MIN_ISR_PARTITIONS;
+                case "AtMinIsrPartitionCount":
+                    return AT_MIN_ISR_PARTITIONS;
+                case "LeaderCount":
+                    return LEADER_COUNT;
+                case "PartitionCount":
+                    return PARTITION_COUNT;
+                default:
+                    return null;
+            }
+        } else if ("kafka.controller".equals(name.getGroup())
+                && "KafkaController".equals(name.getType())
+                && "OfflinePartitionsCount".equals(name.getName())) {
+            return OFFLINE_PARTITIONS;
+        } else {
+            return null;
+        }
+    }
+
     private void startBrokerStateServer() throws Exception {
         Server server = new Server();
 
@@ -233,11 +320,14 @@ public class KafkaAgent {
                 new HttpConnectionFactory(https));
         conn.setPort(HTTPS_PORT);
 
-        ContextHandler context = new ContextHandler(BROKER_STATE_PATH);
-        context.setHandler(getServerHandler());
+        ContextHandler brokerStateContext = new ContextHandler(BROKER_STATE_PATH);
+        brokerStateContext.setHandler(getServerHandler());
+
+        ContextHandler brokerHealthContext = new ContextHandler(BROKER_HEALTH_PATH);
+        brokerHealthContext.setHandler(getBrokerHealthHandler());
 
         server.setConnectors(new Connector[]{conn});
-        server.setHandler(context);
+        server.setHandler(new ContextHandlerCollection(brokerStateContext, brokerHealthContext));
         server.setStopTimeout(GRACEFUL_SHUTDOWN_TIMEOUT_MS);
         server.setStopAtShutdown(true);
         server.start();
@@ -257,20 +347,40 @@ public class KafkaAgent {
                 response.setCharacterEncoding("UTF-8");
                 baseRequest.setHandled(true);
 
-                Map<String, Object> brokerStateResponse = new HashMap<>();
                 if (brokerState != null) {
-                    if ((byte) brokerState.value() == BROKER_RECOVERY_STATE && remainingLogsToRecover != null && remainingSegmentsToRecover != null) {
-                        Map<String, Object> recoveryState = new HashMap<>();
-                        recoveryState.put("remainingLogsToRecover", remainingLogsToRecover.value());
-                        recoveryState.put("remainingSegmentsToRecover", remainingSegmentsToRecover.value());
-                        brokerStateResponse.put("brokerState", brokerState.value());
-                        brokerStateResponse.put("recoveryState", recoveryState);
-                    } else {
-                        brokerStateResponse.put("brokerState", brokerState.value());
+                    response.setStatus(HttpServletResponse.SC_OK);
+                    String json = MAPPER.writeValueAsString(brokerStateResponse());
+                    response.getWriter().print(json);
+                } else {
+                    response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                    response.getWriter().print("Broker state metric not found");
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates a Handler instance to handle incoming HTTP requests for the broker health
+     *
+     * @return Handler
+     */
+    // public for testing
+    public Handler getBrokerHealthHandler() {
+        return new AbstractHandler() {
+            @Override
+            public void handle(String s, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+                response.setContentType("application/json");
+                response.setCharacterEncoding("UTF-8");
+                baseRequest.setHandled(true);
+
+                if (brokerState != null) {
+                    Map<String, Object> brokerHealthResponse = brokerStateResponse();
+                    for (Map.Entry<String, Gauge> gauge : healthGauges.entrySet()) {
+                        brokerHealthResponse.put(gauge.getKey(), gauge.getValue().value());
                     }
 
                     response.setStatus(HttpServletResponse.SC_OK);
-                    String json = new ObjectMapper().writeValueAsString(brokerStateResponse);
+                    String json = MAPPER.writeValueAsString(brokerHealthResponse);
                     response.getWriter().print(json);
                 } else {
                     response.setStatus(HttpServletResponse.SC_NOT_FOUND);
@@ -280,6 +390,25 @@ public class KafkaAgent {
         };
     }
 
+    /**
+     * Builds the broker state part of the responses including the recovery state when the broker is recovering
+     *
+     * @return  Map with the broker state
+     */
+    private Map<String, Object> brokerStateResponse() {
+        Map<String, Object> brokerStateResponse = new HashMap<>();
+        if ((byte) brokerState.value() == BROKER_RECOVERY_STATE && remainingLogsToRecover != null && remainingSegmentsToRecover != null) {
+            Map<String, Object> recoveryState = new HashMap<>();
+            recoveryState.put("remainingLogsToRecover", remainingLogsToRecover.value());
+            recoveryState.put("remainingSegmentsToRecover", remainingSegmentsToRecover.value());
+            brokerStateResponse.put("brokerState", brokerState.value());
+            brokerStateResponse.put("recoveryState", recoveryState);
+        } else {
+            brokerStateResponse.put("brokerState", brokerState.value());
+        }
+        return brokerStateResponse;
+    }
+
 
     private SslContextFactory getSSLContextFactory() {
         SslContextFactory.Server sslContextFactory = new SslContextFactory.Server();
@@ -4,12 +4,14 @@
  */
 package io.strimzi.kafka.agent;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yammer.metrics.core.Gauge;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.Map;
 import javax.servlet.http.HttpServletResponse;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Server;
@@ -92,6 +94,81 @@ public class KafkaAgentTest {
         assertEquals(expectedResponse, response.body());
     }
 
+    @Test
+    public void testBrokerHealth() throws Exception {
+        final Gauge brokerState = mock(Gauge.class);
+        when(brokerState.value()).thenReturn((byte) 3);
+
+        final Gauge underReplicated = mock(Gauge.class);
+        when(underReplicated.value()).thenReturn(1);
+
+        final Gauge atMinIsr = mock(Gauge.class);
+        when(atMinIsr.value()).thenReturn(2);
+
+        final Gauge leaderCount = mock(Gauge.class);
+        when(leaderCount.value()).thenReturn(12);
+
+        KafkaAgent agent = new KafkaAgent(brokerState, null, null, Map.of(
+                KafkaAgent.UNDER_REPLICATED_PARTITIONS, underReplicated,
+                KafkaAgent.AT_MIN_ISR_PARTITIONS, atMinIsr,
+                KafkaAgent.LEADER_COUNT, leaderCount));
+        context.setHandler(agent.getBrokerHealthHandler());
+        server.setHandler(context);
+        server.start();
+
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .build()
+                .send(req, HttpResponse.BodyHandlers.ofString());
+        assertEquals(HttpServletResponse.SC_OK, response.statusCode());
+
+        // Metrics which are not registered are not part of the response
+        String expectedResponse = "{\"brokerState\":3,\"underReplicatedPartitions\":1,\"atMinIsrPartitions\":2,\"leaderCount\":12}";
+        ObjectMapper mapper = new ObjectMapper();
+        assertEquals(mapper.readTree(expectedResponse), mapper.readTree(response.body()));
+    }
+
+    @Test
+    public void testBrokerHealthInRecoveryState() throws Exception {
+        final Gauge brokerState = mock(Gauge.class);
+        when(brokerState.value()).thenReturn((byte) 2);
+
+        final Gauge remainingLogs = mock(Gauge.class);
+        when(remainingLogs.value()).thenReturn((byte) 10);
+
+        final Gauge remainingSegments = mock(Gauge.class);
+        when(remainingSegments.value()).thenReturn((byte) 100);
+
+        final Gauge leaderCount = mock(Gauge.class);
+        when(leaderCount.value()).thenReturn(0);
+
+        KafkaAgent agent = new KafkaAgent(brokerState, remainingLogs, remainingSegments, Map.of(KafkaAgent.LEADER_COUNT, leaderCount));
+        context.setHandler(agent.getBrokerHealthHandler());
+        server.setHandler(context);
+        server.start();
+
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .build()
+                .send(req, HttpResponse.BodyHandlers.ofString());
+        assertEquals(HttpServletResponse.SC_OK, response.statusCode());
+
+        String expectedResponse = "{\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":10,\"remainingSegmentsToRecover\":100},\"leaderCount\":0}";
+        ObjectMapper mapper = new ObjectMapper();
+        assertEquals(mapper.readTree(expectedResponse), mapper.readTree(response.body()));
+    }
+
+    @Test
+    public void testBrokerHealthMetricNotFound() throws Exception {
+        KafkaAgent agent = new KafkaAgent(null, null, null);
+        context.setHandler(agent.getBrokerHealthHandler());
+        server.setHandler(context);
+        server.start();
+
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .build()
+                .send(req, HttpResponse.BodyHandlers.ofString());
+        assertEquals(HttpServletResponse.SC_NOT_FOUND, response.statusCode());
+    }
+
     @Test
     public void testBrokerMetricNotFound() throws Exception {
         KafkaAgent agent = new KafkaAgent(null, null, null);
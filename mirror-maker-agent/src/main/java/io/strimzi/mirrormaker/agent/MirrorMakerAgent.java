@@ -4,82 +4,165 @@
  */
 package io.strimzi.mirrormaker.agent;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.management.InstanceNotFoundException;
 import javax.management.JMException;
-import javax.management.MBeanServerConnection;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerDelegate;
+import javax.management.MBeanServerNotification;
+import javax.management.MalformedObjectNameException;
+import javax.management.Notification;
 import javax.management.ObjectName;
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * A Java agent which helps with the Readiness and Liveness check in Kafka Mirror Maker.
+ * A Java agent which helps with the Readiness and Liveness check in Kafka Mirror Maker. It exposes a small HTTP
+ * server which is used by the Kubernetes HTTP probes.
  *
- * Liveness:
- *   In every loop it touches a liveness file if it doesn't exist. The file is expected to tbe deleted by the Kubernetes
- *   liveness probe. So it should be periodically deleted and recreated.
+ * <dl>
+ *     <dt>{@code GET /healthy}</dt>
+ *     <dd>Liveness check. The liveness poller thread of the agent periodically signals that Mirror Maker is alive.
+ *      Returns 200 OK when the liveness poller signalled since the previous liveness check and consumes the signal.
+ *      Returns 503 Service Unavailable otherwise. This is the same check as the previous liveness file, which was
+ *      created by the liveness poller and deleted by the liveness probe.</dd>
+ *     <dt>{@code GET /ready}</dt>
+ *     <dd>Readiness check. Returns 200 OK when at least one connection exists to the source and to the target Kafka
+ *      cluster. Returns 503 Service Unavailable otherwise.</dd>
+ * </dl>
  *
- * Readiness:
- *   Readiness checks the number of connections to the source and target Kafka clusters. If at least one connection
- *   exists to each of the clusters, the readiness file will be created. If not it will be deleted.
+ * The agent does not poll the JMX metrics in the background. It listens to the MBean registration notifications to
+ * track the producer and consumer metrics MBeans as the Kafka clients are created and closed. The connection counts
+ * of the tracked MBeans are read only when the readiness is checked.
  */
 public class MirrorMakerAgent {
     private static final Logger LOGGER = LoggerFactory.getLogger(MirrorMakerAgent.class);
 
-    private final File livenessFile;
-    private final File readinessFile;
-    private final long readinessSleepInterval;
+    private static final String PRODUCER_METRICS = "kafka.producer:type=producer-metrics,client-id=*";
+    private static final String CONSUMER_METRICS = "kafka.consumer:type=consumer-metrics,client-id=*";
+    private static final String CONNECTION_COUNT = "connection-count";
+
+    private final MBeanServer mBeanServer;
+    private final int port;
     private final long livenessSleepInterval;
+    private final ObjectName producerMetricsPattern;
+    private final ObjectName consumerMetricsPattern;
+    private final Set<ObjectName> producerMetrics = ConcurrentHashMap.newKeySet();
+    private final Set<ObjectName> consumerMetrics = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean alive = new AtomicBoolean(false);
+    private volatile boolean lastReady = false;
+    private HttpServer server;
 
     /**
      * Constructor of the MirrorMakerAgent
      *
-     * @param readinessFile             File which is touched (created) when Mirror Maker 1 is ready
-     * @param livenessFile              File which is touched (created) when Mirror Maker 1 is alive
-     * @param readinessSleepInterval    Sleep interval of the readiness check
-     * @param livenessSleepInterval     Sleep interval of the liveness check
+     * @param mBeanServer             MBean server with the Kafka client metrics
+     * @param port                    Port on which the HTTP server for the probes listens
+     * @param livenessSleepInterval   Sleep interval of the liveness poller in milliseconds
      */
-    public MirrorMakerAgent(File readinessFile, File livenessFile, long readinessSleepInterval, long livenessSleepInterval) {
-        this.readinessFile = readinessFile;
-        this.livenessFile = livenessFile;
-        this.readinessSleepInterval = readinessSleepInterval;
+    public MirrorMakerAgent(MBeanServer mBeanServer, int port, long livenessSleepInterval) {
+        this.mBeanServer = mBeanServer;
+        this.port = port;
         this.livenessSleepInterval = livenessSleepInterval;
+
+        try {
+            this.producerMetricsPattern = new ObjectName(PRODUCER_METRICS);
+            this.consumerMetricsPattern = new ObjectName(CONSUMER_METRICS);
+        } catch (MalformedObjectNameException e) {
+            throw new RuntimeException("Failed to create the metrics name patterns", e);
+        }
     }
 
     /**
-     * Starts two poller threads - one for readiness and one for liveness.
+     * Starts tracking the Kafka client metrics, the liveness poller and the HTTP server.
      */
     private void run() {
-        LOGGER.info("Starting readiness poller");
-        Thread readinessThread = new Thread(readinessPoller(), "ReadinessPoller");
-        readinessThread.setDaemon(true);
-        readinessThread.start();
+        LOGGER.info("Starting tracking of Kafka client metrics");
+        trackClientMetrics();
 
         LOGGER.info("Starting liveness poller");
-        Thread livenessThread = new Thread(livenessPoller(), "LivenessPoller");
-        livenessThread.setDaemon(true);
-        livenessThread.start();
+        startLivenessPoller();
+
+        // The HTTP server threads inherit the daemon flag from the thread starting the server. Starting it from a daemon
+        // thread makes sure the server does not prevent the JVM from exiting when Mirror Maker exits.
+        Thread serverThread = new Thread(() -> {
+            try {
+                startHttpServer();
+            } catch (IOException e) {
+                LOGGER.error("Could not start the Mirror Maker agent HTTP server on port {}", port, e);
+            }
+        }, "MirrorMakerAgentServer");
+        serverThread.setDaemon(true);
+        serverThread.start();
+    }
+
+    /**
+     * Registers the listener for the MBean registration notifications and collects the client metrics MBeans which
+     * were registered before the listener.
+     */
+    /* test */ void trackClientMetrics() {
+        try {
+            mBeanServer.addNotificationListener(MBeanServerDelegate.DELEGATE_NAME, (notification, handback) -> handleNotification(notification), null, null);
+        } catch (InstanceNotFoundException e) {
+            throw new RuntimeException("Failed to listen to the MBean registrations", e);
+        }
+
+        producerMetrics.addAll(mBeanServer.queryNames(producerMetricsPattern, null));
+        consumerMetrics.addAll(mBeanServer.queryNames(consumerMetricsPattern, null));
     }
 
     /**
-     * Creates the poller thread for the liveness check
+     * Updates the tracked client metrics when the Kafka clients register or unregister their metrics MBeans
      *
-     * @return Runable for liveness check
+     * @param notification  MBean server notification
+     */
+    private void handleNotification(Notification notification) {
+        if (notification instanceof MBeanServerNotification) {
+            ObjectName name = ((MBeanServerNotification) notification).getMBeanName();
+            boolean registered = MBeanServerNotification.REGISTRATION_NOTIFICATION.equals(notification.getType());
+
+            if (producerMetricsPattern.apply(name)) {
+                LOGGER.debug("Producer metrics {} {}", name, registered ? "registered" : "unregistered");
+                update(producerMetrics, name, registered);
+            } else if (consumerMetricsPattern.apply(name)) {
+                LOGGER.debug("Consumer metrics {} {}", name, registered ? "registered" : "unregistered");
+                update(consumerMetrics, name, registered);
+            }
+        }
+    }
+
+    private static void update(Set<ObjectName> metrics, ObjectName name, boolean registered) {
+        if (registered) {
+            metrics.add(name);
+        } else {
+            metrics.remove(name);
+        }
+    }
+
+    /**
+     * Starts the liveness poller thread which periodically signals that Mirror Maker is alive
      */
+    /* test */ void startLivenessPoller() {
+        Thread livenessThread = new Thread(livenessPoller(), "LivenessPoller");
+        livenessThread.setDaemon(true);
+        livenessThread.start();
+    }
+
     private Runnable livenessPoller() {
         return () -> {
             while (true) {
-                if (!livenessFile.exists()) {
-                    try {
-                        LOGGER.debug("Mirror Maker is alive");
-                        touch(livenessFile);
-                    } catch (IOException e) {
-                        LOGGER.error("Could not write liveness file {}", livenessFile, e);
-                    }
+                if (!alive.getAndSet(true)) {
+                    LOGGER.debug("Mirror Maker is alive");
                 }
 
                 try {
@@ -95,105 +178,106 @@ public class MirrorMakerAgent {
     }
 
     /**
-     * Creates the poller thread for the readiness check
+     * Checks whether the liveness poller signalled that Mirror Maker is alive since the previous check. The signal is
+     * consumed by the check.
      *
-     * @return Runable for readiness check
+     * @return True if Mirror Maker is alive. False otherwise.
      */
-    private Runnable readinessPoller() {
-        return new Runnable() {
-            private final MBeanServerConnection beanConn = ManagementFactory.getPlatformMBeanServer();
-
-            @Override
-            public void run() {
-                while (true) {
-                    if (handleProducerConnected() && handleConsumerConnected()) {
-                        try {
-                            LOGGER.debug("Mirror Maker is ready");
-                            touch(readinessFile);
-                        } catch (IOException e) {
-                            LOGGER.error("Could not write readiness file {}", readinessFile, e);
-                        }
-                    } else {
-                        LOGGER.debug("Mirror Maker is not ready");
-
-                        if (readinessFile.exists() && !readinessFile.delete()) {
-                            LOGGER.error("Could not delete readiness indicator file {}", readinessFile);
-                        }
-                    }
-
-                    try {
-                        Thread.sleep(readinessSleepInterval);
-                    } catch (InterruptedException e) {
-                        // In theory this should never normally happen
-                        LOGGER.warn("Unexpectedly interrupted");
-                        break;
-                    }
-                }
-                LOGGER.debug("Exiting thread");
-            }
+    /* test */ boolean isAlive() {
+        return alive.getAndSet(false);
+    }
 
-            /**
-             * Gets the producer connections from JMX and counts them.
-             *
-             * @return True if at least one producer connections exists. False otherwise.
-             */
-            boolean handleProducerConnected() {
-                LOGGER.debug("Polling for producer connections");
-                Double connectionCount = 0.0D;
+    /**
+     * Checks whether Mirror Maker is connected to both Kafka clusters
+     *
+     * @return True if at least one producer and one consumer connection exist. False otherwise.
+     */
+    /* test */ boolean isReady() {
+        boolean ready = hasConnections(producerMetrics) && hasConnections(consumerMetrics);
 
-                try {
-                    Set<ObjectName> mbeans = beanConn.queryNames(new ObjectName("kafka.producer:type=producer-metrics,client-id=*"), null);
-
-                    for (ObjectName oName : mbeans) {
-                        Double attr = (Double) beanConn.getAttribute(oName, "connection-count");
-                        connectionCount += attr;
-                        LOGGER.trace("Found connection metric with name {} and value: {}", oName, attr);
-                    }
-                }   catch (IOException | JMException e) {
-                    LOGGER.error("Failed to query JMX metrics", e);
-                }   finally {
-                    LOGGER.trace("Total producer connections {}", connectionCount);
-                }
-                return connectionCount > 0;
-            }
+        if (ready != lastReady) {
+            LOGGER.info("Mirror Maker is {}", ready ? "ready" : "not ready");
+            lastReady = ready;
+        }
 
-            /**
-             * Gets the consumer connections from JMX and counts them.
-             *
-             * @return True if at least one consumer connections exists. False otherwise.
-             */
-            boolean handleConsumerConnected() {
-                LOGGER.debug("Polling for consumer connections");
-                Double connectionCount = 0.0D;
+        return ready;
+    }
 
-                try {
-                    Set<ObjectName> mbeans = beanConn.queryNames(new ObjectName("kafka.consumer:type=consumer-metrics,client-id=*"), null);
-
-                    for (ObjectName oName : mbeans) {
-                        Double attr = (Double) beanConn.getAttribute(oName, "connection-count");
-                        connectionCount += attr;
-                        LOGGER.trace("Found connection metric with name {} and value: {}", oName, attr);
-                    }
-                }   catch (IOException | JMException e) {
-                    LOGGER.error("Failed to query JMX metrics", e);
-                }   finally {
-                    LOGGER.trace("Total consumer connections {}", connectionCount);
+    /**
+     * Checks the connection counts of the tracked client metrics.
+     *
+     * @param metrics   Tracked client metrics
+     *
+     * @return True if at least one connection exists. False otherwise.
+     */
+    private boolean hasConnections(Set<ObjectName> metrics) {
+        for (ObjectName name : metrics) {
+            try {
+                Double connectionCount = (Double) mBeanServer.getAttribute(name, CONNECTION_COUNT);
+                LOGGER.trace("Found connection metric with name {} and value: {}", name, connectionCount);
+
+                if (connectionCount != null && connectionCount > 0) {
+                    return true;
                 }
-                return connectionCount > 0;
+            } catch (InstanceNotFoundException e) {
+                // The client was closed in the meantime
+                metrics.remove(name);
+            } catch (JMException e) {
+                LOGGER.error("Failed to query JMX metric {}", name, e);
             }
-        };
+        }
+
+        return false;
     }
 
     /**
-     * Creates the file which indicates readiness or liveness.
+     * Starts the HTTP server with the liveness and readiness endpoints
      *
-     * @param file  File which should be created
-     *
-     * @throws IOException if the file can't be created
+     * @throws IOException  When the HTTP server fails to start
      */
-    private void touch(File file) throws IOException {
-        try (FileOutputStream ignored = new FileOutputStream(file)) {
-            file.deleteOnExit();
+    /* test */ void startHttpServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/healthy", exchange -> {
+            if (isAlive()) {
+                respond(exchange, 200, "OK");
+            } else {
+                respond(exchange, 503, "Not alive");
+            }
+        });
+        server.createContext("/ready", exchange -> {
+            if (isReady()) {
+                respond(exchange, 200, "Ready");
+            } else {
+                respond(exchange, 503, "Not ready");
+            }
+        });
+        server.start();
+        LOGGER.info("Mirror Maker agent HTTP server listening on port {}", server.getAddress().getPort());
+    }
+
+    /**
+     * @return  The port on which the HTTP server listens
+     */
+    /* test */ int httpPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the HTTP server
+     */
+    /* test */ void stopHttpServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] response = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+        exchange.sendResponseHeaders(status, response.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
         }
     }
 
@@ -205,25 +289,23 @@ public class MirrorMakerAgent {
     public static void premain(String agentArgs) {
         String[] args = agentArgs.split(":");
 
-        if (args.length != 4) {
-            LOGGER.error("Unexpected number of arguments ({}): {}", args.length, agentArgs);
+        if (args.length != 2) {
+            LOGGER.error("Unexpected number of arguments ({}), expected the HTTP port and the liveness period: {}", args.length, agentArgs);
             System.exit(1);
         } else {
-            File mirrorMakerReadyFile = new File(args[0]);
-            File livenessFile = new File(args[1]);
+            int port;
+            long livenessSleepInterval;
 
-            if (mirrorMakerReadyFile.exists() && !mirrorMakerReadyFile.delete()) {
-                LOGGER.error("Mirror Maker readiness file already exists and could not be deleted: {}", mirrorMakerReadyFile);
+            try {
+                port = Integer.parseInt(args[0]);
+                livenessSleepInterval = Long.parseLong(args[1]) / 2L * 1000L;
+            } catch (NumberFormatException e) {
+                LOGGER.error("Unexpected agent arguments, expected the HTTP port and the liveness period: {}", agentArgs);
                 System.exit(1);
-            } else if (livenessFile.exists() && !livenessFile.delete()) {
-                LOGGER.error("Liveness file already exists and could not be deleted: {}", livenessFile);
-                System.exit(1);
-            } else {
-                long readinessSleepInterval = Long.parseLong(args[2]) / 2L * 1000L;
-                long livenessSleepInterval = Long.parseLong(args[3]) / 2L * 1000L;
-
-                new MirrorMakerAgent(mirrorMakerReadyFile, livenessFile, readinessSleepInterval, livenessSleepInterval).run();
+                return;
             }
+
+            new MirrorMakerAgent(ManagementFactory.getPlatformMBeanServer(), port, livenessSleepInterval).run();
         }
     }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.mirrormaker.agent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MirrorMakerAgentTest {
+    private MBeanServer mBeanServer;
+    private MirrorMakerAgent agent;
+
+    @BeforeEach
+    public void setUp() {
+        mBeanServer = MBeanServerFactory.newMBeanServer();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (agent != null) {
+            agent.stopHttpServer();
+        }
+    }
+
+    private MirrorMakerAgent startAgent(long livenessSleepInterval) throws Exception {
+        agent = new MirrorMakerAgent(mBeanServer, 0, livenessSleepInterval);
+        agent.trackClientMetrics();
+        agent.startHttpServer();
+
+        return agent;
+    }
+
+    private int get(String path) throws Exception {
+        HttpRequest req = HttpRequest.newBuilder()
+                .uri(new URI("http://localhost:" + agent.httpPort() + path))
+                .GET()
+                .build();
+
+        return HttpClient.newBuilder()
+                .build()
+                .send(req, HttpResponse.BodyHandlers.ofString())
+                .statusCode();
+    }
+
+    @Test
+    public void testReady() throws Exception {
+        // Metrics registered before the agent started
+        ClientMetrics producer = new ClientMetrics(1);
+        mBeanServer.registerMBean(producer, new ObjectName("kafka.producer:type=producer-metrics,client-id=producer-1"));
+
+        startAgent(60_000L);
+
+        // No consumer yet
+        assertEquals(503, get("/ready"));
+
+        // Metrics registered after the agent started
+        ClientMetrics consumer = new ClientMetrics(0);
+        mBeanServer.registerMBean(consumer, new ObjectName("kafka.consumer:type=consumer-metrics,client-id=consumer-1"));
+        assertEquals(503, get("/ready"));
+
+        consumer.connectionCount = 2;
+        assertEquals(200, get("/ready"));
+
+        // Producer closed
+        mBeanServer.unregisterMBean(new ObjectName("kafka.producer:type=producer-metrics,client-id=producer-1"));
+        assertEquals(503, get("/ready"));
+    }
+
+    @Test
+    public void testReadyIgnoresOtherMetrics() throws Exception {
+        mBeanServer.registerMBean(new ClientMetrics(1), new ObjectName("kafka.producer:type=producer-node-metrics,client-id=producer-1"));
+        mBeanServer.registerMBean(new ClientMetrics(1), new ObjectName("kafka.consumer:type=consumer-node-metrics,client-id=consumer-1"));
+
+        startAgent(60_000L);
+
+        assertEquals(503, get("/ready"));
+    }
+
+    @Test
+    public void testHealthy() throws Exception {
+        startAgent(60_000L);
+
+        // The liveness poller did not signal yet
+        assertEquals(503, get("/healthy"));
+
+        // The liveness poller signals right after it starts and then sleeps. Every liveness check consumes the signal.
+        agent.startLivenessPoller();
+        Thread.sleep(500L);
+        assertEquals(200, get("/healthy"));
+        assertEquals(503, get("/healthy"));
+    }
+
+    @Test
+    public void testHealthyWithRunningLivenessPoller() throws Exception {
+        startAgent(10L);
+        agent.startLivenessPoller();
+
+        for (int i = 0; i < 5; i++) {
+            Thread.sleep(100L);
+            assertEquals(200, get("/healthy"));
+        }
+    }
+
+    /**
+     * Minimal Kafka client metrics MBean with the connection-count attribute
+     */
+    public static class ClientMetrics implements DynamicMBean {
+        volatile double connectionCount;
+
+        ClientMetrics(double connectionCount) {
+            this.connectionCount = connectionCount;
+        }
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            if ("connection-count".equals(attribute)) {
+                return connectionCount;
+            }
+
+            throw new AttributeNotFoundException(attribute);
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            AttributeList list = new AttributeList();
+
+            for (String attribute : attributes) {
+                if ("connection-count".equals(attribute)) {
+                    list.add(new Attribute(attribute, connectionCount));
+                }
+            }
+
+            return list;
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            return new MBeanInfo(ClientMetrics.class.getName(), "Kafka client metrics",
+                    new MBeanAttributeInfo[] {new MBeanAttributeInfo("connection-count", "double", "Connection count", true, false, false)},
+                    null, null, null);
+        }
+    }
+}
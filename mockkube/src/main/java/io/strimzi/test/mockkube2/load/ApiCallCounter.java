@@ -0,0 +1,122 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.mockkube2.load;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.http.BasicBuilder;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.Interceptor;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the Kubernetes API calls made by a Kubernetes client. The counter is installed as an HTTP interceptor into a
+ * dedicated client created by the countingClient() method. That client should be passed to the operator under test
+ * while the load generator keeps using the original client, so that only the calls made by the operator are counted.
+ * The calls are grouped by the resource (including the subresource) and the verb, for example
+ * "kafkausers/status update" or "secrets get".
+ */
+public class ApiCallCounter implements Interceptor {
+    private static final String INTERCEPTOR_NAME = "strimzi-api-call-counter";
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new Kubernetes client connected to the same Kubernetes API server as the client passed as parameter
+     * and with this counter installed.
+     *
+     * @param client    Kubernetes client which configuration should be used
+     *
+     * @return  New Kubernetes client which API calls are counted
+     */
+    public KubernetesClient countingClient(KubernetesClient client) {
+        return new KubernetesClientBuilder()
+                .withConfig(client.getConfiguration())
+                .withHttpClientBuilderConsumer(builder -> builder.addOrReplaceInterceptor(INTERCEPTOR_NAME, this))
+                .build();
+    }
+
+    @Override
+    public void before(BasicBuilder builder, HttpRequest request, RequestTags tags) {
+        counts.computeIfAbsent(key(request.method(), request.uri()), k -> new LongAdder()).increment();
+    }
+
+    /**
+     * @return  Sorted snapshot of the API call counts
+     */
+    public Map<String, Long> counts() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counts.forEach((key, count) -> snapshot.put(key, count.sum()));
+        return snapshot;
+    }
+
+    /**
+     * @return  Total number of API calls
+     */
+    public long total() {
+        return counts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Resets the counter. This can be used to ignore the API calls made while starting the operator.
+     */
+    public void reset() {
+        counts.clear();
+    }
+
+    /**
+     * Builds the key under which the API call is counted from the HTTP method and the request URI.
+     *
+     * @param method    HTTP method
+     * @param uri       Request URI
+     *
+     * @return  Key in the format "<resource>[/<subresource>] <verb>"
+     */
+    private static String key(String method, URI uri) {
+        String[] segments = uri.getPath().split("/");
+        // Core API paths start with /api/<version>, all other paths with /apis/<group>/<version>
+        int index = segments.length > 1 && "api".equals(segments[1]) ? 3 : 4;
+
+        if (segments.length > index + 2 && "namespaces".equals(segments[index])) {
+            index += 2;
+        }
+
+        if (segments.length <= index) {
+            return "discovery " + method.toLowerCase(Locale.ROOT);
+        }
+
+        boolean named = segments.length > index + 1;
+        String resource = segments.length > index + 2 ? segments[index] + "/" + segments[index + 2] : segments[index];
+
+        return resource + " " + verb(method, named, uri.getQuery());
+    }
+
+    private static String verb(String method, boolean named, String query) {
+        switch (method) {
+            case "GET":
+                if (query != null && query.contains("watch=true")) {
+                    return "watch";
+                } else {
+                    return named ? "get" : "list";
+                }
+            case "POST":
+                return "create";
+            case "PUT":
+                return "update";
+            case "PATCH":
+                return "patch";
+            case "DELETE":
+                return named ? "delete" : "deletecollection";
+            default:
+                return method.toLowerCase(Locale.ROOT);
+        }
+    }
+}
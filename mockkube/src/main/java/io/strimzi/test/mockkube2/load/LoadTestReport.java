@@ -0,0 +1,202 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.mockkube2.load;
+
+import io.strimzi.test.TestUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the results of a load test and writes them as a JSON report so that they can be compared between builds.
+ * The report contains the end-to-end reconciliation latency percentiles for every tracked kind, the Kubernetes API
+ * call counts, the heap usage and the peak number of live threads. The report is written into the directory configured using the
+ * strimzi.loadtest.report.dir system property (target/load-tests by default) into a file named after the load test.
+ * The heap usage is measured when the report is created and when it is written, so the report should be created
+ * right before the load is generated.
+ */
+public class LoadTestReport {
+    private static final Logger LOGGER = LogManager.getLogger(LoadTestReport.class);
+
+    /**
+     * System property used to configure the directory where the reports are written
+     */
+    public static final String REPORT_DIRECTORY_PROPERTY = "strimzi.loadtest.report.dir";
+    private static final String DEFAULT_REPORT_DIRECTORY = "target/load-tests";
+
+    private final String name;
+    private final long startNanos;
+    private final long heapUsedAtStart;
+    private final List<ReconciliationLatencyTracker<?>> trackers = new ArrayList<>();
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+    private ApiCallCounter apiCallCounter;
+
+    /**
+     * Constructs the load test report. It resets the peak heap usage and the peak thread count and records the current
+     * heap usage and time.
+     *
+     * @param name  Name of the load test. It is used as the name of the report file.
+     */
+    public LoadTestReport(String name) {
+        this.name = name;
+
+        ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+
+        this.heapUsedAtStart = heapUsedAfterGc();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Adds a parameter of the load test such as the number of resources to the report
+     *
+     * @param key       Name of the parameter
+     * @param value     Value of the parameter
+     *
+     * @return  This report
+     */
+    public LoadTestReport withParameter(String key, Object value) {
+        parameters.put(key, value);
+        return this;
+    }
+
+    /**
+     * Adds the latencies recorded by the tracker to the report
+     *
+     * @param tracker   Reconciliation latency tracker
+     *
+     * @return  This report
+     */
+    public LoadTestReport withLatencies(ReconciliationLatencyTracker<?> tracker) {
+        trackers.add(tracker);
+        return this;
+    }
+
+    /**
+     * Adds the API calls counted by the counter to the report
+     *
+     * @param counter   API call counter
+     *
+     * @return  This report
+     */
+    public LoadTestReport withApiCalls(ApiCallCounter counter) {
+        this.apiCallCounter = counter;
+        return this;
+    }
+
+    /**
+     * Builds the report and writes it into the report directory
+     *
+     * @return  Path to the written report
+     */
+    public Path write() {
+        long durationNanos = System.nanoTime() - startNanos;
+        long heapPeak = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+        long heapUsedAtEnd = heapUsedAfterGc();
+        int threadsPeak = ManagementFactory.getThreadMXBean().getPeakThreadCount();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("name", name);
+        report.put("parameters", parameters);
+        report.put("durationMs", toMillis(durationNanos));
+
+        Map<String, Object> resources = new LinkedHashMap<>();
+        for (ReconciliationLatencyTracker<?> tracker : trackers) {
+            Map<String, Object> resource = new LinkedHashMap<>();
+            resource.put("created", tracker.created());
+            resource.put("notReconciled", tracker.pending());
+            resource.put("latencyMs", percentiles(tracker.latencies()));
+            resources.put(tracker.kind(), resource);
+        }
+        report.put("resources", resources);
+
+        if (apiCallCounter != null) {
+            Map<String, Object> apiCalls = new LinkedHashMap<>();
+            apiCalls.put("total", apiCallCounter.total());
+            apiCalls.put("byResource", apiCallCounter.counts());
+            report.put("apiCalls", apiCalls);
+        }
+
+        Map<String, Object> heap = new LinkedHashMap<>();
+        heap.put("usedAtStartBytes", heapUsedAtStart);
+        heap.put("usedAtEndBytes", heapUsedAtEnd);
+        heap.put("peakBytes", heapPeak);
+        report.put("heap", heap);
+
+        Map<String, Object> threads = new LinkedHashMap<>();
+        threads.put("peak", threadsPeak);
+        report.put("threads", threads);
+
+        Path path = Path.of(System.getProperty(REPORT_DIRECTORY_PROPERTY, DEFAULT_REPORT_DIRECTORY), name + ".json");
+
+        try {
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, TestUtils.toJsonString(report), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write the load test report " + path, e);
+        }
+
+        LOGGER.info("Load test report written to {}", path.toAbsolutePath());
+        return path;
+    }
+
+    /**
+     * Calculates the latency percentiles using the nearest-rank method
+     *
+     * @param latencies     Latencies in nanoseconds
+     *
+     * @return  Map with the percentiles in milliseconds
+     */
+    private static Map<String, Object> percentiles(List<Long> latencies) {
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        if (!latencies.isEmpty()) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+
+            result.put("min", toMillis(sorted.get(0)));
+            result.put("p50", toMillis(percentile(sorted, 50)));
+            result.put("p90", toMillis(percentile(sorted, 90)));
+            result.put("p99", toMillis(percentile(sorted, 99)));
+            result.put("max", toMillis(sorted.get(sorted.size() - 1)));
+            result.put("mean", toMillis((long) sorted.stream().mapToLong(Long::longValue).average().orElse(0)));
+        }
+
+        return result;
+    }
+
+    private static long percentile(List<Long> sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(rank - 1, 0));
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private static long heapUsedAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
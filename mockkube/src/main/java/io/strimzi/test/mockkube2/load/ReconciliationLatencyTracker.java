@@ -0,0 +1,161 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.mockkube2.load;
+
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.strimzi.api.kafka.model.status.Status;
+import io.strimzi.test.TestUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the end-to-end reconciliation latency of custom resources. The latency is measured from the moment the load
+ * generator creates the resource until the operator marks it as ready for its current generation. The resources have
+ * to be created through the create() method of the tracker so that their creation time is recorded.
+ *
+ * @param <T>   Type of the custom resource
+ */
+public class ReconciliationLatencyTracker<T extends CustomResource<?, ? extends Status>> implements Watcher<T> {
+    private static final Logger LOGGER = LogManager.getLogger(ReconciliationLatencyTracker.class);
+
+    private final String kind;
+    private final String namespace;
+    private final MixedOperation<T, ?, ?> operation;
+
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+    private final List<Long> latencies = new ArrayList<>();
+    private final AtomicInteger created = new AtomicInteger(0);
+
+    private Watch watch;
+
+    /**
+     * Constructs the latency tracker
+     *
+     * @param kind          Kind of the custom resource
+     * @param namespace     Namespace where the resources are created
+     * @param operation     Kubernetes client operation for the custom resource
+     */
+    public ReconciliationLatencyTracker(String kind, String namespace, MixedOperation<T, ?, ?> operation) {
+        this.kind = kind;
+        this.namespace = namespace;
+        this.operation = operation;
+    }
+
+    /**
+     * Starts the watch used to detect the reconciled resources
+     */
+    public void start() {
+        watch = operation.inNamespace(namespace).watch(this);
+    }
+
+    /**
+     * Stops the watch
+     */
+    public void stop() {
+        if (watch != null) {
+            watch.close();
+        }
+    }
+
+    /**
+     * Records the creation time of the resource and creates it
+     *
+     * @param resource  Resource which should be created
+     *
+     * @return  The created resource
+     */
+    public T create(T resource) {
+        pending.put(resource.getMetadata().getName(), System.nanoTime());
+        created.incrementAndGet();
+
+        return operation.inNamespace(namespace).resource(resource).create();
+    }
+
+    /**
+     * Waits until all created resources are reconciled
+     *
+     * @param timeoutMs     Timeout in milliseconds
+     */
+    public void awaitReconciled(long timeoutMs) {
+        TestUtils.waitFor("all " + kind + " resources to be reconciled", 100, timeoutMs, pending::isEmpty,
+            () -> LOGGER.error("{} {} resources were not reconciled in time", pending.size(), kind));
+    }
+
+    @Override
+    public void eventReceived(Action action, T resource) {
+        if (action != Action.DELETED && isReconciled(resource)) {
+            Long createdAt = pending.remove(resource.getMetadata().getName());
+
+            if (createdAt != null) {
+                synchronized (latencies) {
+                    latencies.add(System.nanoTime() - createdAt);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onClose(WatcherException e) {
+        LOGGER.warn("{} watch closed", kind, e);
+    }
+
+    /**
+     * Checks whether the resource is reconciled. The resource is reconciled when its status has the Ready condition
+     * set to True and the observed generation matches the generation of the resource.
+     *
+     * @param resource  Custom resource
+     *
+     * @return  True if the resource is reconciled. False otherwise.
+     */
+    private static boolean isReconciled(CustomResource<?, ? extends Status> resource) {
+        Status status = resource.getStatus();
+        Long generation = resource.getMetadata().getGeneration();
+
+        return status != null
+                && status.getConditions() != null
+                && status.getObservedGeneration() >= (generation != null ? generation : 0L)
+                && status.getConditions().stream().anyMatch(condition -> "Ready".equals(condition.getType()) && "True".equals(condition.getStatus()));
+    }
+
+    /**
+     * @return  Kind of the tracked custom resource
+     */
+    public String kind() {
+        return kind;
+    }
+
+    /**
+     * @return  Number of resources created through this tracker
+     */
+    public int created() {
+        return created.get();
+    }
+
+    /**
+     * @return  Number of resources which were created but not reconciled yet
+     */
+    public int pending() {
+        return pending.size();
+    }
+
+    /**
+     * @return  Copy of the recorded reconciliation latencies in nanoseconds
+     */
+    public List<Long> latencies() {
+        synchronized (latencies) {
+            return new ArrayList<>(latencies);
+        }
+    }
+}
@@ -86,6 +86,8 @@ public abstract class AbstractOperator<
 
     private Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
 
+    private volatile ResourceOwnership ownership = ResourceOwnership.ALL;
+
     /**
      * Constructs the AbstractOperator. This constructor is used to construct the AbstractOperator using the
      * OperatorMetricsHolder instance. This constructor is used by subclasses which want to use specialized metrics
@@ -130,6 +132,31 @@ public abstract class AbstractOperator<
         return metrics;
     }
 
+    /**
+     * Configures which custom resources are owned by this operator instance. The custom resources which are not owned
+     * are not reconciled. This is used when the custom resources are split into shards between multiple operator
+     * instances. By default, all custom resources are owned. The ownership is also informed about the start and end
+     * of each reconciliation, so that it can wait for the reconciliations in progress before handing the custom
+     * resources over to another operator instance.
+     *
+     * @param ownership     Ownership of the custom resources
+     */
+    public void setOwnership(ResourceOwnership ownership) {
+        this.ownership = ownership;
+    }
+
+    /**
+     * Checks whether the custom resource is owned by this operator instance
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     *
+     * @return  True if the custom resource should be reconciled by this operator instance. False otherwise.
+     */
+    public boolean isOwned(String namespace, String name) {
+        return ownership.isOwned(namespace, name);
+    }
+
     /**
      * Gets the name of the lock to be used for operating on the given {@code namespace} and
      * cluster {@code name}
@@ -177,6 +204,13 @@ public abstract class AbstractOperator<
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
 
+        ResourceOwnership ownership = this.ownership;
+        if (!ownership.startReconciliation(namespace, name)) {
+            // The custom resource belongs to a shard held by another operator instance
+            LOGGER.debugCr(reconciliation, "{} {} in namespace {} is not owned by this operator instance and will be ignored", kind(), name, namespace);
+            return Future.succeededFuture();
+        }
+
         metrics().reconciliationsCounter(reconciliation.namespace()).increment();
         Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
 
@@ -291,6 +325,7 @@ public abstract class AbstractOperator<
             try {
                 handleResult(reconciliation, reconcileResult, reconciliationTimerSample);
             } finally {
+                ownership.finishReconciliation(namespace, name);
                 result.handle(reconcileResult);
             }
         });
@@ -452,6 +487,7 @@ public abstract class AbstractOperator<
         return resourceOperator.listAsync(namespace, selector())
                 .map(resourceList ->
                         resourceList.stream()
+                                .filter(resource -> isOwned(resource.getMetadata().getNamespace(), resource.getMetadata().getName()))
                                 .map(resource -> new NamespaceAndName(resource.getMetadata().getNamespace(), resource.getMetadata().getName()))
                                 .collect(Collectors.toSet()));
     }
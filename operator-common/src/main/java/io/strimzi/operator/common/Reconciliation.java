@@ -31,6 +31,9 @@ public class Reconciliation {
     private final int id;
     private final Marker marker;
 
+    // Cached string representation used as the prefix of every log message of this reconciliation
+    private String description;
+
     /**
      * Constructs the reconciliation marker
      *
@@ -78,6 +81,14 @@ public class Reconciliation {
 
     @Override
     public String toString() {
-        return "Reconciliation #" + id + "(" + trigger + ") " + kind() + "(" + namespace() + "/" + name() + ")";
+        // The fields are immutable, so the worst case of a race is building the same string more than once
+        String description = this.description;
+
+        if (description == null) {
+            description = "Reconciliation #" + id + "(" + trigger + ") " + kind() + "(" + namespace() + "/" + name() + ")";
+            this.description = description;
+        }
+
+        return description;
     }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+/**
+ * Decides which custom resources are reconciled by this operator instance. It also keeps track of the reconciliations
+ * in progress, so that the ownership of a custom resource is not handed over to another operator instance while it is
+ * still being reconciled.
+ */
+public interface ResourceOwnership {
+    /**
+     * Ownership used when the custom resources are not split between multiple operator instances. All custom
+     * resources are owned by this operator instance.
+     */
+    ResourceOwnership ALL = new ResourceOwnership() {
+        @Override
+        public boolean isOwned(String namespace, String name) {
+            return true;
+        }
+
+        @Override
+        public boolean startReconciliation(String namespace, String name) {
+            return true;
+        }
+
+        @Override
+        public void finishReconciliation(String namespace, String name) {
+            // Nothing to do
+        }
+    };
+
+    /**
+     * Checks whether the custom resource is owned by this operator instance
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     *
+     * @return  True if the custom resource should be reconciled by this operator instance. False otherwise.
+     */
+    boolean isOwned(String namespace, String name);
+
+    /**
+     * Checks whether the custom resource is owned by this operator instance and if it is, registers the start of its
+     * reconciliation. Every successful call has to be followed by a call to finishReconciliation once the
+     * reconciliation completes.
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     *
+     * @return  True if the custom resource is owned by this operator instance and should be reconciled. False otherwise.
+     */
+    boolean startReconciliation(String namespace, String name);
+
+    /**
+     * Registers the end of the reconciliation started with startReconciliation
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     */
+    void finishReconciliation(String namespace, String name);
+}
@@ -9,13 +9,21 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Abstract controller loop provides the shared functionality for reconciling resources in Strimzi controllers. It takes
  * an event from a queue passed in controller and reconciles it.
+ *
+ * The loop runs in one of two modes. In the blocking mode, the loop thread runs the whole reconciliation and takes the
+ * next event only once it is finished. In the asynchronous mode, the loop thread only dispatches the reconciliations
+ * using the reconcileAsync() method and takes the next event right away. The number of reconciliations in progress is
+ * limited by a semaphore which can be shared by multiple loops.
  */
 public abstract class AbstractControllerLoop {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractControllerLoop.class);
@@ -26,6 +34,7 @@ public abstract class AbstractControllerLoop {
     private final ControllerQueue workQueue;
     private final ReconciliationLockManager lockManager;
     private final ScheduledExecutorService scheduledExecutor;
+    private final Semaphore inFlightReconciliations;
 
     private volatile boolean stop = false;
     private volatile boolean running = false;
@@ -41,10 +50,27 @@ public abstract class AbstractControllerLoop {
      * @param scheduledExecutor     Scheduled executor service used to run the progress warnings
      */
     public AbstractControllerLoop(String name, ControllerQueue workQueue, ReconciliationLockManager lockManager, ScheduledExecutorService scheduledExecutor) {
+        this(name, workQueue, lockManager, scheduledExecutor, null);
+    }
+
+    /**
+     * Creates the controller loop which runs in the asynchronous mode when the semaphore is set. The controller should
+     * normally exist once per operator for cluster-wide mode or once per namespace for namespaced mode.
+     *
+     * @param name                      The name of this controller loop. The name should help to identify what kind
+     *                                  of look this is and what does it control / reconciler.
+     * @param workQueue                 Queue from which events should be consumed
+     * @param lockManager               Lock manager for making sure no parallel reconciliations for a given resource can happen
+     * @param scheduledExecutor         Scheduled executor service used to run the progress warnings
+     * @param inFlightReconciliations   Semaphore limiting the number of reconciliations in progress. When null, the loop
+     *                                  runs in the blocking mode.
+     */
+    public AbstractControllerLoop(String name, ControllerQueue workQueue, ReconciliationLockManager lockManager, ScheduledExecutorService scheduledExecutor, Semaphore inFlightReconciliations) {
         this.name = name;
         this.workQueue = workQueue;
         this.lockManager = lockManager;
         this.scheduledExecutor = scheduledExecutor;
+        this.inFlightReconciliations = inFlightReconciliations;
         this.controllerThread = new Thread(new Runner(), name);
     }
 
@@ -55,6 +81,20 @@ public abstract class AbstractControllerLoop {
      */
     protected abstract void reconcile(Reconciliation reconciliation);
 
+    /**
+     * The reconciliation logic used in the asynchronous mode. It should not block the calling thread and should return
+     * a completion stage which completes when the reconciliation is finished. The default implementation runs the
+     * blocking reconcile() method and returns a completed stage.
+     *
+     * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  Completion stage which completes when the reconciliation is finished
+     */
+    protected CompletionStage<Void> reconcileAsync(Reconciliation reconciliation) {
+        reconcile(reconciliation);
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Returns the Controller Metrics Holder instance, which is used to hold the various controller metrics
      *
@@ -139,6 +179,60 @@ public abstract class AbstractControllerLoop {
         }
     }
 
+    /**
+     * Wrapper method used in the asynchronous mode to handle obtaining the lock for the resource and a permit from the
+     * in-flight semaphore before dispatching the reconciliation. The lock and the permit are released when the
+     * reconciliation completes. If the lock is in use, the reconciliation is re-queued.
+     *
+     * @param reconciliation    Reconciliation marker
+     */
+    private void dispatchWithLock(SimplifiedReconciliation reconciliation) {
+        String lockName = reconciliation.lockName();
+        boolean dispatched = false;
+        boolean requeue = false;
+
+        try {
+            // Waits until the number of reconciliations in progress drops below the limit
+            inFlightReconciliations.acquire();
+        } catch (InterruptedException e) {
+            LOGGER.warnOp("{}: Interrupted while waiting for a free reconciliation slot. The resource will be re-queued for later.", name);
+            workQueue.enqueue(reconciliation);
+            return;
+        }
+
+        try {
+            boolean locked = lockManager.tryLock(lockName, 1_000, TimeUnit.MILLISECONDS);
+
+            if (locked) {
+                reconcileWrapperAsync(reconciliation.toReconciliation())
+                        .whenComplete((i, e) -> {
+                            // We have to unlock the resource and release the permit in any situation
+                            lockManager.unlock(lockName);
+                            inFlightReconciliations.release();
+                        });
+                dispatched = true;
+            } else {
+                // Failed to get the lock => other reconciliation is in progress
+                LOGGER.warnOp("{}: Failed to acquire lock {}. The resource will be re-queued for later.", name, lockName);
+                metrics().lockedReconciliationsCounter(reconciliation.namespace).increment();
+                requeue = true;
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warnOp("{}: Interrupted while trying to acquire lock {}. The resource will be re-queued for later.", name, lockName);
+            metrics().lockedReconciliationsCounter(reconciliation.namespace).increment();
+            requeue = true;
+        } finally {
+            if (!dispatched) {
+                inFlightReconciliations.release();
+            }
+        }
+
+        // Failed to get the lock. We will requeue the resource for next time
+        if (requeue) {
+            workQueue.enqueue(reconciliation);
+        }
+    }
+
     /**
      * Wrapper method to handle reconciliation. It is used to handle common tasks such as:
      *     - Progress warnings
@@ -163,6 +257,40 @@ public abstract class AbstractControllerLoop {
         }
     }
 
+    /**
+     * Asynchronous variant of the reconcileWrapper method. It handles the progress warnings and the reconciliation
+     * metrics in the same way, but finishes them only when the reconciliation completes.
+     *
+     * @param reconciliation    Reconciliation marker
+     *
+     * @return  Completion stage which completes when the reconciliation is finished
+     */
+    private CompletionStage<Void> reconcileWrapperAsync(Reconciliation reconciliation) {
+        // Tasks before reconciliation
+        ScheduledFuture<?> progressWarning = scheduledExecutor
+                .scheduleAtFixedRate(() -> LOGGER.infoCr(reconciliation, "Reconciliation is in progress"), PROGRESS_WARNING_MS, PROGRESS_WARNING_MS, TimeUnit.MILLISECONDS);
+        metrics().reconciliationsCounter(reconciliation.namespace()).increment(); // Increase the reconciliation counter
+        Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry()); // Start the reconciliation timer
+
+        // Reconciliation
+        CompletionStage<Void> result;
+        try {
+            result = reconcileAsync(reconciliation);
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        return result.whenComplete((i, e) -> {
+            if (e != null) {
+                LOGGER.warnCr(reconciliation, "{}: reconciliation failed", name, e);
+            }
+
+            // Tasks after reconciliation
+            reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace())); // Stop the reconciliation timer
+            progressWarning.cancel(true); // Stop the progress warning
+        });
+    }
+
     /**
      * Runner class which is used to run the controller loop. This is implemented as a private inner class to not expose
      * it as a public method.
@@ -180,7 +308,12 @@ public abstract class AbstractControllerLoop {
                 try {
                     LOGGER.debugOp("{}: Waiting for next event from work queue", name);
                     SimplifiedReconciliation reconciliation = workQueue.take();
-                    reconcileWithLock(reconciliation);
+
+                    if (inFlightReconciliations != null) {
+                        dispatchWithLock(reconciliation);
+                    } else {
+                        reconcileWithLock(reconciliation);
+                    }
                 } catch (InterruptedException e) {
                     LOGGER.debugOp("{}: was interrupted", name, e);
                 } catch (Exception e) {
@@ -8,14 +8,15 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A simple lock manager used to track the reconciliations which are in progress. This is used to make sure that a given
- * resource is not reconciled multiple times in parallel.
+ * resource is not reconciled multiple times in parallel. The locks are not owned by a thread, so they can be unlocked
+ * from a different thread than the one which locked them. This is needed for reconciliations which complete
+ * asynchronously.
  *
  * This implementation is inspired by https://www.baeldung.com/java-acquire-lock-by-key
  */
@@ -71,10 +72,11 @@ public class ReconciliationLockManager {
     /**
      * Internal implementation of a reconciliation lock. It holds the lock as well as a counter which is used to track
      * how many parties are interested in the lock (either hold the lock or are waiting for it). The counter is used to
-     * detect when the lock is not used anymore and should be removed from the lock manager.
+     * detect when the lock is not used anymore and should be removed from the lock manager. The lock is a single permit
+     * semaphore, so it is not reentrant.
      */
     public static class ReconciliationLock    {
-        private final Lock lock = new ReentrantLock();
+        private final Semaphore lock = new Semaphore(1);
         /*test*/ final AtomicInteger lockQueue = new AtomicInteger(1); // Initializes at 1, because it is created as part of an tryLock() call
 
         private ReconciliationLock incrementQueueAndGet()   {
@@ -96,7 +98,7 @@ public class ReconciliationLockManager {
          */
         private boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
             try {
-                boolean locked = lock.tryLock(time, unit);
+                boolean locked = lock.tryAcquire(time, unit);
 
                 if (!locked) {
                     // We did not get the lock and return false => we decrement the counter of interested parties
@@ -118,7 +120,7 @@ public class ReconciliationLockManager {
          * @return  Number of parties waiting for this lock
          */
         private int unlock()   {
-            lock.unlock();
+            lock.release();
             return lockQueue.decrementAndGet();
         }
     }
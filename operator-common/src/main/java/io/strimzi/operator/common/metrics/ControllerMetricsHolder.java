@@ -16,6 +16,7 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class ControllerMetricsHolder extends MetricsHolder {
     private final Map<String, Counter> alreadyQueuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> ignoredEventsCounterMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the controller metrics holder
@@ -41,4 +42,17 @@ public class ControllerMetricsHolder extends MetricsHolder {
         return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.already.enqueued", metricsProvider, selectorLabels, alreadyQueuedReconciliationsCounterMap,
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running");
     }
+
+    /**
+     * Counter metric for number of informer events which were ignored because they were caused by the operator itself
+     * and would only trigger a reconciliation of an already up-to-date resource.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter ignoredEventsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "events.ignored", metricsProvider, selectorLabels, ignoredEventsCounterMap,
+                "Number of events ignored because they were caused by the operator itself");
+    }
 }
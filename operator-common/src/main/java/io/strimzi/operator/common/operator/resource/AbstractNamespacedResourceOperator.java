@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiPredicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -456,6 +457,29 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         }
     }
 
+    /**
+     * Creates the informer for given resource type to inform on all instances in given namespace (or cluster-wide)
+     * matching the selector. The resources are transformed before they are stored in the informer cache. This can be
+     * used to strip the fields which are not needed by the informer users and reduce the memory used by the cache.
+     *
+     * @param namespace         Namespace on which to inform
+     * @param labelSelector     Labels Selector which should be matched by the resources
+     * @param transform         Function which transforms the resources before they are stored in the cache
+     *
+     * @return                  Informer instance
+     */
+    public SharedIndexInformer<T> informer(String namespace, LabelSelector labelSelector, UnaryOperator<T> transform)   {
+        SharedIndexInformer<T> informer;
+
+        if (ANY_NAMESPACE.equals(namespace))    {
+            informer = operation().inAnyNamespace().withLabelSelector(labelSelector).runnableInformer(0);
+        } else {
+            informer = operation().inNamespace(namespace).withLabelSelector(labelSelector).runnableInformer(0);
+        }
+
+        return informer.itemStore(new TransformingItemStore<>(transform)).run();
+    }
+
     /**
      * Returns the Kubernetes client for given resource type
      *
@@ -0,0 +1,74 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Informer item store which transforms the resources before storing them in the informer cache. It is used to strip
+ * the fields which are not used by the informer users (such as managed fields or container statuses) and reduce the
+ * memory used by the informer caches. The resources are stored under the usual namespace/name key, so the store can
+ * be used with the regular listers.
+ *
+ * The events distributed by the informer still contain the complete resources. Only the resources returned from the
+ * cache (for example using listers or as the old resource in the update events) are transformed.
+ *
+ * @param <T>   Type of the resource
+ */
+public class TransformingItemStore<T extends HasMetadata> implements ItemStore<T> {
+    private final BasicItemStore<T> store = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+    private final UnaryOperator<T> transform;
+
+    /**
+     * Constructs the item store
+     *
+     * @param transform     Function transforming the resource before it is stored. It should not modify the original
+     *                      resource, but return a new one instead.
+     */
+    public TransformingItemStore(UnaryOperator<T> transform) {
+        this.transform = transform;
+    }
+
+    @Override
+    public String getKey(T obj) {
+        return store.getKey(obj);
+    }
+
+    @Override
+    public T put(String key, T obj) {
+        return store.put(key, transform.apply(obj));
+    }
+
+    @Override
+    public T remove(String key) {
+        return store.remove(key);
+    }
+
+    @Override
+    public Stream<String> keySet() {
+        return store.keySet();
+    }
+
+    @Override
+    public Stream<T> values() {
+        return store.values();
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+
+    @Override
+    public T get(String key) {
+        return store.get(key);
+    }
+}
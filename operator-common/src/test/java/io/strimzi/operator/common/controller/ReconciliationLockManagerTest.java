@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -103,4 +104,22 @@ public class ReconciliationLockManagerTest {
 
         assertThat(lockMan.locks.size(), is(0)); // Should be empty at the end
     }
+
+    // Same key, unlocked from a different thread as used by the asynchronous reconciliations
+    @Test
+    public void testLockUnlockFromDifferentThread() throws InterruptedException, ExecutionException {
+        ReconciliationLockManager lockMan = new ReconciliationLockManager();
+
+        assertThat(lockMan.tryLock("my-lock", 10, TimeUnit.MILLISECONDS), is(true));
+        assertThat(lockMan.tryLock("my-lock", 10, TimeUnit.MILLISECONDS), is(false)); // The lock is not reentrant
+
+        // Unlock in a different thread
+        CompletableFuture.runAsync(() -> lockMan.unlock("my-lock")).get();
+
+        assertThat(lockMan.locks.size(), is(0));
+        assertThat(lockMan.tryLock("my-lock", 10, TimeUnit.MILLISECONDS), is(true));
+        lockMan.unlock("my-lock");
+
+        assertThat(lockMan.locks.size(), is(0)); // Should be empty at the end
+    }
 }
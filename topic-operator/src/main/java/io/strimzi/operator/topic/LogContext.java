@@ -22,15 +22,14 @@ public class LogContext {
     private static AtomicInteger ctx = new AtomicInteger();
     private final String base;
     private final String trigger;
-    private final String namespace;
-    private final String topicName;
     private String resourceVersion;
+    private final Reconciliation reconciliation;
 
     private LogContext(String trigger, String namespace, String topicName) {
         base = ctx.getAndIncrement() + "|" + trigger;
-        this.namespace = namespace;
-        this.topicName = topicName;
         this.trigger = trigger;
+        // Created once so that all log messages of this context share the same reconciliation and its marker
+        this.reconciliation = new Reconciliation(trigger, "KafkaTopic", namespace, topicName);
     }
 
 
@@ -83,6 +82,6 @@ public class LogContext {
     }
 
     protected Reconciliation toReconciliation() {
-        return new Reconciliation(trigger, "KafkaTopic", namespace, topicName);
+        return reconciliation;
     }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.test.mockkube2.MockKube2;
+import io.strimzi.test.mockkube2.load.ApiCallCounter;
+import io.strimzi.test.mockkube2.load.LoadTestReport;
+import io.strimzi.test.mockkube2.load.ReconciliationLatencyTracker;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Load test of the Topic Operator. It runs the real TopicOperator, K8sImpl and K8sTopicWatcher against MockKube2 and
+ * in-memory fakes of Kafka and of the topic store, creates the configured number of KafkaTopics and writes the
+ * reconciliation latencies, the Kubernetes API call counts and the heap usage into the load test report. It is enabled
+ * only when the strimzi.loadtest.enabled system property is set to true.
+ */
+@EnabledIfSystemProperty(named = "strimzi.loadtest.enabled", matches = "true")
+@EnableKubernetesMockClient(crud = true)
+public class KafkaTopicLoadTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final Labels LABELS = Labels.fromString("strimzi.io/cluster=my-cluster");
+    private static final int TOPICS = Integer.getInteger("strimzi.loadtest.topics", 1_000);
+    private static final long TIMEOUT_MS = Long.getLong("strimzi.loadtest.timeout.ms", 600_000L);
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+    private MockKube2 mockKube;
+    private Vertx vertx;
+    private WorkerExecutor sharedWorkerExecutor;
+
+    @BeforeEach
+    public void beforeEach() {
+        mockKube = new MockKube2.MockKube2Builder(client)
+                .withKafkaTopicCrd()
+                .build();
+        mockKube.start();
+
+        vertx = Vertx.vertx();
+        // Keeps the shared worker pool used by the Kubernetes operations open in the same way as the Session does
+        sharedWorkerExecutor = vertx.createSharedWorkerExecutor("kubernetes-ops-pool");
+    }
+
+    @AfterEach
+    public void afterEach() throws ExecutionException, InterruptedException {
+        sharedWorkerExecutor.close();
+        vertx.close().toCompletionStage().toCompletableFuture().get();
+        mockKube.stop();
+    }
+
+    @Test
+    public void testKafkaTopicLoad() {
+        ApiCallCounter apiCalls = new ApiCallCounter();
+        KubernetesClient operatorClient = apiCalls.countingClient(client);
+        Config config = new Config(Map.of(
+                Config.ZOOKEEPER_CONNECT.key, "localhost:2181",
+                Config.KAFKA_BOOTSTRAP_SERVERS.key, "localhost:9092",
+                Config.NAMESPACE.key, NAMESPACE,
+                Config.CLIENT_ID.key, "load-test-client-id"
+        ));
+
+        TopicOperator topicOperator = new TopicOperator(vertx, new InMemoryKafka(), new K8sImpl(vertx, operatorClient, LABELS, NAMESPACE),
+                new InMemoryTopicStore(), LABELS, NAMESPACE, config, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        K8sTopicWatcher watcher = new K8sTopicWatcher(topicOperator, Future.succeededFuture(), () -> { });
+        Watch watch = Crds.topicOperation(operatorClient).inNamespace(NAMESPACE).withLabels(LABELS.labels()).watch(watcher);
+        ReconciliationLatencyTracker<KafkaTopic> tracker = new ReconciliationLatencyTracker<>("KafkaTopic", NAMESPACE, Crds.topicOperation(client));
+
+        tracker.start();
+        apiCalls.reset();
+
+        LoadTestReport report = new LoadTestReport("kafka-topic-load-test")
+                .withParameter("topics", TOPICS);
+
+        try {
+            for (int i = 0; i < TOPICS; i++) {
+                tracker.create(kafkaTopic(i));
+            }
+
+            tracker.awaitReconciled(TIMEOUT_MS);
+        } finally {
+            report.withLatencies(tracker)
+                    .withApiCalls(apiCalls)
+                    .write();
+
+            tracker.stop();
+            watch.close();
+            operatorClient.close();
+        }
+
+        assertThat(tracker.pending(), is(0));
+    }
+
+    private static KafkaTopic kafkaTopic(int index) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName("topic-" + index)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(LABELS.labels())
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(12)
+                    .withReplicas(3)
+                    .withConfig(Map.of("retention.ms", 7_200_000, "segment.bytes", 1_073_741_824, "min.insync.replicas", 2))
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * In-memory implementation of the Kafka interface which is safe to use from multiple threads
+     */
+    static class InMemoryKafka implements Kafka {
+        private final Map<TopicName, Topic> topics = new ConcurrentHashMap<>();
+
+        @Override
+        public Future<Void> createTopic(Reconciliation reconciliation, Topic newTopic) {
+            topics.put(newTopic.getTopicName(), newTopic);
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Void> deleteTopic(Reconciliation reconciliation, TopicName topicName) {
+            topics.remove(topicName);
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Boolean> topicExists(Reconciliation reconciliation, TopicName topicName) {
+            return Future.succeededFuture(topics.containsKey(topicName));
+        }
+
+        @Override
+        public Future<Void> updateTopicConfig(Reconciliation reconciliation, Topic topic) {
+            topics.computeIfPresent(topic.getTopicName(), (name, current) -> new Topic.Builder(current).withConfig(new HashMap<>(topic.getConfig())).build());
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Void> increasePartitions(Reconciliation reconciliation, Topic topic) {
+            topics.computeIfPresent(topic.getTopicName(), (name, current) -> new Topic.Builder(current).withNumPartitions(topic.getNumPartitions()).build());
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<TopicMetadata> topicMetadata(Reconciliation reconciliation, TopicName topicName) {
+            Topic topic = topics.get(topicName);
+            return Future.succeededFuture(topic != null ? Utils.getTopicMetadata(topic) : null);
+        }
+
+        @Override
+        public Future<Set<String>> listTopics() {
+            return Future.succeededFuture(Set.copyOf(topics.keySet().stream().map(TopicName::toString).toList()));
+        }
+    }
+
+    /**
+     * In-memory implementation of the topic store which is safe to use from multiple threads
+     */
+    static class InMemoryTopicStore implements TopicStore {
+        private final Map<TopicName, Topic> topics = new ConcurrentHashMap<>();
+
+        @Override
+        public Future<Topic> read(TopicName name) {
+            return Future.succeededFuture(topics.get(name));
+        }
+
+        @Override
+        public Future<Void> create(Topic topic) {
+            return topics.putIfAbsent(topic.getTopicName(), topic) == null ? Future.succeededFuture() : Future.failedFuture(new EntityExistsException());
+        }
+
+        @Override
+        public Future<Void> update(Topic topic) {
+            return topics.replace(topic.getTopicName(), topic) != null ? Future.succeededFuture() : Future.failedFuture(new NoSuchEntityExistsException());
+        }
+
+        @Override
+        public Future<Void> delete(TopicName topicName) {
+            return topics.remove(topicName) != null ? Future.succeededFuture() : Future.failedFuture(new NoSuchEntityExistsException());
+        }
+    }
+}
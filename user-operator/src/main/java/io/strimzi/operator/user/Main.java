@@ -76,6 +76,7 @@ public class Main {
         // Create KubernetesClient, AdminClient and KafkaUserOperator classes
         KubernetesClient client = new OperatorKubernetesClientBuilder("strimzi-user-operator", Main.class.getPackage().getImplementationVersion()).build();
         Admin adminClient = createAdminClient(config, client, new DefaultAdminClientProvider());
+        MetricsProvider metricsProvider = createMetricsProvider();
         AtomicInteger kafkaUserOperatorExecutorThreadCounter = new AtomicInteger(0);
         ExecutorService kafkaUserOperatorExecutor = Executors.newFixedThreadPool(config.getUserOperationsThreadPoolSize(), r -> new Thread(r, "operator-thread-pool-" + kafkaUserOperatorExecutorThreadCounter.getAndIncrement()));
         KafkaUserOperator kafkaUserOperator = new KafkaUserOperator(
@@ -85,11 +86,10 @@ public class Main {
                 config.isKraftEnabled() ? new DisabledScramCredentialsOperator() : new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor),
                 new QuotasOperator(adminClient, config, kafkaUserOperatorExecutor),
                 config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor) : new DisabledSimpleAclOperator(),
-                kafkaUserOperatorExecutor
+                kafkaUserOperatorExecutor,
+                metricsProvider
         );
 
-        MetricsProvider metricsProvider = createMetricsProvider();
-
         // Create the User controller
         UserController controller = new UserController(
                 config,
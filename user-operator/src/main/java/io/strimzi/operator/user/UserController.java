@@ -27,11 +27,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -105,10 +107,13 @@ public class UserController {
         // Create the reconciliation lock manager
         ReconciliationLockManager lockManager = new ReconciliationLockManager();
 
+        // In the asynchronous mode, the reconciliation loops share a semaphore limiting the reconciliations in progress
+        Semaphore inFlightReconciliations = config.getControllerMaxConcurrentReconciliations() > 0 ? new Semaphore(config.getControllerMaxConcurrentReconciliations()) : null;
+
         // Create a thread pool for the reconciliation loops and add the reconciliation loops
         this.threadPool = new ArrayList<>(config.getControllerThreadPoolSize());
         for (int i = 0; i < config.getControllerThreadPoolSize(); i++)  {
-            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, lockManager, scheduledExecutor, client, userLister, secretLister, userOperator, metrics, config));
+            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, lockManager, scheduledExecutor, inFlightReconciliations, client, userLister, secretLister, userOperator, metrics, config));
         }
     }
 
@@ -124,6 +129,24 @@ public class UserController {
         workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, user.getMetadata().getNamespace(), user.getMetadata().getName()));
     }
 
+    /**
+     * Checks whether the Secret event was caused by the User Operator writing the Secret. Such events do not need to
+     * trigger a new reconciliation because the Secret is already up-to-date.
+     *
+     * @param userSecret    Secret which triggered the event
+     *
+     * @return  True if the event is caused by the operator itself and should be ignored. False otherwise.
+     */
+    private boolean isSelfCausedSecretEvent(Secret userSecret) {
+        if (userOperator.isUpToDateSecretVersion(userSecret)) {
+            LOGGER.debugOp("Ignoring event for Secret {} in namespace {} caused by the operator", userSecret.getMetadata().getName(), userSecret.getMetadata().getNamespace());
+            metrics.ignoredEventsCounter(userSecret.getMetadata().getNamespace()).increment();
+            return true;
+        } else {
+            return false;
+        }
+    }
+
     /**
      * Enqueues a user based on an event from the Secrets informer
      *
@@ -222,11 +245,21 @@ public class UserController {
         this.secretInformer.addEventHandlerWithResyncPeriod(new ResourceEventHandler<>() {
             @Override
             public void onAdd(Secret secret) {
+                if (isSelfCausedSecretEvent(secret)) {
+                    return;
+                }
+
                 enqueueUserSecret(secret, "ADDED");
             }
 
             @Override
             public void onUpdate(Secret oldSecret, Secret newSecret) {
+                // Resync events have the same resource version and are used for the periodic reconciliation
+                if (!Objects.equals(oldSecret.getMetadata().getResourceVersion(), newSecret.getMetadata().getResourceVersion())
+                        && isSelfCausedSecretEvent(newSecret)) {
+                    return;
+                }
+
                 enqueueUserSecret(newSecret, "MODIFIED");
             }
 
@@ -27,9 +27,12 @@ import io.strimzi.operator.user.operator.KafkaUserOperator;
 
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -58,6 +61,8 @@ public class UserControllerLoop extends AbstractControllerLoop {
      * @param lockManager           LockManager which is used to avoid the same resource being reconciled in multiple loops in parallel
      * @param scheduledExecutor     Scheduled executor service which will be passed to the AbstractControllerLoop and
      *                              used to run the progress warnings
+     * @param inFlightReconciliations   Semaphore limiting the number of reconciliations in progress when the loop runs
+     *                                  in the asynchronous mode. Null when the loop runs in the blocking mode.
      * @param client                The Kubernetes client
      * @param userLister            The KafkaUser resource lister for getting the resources
      * @param secretLister          The Secret lister for getting the secrets
@@ -70,6 +75,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
             ControllerQueue workQueue,
             ReconciliationLockManager lockManager,
             ScheduledExecutorService scheduledExecutor,
+            Semaphore inFlightReconciliations,
             KubernetesClient client,
             Lister<KafkaUser> userLister,
             Lister<Secret> secretLister,
@@ -77,7 +83,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
             ControllerMetricsHolder metrics,
             UserOperatorConfig config
     ) {
-        super(name, workQueue, lockManager, scheduledExecutor);
+        super(name, workQueue, lockManager, scheduledExecutor, inFlightReconciliations);
 
         this.client = client;
         this.userLister = userLister;
@@ -101,39 +107,25 @@ public class UserControllerLoop extends AbstractControllerLoop {
         KafkaUser user = userLister.namespace(reconciliation.namespace()).get(reconciliation.name());
 
         if (user != null && Annotations.isReconciliationPausedWithAnnotation(user)) {
-            // Reconciliation is paused => we make sure the status is up-to-date but don't do anything
-            LOGGER.infoCr(reconciliation, "Reconciliation of {} {} in namespace {} is paused", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
-            KafkaUserStatus status = UserControllerUtils.pausedStatus(reconciliation, user);
-            metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
-            maybeUpdateStatus(reconciliation, user, status);
+            reconcilePaused(reconciliation, user);
         } else {
             // Resource is not paused or is null (and we should trigger deletion) => we should proceed with reconciliation
             CompletionStage<KafkaUserStatus> reconciliationResult = userOperator
                     .reconcile(reconciliation, user, secretLister.namespace(reconciliation.namespace()).get(KafkaUserModel.getSecretName(secretPrefix, reconciliation.name())));
 
             try {
-                KafkaUserStatus status = new KafkaUserStatus();
                 Set<Condition> unknownAndDeprecatedConditions = StatusUtils.validate(reconciliation, user);
+                KafkaUserStatus status = null;
+                Throwable error = null;
 
                 try {
                     status = reconciliationResult.toCompletableFuture().get(operationTimeoutMs, TimeUnit.MILLISECONDS);
-                    LOGGER.infoCr(reconciliation, "reconciled");
-                    metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
                 } catch (ExecutionException | InterruptedException | TimeoutException | CancellationException e) {
                     // The reconciliation failed (these are returned from the get(...) call)
-                    LOGGER.errorCr(reconciliation, "{} {} in namespace {} reconciliation failed", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), e);
-                    metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
-
-                    if (user != null) {
-                        StatusUtils.setStatusConditionAndObservedGeneration(user, status, e);
-                    }
-                } finally {
-                    // Update the status if the user exists
-                    if (user != null) {
-                        StatusUtils.addConditionsToStatus(status, unknownAndDeprecatedConditions);
-                        maybeUpdateStatus(reconciliation, user, status);
-                    }
+                    error = e;
                 }
+
+                completeReconciliation(reconciliation, user, unknownAndDeprecatedConditions, status, error);
             } catch (Throwable t) {
                 // Updating status failed
                 LOGGER.errorCr(reconciliation, "Failed to update status for {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), t);
@@ -141,6 +133,110 @@ public class UserControllerLoop extends AbstractControllerLoop {
         }
     }
 
+    /**
+     * The reconciliation logic used when the controller loop runs in the asynchronous mode. It does the same as the
+     * reconcile() method, but instead of blocking the controller loop thread while waiting for the KafkaUserOperator, it
+     * completes the reconciliation and updates the status in the thread completing the KafkaUserOperator result.
+     *
+     * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  Completion stage which completes when the reconciliation is finished
+     */
+    @Override
+    protected CompletionStage<Void> reconcileAsync(Reconciliation reconciliation) {
+        LOGGER.infoCr(reconciliation, "{} will be reconciled", reconciliation.kind());
+
+        KafkaUser user = userLister.namespace(reconciliation.namespace()).get(reconciliation.name());
+
+        if (user != null && Annotations.isReconciliationPausedWithAnnotation(user)) {
+            reconcilePaused(reconciliation, user);
+            return CompletableFuture.completedFuture(null);
+        } else {
+            // Resource is not paused or is null (and we should trigger deletion) => we should proceed with reconciliation
+            Set<Condition> unknownAndDeprecatedConditions = StatusUtils.validate(reconciliation, user);
+
+            return userOperator
+                    .reconcile(reconciliation, user, secretLister.namespace(reconciliation.namespace()).get(KafkaUserModel.getSecretName(secretPrefix, reconciliation.name())))
+                    .toCompletableFuture()
+                    .orTimeout(operationTimeoutMs, TimeUnit.MILLISECONDS)
+                    .handle((status, error) -> {
+                        try {
+                            completeReconciliation(reconciliation, user, unknownAndDeprecatedConditions, status, unwrap(error));
+                        } catch (Throwable t) {
+                            // Updating status failed
+                            LOGGER.errorCr(reconciliation, "Failed to update status for {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), t);
+                        }
+
+                        return null;
+                    });
+        }
+    }
+
+    /**
+     * Handles the reconciliation of a paused KafkaUser. It makes sure the status is up-to-date but doesn't do anything
+     * else.
+     *
+     * @param reconciliation    Reconciliation identifier used for logging
+     * @param user              The paused KafkaUser
+     */
+    private void reconcilePaused(Reconciliation reconciliation, KafkaUser user) {
+        LOGGER.infoCr(reconciliation, "Reconciliation of {} {} in namespace {} is paused", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+        KafkaUserStatus status = UserControllerUtils.pausedStatus(reconciliation, user);
+        metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
+        maybeUpdateStatus(reconciliation, user, status);
+    }
+
+    /**
+     * Completes the reconciliation after the KafkaUserOperator finished. It updates the metrics and the status of the
+     * KafkaUser (if it exists).
+     *
+     * @param reconciliation                    Reconciliation identifier used for logging
+     * @param user                              The reconciled KafkaUser or null if it was deleted
+     * @param unknownAndDeprecatedConditions    Warning conditions from the validation of the KafkaUser
+     * @param status                            Status returned by the KafkaUserOperator
+     * @param error                             Error with which the reconciliation failed or null if it succeeded
+     */
+    private void completeReconciliation(Reconciliation reconciliation, KafkaUser user, Set<Condition> unknownAndDeprecatedConditions, KafkaUserStatus status, Throwable error) {
+        try {
+            if (error == null) {
+                LOGGER.infoCr(reconciliation, "reconciled");
+                metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
+            } else {
+                LOGGER.errorCr(reconciliation, "{} {} in namespace {} reconciliation failed", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), error);
+                metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
+
+                status = new KafkaUserStatus();
+                if (user != null) {
+                    StatusUtils.setStatusConditionAndObservedGeneration(user, status, error);
+                }
+            }
+        } finally {
+            // Update the status if the user exists
+            if (user != null) {
+                StatusUtils.addConditionsToStatus(status, unknownAndDeprecatedConditions);
+                maybeUpdateStatus(reconciliation, user, status);
+            }
+        }
+    }
+
+    /**
+     * Unwraps the error returned by the completable future so that the status of a failed reconciliation is the same in
+     * the blocking and in the asynchronous mode.
+     *
+     * @param error     Error passed to the completion handler
+     *
+     * @return  Error in the same form as thrown by the CompletableFuture.get(...) call
+     */
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+        if (cause == null || cause instanceof TimeoutException || cause instanceof CancellationException) {
+            return cause;
+        } else {
+            return new ExecutionException(cause);
+        }
+    }
+
     /**
      * Updates the status of the KafkaUser. The status will be updated only when it changed since last time.
      *
@@ -103,6 +103,11 @@ public class UserOperatorConfig {
      * Size of the pool of the controller threads used to reconcile the users
      */
     public static final ConfigParameter<Integer> CONTROLLER_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_CONTROLLER_THREAD_POOL_SIZE", INTEGER, "50", CONFIG_VALUES);
+    /**
+     * Maximal number of reconciliations in progress when the controller threads run in the asynchronous mode. The
+     * default value 0 keeps the controller threads in the blocking mode.
+     */
+    public static final ConfigParameter<Integer> CONTROLLER_MAX_CONCURRENT_RECONCILIATIONS = new ConfigParameter<>("STRIMZI_CONTROLLER_MAX_CONCURRENT_RECONCILIATIONS", INTEGER, "0", CONFIG_VALUES);
     /**
      * Refresh interval for the cache storing the resources from the Kafka Admin API
      */
@@ -123,6 +128,16 @@ public class UserOperatorConfig {
      * Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
     public static final ConfigParameter<Integer> USER_OPERATIONS_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_USER_OPERATIONS_THREAD_POOL_SIZE", INTEGER, "4", CONFIG_VALUES);
+    /**
+     * Number of pre-generated passwords and private keys kept in the credentials pools. The default value 0 disables
+     * the pools and the credentials are generated during the reconciliation.
+     */
+    public static final ConfigParameter<Integer> CREDENTIALS_POOL_SIZE = new ConfigParameter<>("STRIMZI_CREDENTIALS_POOL_SIZE", INTEGER, "0", CONFIG_VALUES);
+    /**
+     * Maximal number of credentials generated per second when refilling the credentials pools. Values above 1000 are
+     * capped at 1000 credentials per second.
+     */
+    public static final ConfigParameter<Integer> CREDENTIALS_POOL_REFILL_RATE = new ConfigParameter<>("STRIMZI_CREDENTIALS_POOL_REFILL_RATE", strictlyPositive(INTEGER), "10", CONFIG_VALUES);
     /**
      * Additional configuration for the Kafka Admin Client
      */
@@ -329,6 +344,14 @@ public class UserOperatorConfig {
         return get(CONTROLLER_THREAD_POOL_SIZE);
     }
 
+    /**
+     * @return  Maximal number of reconciliations in progress in the asynchronous mode or 0 when the controller threads
+     *          run in the blocking mode
+     */
+    public int getControllerMaxConcurrentReconciliations() {
+        return get(CONTROLLER_MAX_CONCURRENT_RECONCILIATIONS);
+    }
+
     /**
      * @return  Refresh interval for the cache storing the resources from the Kafka Admin API
      */
@@ -364,6 +387,21 @@ public class UserOperatorConfig {
         return get(USER_OPERATIONS_THREAD_POOL_SIZE);
     }
 
+    /**
+     * @return Number of pre-generated passwords and private keys kept in the credentials pools or 0 when the pools are
+     *         disabled
+     */
+    public int getCredentialsPoolSize() {
+        return get(CREDENTIALS_POOL_SIZE);
+    }
+
+    /**
+     * @return Maximal number of credentials generated per second when refilling the credentials pools
+     */
+    public int getCredentialsPoolRefillRate() {
+        return get(CREDENTIALS_POOL_REFILL_RATE);
+    }
+
     /**
      * @return The number of certificates validity days.
      */
@@ -402,11 +440,14 @@ public class UserOperatorConfig {
                 ", operationTimeoutMs=" + getOperationTimeoutMs() +
                 ", workQueueSize=" + getWorkQueueSize() +
                 ", controllerThreadPoolSize=" + getControllerThreadPoolSize() +
+                ", controllerMaxConcurrentReconciliations=" + getControllerMaxConcurrentReconciliations() +
                 ", cacheRefresh=" + getCacheRefresh() +
                 ", batchQueueSize=" + getBatchQueueSize() +
                 ", batchMaxBlockSize=" + getBatchMaxBlockSize() +
                 ", batchMaxBlockTime=" + getBatchMaxBlockTime() +
                 ", userOperationsThreadPoolSize=" + getUserOperationsThreadPoolSize() +
+                ", credentialsPoolSize=" + getCredentialsPoolSize() +
+                ", credentialsPoolRefillRate=" + getCredentialsPoolRefillRate() +
                 '}';
     }
 }
@@ -23,6 +23,7 @@ import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.ClientsCa;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
+import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -33,6 +34,7 @@ import javax.naming.InvalidNameException;
 import javax.naming.ldap.LdapName;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.util.Base64;
@@ -41,6 +43,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -59,6 +62,12 @@ public class KafkaUserModel {
      */
     public static final String KEY_SASL_JAAS_CONFIG = "sasl.jaas.config";
 
+    /**
+     * Annotation with the hash of the credentials stored in the user Secret. It is used to detect unchanged
+     * credentials without comparing the whole Secrets.
+     */
+    public static final String ANNO_STRIMZI_IO_CREDENTIALS_HASH = Annotations.STRIMZI_DOMAIN + "credentials-hash";
+
     protected final String namespace;
     protected final String name;
     protected final Labels labels;
@@ -226,7 +235,6 @@ public class KafkaUserModel {
      * @param clock The clock for supplying the reconciler with the time instant of each reconciliation cycle.
      *              That time is used for checking maintenance windows
      */
-    @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
     public void maybeGenerateCertificates(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator,
                                           Secret clientsCaCertSecret, Secret clientsCaKeySecret, Secret userSecret, int validityDays,
                                           int renewalDays, List<String> maintenanceWindows, Clock clock) {
@@ -244,11 +252,27 @@ public class KafkaUserModel {
                 renewalDays,
                 false,
                 null);
+
+        maybeGenerateCertificates(reconciliation, clientsCa, userSecret, maintenanceWindows, clock);
+    }
+
+    /**
+     * Manage certificates generation based on those already present in the Secrets using an existing Clients CA
+     *
+     * @param reconciliation The reconciliation
+     * @param clientsCa The clients CA with already validated CA certificate and key Secrets
+     * @param userSecret Secret with the user certificate
+     * @param maintenanceWindows List of configured maintenance windows
+     * @param clock The clock for supplying the reconciler with the time instant of each reconciliation cycle.
+     *              That time is used for checking maintenance windows
+     */
+    @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
+    public void maybeGenerateCertificates(Reconciliation reconciliation, ClientsCa clientsCa, Secret userSecret, List<String> maintenanceWindows, Clock clock) {
         this.caCert = clientsCa.currentCaCertBase64();
 
         if (userSecret != null) {
             // Secret already exists -> lets verify if it has keys from the same CA
-            String originalCaCrt = clientsCaCertSecret.getData().get("ca.crt");
+            String originalCaCrt = clientsCa.currentCaCertBase64();
             String caCrt = userSecret.getData().get("ca.crt");
             String userCrt = userSecret.getData().get("user.crt");
             String userKey = userSecret.getData().get("user.key");
@@ -320,7 +344,13 @@ public class KafkaUserModel {
         }
     }
 
-    void validateCACertificates(Secret clientsCaCertSecret, Secret clientsCaKeySecret)   {
+    /**
+     * Validates that the Clients CA certificate and key Secrets exist and contain the CA certificate and key
+     *
+     * @param clientsCaCertSecret   The clients CA certificate Secret
+     * @param clientsCaKeySecret    The clients CA key Secret
+     */
+    public static void validateCACertificates(Secret clientsCaCertSecret, Secret clientsCaKeySecret)   {
         if (clientsCaCertSecret == null) {
             // CA certificate secret does not exist
             throw new InvalidCertificateException("The Clients CA Cert Secret is missing");
@@ -400,7 +430,7 @@ public class KafkaUserModel {
                     .withName(getSecretName())
                     .withNamespace(namespace)
                     .withLabels(Util.mergeLabelsOrAnnotations(labels.toMap(), templateSecretLabels))
-                    .withAnnotations(Util.mergeLabelsOrAnnotations(null, templateSecretAnnotations))
+                    .withAnnotations(Util.mergeLabelsOrAnnotations(Map.of(ANNO_STRIMZI_IO_CREDENTIALS_HASH, credentialsHash(data)), templateSecretAnnotations))
                     .withOwnerReferences(createOwnerReference())
                 .endMetadata()
                 .withType("Opaque")
@@ -408,6 +438,24 @@ public class KafkaUserModel {
                 .build();
     }
 
+    /**
+     * Calculates the hash of the credentials stored in the user Secret. The keys are sorted so that the hash does not
+     * depend on the order of the map entries.
+     *
+     * @param data  Map with the Secret content
+     *
+     * @return  Hex-encoded SHA-1 hash of the Secret content
+     */
+    public static String credentialsHash(Map<String, String> data) {
+        StringBuilder content = new StringBuilder();
+
+        for (Map.Entry<String, String> entry : new TreeMap<>(data).entrySet()) {
+            content.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+
+        return String.format("%040x", new BigInteger(1, Util.sha1Digest(content.toString().getBytes(StandardCharsets.UTF_8))));
+    }
+
     /**
      * Generate the OwnerReference object to link newly created objects to their parent (the custom resource)
      *
@@ -9,13 +9,15 @@ import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.KafkaUser;
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
 import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
-import io.strimzi.operator.common.InvalidConfigurationException;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
@@ -27,15 +29,21 @@ import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.strimzi.operator.user.operator.cache.ClientsCaCache;
+import io.strimzi.operator.user.operator.pool.PooledKeyCertManager;
+import io.strimzi.operator.user.operator.pool.PooledPasswordGenerator;
 
 import java.time.Clock;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
@@ -45,7 +53,6 @@ import java.util.stream.Collectors;
 public class KafkaUserOperator {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaUserOperator.class.getName());
 
-    private final CertManager certManager;
     private final KubernetesClient client;
     private final AdminApiOperator<Set<SimpleAclRule>, Set<String>> aclOperator;
     private final AdminApiOperator<String, List<String>> scramCredentialsOperator;
@@ -54,9 +61,16 @@ public class KafkaUserOperator {
     private final UserOperatorConfig config;
     private final PasswordGenerator passwordGenerator;
     private final LabelSelector selector;
+    private final ClientsCaCache clientsCaCache;
+    private final PooledPasswordGenerator pooledPasswordGenerator;
+    private final PooledKeyCertManager pooledKeyCertManager;
+
+    // Versions of the user Secrets which are known to match the desired state because they were written or verified by this operator
+    private final Map<NamespaceAndName, String> upToDateSecretVersions = new ConcurrentHashMap<>();
+    private final Counter secretWritesAvoidedCounter;
 
     /**
-     * Creates the instance of KafkaUserOperator
+     * Constructs the Kafka User Operator without metrics
      *
      * @param config                   User operator configuration
      * @param client                   Kubernetes client
@@ -75,7 +89,32 @@ public class KafkaUserOperator {
             AdminApiOperator<Set<SimpleAclRule>, Set<String>> aclOperator,
             ExecutorService executor
     ) {
-        this.certManager = certManager;
+        this(config, client, certManager, scramCredentialsOperator, quotasOperator, aclOperator, executor, null);
+    }
+
+    /**
+     * Constructs the Kafka User Operator
+     *
+     * @param config                   User operator configuration
+     * @param client                   Kubernetes client
+     * @param certManager              For managing certificates.
+     * @param scramCredentialsOperator For operating on SCRAM SHA credentials.
+     * @param quotasOperator           For operating on Kafka User quotas.
+     * @param aclOperator              For operating on ACLs.
+     * @param executor                 Shared executor for executing async operations
+     * @param metricsProvider          Metrics provider for the credentials pools and Secret writes metrics. Can be null
+     *                                 if no metrics should be exposed.
+     */
+    public KafkaUserOperator(
+            UserOperatorConfig config,
+            KubernetesClient client,
+            CertManager certManager,
+            AdminApiOperator<String, List<String>> scramCredentialsOperator,
+            AdminApiOperator<KafkaUserQuotas, Set<String>> quotasOperator,
+            AdminApiOperator<Set<SimpleAclRule>, Set<String>> aclOperator,
+            ExecutorService executor,
+            MetricsProvider metricsProvider
+    ) {
         this.client = client;
         this.scramCredentialsOperator = scramCredentialsOperator;
         this.quotasOperator = quotasOperator;
@@ -84,27 +123,70 @@ public class KafkaUserOperator {
         this.config = config;
 
         this.selector = (config.getLabels() == null || config.getLabels().toMap().isEmpty()) ? new LabelSelector() : new LabelSelector(null, config.getLabels().toMap());
-        this.passwordGenerator = new PasswordGenerator(this.config.getScramPasswordLength());
+        this.secretWritesAvoidedCounter = metricsProvider != null
+                ? metricsProvider.counter("strimzi.secret.writes.avoided", "Number of user Secret writes avoided because the Secret was already up-to-date", Tags.of("kind", KafkaUser.RESOURCE_KIND, "namespace", config.getNamespace()))
+                : null;
+
+        if (config.getCredentialsPoolSize() > 0) {
+            // The passwords and private keys are pre-generated in the background and taken from the pools
+            this.pooledPasswordGenerator = new PooledPasswordGenerator(config.getScramPasswordLength(), config.getCredentialsPoolSize(), config.getCredentialsPoolRefillRate(), metricsProvider);
+            this.pooledKeyCertManager = new PooledKeyCertManager(certManager, config.getCredentialsPoolSize(), config.getCredentialsPoolRefillRate(), metricsProvider);
+            this.passwordGenerator = pooledPasswordGenerator;
+            this.clientsCaCache = new ClientsCaCache(client, config, pooledKeyCertManager, passwordGenerator);
+        } else {
+            this.pooledPasswordGenerator = null;
+            this.pooledKeyCertManager = null;
+            this.passwordGenerator = new PasswordGenerator(this.config.getScramPasswordLength());
+            this.clientsCaCache = new ClientsCaCache(client, config, certManager, passwordGenerator);
+        }
     }
 
     /**
-     * Starts the KafkaUserOperator and the Kafka Admin API operators
+     * Starts the KafkaUserOperator, the Clients CA cache, the credentials pools and the Kafka Admin API operators
      */
     public void start() {
+        clientsCaCache.start();
+
+        if (pooledPasswordGenerator != null) {
+            pooledPasswordGenerator.start();
+            pooledKeyCertManager.start();
+        }
+
         quotasOperator.start();
         aclOperator.start();
         scramCredentialsOperator.start();
     }
 
     /**
-     * Stops the KafkaUserOperator and the Kafka Admin API operators
+     * Stops the KafkaUserOperator, the Clients CA cache, the credentials pools and the Kafka Admin API operators
      */
     public void stop() {
+        clientsCaCache.stop();
+
+        if (pooledPasswordGenerator != null) {
+            pooledPasswordGenerator.stop();
+            pooledKeyCertManager.stop();
+        }
+
         quotasOperator.stop();
         aclOperator.stop();
         scramCredentialsOperator.stop();
     }
 
+    /**
+     * Checks whether the Secret is in the version which was written or verified by this operator. The informer events
+     * for such Secrets are caused by the operator itself and do not need to trigger another reconciliation.
+     *
+     * @param secret    The user Secret
+     *
+     * @return  True if this version of the Secret is known to be up-to-date. False otherwise.
+     */
+    public boolean isUpToDateSecretVersion(Secret secret) {
+        String resourceVersion = secret.getMetadata().getResourceVersion();
+        return resourceVersion != null
+                && resourceVersion.equals(upToDateSecretVersions.get(new NamespaceAndName(secret.getMetadata().getNamespace(), secret.getMetadata().getName())));
+    }
+
     /**
      * Gets all usernames which should be reconciled. They are collected from the Kubernetes resources as well as from
      * the Kafka itself (based on existing ACLs, Quotas or SCRAM-SHA credentials). Querying the users also from Kafka
@@ -216,6 +298,7 @@ public class KafkaUserOperator {
         String user = reconciliation.name();
 
         LOGGER.debugCr(reconciliation, "Deleting User {} from namespace {}", user, namespace);
+        upToDateSecretVersions.remove(new NamespaceAndName(namespace, KafkaUserModel.getSecretName(config.getSecretPrefix(), user)));
 
         // Delete everything what can be deleted
         return CompletableFuture.allOf(
@@ -321,25 +404,10 @@ public class KafkaUserOperator {
      * @param userSecret        Secret with existing user credentials or null if the secret doesn't exist yet
      */
     private void maybeGenerateTlsCredentials(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret) {
-        Secret caCert = client.secrets().inNamespace(config.getCaNamespaceOrNamespace()).withName(config.getCaCertSecretName()).get();
-        if (caCert == null) {
-            throw new InvalidConfigurationException("CA certificate secret " + config.getCaCertSecretName() + " in namespace " + config.getCaNamespaceOrNamespace() + " not found");
-        }
-
-        Secret caKey = client.secrets().inNamespace(config.getCaNamespaceOrNamespace()).withName(config.getCaKeySecretName()).get();
-        if (caKey == null) {
-            throw new InvalidConfigurationException("CA certificate secret " + config.getCaKeySecretName() + " in namespace " + config.getCaNamespaceOrNamespace() + " not found");
-        }
-
         user.maybeGenerateCertificates(
                 reconciliation,
-                certManager,
-                passwordGenerator,
-                caCert,
-                caKey,
+                clientsCaCache.clientsCa(reconciliation),
                 userSecret,
-                config.getClientsCaValidityDays(),
-                config.getClientsCaRenewalDays(),
                 config.getMaintenanceWindows(),
                 Clock.systemUTC()
         );
@@ -421,32 +489,38 @@ public class KafkaUserOperator {
         return CompletableFuture.supplyAsync(() -> {
             String namespace = reconciliation.namespace();
             String name = user.getSecretName();
+            NamespaceAndName secretRef = new NamespaceAndName(namespace, name);
             Secret desiredSecret = user.generateSecret();
 
             if (desiredSecret != null)  {
                 if (currentSecret != null)  {
                     // Both secrets exist => if they differ we patch them, if not we just continue
-                    if (new ResourceDiff<>(reconciliation, "Secret", name, currentSecret, desiredSecret, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty()) {
+                    if (hasUpToDateCredentials(currentSecret, desiredSecret)
+                            || new ResourceDiff<>(reconciliation, "Secret", name, currentSecret, desiredSecret, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty()) {
                         // Secrets are identical
                         LOGGER.debugCr(reconciliation, "Secret {}/{} exist, and is identical", namespace, name);
+                        upToDateSecretVersions.put(secretRef, currentSecret.getMetadata().getResourceVersion());
+                        increment(secretWritesAvoidedCounter);
                         userStatus.setSecret(desiredSecret.getMetadata().getName());
                         return ReconcileResult.noop(desiredSecret);
                     } else {
                         // Secrets differ
                         LOGGER.debugCr(reconciliation, "Secret {}/{} exist, patching it", namespace, name);
-                        client.secrets().inNamespace(namespace).resource(desiredSecret).update();
+                        Secret updatedSecret = client.secrets().inNamespace(namespace).resource(desiredSecret).update();
+                        rememberSecretVersion(secretRef, updatedSecret);
                         userStatus.setSecret(desiredSecret.getMetadata().getName());
                         return ReconcileResult.patched(desiredSecret);
                     }
                 } else {
                     LOGGER.debugCr(reconciliation, "Secret {}/{} does not exist, creating it", namespace, name);
-                    createOrReplaceSecret(reconciliation, namespace, desiredSecret);
+                    rememberSecretVersion(secretRef, createOrReplaceSecret(reconciliation, namespace, desiredSecret));
                     userStatus.setSecret(desiredSecret.getMetadata().getName());
                     return ReconcileResult.created(desiredSecret);
                 }
             } else {
                 if (currentSecret != null)  {
                     LOGGER.debugCr(reconciliation, "Secret {}/{} exist, deleting it", namespace, name);
+                    upToDateSecretVersions.remove(secretRef);
                     client.secrets().inNamespace(namespace).withName(name).delete();
                     return ReconcileResult.deleted();
                 } else {
@@ -457,6 +531,44 @@ public class KafkaUserOperator {
         }, executor);
     }
 
+    /**
+     * Checks whether the current Secret contains the desired credentials and metadata without comparing the whole
+     * Secrets. The credentials are compared using their hashes stored in the annotations. The annotation is trusted only
+     * when the current Secret is in the version which was written or verified by this operator. Otherwise, the Secret
+     * might have been modified by someone else and the hash annotation might not match its content anymore.
+     *
+     * @param currentSecret     The current user Secret
+     * @param desiredSecret     The desired user Secret
+     *
+     * @return  True if the current Secret is known to be up-to-date. False if the Secrets need to be fully compared.
+     */
+    private boolean hasUpToDateCredentials(Secret currentSecret, Secret desiredSecret) {
+        return isUpToDateSecretVersion(currentSecret)
+                && Objects.equals(currentSecret.getMetadata().getAnnotations(), desiredSecret.getMetadata().getAnnotations())
+                && Objects.equals(currentSecret.getMetadata().getLabels(), desiredSecret.getMetadata().getLabels())
+                && Objects.equals(currentSecret.getMetadata().getOwnerReferences(), desiredSecret.getMetadata().getOwnerReferences());
+    }
+
+    /**
+     * Remembers the version of the Secret written by this operator
+     *
+     * @param secretRef     Namespace and name of the Secret
+     * @param secret        The Secret returned by the Kubernetes API
+     */
+    private void rememberSecretVersion(NamespaceAndName secretRef, Secret secret) {
+        if (secret != null && secret.getMetadata().getResourceVersion() != null) {
+            upToDateSecretVersions.put(secretRef, secret.getMetadata().getResourceVersion());
+        } else {
+            upToDateSecretVersions.remove(secretRef);
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
     /**
      * When the Secret has a wrong labels, the informers will not have it even if it exists and the create() call will
      * fail with the 409 (Conflict) error. This utility method captures this error and tries to update the Secret
@@ -466,14 +578,16 @@ public class KafkaUserOperator {
      * @param reconciliation    Reconciliation marker
      * @param namespace         Namespace of the Secret
      * @param secret            The Secret which should be created or replaced
+     *
+     * @return  The created or replaced Secret
      */
-    private void createOrReplaceSecret(Reconciliation reconciliation, String namespace, Secret secret)    {
+    private Secret createOrReplaceSecret(Reconciliation reconciliation, String namespace, Secret secret)    {
         try {
-            client.secrets().inNamespace(namespace).resource(secret).create();
+            return client.secrets().inNamespace(namespace).resource(secret).create();
         } catch (KubernetesClientException e)   {
             if (e.getCode() == 409) {
                 LOGGER.debugCr(reconciliation, "Secret {} in namespace {} already exists and cannot be created. It will be updated instead", secret.getMetadata().getName(), namespace);
-                client.secrets().inNamespace(namespace).resource(secret).update();
+                return client.secrets().inNamespace(namespace).resource(secret).update();
             } else {
                 throw e;
             }
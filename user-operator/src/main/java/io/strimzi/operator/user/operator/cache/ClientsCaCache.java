@@ -0,0 +1,155 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.cache;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.strimzi.certs.CertManager;
+import io.strimzi.operator.cluster.model.ClientsCa;
+import io.strimzi.operator.common.InvalidConfigurationException;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.user.UserOperatorConfig;
+import io.strimzi.operator.user.model.KafkaUserModel;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Cache of the Clients CA used to issue the certificates of the TLS users. The Clients CA certificate and key Secrets
+ * are kept up-to-date by informers, so they do not have to be read from the Kubernetes API in every reconciliation of
+ * a TLS user. The Secrets are validated only when they change. When the cache is not started, the Secrets are read
+ * from the Kubernetes API instead.
+ */
+public class ClientsCaCache {
+    private final static Logger LOGGER = LogManager.getLogger(ClientsCaCache.class);
+
+    private final KubernetesClient client;
+    private final CertManager certManager;
+    private final PasswordGenerator passwordGenerator;
+    private final String namespace;
+    private final String caCertSecretName;
+    private final String caKeySecretName;
+    private final int validityDays;
+    private final int renewalDays;
+
+    private volatile SharedIndexInformer<Secret> caCertInformer;
+    private volatile SharedIndexInformer<Secret> caKeyInformer;
+
+    // Resource versions of the last CA Secrets which passed the validation
+    private volatile String validatedCaCertResourceVersion;
+    private volatile String validatedCaKeyResourceVersion;
+
+    /**
+     * Constructs the Clients CA cache
+     *
+     * @param client                Kubernetes client
+     * @param config                User Operator configuration
+     * @param certManager           Certificate manager used to issue the user certificates
+     * @param passwordGenerator     Password generator used for the user keystores
+     */
+    public ClientsCaCache(KubernetesClient client, UserOperatorConfig config, CertManager certManager, PasswordGenerator passwordGenerator) {
+        this.client = client;
+        this.certManager = certManager;
+        this.passwordGenerator = passwordGenerator;
+        this.namespace = config.getCaNamespaceOrNamespace();
+        this.caCertSecretName = config.getCaCertSecretName();
+        this.caKeySecretName = config.getCaKeySecretName();
+        this.validityDays = config.getClientsCaValidityDays();
+        this.renewalDays = config.getClientsCaRenewalDays();
+    }
+
+    /**
+     * Starts the informers for the Clients CA Secrets and waits for them to sync
+     */
+    public void start() {
+        LOGGER.info("Starting {}", this.getClass().getSimpleName());
+
+        caCertInformer = client.secrets().inNamespace(namespace).withName(caCertSecretName).inform();
+        caKeyInformer = client.secrets().inNamespace(namespace).withName(caKeySecretName).inform();
+    }
+
+    /**
+     * Stops the informers
+     */
+    public void stop() {
+        LOGGER.info("Stopping {}", this.getClass().getSimpleName());
+
+        SharedIndexInformer<Secret> certInformer = caCertInformer;
+        SharedIndexInformer<Secret> keyInformer = caKeyInformer;
+        caCertInformer = null;
+        caKeyInformer = null;
+
+        if (certInformer != null) {
+            certInformer.stop();
+        }
+
+        if (keyInformer != null) {
+            keyInformer.stop();
+        }
+    }
+
+    /**
+     * Returns the Clients CA which should be used to issue or verify the user certificate in given reconciliation.
+     *
+     * @param reconciliation    Reconciliation marker used for the logging of the Clients CA
+     *
+     * @return  The Clients CA
+     */
+    public ClientsCa clientsCa(Reconciliation reconciliation) {
+        Secret caCert = secret(caCertInformer, caCertSecretName);
+        if (caCert == null) {
+            throw new InvalidConfigurationException("CA certificate secret " + caCertSecretName + " in namespace " + namespace + " not found");
+        }
+
+        Secret caKey = secret(caKeyInformer, caKeySecretName);
+        if (caKey == null) {
+            throw new InvalidConfigurationException("CA certificate secret " + caKeySecretName + " in namespace " + namespace + " not found");
+        }
+
+        String caCertResourceVersion = caCert.getMetadata().getResourceVersion();
+        String caKeyResourceVersion = caKey.getMetadata().getResourceVersion();
+
+        if (caCertResourceVersion == null
+                || caKeyResourceVersion == null
+                || !caCertResourceVersion.equals(validatedCaCertResourceVersion)
+                || !caKeyResourceVersion.equals(validatedCaKeyResourceVersion)) {
+            KafkaUserModel.validateCACertificates(caCert, caKey);
+
+            validatedCaCertResourceVersion = caCertResourceVersion;
+            validatedCaKeyResourceVersion = caKeyResourceVersion;
+        }
+
+        return new ClientsCa(
+                reconciliation,
+                certManager,
+                passwordGenerator,
+                caCertSecretName,
+                caCert,
+                caCertSecretName,
+                caKey,
+                validityDays,
+                renewalDays,
+                false,
+                null);
+    }
+
+    /**
+     * Gets the Secret from the informer or from the Kubernetes API when the cache is not started
+     *
+     * @param informer  Informer for the Secret or null if the cache is not started
+     * @param name      Name of the Secret
+     *
+     * @return  The Secret or null if it does not exist
+     */
+    private Secret secret(SharedIndexInformer<Secret> informer, String name) {
+        if (informer != null) {
+            return informer.getStore().getByKey(Cache.namespaceKeyFunc(namespace, name));
+        } else {
+            return client.secrets().inNamespace(namespace).withName(name).get();
+        }
+    }
+}
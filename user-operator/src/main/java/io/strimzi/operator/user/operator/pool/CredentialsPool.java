@@ -0,0 +1,158 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.pool;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool of pre-generated credentials such as passwords or private keys. A background thread keeps generating the
+ * credentials until the pool reaches its target size, but never faster than the configured refill rate. The
+ * reconciliations take the credentials from the pool and generate them inline only when the pool is empty. Every
+ * credential is handed out only once.
+ *
+ * @param <T>   Type of the pooled credentials
+ */
+public class CredentialsPool<T> {
+    private static final Logger LOGGER = LogManager.getLogger(CredentialsPool.class);
+    private static final String METRICS_PREFIX = "strimzi.credentials.pool.";
+    private static final long MIN_REFILL_INTERVAL_MICROS = TimeUnit.MILLISECONDS.toMicros(1);
+
+    private final String name;
+    private final int targetSize;
+    private final long refillIntervalMicros;
+    private final Supplier<T> generator;
+    private final BlockingQueue<T> pool;
+    private final ScheduledExecutorService scheduledExecutor;
+
+    private final AtomicInteger sizeGauge;
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+
+    /**
+     * Constructs the credentials pool
+     *
+     * @param name              Name of the pool used for the refill thread and in the metrics
+     * @param targetSize        Number of credentials which should be kept in the pool
+     * @param refillRate        Maximal number of credentials generated per second when refilling the pool. Rates above
+     *                          1000 per second are capped at 1000 per second.
+     * @param generator         Generator of the credentials
+     * @param metricsProvider   Metrics provider used to expose the pool metrics. Can be null if no metrics should be
+     *                          exposed.
+     */
+    public CredentialsPool(String name, int targetSize, int refillRate, Supplier<T> generator, MetricsProvider metricsProvider) {
+        this.name = name;
+        this.targetSize = targetSize;
+        this.refillIntervalMicros = refillIntervalMicros(refillRate);
+        this.generator = generator;
+        this.pool = new ArrayBlockingQueue<>(targetSize);
+        this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, name + "-pool"));
+
+        if (metricsProvider != null) {
+            Tags tags = Tags.of("pool", name);
+            this.sizeGauge = metricsProvider.gauge(METRICS_PREFIX + "size", "Number of pre-generated credentials available in the pool", tags);
+            this.hitsCounter = metricsProvider.counter(METRICS_PREFIX + "hits", "Number of credentials taken from the pool", tags);
+            this.missesCounter = metricsProvider.counter(METRICS_PREFIX + "misses", "Number of credentials generated inline because the pool was empty", tags);
+        } else {
+            this.sizeGauge = null;
+            this.hitsCounter = null;
+            this.missesCounter = null;
+        }
+    }
+
+    /**
+     * Calculates the interval between two refills from the refill rate. The interval is at least 1 millisecond, so
+     * that very high refill rates do not result in a zero period which cannot be scheduled.
+     *
+     * @param refillRate    Maximal number of credentials generated per second
+     *
+     * @return  Interval between two refills in microseconds
+     */
+    /* test */ static long refillIntervalMicros(int refillRate) {
+        return Math.max(MIN_REFILL_INTERVAL_MICROS, TimeUnit.SECONDS.toMicros(1) / refillRate);
+    }
+
+    /**
+     * Starts refilling the pool in the background
+     */
+    public void start() {
+        LOGGER.info("Starting {} pool with target size {}", name, targetSize);
+        scheduledExecutor.scheduleAtFixedRate(this::refill, 0, refillIntervalMicros, TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * Stops refilling the pool and discards the pre-generated credentials
+     */
+    public void stop() {
+        LOGGER.info("Stopping {} pool", name);
+        scheduledExecutor.shutdownNow();
+        pool.clear();
+        updateSizeGauge();
+    }
+
+    /**
+     * Takes a pre-generated credential from the pool. If the pool is empty, the credential is generated inline.
+     *
+     * @return  The credential
+     */
+    public T get() {
+        T credential = pool.poll();
+
+        if (credential != null) {
+            increment(hitsCounter);
+            updateSizeGauge();
+            return credential;
+        } else {
+            LOGGER.debug("The {} pool is empty and the credential will be generated inline", name);
+            increment(missesCounter);
+            return generator.get();
+        }
+    }
+
+    /**
+     * @return  Number of pre-generated credentials available in the pool
+     */
+    public int size() {
+        return pool.size();
+    }
+
+    /**
+     * Generates a single credential if the pool is below its target size. It is called periodically based on the
+     * refill rate. Any failure is only logged so that the periodic refill keeps running.
+     */
+    private void refill() {
+        if (pool.size() < targetSize) {
+            try {
+                pool.offer(generator.get());
+                updateSizeGauge();
+            } catch (Throwable t) {
+                LOGGER.warn("Failed to pre-generate a credential for the {} pool", name, t);
+            }
+        }
+    }
+
+    private void updateSizeGauge() {
+        if (sizeGauge != null) {
+            sizeGauge.set(pool.size());
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.pool;
+
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.Subject;
+import io.strimzi.operator.common.MetricsProvider;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Certificate manager which generates the certificate sign requests for pre-generated private keys taken from a pool.
+ * Generating the private key is the most expensive part of issuing a user certificate, so taking it from the pool
+ * keeps it out of the reconciliation. All other operations are delegated to the wrapped certificate manager.
+ */
+public class PooledKeyCertManager implements CertManager {
+    private static final Logger LOGGER = LogManager.getLogger(PooledKeyCertManager.class);
+
+    private final CertManager delegate;
+    private final CredentialsPool<byte[]> pool;
+
+    /**
+     * Constructs the pooled key certificate manager
+     *
+     * @param delegate          Certificate manager used to generate the keys and for all other operations
+     * @param poolSize          Number of private keys which should be kept in the pool
+     * @param refillRate        Maximal number of private keys generated per second when refilling the pool
+     * @param metricsProvider   Metrics provider used to expose the pool metrics
+     */
+    public PooledKeyCertManager(CertManager delegate, int poolSize, int refillRate, MetricsProvider metricsProvider) {
+        this.delegate = delegate;
+        this.pool = new CredentialsPool<>("keys", poolSize, refillRate, this::generateKey, metricsProvider);
+    }
+
+    /**
+     * Starts refilling the private key pool
+     */
+    public void start() {
+        pool.start();
+    }
+
+    /**
+     * Stops refilling the private key pool
+     */
+    public void stop() {
+        pool.stop();
+    }
+
+    /**
+     * Generates a new private key using the delegate certificate manager
+     *
+     * @return  The private key in the PEM format
+     */
+    private byte[] generateKey() {
+        File keyFile = null;
+
+        try {
+            keyFile = Files.createTempFile("tls", "key").toFile();
+            delegate.generatePrivateKey(keyFile);
+            return Files.readAllBytes(keyFile.toPath());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (keyFile != null && !keyFile.delete()) {
+                LOGGER.warn("{} cannot be deleted", keyFile.getName());
+            }
+        }
+    }
+
+    /**
+     * Generate a certificate sign request for a private key taken from the pool
+     *
+     * @param keyFile path to the file which will contain the private key
+     * @param csrFile path to the file which will contain the certificate sign request
+     * @param sbj subject information
+     * @throws IOException If an input or output file could not be read/written.
+     */
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
+        byte[] key;
+
+        try {
+            key = pool.get();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        Files.write(keyFile.toPath(), key);
+        delegate.generateCsrForExistingKey(keyFile, csrFile, sbj);
+    }
+
+    @Override
+    public void generatePrivateKey(File keyFile) throws IOException {
+        delegate.generatePrivateKey(keyFile);
+    }
+
+    @Override
+    public void generateCsrForExistingKey(File keyFile, File csrFile, Subject sbj) throws IOException {
+        delegate.generateCsrForExistingKey(keyFile, csrFile, sbj);
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        delegate.generateSelfSignedCert(keyFile, certFile, sbj, days);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        delegate.renewSelfSignedCert(keyFile, certFile, sbj, days);
+    }
+
+    @Override
+    public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        delegate.generateRootCaCert(subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    @Override
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                           Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        delegate.generateIntermediateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        delegate.addCertToTrustStore(certFile, certAlias, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        delegate.addKeyAndCertToKeyStore(keyFile, certFile, alias, keyStoreFile, keyStorePassword);
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        delegate.deleteFromTrustStore(aliases, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        delegate.generateCert(csrFile, caKey, caCert, crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        delegate.generateCert(csrFile, caKey, caCert, crtFile, sbj, days);
+    }
+
+    /* test */ CredentialsPool<byte[]> pool() {
+        return pool;
+    }
+}
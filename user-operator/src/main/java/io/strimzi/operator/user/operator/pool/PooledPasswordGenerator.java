@@ -0,0 +1,57 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.pool;
+
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.PasswordGenerator;
+
+/**
+ * Password generator which takes the passwords from a pool of pre-generated passwords. The passwords are used for the
+ * SCRAM-SHA-512 users and for the PKCS12 keystores of the TLS users.
+ */
+public class PooledPasswordGenerator extends PasswordGenerator {
+    private final CredentialsPool<String> pool;
+
+    /**
+     * Constructs the pooled password generator
+     *
+     * @param length            Length of the generated passwords
+     * @param poolSize          Number of passwords which should be kept in the pool
+     * @param refillRate        Maximal number of passwords generated per second when refilling the pool
+     * @param metricsProvider   Metrics provider used to expose the pool metrics
+     */
+    public PooledPasswordGenerator(int length, int poolSize, int refillRate, MetricsProvider metricsProvider) {
+        super(length);
+        this.pool = new CredentialsPool<>("passwords", poolSize, refillRate, super::generate, metricsProvider);
+    }
+
+    /**
+     * Starts refilling the password pool
+     */
+    public void start() {
+        pool.start();
+    }
+
+    /**
+     * Stops refilling the password pool
+     */
+    public void stop() {
+        pool.stop();
+    }
+
+    /**
+     * Takes the password from the pool or generates it when the pool is empty
+     *
+     * @return String with new password
+     */
+    @Override
+    public String generate() {
+        return pool.get();
+    }
+
+    /* test */ CredentialsPool<String> pool() {
+        return pool;
+    }
+}
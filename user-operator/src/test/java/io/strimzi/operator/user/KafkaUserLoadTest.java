@@ -0,0 +1,285 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.AclOperation;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.KafkaUserScramSha512ClientAuthentication;
+import io.strimzi.api.kafka.model.KafkaUserTlsClientAuthentication;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.operator.user.UserOperatorConfig.UserOperatorConfigBuilder;
+import io.strimzi.operator.user.operator.KafkaUserOperator;
+import io.strimzi.operator.user.operator.QuotasOperator;
+import io.strimzi.operator.user.operator.ScramCredentialsOperator;
+import io.strimzi.operator.user.operator.SimpleAclOperator;
+import io.strimzi.test.mockkube2.MockKube2;
+import io.strimzi.test.mockkube2.load.ApiCallCounter;
+import io.strimzi.test.mockkube2.load.LoadTestReport;
+import io.strimzi.test.mockkube2.load.ReconciliationLatencyTracker;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.clients.admin.DescribeClientQuotasResult;
+import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Load test of the User Operator. It runs the real UserController and KafkaUserOperator against MockKube2 and an
+ * in-memory fake of the Kafka Admin API, creates the configured number of KafkaUsers and writes the reconciliation
+ * latencies, the Kubernetes API call counts and the heap usage into the load test report. The number of controller
+ * threads and the maximal number of concurrent reconciliations can be configured to compare the blocking and the
+ * asynchronous controller modes. It is enabled only when the strimzi.loadtest.enabled system property is set to true.
+ */
+@EnabledIfSystemProperty(named = "strimzi.loadtest.enabled", matches = "true")
+@EnableKubernetesMockClient(crud = true)
+public class KafkaUserLoadTest {
+    private static final int USERS = Integer.getInteger("strimzi.loadtest.users", 1_000);
+    private static final int CONTROLLER_THREADS = Integer.getInteger("strimzi.loadtest.controller.threads", 50);
+    private static final int MAX_CONCURRENT_RECONCILIATIONS = Integer.getInteger("strimzi.loadtest.max.concurrent.reconciliations", 0);
+    private static final long TIMEOUT_MS = Long.getLong("strimzi.loadtest.timeout.ms", 600_000L);
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+    private MockKube2 mockKube;
+
+    @BeforeEach
+    public void beforeEach() {
+        mockKube = new MockKube2.MockKube2Builder(client)
+                .withKafkaUserCrd()
+                .build();
+        mockKube.start();
+
+        client.secrets().inNamespace(ResourceUtils.NAMESPACE).resource(ResourceUtils.createClientsCaCertSecret()).create();
+        client.secrets().inNamespace(ResourceUtils.NAMESPACE).resource(ResourceUtils.createClientsCaKeySecret()).create();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        mockKube.stop();
+    }
+
+    @Test
+    public void testKafkaUserLoad() {
+        ApiCallCounter apiCalls = new ApiCallCounter();
+        KubernetesClient operatorClient = apiCalls.countingClient(client);
+        UserOperatorConfig config = new UserOperatorConfigBuilder(ResourceUtils.createUserOperatorConfig())
+                .with(UserOperatorConfig.RECONCILIATION_INTERVAL_MS.key(), "60000")
+                .with(UserOperatorConfig.CONTROLLER_THREAD_POOL_SIZE.key(), String.valueOf(CONTROLLER_THREADS))
+                .with(UserOperatorConfig.CONTROLLER_MAX_CONCURRENT_RECONCILIATIONS.key(), String.valueOf(MAX_CONCURRENT_RECONCILIATIONS))
+                .build();
+        Admin admin = inMemoryAdmin();
+        ExecutorService executor = Executors.newFixedThreadPool(config.getUserOperationsThreadPoolSize());
+
+        KafkaUserOperator kafkaUserOperator = new KafkaUserOperator(
+                config,
+                operatorClient,
+                new MockCertManager(),
+                new ScramCredentialsOperator(admin, config, executor),
+                new QuotasOperator(admin, config, executor),
+                new SimpleAclOperator(admin, config, executor),
+                executor
+        );
+        UserController controller = new UserController(config, operatorClient, kafkaUserOperator, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        ReconciliationLatencyTracker<KafkaUser> tracker = new ReconciliationLatencyTracker<>("KafkaUser", ResourceUtils.NAMESPACE, Crds.kafkaUserOperation(client));
+
+        kafkaUserOperator.start();
+        controller.start();
+        tracker.start();
+        apiCalls.reset();
+
+        LoadTestReport report = new LoadTestReport("kafka-user-load-test")
+                .withParameter("users", USERS)
+                .withParameter("controllerThreads", CONTROLLER_THREADS)
+                .withParameter("maxConcurrentReconciliations", MAX_CONCURRENT_RECONCILIATIONS);
+
+        try {
+            for (int i = 0; i < USERS; i++) {
+                tracker.create(kafkaUser(i));
+            }
+
+            tracker.awaitReconciled(TIMEOUT_MS);
+        } finally {
+            report.withLatencies(tracker)
+                    .withApiCalls(apiCalls)
+                    .write();
+
+            tracker.stop();
+            controller.stop();
+            kafkaUserOperator.stop();
+            executor.shutdownNow();
+            operatorClient.close();
+        }
+
+        assertThat(tracker.pending(), is(0));
+    }
+
+    /**
+     * Creates a KafkaUser with ACLs and quotas. Every second user uses SCRAM-SHA-512 authentication, the others use
+     * TLS client authentication.
+     *
+     * @param index     Index of the user used to generate its name
+     *
+     * @return  KafkaUser resource
+     */
+    private static KafkaUser kafkaUser(int index) {
+        return new KafkaUserBuilder()
+                .withNewMetadata()
+                    .withName("user-" + index)
+                    .withNamespace(ResourceUtils.NAMESPACE)
+                    .withLabels(ResourceUtils.LABELS)
+                .endMetadata()
+                .withNewSpec()
+                    .withAuthentication(index % 2 == 0 ? new KafkaUserTlsClientAuthentication() : new KafkaUserScramSha512ClientAuthentication())
+                    .withNewKafkaUserAuthorizationSimple()
+                        .addNewAcl()
+                            .withNewAclRuleTopicResource()
+                                .withName("topic-" + index)
+                            .endAclRuleTopicResource()
+                            .withOperations(AclOperation.READ, AclOperation.WRITE, AclOperation.DESCRIBE)
+                        .endAcl()
+                        .addNewAcl()
+                            .withNewAclRuleGroupResource()
+                                .withName("group-" + index)
+                            .endAclRuleGroupResource()
+                            .withOperations(AclOperation.READ)
+                        .endAcl()
+                    .endKafkaUserAuthorizationSimple()
+                    .withNewQuotas()
+                        .withProducerByteRate(1_024 * 1_024)
+                        .withConsumerByteRate(1_024 * 1_024)
+                    .endQuotas()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Creates an in-memory fake of the Kafka Admin API which supports the calls used by the User Operator. The stubs
+     * do not record the invocations so that they do not distort the heap usage.
+     *
+     * @return  Fake Kafka Admin API client
+     */
+    @SuppressWarnings("unchecked")
+    private static Admin inMemoryAdmin() {
+        Set<AclBinding> acls = ConcurrentHashMap.newKeySet();
+        Map<ClientQuotaEntity, Map<String, Double>> quotas = new ConcurrentHashMap<>();
+        Set<String> scramUsers = ConcurrentHashMap.newKeySet();
+
+        Admin admin = mock(Admin.class, withSettings().stubOnly());
+
+        when(admin.describeAcls(any())).thenAnswer(invocation -> {
+            DescribeAclsResult result = mock(DescribeAclsResult.class, withSettings().stubOnly());
+            when(result.values()).thenReturn(KafkaFuture.completedFuture(List.copyOf(acls)));
+            return result;
+        });
+
+        when(admin.createAcls(any())).thenAnswer(invocation -> {
+            Map<AclBinding, KafkaFuture<Void>> values = new HashMap<>();
+            for (AclBinding binding : (Collection<AclBinding>) invocation.getArgument(0)) {
+                acls.add(binding);
+                values.put(binding, KafkaFuture.completedFuture(null));
+            }
+
+            CreateAclsResult result = mock(CreateAclsResult.class, withSettings().stubOnly());
+            when(result.values()).thenReturn(values);
+            when(result.all()).thenReturn(KafkaFuture.completedFuture(null));
+            return result;
+        });
+
+        when(admin.deleteAcls(any())).thenAnswer(invocation -> {
+            DeleteAclsResult.FilterResults filterResults = mock(DeleteAclsResult.FilterResults.class, withSettings().stubOnly());
+            when(filterResults.values()).thenReturn(List.of());
+
+            Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> values = new HashMap<>();
+            for (AclBindingFilter filter : (Collection<AclBindingFilter>) invocation.getArgument(0)) {
+                acls.removeIf(filter::matches);
+                values.put(filter, KafkaFuture.completedFuture(filterResults));
+            }
+
+            DeleteAclsResult result = mock(DeleteAclsResult.class, withSettings().stubOnly());
+            when(result.values()).thenReturn(values);
+            when(result.all()).thenReturn(KafkaFuture.completedFuture(List.of()));
+            return result;
+        });
+
+        when(admin.describeClientQuotas(any())).thenAnswer(invocation -> new DescribeClientQuotasResult(KafkaFuture.completedFuture(Map.copyOf(quotas))));
+
+        when(admin.alterClientQuotas(any())).thenAnswer(invocation -> {
+            Map<ClientQuotaEntity, KafkaFuture<Void>> values = new HashMap<>();
+            for (ClientQuotaAlteration alteration : (Collection<ClientQuotaAlteration>) invocation.getArgument(0)) {
+                Map<String, Double> entityQuotas = quotas.computeIfAbsent(alteration.entity(), entity -> new ConcurrentHashMap<>());
+                for (ClientQuotaAlteration.Op op : alteration.ops()) {
+                    if (op.value() != null) {
+                        entityQuotas.put(op.key(), op.value());
+                    } else {
+                        entityQuotas.remove(op.key());
+                    }
+                }
+
+                values.put(alteration.entity(), KafkaFuture.completedFuture(null));
+            }
+
+            return new AlterClientQuotasResult(values);
+        });
+
+        when(admin.describeUserScramCredentials()).thenAnswer(invocation -> {
+            DescribeUserScramCredentialsResult result = mock(DescribeUserScramCredentialsResult.class, withSettings().stubOnly());
+            when(result.users()).thenReturn(KafkaFuture.completedFuture(List.copyOf(scramUsers)));
+            return result;
+        });
+
+        when(admin.alterUserScramCredentials(any())).thenAnswer(invocation -> {
+            Map<String, KafkaFuture<Void>> values = new HashMap<>();
+            for (UserScramCredentialAlteration alteration : (List<UserScramCredentialAlteration>) invocation.getArgument(0)) {
+                if (alteration instanceof UserScramCredentialUpsertion) {
+                    scramUsers.add(alteration.user());
+                } else {
+                    scramUsers.remove(alteration.user());
+                }
+
+                values.put(alteration.user(), KafkaFuture.completedFuture(null));
+            }
+
+            return new AlterUserScramCredentialsResult(values);
+        });
+
+        return admin;
+    }
+}
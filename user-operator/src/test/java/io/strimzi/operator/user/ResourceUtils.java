@@ -71,6 +71,13 @@ public class ResourceUtils {
         return createUserOperatorConfig(Map.of(), true, false, "32", null);
     }
 
+    public static UserOperatorConfig createUserOperatorConfigWithCredentialsPools(int poolSize, int refillRate) {
+        return new UserOperatorConfigBuilder(createUserOperatorConfig())
+                       .with(UserOperatorConfig.CREDENTIALS_POOL_SIZE.key(), String.valueOf(poolSize))
+                       .with(UserOperatorConfig.CREDENTIALS_POOL_REFILL_RATE.key(), String.valueOf(refillRate))
+                       .build();
+    }
+
     public static UserOperatorConfig createUserOperatorConfig(String scramShaPasswordLength) {
         return new UserOperatorConfigBuilder(createUserOperatorConfig())
                        .with(UserOperatorConfig.SCRAM_SHA_PASSWORD_LENGTH.key(), scramShaPasswordLength)
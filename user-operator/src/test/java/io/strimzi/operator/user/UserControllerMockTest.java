@@ -127,6 +127,66 @@ public class UserControllerMockTest {
         }
     }
 
+    @Test
+    public void testSelfCausedSecretEventsAreIgnored() {
+        // Prepare metrics registry
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        // Mock the UserOperator => all Secret versions are reported as written by the operator
+        KafkaUserOperator mockKafkaUserOperator = mock(KafkaUserOperator.class);
+        when(mockKafkaUserOperator.isUpToDateSecretVersion(any())).thenReturn(true);
+        when(mockKafkaUserOperator.reconcile(any(), any(), any())).thenAnswer(i -> {
+            KafkaUserStatus status = new KafkaUserStatus();
+            StatusUtils.setStatusConditionAndObservedGeneration(i.getArgument(1), status, (Throwable) null);
+            return CompletableFuture.completedFuture(status);
+        });
+
+        // Create User Controller
+        UserController controller = new UserController(
+                ResourceUtils.createUserOperatorConfigForUserControllerTesting(Map.of(), 120000, 10, 1, ""),
+                client,
+                mockKafkaUserOperator,
+                metrics
+        );
+
+        controller.start();
+
+        // Test
+        try {
+            Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).resource(ResourceUtils.createKafkaUserTls()).create();
+            Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).withName(NAME).waitUntilCondition(KafkaUser.isReady(), 10_000, TimeUnit.MILLISECONDS);
+
+            // The Secret event is ignored
+            client.secrets().inNamespace(NAMESPACE).resource(ResourceUtils.createUserSecretTls()).create();
+
+            TestUtils.waitFor(
+                    "Wait for the Secret event to be ignored",
+                    100,
+                    10_000,
+                    () -> metrics.meterRegistry().get("strimzi.events.ignored").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count() == 1
+            );
+
+            // Secret modified by someone else => the event triggers a reconciliation
+            when(mockKafkaUserOperator.isUpToDateSecretVersion(any())).thenReturn(false);
+            double reconciliations = metrics.meterRegistry().get("strimzi.reconciliations.successful").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count();
+            client.secrets().inNamespace(NAMESPACE).withName(NAME).edit(s -> {
+                s.getMetadata().setAnnotations(Map.of("my-annotation", "my-value"));
+                return s;
+            });
+
+            TestUtils.waitFor(
+                    "Wait for the reconciliation triggered by the Secret",
+                    100,
+                    10_000,
+                    () -> metrics.meterRegistry().get("strimzi.reconciliations.successful").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count() > reconciliations
+            );
+
+            assertThat(metrics.meterRegistry().get("strimzi.events.ignored").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count(), is(1.0));
+        } finally {
+            controller.stop();
+        }
+    }
+
     @Test
     public void testReconciliationCrAndPrefixedSecret() {
         // Prepare metrics registry
@@ -405,4 +465,111 @@ public class UserControllerMockTest {
             controller.stop();
         }
     }
+
+    @Test
+    public void testAsynchronousReconciliation() {
+        // Prepare metrics registry
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        // Mock the UserOperator => the status is completed from a different thread
+        KafkaUserOperator mockKafkaUserOperator = mock(KafkaUserOperator.class);
+        when(mockKafkaUserOperator.reconcile(any(), any(), any())).thenAnswer(i -> CompletableFuture.supplyAsync(() -> {
+            KafkaUserStatus status = new KafkaUserStatus();
+            StatusUtils.setStatusConditionAndObservedGeneration(i.getArgument(1), status, (Throwable) null);
+            return status;
+        }));
+
+        // Create User Controller with a single controller thread in the asynchronous mode
+        UserController controller = new UserController(
+                new UserOperatorConfig.UserOperatorConfigBuilder(ResourceUtils.createUserOperatorConfigForUserControllerTesting(Map.of(), 120000, 10, 1, ""))
+                        .with(UserOperatorConfig.CONTROLLER_THREAD_POOL_SIZE.key(), "1")
+                        .with(UserOperatorConfig.CONTROLLER_MAX_CONCURRENT_RECONCILIATIONS.key(), "10")
+                        .build(),
+                client,
+                mockKafkaUserOperator,
+                metrics
+        );
+
+        controller.start();
+
+        // Test
+        try {
+            Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).resource(ResourceUtils.createKafkaUserTls()).create();
+            Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).withName(NAME).waitUntilCondition(KafkaUser.isReady(), 10_000, TimeUnit.MILLISECONDS);
+
+            KafkaUser user = Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).withName(NAME).get();
+
+            // Check resource
+            assertThat(user.getStatus(), is(notNullValue()));
+            assertThat(user.getStatus().getObservedGeneration(), is(1L));
+
+            // Test that secret change triggers another reconciliation => the lock has to be released by the thread completing the first one
+            client.secrets().inNamespace(NAMESPACE).resource(ResourceUtils.createUserSecretTls()).create();
+
+            TestUtils.waitFor(
+                    "Wait for 3rd reconciliation",
+                    100,
+                    10_000,
+                    () -> metrics.meterRegistry().get("strimzi.reconciliations.successful").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count() == 3
+            );
+
+            // Check metrics
+            assertThat(metrics.meterRegistry().get("strimzi.reconciliations").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count(), is(3.0));
+        } finally {
+            controller.stop();
+        }
+    }
+
+    @Test
+    public void testFailedAsynchronousReconciliation() {
+        // Prepare metrics registry
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        // Mock the UserOperator
+        KafkaUserOperator mockKafkaUserOperator = mock(KafkaUserOperator.class);
+        when(mockKafkaUserOperator.reconcile(any(), any(), any())).thenAnswer(i -> CompletableFuture.failedFuture(new RuntimeException("Something failed")));
+
+        // Create User Controller with a single controller thread in the asynchronous mode
+        UserController controller = new UserController(
+                new UserOperatorConfig.UserOperatorConfigBuilder(ResourceUtils.createUserOperatorConfigForUserControllerTesting(Map.of(), 120000, 10, 1, ""))
+                        .with(UserOperatorConfig.CONTROLLER_THREAD_POOL_SIZE.key(), "1")
+                        .with(UserOperatorConfig.CONTROLLER_MAX_CONCURRENT_RECONCILIATIONS.key(), "10")
+                        .build(),
+                client,
+                mockKafkaUserOperator,
+                metrics
+        );
+
+        controller.start();
+
+        // Test
+        try {
+            Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).resource(ResourceUtils.createKafkaUserTls()).create();
+
+            TestUtils.waitFor(
+                    "KafkaUser to be failed",
+                    100,
+                    10_000,
+                    () -> {
+                        KafkaUser u = Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).withName(NAME).get();
+                        return u != null
+                                && u.getStatus() != null
+                                && u.getStatus().getConditions() != null
+                                && u.getStatus().getConditions().stream().filter(c -> "NotReady".equals(c.getType())).findFirst().orElse(null) != null;
+                    }
+            );
+
+            KafkaUser user = Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).withName(NAME).get();
+
+            // Check resource => the condition should be the same as in the blocking mode
+            assertThat(user.getStatus().getConditions().get(0).getReason(), is("ExecutionException"));
+            assertThat(user.getStatus().getConditions().get(0).getMessage(), is("java.lang.RuntimeException: Something failed"));
+
+            // Check metrics
+            assertThat(metrics.meterRegistry().get("strimzi.reconciliations.failed").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count(), is(greaterThanOrEqualTo(1.0)));
+            assertThat(metrics.meterRegistry().get("strimzi.reconciliations").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count(), is(greaterThanOrEqualTo(1.0)));
+        } finally {
+            controller.stop();
+        }
+    }
 }
@@ -60,11 +60,14 @@ public class UserOperatorConfigTest {
         assertThat(config.getOperationTimeoutMs(), is(300_000L));
         assertThat(config.getWorkQueueSize(), is(1_024));
         assertThat(config.getControllerThreadPoolSize(), is(50));
+        assertThat(config.getControllerMaxConcurrentReconciliations(), is(0));
         assertThat(config.getCacheRefresh(), is(15_000L));
         assertThat(config.getBatchQueueSize(), is(1_024));
         assertThat(config.getBatchMaxBlockSize(), is(100));
         assertThat(config.getBatchMaxBlockTime(), is(100));
         assertThat(config.getUserOperationsThreadPoolSize(), is(4));
+        assertThat(config.getCredentialsPoolSize(), is(0));
+        assertThat(config.getCredentialsPoolRefillRate(), is(10));
     }
 
     @Test
@@ -29,13 +29,14 @@ import java.time.Clock;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static io.strimzi.test.TestUtils.set;
-import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasEntry;
@@ -144,7 +145,7 @@ public class KafkaUserModelTest {
 
         assertThat(generatedSecret.getMetadata().getName(), is(ResourceUtils.NAME));
         assertThat(generatedSecret.getMetadata().getNamespace(), is(ResourceUtils.NAMESPACE));
-        assertThat(generatedSecret.getMetadata().getAnnotations(), is(emptyMap()));
+        assertThat(generatedSecret.getMetadata().getAnnotations(), is(Map.of(KafkaUserModel.ANNO_STRIMZI_IO_CREDENTIALS_HASH, KafkaUserModel.credentialsHash(generatedSecret.getData()))));
         assertThat(generatedSecret.getMetadata().getLabels(),
                 is(Labels.fromMap(ResourceUtils.LABELS)
                         .withStrimziKind(KafkaUser.RESOURCE_KIND)
@@ -157,6 +158,20 @@ public class KafkaUserModelTest {
         checkOwnerReference(model.createOwnerReference(), generatedSecret);
     }
 
+    @Test
+    public void testCredentialsHash()    {
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("user.crt", "crt");
+        data.put("user.key", "key");
+
+        Map<String, String> reorderedData = new LinkedHashMap<>();
+        reorderedData.put("user.key", "key");
+        reorderedData.put("user.crt", "crt");
+
+        assertThat(KafkaUserModel.credentialsHash(data), is(KafkaUserModel.credentialsHash(reorderedData)));
+        assertThat(KafkaUserModel.credentialsHash(data), is(not(KafkaUserModel.credentialsHash(Map.of("user.crt", "crt", "user.key", "other-key")))));
+    }
+
     @Test
     public void testGenerateSecretWithPrefix()    {
         String secretPrefix = "strimzi-";
@@ -168,7 +183,7 @@ public class KafkaUserModelTest {
 
         assertThat(generatedSecret.getMetadata().getName(), is(secretPrefix + ResourceUtils.NAME));
         assertThat(generatedSecret.getMetadata().getNamespace(), is(ResourceUtils.NAMESPACE));
-        assertThat(generatedSecret.getMetadata().getAnnotations(), is(emptyMap()));
+        assertThat(generatedSecret.getMetadata().getAnnotations(), is(Map.of(KafkaUserModel.ANNO_STRIMZI_IO_CREDENTIALS_HASH, KafkaUserModel.credentialsHash(generatedSecret.getData()))));
         assertThat(generatedSecret.getMetadata().getLabels(),
                 is(Labels.fromMap(ResourceUtils.LABELS)
                         .withStrimziKind(KafkaUser.RESOURCE_KIND)
@@ -214,7 +229,7 @@ public class KafkaUserModelTest {
                         .withKubernetesManagedBy(KafkaUserModel.KAFKA_USER_OPERATOR_NAME)
                         .withAdditionalLabels(singletonMap("label1", "value1"))
                         .toMap()));
-        assertThat(generatedSecret.getMetadata().getAnnotations(), is(singletonMap("anno1", "value1")));
+        assertThat(generatedSecret.getMetadata().getAnnotations(), is(Map.of("anno1", "value1", KafkaUserModel.ANNO_STRIMZI_IO_CREDENTIALS_HASH, KafkaUserModel.credentialsHash(generatedSecret.getData()))));
         // Check owner reference
         checkOwnerReference(model.createOwnerReference(), generatedSecret);
     }
@@ -8,12 +8,15 @@ import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.KafkaUser;
 import io.strimzi.api.kafka.model.KafkaUserBuilder;
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
 import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
@@ -22,6 +25,7 @@ import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.ResourceUtils;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.strimzi.test.TestUtils;
 import io.strimzi.test.mockkube2.MockKube2;
 import org.apache.kafka.common.KafkaException;
 import org.junit.jupiter.api.AfterEach;
@@ -207,6 +211,38 @@ public class KafkaUserOperatorMockTest {
         assertThat(capturedQuotas.get(1), is(nullValue()));
     }
 
+    @Test
+    public void testCreateTlsUserWithCredentialsPools() throws ExecutionException, InterruptedException {
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+        KafkaUser user = ResourceUtils.createKafkaUserTls();
+        KafkaUserOperator op = new KafkaUserOperator(ResourceUtils.createUserOperatorConfigWithCredentialsPools(2, 100), client, mockCertManager, scramOps, quotasOps, aclOps, EXECUTOR, metrics);
+        op.start();
+
+        try {
+            TestUtils.waitFor("Credentials pools to be refilled", 10, 5_000,
+                () -> metrics.meterRegistry().get("strimzi.credentials.pool.size").tag("pool", "keys").gauge().value() == 2.0
+                        && metrics.meterRegistry().get("strimzi.credentials.pool.size").tag("pool", "passwords").gauge().value() == 2.0);
+
+            CompletionStage<KafkaUserStatus> futureResult = op.reconcile(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME), user, null);
+            KafkaUserStatus status = futureResult.toCompletableFuture().get();
+
+            // Assert KafkaUserStatus
+            assertThat(status.getConditions().get(0).getType(), is("Ready"));
+
+            // Assert the user secret
+            Secret userSecret = client.secrets().inNamespace(ResourceUtils.NAMESPACE).withName(ResourceUtils.NAME).get();
+            assertThat(new String(Base64.getDecoder().decode(userSecret.getData().get("user.crt"))), is(MockCertManager.userCert()));
+            assertThat(new String(Base64.getDecoder().decode(userSecret.getData().get("user.key"))), is(MockCertManager.userKey()));
+
+            // The private key and the keystore password are taken from the pools
+            assertThat(metrics.meterRegistry().get("strimzi.credentials.pool.hits").tag("pool", "keys").counter().count(), is(1.0));
+            assertThat(metrics.meterRegistry().get("strimzi.credentials.pool.hits").tag("pool", "passwords").counter().count(), is(1.0));
+            assertThat(metrics.meterRegistry().get("strimzi.credentials.pool.misses").tag("pool", "keys").counter().count(), is(0.0));
+        } finally {
+            op.stop();
+        }
+    }
+
     @Test
     public void testCreateExternalTlsUser() throws ExecutionException, InterruptedException {
         KafkaUser user = new KafkaUserBuilder(ResourceUtils.createKafkaUserTls())
@@ -755,6 +791,41 @@ public class KafkaUserOperatorMockTest {
         assertThat(capturedQuotas.get(1), is(nullValue()));
     }
 
+    @Test
+    public void testUpdateTlsUserWithoutChangeAvoidsSecretWrites() throws ExecutionException, InterruptedException {
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+        KafkaUser user = ResourceUtils.createKafkaUserTls();
+        Reconciliation reconciliation = new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME);
+        KafkaUserOperator op = new KafkaUserOperator(ResourceUtils.createUserOperatorConfig(), client, mockCertManager, scramOps, quotasOps, aclOps, EXECUTOR, metrics);
+
+        // Create the user => the Secret is written and its version is remembered
+        op.reconcile(reconciliation, user, null).toCompletableFuture().get();
+
+        Secret createdSecret = client.secrets().inNamespace(ResourceUtils.NAMESPACE).withName(ResourceUtils.NAME).get();
+        assertThat(createdSecret.getMetadata().getAnnotations().get(KafkaUserModel.ANNO_STRIMZI_IO_CREDENTIALS_HASH), is(KafkaUserModel.credentialsHash(createdSecret.getData())));
+        assertThat(op.isUpToDateSecretVersion(createdSecret), is(true));
+
+        // Reconcile the unchanged user => the Secret is not written again
+        KafkaUserStatus status = op.reconcile(reconciliation, user, createdSecret).toCompletableFuture().get();
+        assertThat(status.getConditions().get(0).getType(), is("Ready"));
+
+        Secret unchangedSecret = client.secrets().inNamespace(ResourceUtils.NAMESPACE).withName(ResourceUtils.NAME).get();
+        assertThat(unchangedSecret.getMetadata().getResourceVersion(), is(createdSecret.getMetadata().getResourceVersion()));
+        assertThat(metrics.meterRegistry().get("strimzi.secret.writes.avoided").tag("kind", KafkaUser.RESOURCE_KIND).counter().count(), is(1.0));
+
+        // Modify the Secret outside the operator => the hash annotation is not trusted anymore and the Secret is fixed
+        Secret modifiedSecret = client.secrets().inNamespace(ResourceUtils.NAMESPACE).withName(ResourceUtils.NAME)
+                .edit(s -> new SecretBuilder(s).addToData("ca.crt", Base64.getEncoder().encodeToString("modified-ca-crt".getBytes())).build());
+        assertThat(op.isUpToDateSecretVersion(modifiedSecret), is(false));
+
+        op.reconcile(reconciliation, user, modifiedSecret).toCompletableFuture().get();
+
+        Secret fixedSecret = client.secrets().inNamespace(ResourceUtils.NAMESPACE).withName(ResourceUtils.NAME).get();
+        assertThat(new String(Base64.getDecoder().decode(fixedSecret.getData().get("ca.crt"))), is("clients-ca-crt"));
+        assertThat(op.isUpToDateSecretVersion(fixedSecret), is(true));
+        assertThat(metrics.meterRegistry().get("strimzi.secret.writes.avoided").tag("kind", KafkaUser.RESOURCE_KIND).counter().count(), is(1.0));
+    }
+
     // Tests what happens when for an existing user, ACLs and Quotas are disabled
     @Test
     public void testUpdateTlsUserNoAuthorizationNoQuotas() throws ExecutionException, InterruptedException {
@@ -0,0 +1,110 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.cache;
+
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.strimzi.operator.common.InvalidConfigurationException;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.operator.user.ResourceUtils;
+import io.strimzi.operator.user.model.InvalidCertificateException;
+import io.strimzi.test.TestUtils;
+import io.strimzi.test.mockkube2.MockKube2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@EnableKubernetesMockClient(crud = true)
+public class ClientsCaCacheTest {
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+    private MockKube2 mockKube;
+
+    @BeforeEach
+    public void beforeEach() {
+        mockKube = new MockKube2.MockKube2Builder(client).build();
+        mockKube.start();
+
+        client.secrets().inNamespace(ResourceUtils.NAMESPACE).resource(ResourceUtils.createClientsCaCertSecret()).create();
+        client.secrets().inNamespace(ResourceUtils.NAMESPACE).resource(ResourceUtils.createClientsCaKeySecret()).create();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        mockKube.stop();
+    }
+
+    private ClientsCaCache clientsCaCache() {
+        return new ClientsCaCache(client, ResourceUtils.createUserOperatorConfig(), new MockCertManager(), new PasswordGenerator(12));
+    }
+
+    private static String caCert(ClientsCaCache cache) {
+        return new String(Base64.getDecoder().decode(cache.clientsCa(Reconciliation.DUMMY_RECONCILIATION).currentCaCertBase64()));
+    }
+
+    @Test
+    public void testCacheFollowsCaChanges() {
+        ClientsCaCache cache = clientsCaCache();
+        cache.start();
+
+        try {
+            assertThat(caCert(cache), is("clients-ca-crt"));
+
+            // Renewed CA certificate
+            client.secrets().inNamespace(ResourceUtils.NAMESPACE).withName(ResourceUtils.CA_CERT_NAME).edit(caSecret -> new SecretBuilder(caSecret)
+                    .withData(Map.of("ca.crt", Base64.getEncoder().encodeToString("renewed-clients-ca-crt".getBytes())))
+                    .build());
+            TestUtils.waitFor("the cache to pick up the renewed CA", 100, 10_000, () -> "renewed-clients-ca-crt".equals(caCert(cache)));
+
+            // Invalid CA certificate
+            client.secrets().inNamespace(ResourceUtils.NAMESPACE).withName(ResourceUtils.CA_CERT_NAME).edit(caSecret -> new SecretBuilder(caSecret)
+                    .withData(Map.of())
+                    .build());
+            TestUtils.waitFor("the cache to pick up the invalid CA", 100, 10_000, () -> {
+                try {
+                    cache.clientsCa(Reconciliation.DUMMY_RECONCILIATION);
+                    return false;
+                } catch (InvalidCertificateException e) {
+                    return true;
+                }
+            });
+
+            // Deleted CA key
+            client.secrets().inNamespace(ResourceUtils.NAMESPACE).withName(ResourceUtils.CA_KEY_NAME).delete();
+            TestUtils.waitFor("the cache to pick up the deleted CA key", 100, 10_000, () -> {
+                try {
+                    cache.clientsCa(Reconciliation.DUMMY_RECONCILIATION);
+                    return false;
+                } catch (InvalidConfigurationException e) {
+                    return true;
+                }
+            });
+        } finally {
+            cache.stop();
+        }
+    }
+
+    @Test
+    public void testCacheNotStarted() {
+        ClientsCaCache cache = clientsCaCache();
+
+        // Without the informers, the Secrets are read from the Kubernetes API
+        assertThat(caCert(cache), is("clients-ca-crt"));
+
+        client.secrets().inNamespace(ResourceUtils.NAMESPACE).withName(ResourceUtils.CA_KEY_NAME).delete();
+        assertThrows(InvalidConfigurationException.class, () -> cache.clientsCa(Reconciliation.DUMMY_RECONCILIATION));
+    }
+}
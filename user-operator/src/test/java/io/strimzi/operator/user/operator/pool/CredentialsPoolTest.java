@@ -0,0 +1,164 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.pool;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.certs.Subject;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.test.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class CredentialsPoolTest {
+    @Test
+    public void testPoolHitsAndMisses() {
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+        AtomicInteger generated = new AtomicInteger(0);
+        CredentialsPool<Integer> pool = new CredentialsPool<>("test", 5, 1_000, generated::incrementAndGet, metrics);
+
+        // Not started => the credentials are generated inline
+        assertThat(pool.get(), is(1));
+        assertThat(metrics.meterRegistry().get("strimzi.credentials.pool.misses").tag("pool", "test").counter().count(), is(1.0));
+
+        pool.start();
+
+        try {
+            TestUtils.waitFor("Pool to be refilled", 10, 5_000, () -> pool.size() == 5);
+            assertThat(metrics.meterRegistry().get("strimzi.credentials.pool.size").tag("pool", "test").gauge().value(), is(5.0));
+
+            // The pool never grows over its target size
+            assertThat(generated.get(), is(6));
+
+            // Every credential is handed out only once
+            Set<Integer> credentials = new HashSet<>();
+            for (int i = 0; i < 5; i++) {
+                credentials.add(pool.get());
+            }
+
+            assertThat(credentials.size(), is(5));
+            assertThat(credentials.contains(1), is(false));
+            assertThat(metrics.meterRegistry().get("strimzi.credentials.pool.hits").tag("pool", "test").counter().count(), is(5.0));
+            assertThat(pool.size(), is(lessThanOrEqualTo(5)));
+
+            // The pool is refilled again
+            TestUtils.waitFor("Pool to be refilled", 10, 5_000, () -> pool.size() == 5);
+        } finally {
+            pool.stop();
+        }
+
+        assertThat(pool.size(), is(0));
+        assertThat(metrics.meterRegistry().get("strimzi.credentials.pool.size").tag("pool", "test").gauge().value(), is(0.0));
+    }
+
+    @Test
+    public void testFailedRefillKeepsRefilling() {
+        AtomicInteger attempts = new AtomicInteger(0);
+        CredentialsPool<Integer> pool = new CredentialsPool<>("test", 2, 1_000, () -> {
+            if (attempts.incrementAndGet() % 2 == 1) {
+                throw new RuntimeException("Generation failed");
+            } else {
+                return attempts.get();
+            }
+        }, null);
+
+        pool.start();
+
+        try {
+            TestUtils.waitFor("Pool to be refilled", 10, 5_000, () -> pool.size() == 2);
+            assertThat(pool.get(), is(2));
+            assertThat(pool.get(), is(4));
+        } finally {
+            pool.stop();
+        }
+    }
+
+    @Test
+    public void testHighRefillRate() {
+        assertThat(CredentialsPool.refillIntervalMicros(10), is(100_000L));
+        assertThat(CredentialsPool.refillIntervalMicros(1_000), is(1_000L));
+        assertThat(CredentialsPool.refillIntervalMicros(2_000_000), is(1_000L));
+        assertThat(CredentialsPool.refillIntervalMicros(Integer.MAX_VALUE), is(1_000L));
+
+        // The refill period does not drop to 0 which would fail the scheduling
+        CredentialsPool<Integer> pool = new CredentialsPool<>("test", 2, Integer.MAX_VALUE, () -> 1, null);
+        pool.start();
+
+        try {
+            TestUtils.waitFor("Pool to be refilled", 10, 5_000, () -> pool.size() == 2);
+        } finally {
+            pool.stop();
+        }
+    }
+
+    @Test
+    public void testPooledPasswordGenerator() {
+        PooledPasswordGenerator generator = new PooledPasswordGenerator(32, 3, 1_000, null);
+
+        generator.start();
+
+        try {
+            TestUtils.waitFor("Pool to be refilled", 10, 5_000, () -> generator.pool().size() == 3);
+
+            String password = generator.generate();
+            assertThat(password.length(), is(32));
+            assertThat(generator.pool().size(), is(lessThanOrEqualTo(2)));
+        } finally {
+            generator.stop();
+        }
+
+        // The pool is stopped and empty => the passwords are generated inline
+        assertThat(generator.generate().length(), is(32));
+    }
+
+    @Test
+    public void testPooledKeyCertManager() throws IOException {
+        AtomicInteger keys = new AtomicInteger(0);
+        AtomicInteger csrsWithExistingKey = new AtomicInteger(0);
+        MockCertManager delegate = new MockCertManager() {
+            @Override
+            public void generatePrivateKey(File keyFile) throws IOException {
+                Files.writeString(keyFile.toPath(), "key-" + keys.incrementAndGet());
+            }
+
+            @Override
+            public void generateCsrForExistingKey(File keyFile, File csrFile, Subject sbj) throws IOException {
+                csrsWithExistingKey.incrementAndGet();
+                super.generateCsrForExistingKey(keyFile, csrFile, sbj);
+            }
+        };
+        PooledKeyCertManager certManager = new PooledKeyCertManager(delegate, 2, 1_000, null);
+
+        certManager.start();
+
+        File keyFile = Files.createTempFile("tls", "key").toFile();
+        File csrFile = Files.createTempFile("tls", "csr").toFile();
+
+        try {
+            TestUtils.waitFor("Pool to be refilled", 10, 5_000, () -> certManager.pool().size() == 2);
+
+            certManager.generateCsr(keyFile, csrFile, new Subject.Builder().withCommonName("my-user").build());
+
+            // The pre-generated key is used for the CSR
+            assertThat(Files.readString(keyFile.toPath()), is("key-1"));
+            assertThat(csrsWithExistingKey.get(), is(1));
+        } finally {
+            certManager.stop();
+            keyFile.delete();
+            csrFile.delete();
+        }
+    }
+}